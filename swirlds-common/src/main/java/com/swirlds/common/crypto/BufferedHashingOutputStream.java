@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto;
+
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+/**
+ * An OutputStream which creates a hash of all the bytes that go through it. Unlike {@link HashingOutputStream}, the
+ * bytes are first collected in an internal block and the digest is only updated when the block is full or when the
+ * digest is requested. This turns the many small writes produced by serialization (e.g. {@link
+ * java.io.DataOutputStream#writeInt(int)} writes one byte at a time) into a few large digest updates.
+ * <p>
+ * The stream can be reused for many digests, the block is allocated once. This class is not thread safe.
+ */
+public class BufferedHashingOutputStream extends OutputStream {
+
+	/**
+	 * The default size of the internal block, large enough for most serialized leaves
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 8 * 1024;
+
+	private final MessageDigest md;
+	private final byte[] block;
+	/** the number of bytes in {@link #block} that have not been passed to the digest yet */
+	private int count;
+
+	/**
+	 * Create a stream with a block of the default size
+	 *
+	 * @param md
+	 * 		the MessageDigest object that does the hashing
+	 */
+	public BufferedHashingOutputStream(final MessageDigest md) {
+		this(md, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Create a stream
+	 *
+	 * @param md
+	 * 		the MessageDigest object that does the hashing
+	 * @param blockSize
+	 * 		the number of bytes to collect before updating the digest
+	 */
+	public BufferedHashingOutputStream(final MessageDigest md, final int blockSize) {
+		if (md == null) {
+			throw new IllegalArgumentException("md");
+		}
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("blockSize must be positive");
+		}
+		this.md = md;
+		this.block = new byte[blockSize];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final int b) {
+		if (count == block.length) {
+			updateDigest();
+		}
+		block[count++] = (byte) b;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final byte[] b, final int off, final int len) {
+		if (b == null) {
+			throw new NullPointerException();
+		} else if ((off < 0) || (off > b.length) || (len < 0)
+				|| ((off + len) > b.length) || ((off + len) < 0)) {
+			throw new IndexOutOfBoundsException();
+		} else if (len == 0) {
+			return;
+		}
+
+		if (len > block.length - count) {
+			updateDigest();
+			if (len >= block.length) {
+				// large arrays are passed to the digest directly, copying them would gain nothing
+				md.update(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, block, count, len);
+		count += len;
+	}
+
+	/**
+	 * Discard all bytes written so far and reset the digest
+	 */
+	public void resetDigest() {
+		count = 0;
+		md.reset();
+	}
+
+	/**
+	 * Calculates and returns the digest of all the bytes that have been written to this stream. It also resets the
+	 * digest.
+	 *
+	 * @return the digest of all bytes written to the stream
+	 */
+	public byte[] getDigest() {
+		updateDigest();
+		return md.digest();
+	}
+
+	private void updateDigest() {
+		if (count > 0) {
+			md.update(block, 0, count);
+			count = 0;
+		}
+	}
+}
@@ -18,6 +18,7 @@ package com.swirlds.common.crypto;
 
 import com.swirlds.common.crypto.engine.CryptoEngine;
 import com.swirlds.common.crypto.internal.CryptographySettings;
+import com.swirlds.common.metrics.Metrics;
 
 /**
  * Public factory implementation from which all {@link Cryptography} instances should be acquired.
@@ -58,6 +59,18 @@ public final class CryptoFactory {
 		}
 	}
 
+	/**
+	 * Registers the metrics of the {@link Cryptography} singleton, creating the singleton if it does not exist yet.
+	 *
+	 * @param metrics
+	 * 		reference to the metrics system
+	 */
+	public static synchronized void registerMetrics(final Metrics metrics) {
+		if (getInstance() instanceof CryptoEngine) {
+			((CryptoEngine) cryptography).registerMetrics(metrics);
+		}
+	}
+
 	/**
 	 * Getter for the {@link Cryptography} singleton. Initializes the singleton if not already created with the either
 	 * the {@link CryptographySettings#getDefaultSettings()} or with the {@link CryptographySettings} provided via the
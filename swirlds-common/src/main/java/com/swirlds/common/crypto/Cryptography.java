@@ -135,6 +135,35 @@ public interface Cryptography {
 	 */
 	Hash digestSync(final byte[] message, final DigestType digestType);
 
+	/**
+	 * Computes cryptographic hashes (message digests) for a batch of small messages. Convenience method that defaults
+	 * to {@link DigestType#SHA_384} message digests.
+	 *
+	 * @param messages
+	 * 		the message contents to be hashed
+	 * @return the cryptographic hashes, in the same order as the messages
+	 * @throws CryptographyException
+	 * 		if an unrecoverable error occurs while computing the digests
+	 */
+	default List<Hash> digestBatchSync(final List<byte[]> messages) {
+		return digestBatchSync(messages, DEFAULT_DIGEST_TYPE);
+	}
+
+	/**
+	 * Computes cryptographic hashes (message digests) for a batch of small messages. The digest state is reused
+	 * across the batch, which makes this cheaper than calling {@link #digestSync(byte[], DigestType)} for each
+	 * message.
+	 *
+	 * @param messages
+	 * 		the message contents to be hashed
+	 * @param digestType
+	 * 		the type of digest used to compute the hashes
+	 * @return the cryptographic hashes, in the same order as the messages
+	 * @throws CryptographyException
+	 * 		if an unrecoverable error occurs while computing the digests
+	 */
+	List<Hash> digestBatchSync(final List<byte[]> messages, final DigestType digestType);
+
 	/**
 	 * Same as {@link #digestSync(SelfSerializable, DigestType)} with DigestType set to SHA_384
 	 *
@@ -263,6 +292,25 @@ public interface Cryptography {
 	 */
 	Hash digestSync(final MerkleInternal node, final List<Hash> childHashes, boolean setHash);
 
+	/**
+	 * Computes the hash of a binary internal node from its class ID, version and the hashes of its two children. The
+	 * result is the same as {@link #digestSync(MerkleInternal, List, boolean)} for a node with two children, but the
+	 * node itself is not needed and the inputs are digested with a single update.
+	 *
+	 * @param classId
+	 * 		the class ID of the internal node
+	 * @param version
+	 * 		the version of the internal node
+	 * @param left
+	 * 		the hash of the left child
+	 * @param right
+	 * 		the hash of the right child
+	 * @return the cryptographic hash of the internal node
+	 * @throws CryptographyException
+	 * 		if an unrecoverable error occurs while computing the digest
+	 */
+	Hash digestInternalSync(final long classId, final int version, final Hash left, final Hash right);
+
 	/**
 	 * Computes a cryptographic hash for the {@link MerkleLeaf} instance. The hash is passed to the object
 	 * by calling {@link Hashable#setHash(Hash)}.
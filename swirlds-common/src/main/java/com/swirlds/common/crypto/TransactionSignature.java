@@ -71,6 +71,9 @@ public class TransactionSignature implements Comparable<TransactionSignature> {
 	/** An internal future used to provide synchronization after the event has reached consensus. */
 	private transient volatile Future<Void> future;
 
+	/** The key of this signature in the verification cache, computed the first time the cache is consulted. */
+	private transient volatile byte[] verificationCacheKey;
+
 	/**
 	 * Constructs an immutable Ed25519 signature using the provided signature pointer, public key pointer, and original
 	 * message pointer.
@@ -640,6 +643,26 @@ public class TransactionSignature implements Comparable<TransactionSignature> {
 		return signatureType;
 	}
 
+	/**
+	 * Internal use only getter for the key of this signature in the verification cache.
+	 *
+	 * @return the key, or null if the verification cache has not been consulted for this signature
+	 */
+	public byte[] getVerificationCacheKey() {
+		return verificationCacheKey;
+	}
+
+	/**
+	 * Internal use only setter for the key of this signature in the verification cache, so that the key is computed
+	 * only once even if the signature is looked up and then stored.
+	 *
+	 * @param verificationCacheKey
+	 * 		the key of this signature in the verification cache
+	 */
+	public void setVerificationCacheKey(final byte[] verificationCacheKey) {
+		this.verificationCacheKey = verificationCacheKey;
+	}
+
 	/**
 	 * Returns the status of the signature verification. If the transaction does not yet have consensus then the value
 	 * may be {@link VerificationStatus#UNKNOWN}; however, once the transaction reaches consensus then the value must
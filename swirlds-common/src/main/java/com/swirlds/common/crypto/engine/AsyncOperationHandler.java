@@ -120,6 +120,15 @@ public abstract class AsyncOperationHandler<Element, Provider extends OperationP
 	 */
 	protected abstract void handleWorkItem(final Provider provider, final Element item) throws NoSuchAlgorithmException;
 
+	/**
+	 * Provides the implementor with access to the list of items to be processed.
+	 *
+	 * @return the work items
+	 */
+	protected List<Element> getWorkItems() {
+		return workItems;
+	}
+
 	/**
 	 * Provides the implementor with access to the {@link Logger}.
 	 *
@@ -23,6 +23,8 @@ import com.swirlds.common.crypto.VerificationStatus;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
+import static com.swirlds.logging.LogMarker.TESTING_EXCEPTIONS;
+
 /**
  * A signature verification capable {@link AsyncOperationHandler} implementation.
  *
@@ -32,6 +34,18 @@ import java.util.List;
  */
 public class AsyncVerificationHandler extends AsyncOperationHandler<TransactionSignature,
 		OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType>> {
+
+	/**
+	 * The provider used to verify lists of {@link SignatureType#ED25519} signatures with a single set of scratch
+	 * buffers, or null if every signature should be verified with buffers of its own.
+	 */
+	private final Ed25519VerificationProvider sharedBufferProvider;
+
+	/**
+	 * The cache that verification results are stored in, or null if results should not be cached.
+	 */
+	private final VerificationCache verificationCache;
+
 	/**
 	 * Constructs an {@link AsyncOperationHandler} which will operate on the provided {@link List} of items using the
 	 * specified algorithm provider. This method does not make a copy of the list provided and expects exclusive access
@@ -44,7 +58,30 @@ public class AsyncVerificationHandler extends AsyncOperationHandler<TransactionS
 	 */
 	public AsyncVerificationHandler(final List<TransactionSignature> workItems,
 			final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider) {
+		this(workItems, provider, null, null);
+	}
+
+	/**
+	 * Constructs an {@link AsyncOperationHandler} which will operate on the provided {@link List} of items using the
+	 * specified algorithm provider. This method does not make a copy of the list provided and expects exclusive access
+	 * to the list.
+	 *
+	 * @param workItems
+	 * 		the list of items to be asynchronously processed by the algorithm provider
+	 * @param provider
+	 * 		the algorithm provider used to perform cryptographic transformations on each item
+	 * @param sharedBufferProvider
+	 * 		if not null, lists that only contain {@link SignatureType#ED25519} signatures are verified by this provider
+	 * 		with a single set of scratch buffers
+	 * @param verificationCache
+	 * 		if not null, the result of every verification is stored in this cache
+	 */
+	public AsyncVerificationHandler(final List<TransactionSignature> workItems,
+			final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider,
+			final Ed25519VerificationProvider sharedBufferProvider, final VerificationCache verificationCache) {
 		super(workItems, provider);
+		this.sharedBufferProvider = sharedBufferProvider;
+		this.verificationCache = verificationCache;
 	}
 
 	/**
@@ -61,6 +98,60 @@ public class AsyncVerificationHandler extends AsyncOperationHandler<TransactionS
 	public AsyncVerificationHandler(final List<TransactionSignature> workItems, final boolean shouldCopy,
 			final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider) {
 		super(workItems, shouldCopy, provider);
+		this.sharedBufferProvider = null;
+		this.verificationCache = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * If shared buffer verification is enabled and all the items are {@link SignatureType#ED25519} signatures, they
+	 * are verified one after the other with a single set of scratch buffers. If this fails with an exception, for
+	 * example because one of the signatures is malformed, the items are verified individually so that only the
+	 * malformed signatures are affected.
+	 */
+	@Override
+	public void run() {
+		if (sharedBufferProvider == null || !isEd25519Only(getWorkItems())) {
+			super.run();
+			return;
+		}
+
+		for (final TransactionSignature item : getWorkItems()) {
+			item.setFuture(this);
+		}
+
+		try {
+			sharedBufferProvider.verifyWithSharedBuffers(getWorkItems());
+		} catch (final RuntimeException ex) {
+			log().debug(TESTING_EXCEPTIONS.getMarker(), "Shared buffer verification failed, verifying individually", ex);
+			super.run();
+			return;
+		}
+
+		if (verificationCache != null) {
+			for (final TransactionSignature item : getWorkItems()) {
+				verificationCache.storeResult(item);
+			}
+		}
+
+		complete(null);
+	}
+
+	/**
+	 * Checks if all the signatures in a list are {@link SignatureType#ED25519} signatures.
+	 *
+	 * @param signatures
+	 * 		the signatures to check
+	 * @return true if the list only contains {@link SignatureType#ED25519} signatures
+	 */
+	static boolean isEd25519Only(final List<TransactionSignature> signatures) {
+		for (final TransactionSignature signature : signatures) {
+			if (signature.getSignatureType() != SignatureType.ED25519) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -81,5 +172,8 @@ public class AsyncVerificationHandler extends AsyncOperationHandler<TransactionS
 		item.setFuture(this);
 		final boolean isValid = provider.compute(item, item.getSignatureType());
 		item.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
+		if (verificationCache != null) {
+			verificationCache.storeResult(item);
+		}
 	}
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto.engine;
+
+import com.swirlds.common.crypto.CryptographyException;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A digest provider tuned for hashing many small messages in a row. The per thread {@link MessageDigest} is reset
+ * and reused for every message of a batch and each result is written directly into the array backing the returned
+ * {@link Hash}, so no intermediate arrays are allocated. Internal node hashes are packed into a reusable buffer and
+ * digested with a single update, instead of one update per field.
+ */
+public class BatchDigestProvider extends
+		CachingOperationProvider<byte[], Void, Hash, BatchDigestProvider.Context, DigestType> {
+
+	/**
+	 * The digest type used for internal node hashes, must match the type used to hash a merkle tree.
+	 */
+	private static final DigestType INTERNAL_DIGEST_TYPE = DigestType.SHA_384;
+
+	/**
+	 * The length of the packed input of an internal node hash: class ID, version and the two child hashes.
+	 */
+	private static final int INTERNAL_INPUT_LENGTH = Long.BYTES + Integer.BYTES
+			+ 2 * INTERNAL_DIGEST_TYPE.digestLength();
+
+	/**
+	 * The per thread state used to compute digests.
+	 */
+	static final class Context {
+		private final MessageDigest digest;
+		private final byte[] internalInput = new byte[INTERNAL_INPUT_LENGTH];
+
+		private Context(final MessageDigest digest) {
+			this.digest = digest;
+		}
+	}
+
+	/**
+	 * Default Constructor.
+	 */
+	public BatchDigestProvider() {
+		super();
+	}
+
+	/**
+	 * Computes the digests of a list of messages.
+	 *
+	 * @param messages
+	 * 		the messages to hash, none of them may be null
+	 * @param algorithmType
+	 * 		the digest algorithm to use
+	 * @return the digests, in the same order as the messages
+	 * @throws NoSuchAlgorithmException
+	 * 		if an implementation of the required algorithm cannot be located or loaded
+	 */
+	public List<Hash> computeBatch(final List<byte[]> messages, final DigestType algorithmType)
+			throws NoSuchAlgorithmException {
+		if (messages == null) {
+			throw new IllegalArgumentException("messages");
+		}
+
+		final Context context = loadAlgorithm(algorithmType);
+		final List<Hash> hashes = new ArrayList<>(messages.size());
+		for (final byte[] message : messages) {
+			hashes.add(handleItem(context, algorithmType, message, null));
+		}
+
+		return hashes;
+	}
+
+	/**
+	 * Computes the hash of a binary internal node. The result is identical to hashing the class ID, the version and
+	 * both child hashes with a {@link com.swirlds.common.crypto.HashBuilder}.
+	 *
+	 * @param classId
+	 * 		the class ID of the internal node
+	 * @param version
+	 * 		the version of the internal node
+	 * @param left
+	 * 		the hash of the left child
+	 * @param right
+	 * 		the hash of the right child
+	 * @return the hash of the internal node
+	 * @throws NoSuchAlgorithmException
+	 * 		if an implementation of the required algorithm cannot be located or loaded
+	 */
+	public Hash computeInternal(final long classId, final int version, final Hash left, final Hash right)
+			throws NoSuchAlgorithmException {
+		if (left == null) {
+			throw new IllegalArgumentException("left");
+		}
+		if (right == null) {
+			throw new IllegalArgumentException("right");
+		}
+
+		final Context context = loadAlgorithm(INTERNAL_DIGEST_TYPE);
+		final byte[] input = context.internalInput;
+		int position = 0;
+		// integers are hashed in little endian order, see HashBuilder
+		for (int i = 0; i < Long.BYTES; i++) {
+			input[position++] = (byte) (classId >>> (i * Byte.SIZE));
+		}
+		for (int i = 0; i < Integer.BYTES; i++) {
+			input[position++] = (byte) (version >>> (i * Byte.SIZE));
+		}
+		position = copyHash(left, input, position);
+		copyHash(right, input, position);
+
+		return digest(context.digest, INTERNAL_DIGEST_TYPE, input, 0, input.length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Context handleAlgorithmRequired(final DigestType algorithmType) throws NoSuchAlgorithmException {
+		return new Context(MessageDigest.getInstance(algorithmType.algorithmName()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Hash handleItem(final Context context, final DigestType algorithmType, final byte[] item,
+			final Void optionalData) {
+		if (item == null) {
+			throw new IllegalArgumentException("item");
+		}
+
+		return digest(context.digest, algorithmType, item, 0, item.length);
+	}
+
+	private static int copyHash(final Hash hash, final byte[] destination, final int position) {
+		final byte[] value = hash.getValue();
+		if (value.length != INTERNAL_DIGEST_TYPE.digestLength()) {
+			throw new IllegalArgumentException("hash: " + value.length);
+		}
+		System.arraycopy(value, 0, destination, position, value.length);
+		return position + value.length;
+	}
+
+	private static Hash digest(final MessageDigest digest, final DigestType algorithmType, final byte[] input,
+			final int offset, final int length) {
+		final byte[] value = new byte[algorithmType.digestLength()];
+		try {
+			digest.update(input, offset, length);
+			digest.digest(value, 0, value.length);
+		} catch (final DigestException ex) {
+			// the output array always has the length of the digest, so this is not expected
+			digest.reset();
+			throw new CryptographyException(ex);
+		}
+
+		return new Hash(value, algorithmType);
+	}
+}
@@ -31,6 +31,7 @@ import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.hash.MerkleHashBuilder;
+import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.threading.futures.StandardFuture;
 import com.swirlds.logging.LogMarker;
 import org.apache.logging.log4j.LogManager;
@@ -40,6 +41,7 @@ import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -95,6 +97,11 @@ public class CryptoEngine implements Cryptography {
 	 */
 	private final DigestProvider digestProvider;
 
+	/**
+	 * The digest provider instance that is used to hash batches of small messages and binary internal nodes.
+	 */
+	private final BatchDigestProvider batchDigestProvider;
+
 	/**
 	 * The verification provider used to perform signature verification of {@link TransactionSignature} instances.
 	 */
@@ -111,6 +118,11 @@ public class CryptoEngine implements Cryptography {
 	 */
 	private final DelegatingVerificationProvider delegatingVerificationProvider;
 
+	/**
+	 * The cache of signature verification results, disabled if its configured size is zero.
+	 */
+	private final VerificationCache verificationCache;
+
 	/**
 	 * the total number of available physical processors and physical processor cores
 	 */
@@ -163,16 +175,19 @@ public class CryptoEngine implements Cryptography {
 		this.settings = settings;
 		this.availableCpuCount = Runtime.getRuntime().availableProcessors();
 		this.digestProvider = new DigestProvider();
+		this.batchDigestProvider = new BatchDigestProvider();
 
 		this.ed25519VerificationProvider = new Ed25519VerificationProvider();
 		this.ecdsaSecp256k1VerificationProvider = new EcdsaSecp256k1VerificationProvider();
 		this.delegatingVerificationProvider = new DelegatingVerificationProvider(
 				ed25519VerificationProvider, ecdsaSecp256k1VerificationProvider);
+		this.verificationCache = new VerificationCache(settings.getVerificationCacheSize());
 
 		this.serializationDigestProvider = new SerializationDigestProvider();
 		this.merkleInternalDigestProvider = new MerkleInternalDigestProvider();
 		this.runningHashProvider = new RunningHashProvider();
-		this.merkleHashBuilder = new MerkleHashBuilder(this, settings.computeCpuDigestThreadCount());
+		this.merkleHashBuilder = new MerkleHashBuilder(this, settings.computeCpuDigestThreadCount(),
+				settings.getMerkleHashForkDepth());
 
 		applySettings();
 		buildNullHashes();
@@ -187,10 +202,12 @@ public class CryptoEngine implements Cryptography {
 	 * 		the {@link List} of items to be processed by the created {@link AsyncOperationHandler} implementation
 	 * @return an {@link AsyncOperationHandler} implementation
 	 */
-	private static AsyncVerificationHandler verificationHandler(
+	private AsyncVerificationHandler verificationHandler(
 			final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider,
 			final List<TransactionSignature> workItems) {
-		return new AsyncVerificationHandler(workItems, provider);
+		return new AsyncVerificationHandler(workItems, provider,
+				settings.sharedBufferEd25519Verification() ? ed25519VerificationProvider : null,
+				verificationCache.isEnabled() ? verificationCache : null);
 	}
 
 	/**
@@ -269,9 +286,14 @@ public class CryptoEngine implements Cryptography {
 	 * 		the {@link Future} to be associated with the {@link TransactionSignature}
 	 * @return true if the signature is valid; otherwise false
 	 */
-	private static boolean verifySyncInternal(final TransactionSignature signature,
+	private boolean verifySyncInternal(final TransactionSignature signature,
 			final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider,
 			final StandardFuture<Void> future) {
+		if (verificationCache.applyCachedResult(signature)) {
+			signature.setFuture(future);
+			return signature.getSignatureStatus() == VerificationStatus.VALID;
+		}
+
 		final boolean isValid;
 
 		try {
@@ -283,9 +305,55 @@ public class CryptoEngine implements Cryptography {
 			throw new CryptographyException(ex, LogMarker.EXCEPTION);
 		}
 
+		verificationCache.storeResult(signature);
 		return isValid;
 	}
 
+	/**
+	 * Applies the cached verification results to a list of signatures. The signatures with a cached result get their
+	 * status and the provided future set immediately.
+	 *
+	 * @param signatures
+	 * 		the signatures to be verified
+	 * @param future
+	 * 		the completed {@link Future} to be associated with signatures that have a cached result
+	 * @return the signatures that don't have a cached result, this is the original list if none of them do
+	 */
+	private List<TransactionSignature> applyCachedResults(final List<TransactionSignature> signatures,
+			final Future<Void> future) {
+		if (!verificationCache.isEnabled()) {
+			return signatures;
+		}
+
+		final List<TransactionSignature> uncached = new ArrayList<>(signatures.size());
+		for (final TransactionSignature signature : signatures) {
+			if (verificationCache.applyCachedResult(signature)) {
+				signature.setFuture(future);
+			} else {
+				uncached.add(signature);
+			}
+		}
+
+		return uncached.size() == signatures.size() ? signatures : uncached;
+	}
+
+	/**
+	 * Queues signatures for asynchronous verification, except for those with a cached result.
+	 *
+	 * @param signatures
+	 * 		the signatures to be verified
+	 * @throws InterruptedException
+	 * 		if the thread is interrupted while waiting for space in the queue
+	 */
+	private void enqueueVerification(final List<TransactionSignature> signatures) throws InterruptedException {
+		final StandardFuture<Void> future = new StandardFuture<>();
+		future.complete(null);
+		final List<TransactionSignature> uncached = applyCachedResults(signatures, future);
+		if (!uncached.isEmpty()) {
+			verificationQueue.put(uncached);
+		}
+	}
+
 	/**
 	 * Indicates whether a supported OpenCL framework is installed and available on this system.
 	 *
@@ -324,6 +392,25 @@ public class CryptoEngine implements Cryptography {
 		applySettings();
 	}
 
+	/**
+	 * Register the metrics of this engine.
+	 *
+	 * @param metrics
+	 * 		reference to the metrics system
+	 */
+	public void registerMetrics(final Metrics metrics) {
+		verificationCache.registerMetrics(metrics);
+	}
+
+	/**
+	 * Returns the cache of signature verification results.
+	 *
+	 * @return the verification cache
+	 */
+	public VerificationCache getVerificationCache() {
+		return verificationCache;
+	}
+
 	/**
 	 * Returns the total number of physical processors and physical processor cores available.
 	 *
@@ -413,6 +500,18 @@ public class CryptoEngine implements Cryptography {
 		return digestSyncInternal(message, digestType, digestProvider);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Hash> digestBatchSync(final List<byte[]> messages, final DigestType digestType) {
+		try {
+			return batchDigestProvider.computeBatch(messages, digestType);
+		} catch (final NoSuchAlgorithmException ex) {
+			throw new CryptographyException(ex, LogMarker.EXCEPTION);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -493,13 +592,25 @@ public class CryptoEngine implements Cryptography {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Hash digestInternalSync(final long classId, final int version, final Hash left, final Hash right) {
+		try {
+			return batchDigestProvider.computeInternal(classId, version, left, right);
+		} catch (final NoSuchAlgorithmException ex) {
+			throw new CryptographyException(ex, LogMarker.EXCEPTION);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void verifyAsync(final TransactionSignature signature) {
 		try {
-			verificationQueue.put(Collections.singletonList(signature));
+			enqueueVerification(Collections.singletonList(signature));
 		} catch (final InterruptedException ex) {
 			Thread.currentThread().interrupt();
 		}
@@ -511,7 +622,7 @@ public class CryptoEngine implements Cryptography {
 	@Override
 	public void verifyAsync(final List<TransactionSignature> signatures) {
 		try {
-			verificationQueue.put(signatures);
+			enqueueVerification(signatures);
 		} catch (final InterruptedException ex) {
 			Thread.currentThread().interrupt();
 		}
@@ -525,7 +636,7 @@ public class CryptoEngine implements Cryptography {
 			final SignatureType signatureType) {
 		final TransactionSignature wrappedSignature = wrap(data, signature, publicKey, signatureType);
 		try {
-			verificationQueue.put(Collections.singletonList(wrappedSignature));
+			enqueueVerification(Collections.singletonList(wrappedSignature));
 
 			return new WrappingLambdaFuture<>(() -> {
 				try {
@@ -563,6 +674,20 @@ public class CryptoEngine implements Cryptography {
 		final StandardFuture<Void> future = new StandardFuture<>();
 		future.complete(null);
 
+		if (settings.sharedBufferEd25519Verification() && AsyncVerificationHandler.isEd25519Only(signatures)) {
+			final List<TransactionSignature> uncached = applyCachedResults(signatures, future);
+			ed25519VerificationProvider.verifyWithSharedBuffers(uncached);
+			boolean allValid = true;
+			for (final TransactionSignature signature : uncached) {
+				signature.setFuture(future);
+				verificationCache.storeResult(signature);
+			}
+			for (final TransactionSignature signature : signatures) {
+				allValid &= signature.getSignatureStatus() == VerificationStatus.VALID;
+			}
+			return allValid;
+		}
+
 		boolean finalOutcome = true;
 
 		OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider;
@@ -612,6 +737,8 @@ public class CryptoEngine implements Cryptography {
 	 * applying the changes, and relaunching the {@link IntakeDispatcher} threads.
 	 */
 	protected synchronized void applySettings() {
+		verificationCache.setCapacity(settings.getVerificationCacheSize());
+
 		// Cleanup existing (if applicable) background threads
 		if (this.verificationDispatcher != null) {
 			this.verificationDispatcher.shutdown();
@@ -641,7 +768,7 @@ public class CryptoEngine implements Cryptography {
 		// Launch new background threads with the new settings
 		this.verificationDispatcher = new IntakeDispatcher<>(TransactionSignature.class, this.verificationQueue,
 				this.delegatingVerificationProvider, settings.computeCpuVerifierThreadCount(),
-				CryptoEngine::verificationHandler);
+				this::verificationHandler);
 
 		this.digestDispatcher = new IntakeDispatcher<>(Message.class, this.digestQueue, this.digestProvider,
 				settings.computeCpuDigestThreadCount(), this::digestHandler);
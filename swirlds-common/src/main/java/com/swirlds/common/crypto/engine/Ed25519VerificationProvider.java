@@ -21,9 +21,11 @@ import com.goterl.lazysodium.SodiumJava;
 import com.goterl.lazysodium.interfaces.Sign;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
 import com.swirlds.logging.LogMarker;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import static com.swirlds.common.utility.CommonUtils.hex;
 
@@ -89,6 +91,60 @@ public class Ed25519VerificationProvider
 		return compute(loadedAlgorithm, algorithmType, message, signature, publicKey);
 	}
 
+	/**
+	 * Verifies a list of Ed25519 signatures and sets the {@link VerificationStatus} of each one. Every signature is
+	 * checked on its own, libsodium has no batch verification function, but the whole list shares a single set of
+	 * scratch buffers instead of allocating new ones for each signature. A message that starts at the
+	 * beginning of the signature contents is passed to libsodium without being copied. Signatures with unexpected
+	 * key or signature lengths are verified individually.
+	 *
+	 * @param signatures
+	 * 		the signatures to verify, all of them must be {@link SignatureType#ED25519} signatures
+	 * @return true if all the signatures are valid; false otherwise
+	 */
+	public boolean verifyWithSharedBuffers(final List<TransactionSignature> signatures) {
+		final byte[] signature = new byte[Sign.ED25519_BYTES];
+		final byte[] publicKey = new byte[Sign.ED25519_PUBLICKEYBYTES];
+		byte[] messageBuffer = new byte[0];
+
+		boolean allValid = true;
+		for (final TransactionSignature sig : signatures) {
+			final boolean isValid;
+			if (sig.getSignatureLength() != Sign.ED25519_BYTES
+					|| sig.getPublicKeyLength() != Sign.ED25519_PUBLICKEYBYTES) {
+				isValid = compute(algorithm, SignatureType.ED25519, sig);
+			} else {
+				final byte[] payload = sig.getContentsDirect();
+				final byte[] expandedPublicKey = sig.getExpandedPublicKey();
+				final byte[] publicKeySource = (expandedPublicKey != null && expandedPublicKey.length > 0)
+						? expandedPublicKey
+						: payload;
+
+				System.arraycopy(payload, sig.getSignatureOffset(), signature, 0, Sign.ED25519_BYTES);
+				System.arraycopy(publicKeySource, sig.getPublicKeyOffset(), publicKey, 0,
+						Sign.ED25519_PUBLICKEYBYTES);
+
+				final byte[] message;
+				if (sig.getMessageOffset() == 0 && sig.getMessageLength() <= payload.length) {
+					message = payload;
+				} else {
+					if (messageBuffer.length < sig.getMessageLength()) {
+						messageBuffer = new byte[sig.getMessageLength()];
+					}
+					System.arraycopy(payload, sig.getMessageOffset(), messageBuffer, 0, sig.getMessageLength());
+					message = messageBuffer;
+				}
+
+				isValid = compute(algorithm, SignatureType.ED25519, message, sig.getMessageLength(), signature,
+						publicKey);
+			}
+
+			sig.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
+			allValid &= isValid;
+		}
+
+		return allValid;
+	}
 
 	/**
 	 * {@inheritDoc}
@@ -125,7 +181,29 @@ public class Ed25519VerificationProvider
 	 */
 	private boolean compute(final Sign.Native algorithm, final SignatureType algorithmType,
 			final byte[] message, final byte[] signature, final byte[] publicKey) {
-		final boolean isValid = algorithm.cryptoSignVerifyDetached(signature, message, message.length, publicKey);
+		return compute(algorithm, algorithmType, message, message.length, signature, publicKey);
+	}
+
+	/**
+	 * Computes the result of the cryptographic transformation using the provided item and algorithm.
+	 *
+	 * @param algorithm
+	 * 		the concrete instance of the required algorithm
+	 * @param algorithmType
+	 * 		the type of algorithm to be used when performing the transformation
+	 * @param message
+	 * 		an array that starts with the original message that was signed
+	 * @param messageLength
+	 * 		the length of the message, any bytes in the array after the message are ignored
+	 * @param signature
+	 * 		the signature to be verified
+	 * @param publicKey
+	 * 		the public key used to verify the signature
+	 * @return true if the provided signature is valid; false otherwise
+	 */
+	private boolean compute(final Sign.Native algorithm, final SignatureType algorithmType,
+			final byte[] message, final int messageLength, final byte[] signature, final byte[] publicKey) {
+		final boolean isValid = algorithm.cryptoSignVerifyDetached(signature, message, messageLength, publicKey);
 
 		if (!isValid && log().isDebugEnabled()) {
 			log().debug(LogMarker.TESTING_EXCEPTIONS.getMarker(),
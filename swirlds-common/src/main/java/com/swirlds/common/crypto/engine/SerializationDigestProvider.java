@@ -19,7 +19,7 @@ package com.swirlds.common.crypto.engine;
 import com.swirlds.common.crypto.CryptographyException;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
-import com.swirlds.common.crypto.HashingOutputStream;
+import com.swirlds.common.crypto.BufferedHashingOutputStream;
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.logging.LogMarker;
@@ -30,31 +30,47 @@ import java.security.NoSuchAlgorithmException;
 
 /**
  * A {@link CachingOperationProvider} capable of computing hashes for {@link SelfSerializable} objects by hashing the
- * serialized bytes of the object.
+ * serialized bytes of the object. Each thread reuses a single serialization stream over a {@link
+ * BufferedHashingOutputStream}, so the digest is fed in large chunks and no streams are allocated per object.
  */
 public class SerializationDigestProvider extends
-		CachingOperationProvider<SelfSerializable, Void, Hash, HashingOutputStream, DigestType> {
+		CachingOperationProvider<SelfSerializable, Void, Hash, SerializationDigestProvider.Context, DigestType> {
+
+	/**
+	 * The per thread streams used to serialize and hash an object.
+	 */
+	static final class Context {
+		private final BufferedHashingOutputStream hashingStream;
+		private final SerializableDataOutputStream out;
+
+		private Context(final MessageDigest digest) {
+			this.hashingStream = new BufferedHashingOutputStream(digest);
+			this.out = new SerializableDataOutputStream(hashingStream);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected HashingOutputStream handleAlgorithmRequired(final DigestType algorithmType)
+	protected Context handleAlgorithmRequired(final DigestType algorithmType)
 			throws NoSuchAlgorithmException {
-		return new HashingOutputStream(MessageDigest.getInstance(algorithmType.algorithmName()));
+		return new Context(MessageDigest.getInstance(algorithmType.algorithmName()));
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected Hash handleItem(final HashingOutputStream algorithm, final DigestType algorithmType,
+	protected Hash handleItem(final Context context, final DigestType algorithmType,
 			final SelfSerializable item, final Void optionalData) {
-		algorithm.resetDigest();//probably not needed, just to be safe
-		try (SerializableDataOutputStream out = new SerializableDataOutputStream(algorithm)) {
-			out.writeSerializable(item, true);
-			out.flush();
+		// discards anything left over by a previous item that failed to serialize
+		context.hashingStream.resetDigest();
+		try {
+			context.out.writeSerializable(item, true);
+			context.out.flush();
 
-			return new Hash(algorithm.getDigest(), algorithmType);
+			return new Hash(context.hashingStream.getDigest(), algorithmType);
 		} catch (IOException ex) {
 			throw new CryptographyException(ex, LogMarker.EXCEPTION);
 		}
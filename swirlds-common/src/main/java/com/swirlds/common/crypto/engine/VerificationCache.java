@@ -0,0 +1,293 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto.engine;
+
+import com.swirlds.common.crypto.CryptographyException;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.CommonUtils;
+import com.swirlds.logging.LogMarker;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_11_3;
+
+/**
+ * <p>
+ * A bounded, thread safe cache of signature verification results. The same {@link TransactionSignature} is often
+ * verified several times, for example when a transaction is submitted, during pre-handle and again when events are
+ * replayed after a reconnect. A cached result makes every verification after the first one almost free.
+ * </p>
+ *
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the signature type, the signature, the public key and the message, so a
+ * result can only be reused for exactly the same inputs. The cache keeps two generations of entries. New entries go
+ * into the current generation, and when it holds half of the capacity it replaces the previous generation, which is
+ * discarded. Entries found in the previous generation are moved to the current one, so entries that keep being used
+ * are never evicted.
+ * </p>
+ */
+public class VerificationCache {
+
+	private static final String CATEGORY = "crypto";
+
+	/**
+	 * A rough estimate of the heap used by one entry: the key, its digest array, the map node and the table slot.
+	 */
+	static final int ESTIMATED_ENTRY_BYTES = 128;
+
+	private static final String KEY_DIGEST_ALGORITHM = "SHA-256";
+
+	private final RunningAverageMetric.Config hitRateConfig =
+			new RunningAverageMetric.Config(CATEGORY, "SigCacheHitRate")
+					.withDescription("fraction of signature verifications answered by the verification cache")
+					.withFormat(FORMAT_11_3);
+
+	private final FunctionGauge.Config<Integer> sizeConfig =
+			new FunctionGauge.Config<>(CATEGORY, "SigCacheSize", this::size)
+					.withDescription("number of results in the signature verification cache")
+					.withFormat("%d");
+
+	private final FunctionGauge.Config<Long> memoryConfig =
+			new FunctionGauge.Config<>(CATEGORY, "SigCacheBytes", this::estimateMemory)
+					.withDescription("estimated heap used by the signature verification cache, in bytes")
+					.withFormat("%d");
+
+	private final ThreadLocal<MessageDigest> keyDigests = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(KEY_DIGEST_ALGORITHM);
+		} catch (final NoSuchAlgorithmException ex) {
+			throw new CryptographyException(ex, LogMarker.EXCEPTION);
+		}
+	});
+
+	/**
+	 * The maximum number of entries, 0 if the cache is disabled.
+	 */
+	private volatile int capacity;
+
+	private volatile ConcurrentHashMap<Key, Boolean> current = new ConcurrentHashMap<>();
+
+	private volatile ConcurrentHashMap<Key, Boolean> previous = new ConcurrentHashMap<>();
+
+	private RunningAverageMetric hitRate;
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param capacity
+	 * 		the maximum number of results to keep, 0 to disable the cache
+	 */
+	public VerificationCache(final int capacity) {
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Register the metrics of this cache.
+	 *
+	 * @param metrics
+	 * 		reference to the metrics system
+	 * @throws IllegalArgumentException
+	 * 		if {@code metrics} is {@code null}
+	 */
+	public void registerMetrics(final Metrics metrics) {
+		CommonUtils.throwArgNull(metrics, "metrics");
+		hitRate = metrics.getOrCreate(hitRateConfig);
+		metrics.getOrCreate(sizeConfig);
+		metrics.getOrCreate(memoryConfig);
+	}
+
+	/**
+	 * Change the maximum number of results to keep. Setting the capacity to 0 disables the cache and discards all
+	 * results.
+	 *
+	 * @param capacity
+	 * 		the maximum number of results to keep
+	 */
+	public synchronized void setCapacity(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity must not be negative");
+		}
+		this.capacity = capacity;
+		if (capacity == 0) {
+			current = new ConcurrentHashMap<>();
+			previous = new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * @return true if results are being cached
+	 */
+	public boolean isEnabled() {
+		return capacity > 0;
+	}
+
+	/**
+	 * Look for a cached result for a signature. On a hit, the {@link VerificationStatus} of the signature is set
+	 * immediately.
+	 *
+	 * @param signature
+	 * 		the signature to look up
+	 * @return true if a cached result was found and applied to the signature
+	 */
+	public boolean applyCachedResult(final TransactionSignature signature) {
+		if (!isEnabled()) {
+			return false;
+		}
+
+		final Key key = computeKey(signature);
+		Boolean isValid = current.get(key);
+		if (isValid == null) {
+			isValid = previous.get(key);
+			if (isValid != null) {
+				insert(key, isValid);
+			}
+		}
+
+		if (hitRate != null) {
+			hitRate.update(isValid == null ? 0 : 1);
+		}
+		if (isValid == null) {
+			return false;
+		}
+
+		signature.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
+		return true;
+	}
+
+	/**
+	 * Store the verification result of a signature. Signatures with a status other than
+	 * {@link VerificationStatus#VALID} or {@link VerificationStatus#INVALID} are ignored.
+	 *
+	 * @param signature
+	 * 		a signature that has been verified
+	 */
+	public void storeResult(final TransactionSignature signature) {
+		final VerificationStatus status = signature.getSignatureStatus();
+		if (!isEnabled() || (status != VerificationStatus.VALID && status != VerificationStatus.INVALID)) {
+			return;
+		}
+		insert(computeKey(signature), status == VerificationStatus.VALID);
+	}
+
+	/**
+	 * @return the number of results currently cached
+	 */
+	public int size() {
+		return current.size() + previous.size();
+	}
+
+	/**
+	 * @return a rough estimate of the heap used by the cached results, in bytes
+	 */
+	public long estimateMemory() {
+		return (long) size() * ESTIMATED_ENTRY_BYTES;
+	}
+
+	private void insert(final Key key, final boolean isValid) {
+		final ConcurrentHashMap<Key, Boolean> generation = current;
+		generation.put(key, isValid);
+		if (generation.size() >= Math.max(1, capacity / 2)) {
+			rotate(generation);
+		}
+	}
+
+	/**
+	 * Start a new generation, discarding the previous one.
+	 *
+	 * @param full
+	 * 		the generation that was found to be full, nothing happens if another thread already replaced it
+	 */
+	private synchronized void rotate(final ConcurrentHashMap<Key, Boolean> full) {
+		if (current != full) {
+			return;
+		}
+		previous = full;
+		current = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Get the key of a signature. The key is computed when the signature is first looked up and kept with the
+	 * signature, so storing the result of a lookup that missed does not compute it again.
+	 */
+	private Key computeKey(final TransactionSignature signature) {
+		final byte[] cachedKey = signature.getVerificationCacheKey();
+		if (cachedKey != null) {
+			return new Key(cachedKey);
+		}
+
+		final byte[] contents = signature.getContentsDirect();
+		final byte[] expandedPublicKey = signature.getExpandedPublicKeyDirect();
+		final byte[] publicKeySource = (expandedPublicKey != null && expandedPublicKey.length > 0)
+				? expandedPublicKey
+				: contents;
+
+		final MessageDigest digest = keyDigests.get();
+		digest.update((byte) signature.getSignatureType().ordinal());
+		updateLength(digest, signature.getSignatureLength());
+		digest.update(contents, signature.getSignatureOffset(), signature.getSignatureLength());
+		updateLength(digest, signature.getPublicKeyLength());
+		digest.update(publicKeySource, signature.getPublicKeyOffset(), signature.getPublicKeyLength());
+		updateLength(digest, signature.getMessageLength());
+		digest.update(contents, signature.getMessageOffset(), signature.getMessageLength());
+		final byte[] key = digest.digest();
+		signature.setVerificationCacheKey(key);
+		return new Key(key);
+	}
+
+	private static void updateLength(final MessageDigest digest, final int length) {
+		digest.update((byte) (length >>> 24));
+		digest.update((byte) (length >>> 16));
+		digest.update((byte) (length >>> 8));
+		digest.update((byte) length);
+	}
+
+	/**
+	 * A cache key, the digest of everything that determines the result of a verification.
+	 */
+	private static final class Key {
+		private final byte[] digest;
+		private final int hashCode;
+
+		Key(final byte[] digest) {
+			this.digest = digest;
+			this.hashCode = Arrays.hashCode(digest);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			return Arrays.equals(digest, ((Key) obj).digest);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
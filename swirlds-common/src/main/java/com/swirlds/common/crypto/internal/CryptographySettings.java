@@ -16,6 +16,8 @@
 
 package com.swirlds.common.crypto.internal;
 
+import com.swirlds.common.merkle.hash.MerkleHashBuilder;
+
 public interface CryptographySettings {
 
 	/**
@@ -61,6 +63,21 @@ public interface CryptographySettings {
 			public String getKeystorePassword() {
 				return DEFAULT_KEYSTORE_PASSWORD;
 			}
+
+			@Override
+			public int getMerkleHashForkDepth() {
+				return MerkleHashBuilder.DEFAULT_FORK_DEPTH;
+			}
+
+			@Override
+			public boolean sharedBufferEd25519Verification() {
+				return false;
+			}
+
+			@Override
+			public int getVerificationCacheSize() {
+				return 0;
+			}
 		};
 	}
 
@@ -108,6 +125,31 @@ public interface CryptographySettings {
 	 */
 	String getKeystorePassword();
 
+	/**
+	 * Returns the depth of a merkle tree down to which asynchronous hashing is split into parallel tasks. Each subtree
+	 * rooted at this depth is hashed by a single task. If {@code 0}, every hashing thread iterates over the entire tree
+	 * instead.
+	 *
+	 * @return a value greater than or equal to {@code 0}
+	 */
+	int getMerkleHashForkDepth();
+
+	/**
+	 * Returns true if lists of Ed25519 signatures should be verified with a single set of scratch buffers instead of
+	 * allocating new buffers for each signature. The signatures are still verified one at a time.
+	 *
+	 * @return true if the scratch buffers should be shared, false otherwise
+	 */
+	boolean sharedBufferEd25519Verification();
+
+	/**
+	 * Returns the maximum number of signature verification results to cache, so that verifying the same signature
+	 * again does not repeat the cryptographic check. If {@code 0}, results are not cached.
+	 *
+	 * @return a value greater than or equal to {@code 0}
+	 */
+	int getVerificationCacheSize();
+
 	/**
 	 * Calculates the number of threads needed to achieve the CPU core ratio given by {@link
 	 * #getCpuVerifierThreadRatio()}.
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.io.extendable.extensions;
+
+import java.util.Arrays;
+
+/**
+ * A stream extension that can keep a copy of the bytes that pass through it. It will not automatically capture all the
+ * bytes that pass through. In order to start capturing, the {@link #startCapturing()} method needs to be called. Once
+ * all the required bytes have passed through, {@link #finishCapturing()} should be called.
+ * <p>
+ * The internal buffer is reused between captures, so a stream that captures many small objects only allocates the
+ * arrays it returns.
+ */
+public class CapturingStreamExtension extends AbstractStreamExtension {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+	/**
+	 * the bytes captured so far
+	 */
+	private byte[] buffer;
+
+	/**
+	 * the number of valid bytes in {@link #buffer}
+	 */
+	private int length;
+
+	/**
+	 * is capturing enabled or not
+	 */
+	private boolean enabled;
+
+	/**
+	 * Constructs a stream extension that can capture bytes that pass though it
+	 */
+	public CapturingStreamExtension() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Constructs a stream extension that can capture bytes that pass though it
+	 *
+	 * @param initialCapacity
+	 * 		the initial size of the capture buffer, it will grow if needed
+	 */
+	public CapturingStreamExtension(final int initialCapacity) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("initial capacity must be positive");
+		}
+		this.buffer = new byte[initialCapacity];
+	}
+
+	/**
+	 * Start capturing all the bytes that pass through from this point on until {@link #finishCapturing()} is called.
+	 * Any bytes captured before this call are discarded.
+	 */
+	public void startCapturing() {
+		length = 0;
+		enabled = true;
+	}
+
+	/**
+	 * @return the number of bytes captured since {@link #startCapturing()} was called
+	 */
+	public int getCapturedLength() {
+		return length;
+	}
+
+	/**
+	 * @return true if bytes are currently being captured
+	 */
+	public boolean isCapturing() {
+		return enabled;
+	}
+
+	/**
+	 * Return the bytes that passed through since {@link #startCapturing()} was called. This will stop capturing
+	 * any further bytes until {@link #startCapturing()} is called again.
+	 *
+	 * @return a copy of the bytes captured
+	 */
+	public byte[] finishCapturing() {
+		enabled = false;
+		return Arrays.copyOf(buffer, length);
+	}
+
+	/**
+	 * Stop capturing and discard the bytes captured since {@link #startCapturing()} was called. Does nothing if
+	 * capturing is not enabled.
+	 */
+	public void stopCapturing() {
+		enabled = false;
+		length = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void newByte(final int aByte) {
+		if (enabled) {
+			ensureCapacity(1);
+			buffer[length++] = (byte) aByte;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void newBytes(final byte[] bytes, final int offset, final int length) {
+		if (enabled) {
+			ensureCapacity(length);
+			System.arraycopy(bytes, offset, buffer, this.length, length);
+			this.length += length;
+		}
+	}
+
+	private void ensureCapacity(final int additional) {
+		final int required = length + additional;
+		if (required > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.io.streams;
+
+import com.swirlds.common.utility.CommonUtils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} that reads the remaining bytes of a {@link ByteBuffer}, such as a memory mapped file.
+ * Reading advances the position of the buffer. This class is not thread safe.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * @param buffer
+	 * 		the buffer to read from, starting at its current position
+	 */
+	public ByteBufferInputStream(final ByteBuffer buffer) {
+		CommonUtils.throwArgNull(buffer, "buffer");
+		this.buffer = buffer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int read() {
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		return buffer.get() & 0xFF;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int read(final byte[] b, final int off, final int len) {
+		if (len == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		final int toRead = Math.min(len, buffer.remaining());
+		buffer.get(b, off, toRead);
+		return toRead;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long skip(final long n) {
+		final int toSkip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+		buffer.position(buffer.position() + toSkip);
+		return toSkip;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+}
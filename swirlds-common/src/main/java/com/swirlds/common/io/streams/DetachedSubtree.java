@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.io.streams;
+
+import com.swirlds.common.merkle.MerkleNode;
+
+import java.util.Map;
+
+import static com.swirlds.common.merkle.copy.MerkleInitialize.initializeAndMigrateTreeAfterDeserialization;
+
+/**
+ * A subtree read by {@link MerkleDataInputStream#readDetachedSubtree(java.nio.file.Path, int)}. A subtree that has
+ * not been initialized is initialized with the rest of the tree once it has been attached to the tree it was detached
+ * from. A subtree that has already been initialized by {@link #initialize()} is left as it is.
+ *
+ * @param root
+ * 		the root of the subtree
+ * @param deserializedVersions
+ * 		the versions of the classes read in the subtree, mapped by class ID
+ * @param initialized
+ * 		true if the subtree has already been initialized and migrated
+ */
+public record DetachedSubtree(MerkleNode root, Map<Long, Integer> deserializedVersions, boolean initialized) {
+
+	/**
+	 * Create a subtree that has not been initialized yet.
+	 *
+	 * @param root
+	 * 		the root of the subtree
+	 * @param deserializedVersions
+	 * 		the versions of the classes read in the subtree, mapped by class ID
+	 */
+	public DetachedSubtree(final MerkleNode root, final Map<Long, Integer> deserializedVersions) {
+		this(root, deserializedVersions, false);
+	}
+
+	/**
+	 * Initialize and migrate this subtree on its own, before it is attached. Nothing outside of the subtree is
+	 * visible while it is initialized, so this is only valid if the nodes in the subtree do not depend on their
+	 * ancestors to initialize or migrate.
+	 *
+	 * @return the initialized subtree, its root may be different from the root of this subtree if it was migrated
+	 */
+	public DetachedSubtree initialize() {
+		if (initialized) {
+			return this;
+		}
+		return new DetachedSubtree(
+				initializeAndMigrateTreeAfterDeserialization(root, deserializedVersions), deserializedVersions, true);
+	}
+}
@@ -32,12 +32,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 import static com.swirlds.common.constructable.ClassIdFormatter.classIdString;
+import static com.swirlds.common.io.streams.SerializableStreamConstants.DETACHED_SUBTREE_CLASS_ID;
 import static com.swirlds.common.io.streams.SerializableStreamConstants.NULL_CLASS_ID;
 import static com.swirlds.common.merkle.copy.MerkleInitialize.initializeAndMigrateTreeAfterDeserialization;
 import static com.swirlds.common.utility.CommonUtils.throwArgNull;
@@ -49,6 +54,10 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
 
 	private final Queue<PartiallyConstructedMerkleInternal> internalNodes;
 	private MerkleNode root;
+	/** supplies the subtrees that were written separately, null if the tree being read has none */
+	private IntFunction<DetachedSubtree> detachedSubtrees;
+	/** the roots of attached subtrees that were initialized before they were attached */
+	private final Set<MerkleNode> initializedSubtrees = Collections.newSetFromMap(new IdentityHashMap<>());
 
 	/**
 	 * Create a stream capable of reading merkle trees.
@@ -149,6 +158,10 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
 			addToParent(null);
 			return;
 		}
+		if (classId == DETACHED_SUBTREE_CLASS_ID && detachedSubtrees != null) {
+			attachSubtree(readInt(), deserializedVersions);
+			return;
+		}
 
 		final MerkleNode node = ConstructableRegistry.createObject(classId);
 		if (node == null) {
@@ -172,6 +185,36 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
 		}
 	}
 
+	/**
+	 * Add a subtree that was written separately in place of the reference to it.
+	 *
+	 * @param index
+	 * 		the index of the detached subtree
+	 * @param deserializedVersions
+	 * 		versions of deserialized nodes, the versions read in the subtree are added to it
+	 * @throws IOException
+	 * 		if the subtree is not available
+	 */
+	private void attachSubtree(
+			final int index,
+			final Map<Long /* class ID */, Integer /* version */> deserializedVersions) throws IOException {
+		final DetachedSubtree subtree = detachedSubtrees.apply(index);
+		if (subtree == null) {
+			throw new MerkleSerializationException("Detached subtree " + index + " is not available");
+		}
+		subtree.deserializedVersions().forEach((final Long classId, final Integer classVersion) -> {
+			final Integer previous = deserializedVersions.put(classId, classVersion);
+			if (previous != null && !previous.equals(classVersion)) {
+				throw new IllegalStateException("Class with class ID " + classIdString(classId) +
+						" has different versions within the same tree");
+			}
+		});
+		if (subtree.initialized() && subtree.root() != null) {
+			initializedSubtrees.add(subtree.root());
+		}
+		addToParent(subtree.root());
+	}
+
 	/**
 	 * Perform basic sanity checks on the output directory.
 	 */
@@ -205,6 +248,89 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
 	public <T extends MerkleNode> T readMerkleTree(
 			final Path directory,
 			final int maxNumberOfNodes) throws IOException {
+		return readMerkleTree(directory, maxNumberOfNodes, null);
+	}
+
+	/**
+	 * Read a merkle tree written by
+	 * {@link MerkleDataOutputStream#writeMerkleTree(Path, MerkleNode, Map)}. Each detached subtree is requested
+	 * from {@code detachedSubtrees} when the reference to it is read, and the whole tree is initialized once all
+	 * subtrees have been attached. Subtrees that were already initialized when they were supplied are not
+	 * initialized again.
+	 *
+	 * @param directory
+	 * 		the directory from which data is being read
+	 * @param maxNumberOfNodes
+	 * 		maximum number of nodes to read from this stream, not counting the nodes in detached subtrees
+	 * @param detachedSubtrees
+	 * 		supplies a detached subtree given its index, may block until the subtree has been read. May be null if the
+	 * 		tree has no detached subtrees.
+	 * @param <T>
+	 * 		Type of the node
+	 * @return the merkle tree read from the stream
+	 * @throws IOException
+	 * 		thrown when version or the options or nodes count are invalid
+	 */
+	public <T extends MerkleNode> T readMerkleTree(
+			final Path directory,
+			final int maxNumberOfNodes,
+			final IntFunction<DetachedSubtree> detachedSubtrees) throws IOException {
+
+		final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
+		this.detachedSubtrees = detachedSubtrees;
+		try {
+			if (!readTreeNodes(directory, maxNumberOfNodes, deserializedVersions)) {
+				return null;
+			}
+		} finally {
+			this.detachedSubtrees = null;
+		}
+
+		final MerkleNode migratedRoot;
+		try {
+			migratedRoot = initializeAndMigrateTreeAfterDeserialization(
+					root, deserializedVersions, initializedSubtrees::contains);
+		} finally {
+			initializedSubtrees.clear();
+		}
+
+		if (migratedRoot == null) {
+			return null;
+		}
+		return migratedRoot.cast();
+	}
+
+	/**
+	 * Read a subtree that was written separately from the tree it belongs to. The subtree is not initialized, it is
+	 * meant to be supplied to {@link #readMerkleTree(Path, int, IntFunction)} while the rest of the tree is read,
+	 * either as it is or after {@link DetachedSubtree#initialize()}.
+	 *
+	 * @param directory
+	 * 		the directory from which data is being read
+	 * @param maxNumberOfNodes
+	 * 		maximum number of nodes to read
+	 * @return the subtree read from the stream
+	 * @throws IOException
+	 * 		thrown when version or the options or nodes count are invalid
+	 */
+	public DetachedSubtree readDetachedSubtree(
+			final Path directory,
+			final int maxNumberOfNodes) throws IOException {
+
+		final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
+		readTreeNodes(directory, maxNumberOfNodes, deserializedVersions);
+		return new DetachedSubtree(root, deserializedVersions);
+	}
+
+	/**
+	 * Read all nodes of a tree without initializing them.
+	 *
+	 * @return false if the root of the tree is null
+	 */
+	private boolean readTreeNodes(
+			final Path directory,
+			final int maxNumberOfNodes,
+			final Map<Long /* class ID */, Integer /* version */> deserializedVersions) throws IOException {
 
 		validateDirectory(directory);
 
@@ -218,11 +344,9 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
 
 		final boolean rootIsNull = readBoolean();
 		if (rootIsNull) {
-			return null;
+			return false;
 		}
 
-		final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
-
 		int nodeCount = 0;
 		while (!internalNodes.isEmpty() || root == null) {
 			nodeCount++;
@@ -231,13 +355,6 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
 			}
 			readNextNode(directory, deserializedVersions);
 		}
-
-		final MerkleNode migratedRoot =
-				initializeAndMigrateTreeAfterDeserialization(root, deserializedVersions);
-
-		if (migratedRoot == null) {
-			return null;
-		}
-		return migratedRoot.cast();
+		return true;
 	}
 }
@@ -30,8 +30,10 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
+import static com.swirlds.common.io.streams.SerializableStreamConstants.DETACHED_SUBTREE_CLASS_ID;
 import static com.swirlds.common.merkle.iterators.MerkleIterationOrder.BREADTH_FIRST;
 import static com.swirlds.logging.LogMarker.STATE_TO_DISK;
 
@@ -152,6 +154,30 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
 	 * 		thrown if any IO problems occur
 	 */
 	public void writeMerkleTree(final Path directory, final MerkleNode root) throws IOException {
+		writeMerkleTree(directory, root, Map.of());
+	}
+
+	/**
+	 * Writes a merkle tree to a stream, leaving out some of its subtrees. Only a reference to the index of each
+	 * detached subtree is written, the subtree itself must be written separately with
+	 * {@link #writeMerkleTree(Path, MerkleNode)}. A tree written this way can only be read with
+	 * {@link MerkleDataInputStream#readMerkleTree(Path, int, java.util.function.IntFunction)}.
+	 *
+	 * @param directory
+	 * 		a directory where additional data will be written
+	 * @param root
+	 * 		the root of the tree
+	 * @param detachedSubtrees
+	 * 		the roots of the subtrees to leave out, mapped to their indices. Nodes are looked up by identity, so this
+	 * 		should be an {@link java.util.IdentityHashMap}.
+	 * @throws IOException
+	 * 		thrown if any IO problems occur
+	 */
+	public void writeMerkleTree(
+			final Path directory,
+			final MerkleNode root,
+			final Map<MerkleNode, Integer> detachedSubtrees) throws IOException {
+
 		writeInt(MerkleSerializationProtocol.CURRENT);
 		writeBoolean(root == null);
 
@@ -161,13 +187,20 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
 			return;
 		}
 
+		final Predicate<MerkleInternal> descendantFilter = detachedSubtrees.isEmpty() ? DESCENDANT_FILTER :
+				DESCENDANT_FILTER.and(node -> !detachedSubtrees.containsKey(node));
+
 		root.treeIterator()
 				.setOrder(BREADTH_FIRST)
-				.setDescendantFilter(DESCENDANT_FILTER)
+				.setDescendantFilter(descendantFilter)
 				.ignoreNull(false)
 				.forEachRemainingWithIO((final MerkleNode node) -> {
+					final Integer detachedIndex = node == null ? null : detachedSubtrees.get(node);
 					if (node == null) {
 						writeNull();
+					} else if (detachedIndex != null) {
+						writeLong(DETACHED_SUBTREE_CLASS_ID);
+						writeInt(detachedIndex);
 					} else if (node.isLeaf()) {
 						writeLeaf(directory, node.asLeaf());
 					} else {
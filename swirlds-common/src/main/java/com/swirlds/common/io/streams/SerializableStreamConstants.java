@@ -28,6 +28,12 @@ public final class SerializableStreamConstants {
 	public static final int NULL_LIST_ARRAY_LENGTH = -1;
 	/** The class ID of a {@link SelfSerializable} instance when the instance is null */
 	public static final long NULL_CLASS_ID = Long.MIN_VALUE;
+	/**
+	 * Written in place of the class ID of a merkle node whose subtree is stored separately, see
+	 * {@link MerkleDataOutputStream#writeMerkleTree(java.nio.file.Path, com.swirlds.common.merkle.MerkleNode,
+	 * java.util.Map)}
+	 */
+	public static final long DETACHED_SUBTREE_CLASS_ID = Long.MIN_VALUE + 1;
 	/** The version of a {@link SelfSerializable} instance when the instance is null */
 	public static final int NULL_VERSION = Integer.MIN_VALUE;
 	/** The value of Instant.epochSecond when instant is null */
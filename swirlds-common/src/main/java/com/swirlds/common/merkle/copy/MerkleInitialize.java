@@ -45,6 +45,25 @@ public final class MerkleInitialize {
 	public static MerkleNode initializeAndMigrateTreeAfterDeserialization(
 			final MerkleNode root,
 			final Map<Long /* class ID */, Integer /* version */> deserializationVersions) {
+		return initializeAndMigrateTreeAfterDeserialization(root, deserializationVersions, node -> false);
+	}
+
+	/**
+	 * Initialize the tree after deserialization, skipping subtrees that have already been initialized.
+	 *
+	 * @param root
+	 * 		the tree (or subtree) to initialize
+	 * @param deserializationVersions
+	 * 		the versions of classes at deserialization
+	 * @param initialized
+	 * 		true for the roots of subtrees that have already been initialized and migrated, neither they nor any of
+	 * 		their descendants are initialized or migrated again
+	 * @return the root of the tree, possibly different than original root if the root has been migrated
+	 */
+	public static MerkleNode initializeAndMigrateTreeAfterDeserialization(
+			final MerkleNode root,
+			final Map<Long /* class ID */, Integer /* version */> deserializationVersions,
+			final Predicate<MerkleNode> initialized) {
 
 		if (root == null) {
 			return null;
@@ -53,7 +72,8 @@ public final class MerkleInitialize {
 		// Leaf nodes don't require initialization and implement ExternalSelfSerializable,
 		// and any internal node that implements ExternalSelfSerializable must handle its own
 		// serialization and migration
-		final Predicate<MerkleNode> filter = node -> !(node instanceof ExternalSelfSerializable);
+		final Predicate<MerkleNode> filter =
+				node -> !(node instanceof ExternalSelfSerializable) && !initialized.test(node);
 
 		// If a node should not be initialized, then neither should any of its descendants be initialized.
 		final Predicate<MerkleInternal> descendantFilter = filter::test;
@@ -66,7 +86,7 @@ public final class MerkleInitialize {
 
 					for (int childIndex = 0; childIndex < internal.getNumberOfChildren(); childIndex++) {
 						final MerkleNode child = internal.getChild(childIndex);
-						if (child == null) {
+						if (child == null || initialized.test(child)) {
 							continue;
 						}
 
@@ -83,6 +103,10 @@ public final class MerkleInitialize {
 					node.asInternal().rebuild();
 				});
 
+		if (initialized.test(root)) {
+			return root;
+		}
+
 		final int deserializationVersion = Objects.requireNonNull(
 				deserializationVersions.get(root.getClassId()),
 				"class not discovered during deserialization");
@@ -18,6 +18,7 @@ package com.swirlds.common.merkle.hash;
 
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.iterators.MerkleIterator;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
@@ -25,10 +26,14 @@ import com.swirlds.common.threading.futures.StandardFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -38,19 +43,38 @@ import static com.swirlds.common.merkle.utility.MerkleConstants.MERKLE_DIGEST_TY
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 
 /**
+ * <p>
  * This class is responsible for hashing a merkle tree.
+ * </p>
+ *
+ * <p>
+ * Asynchronous hashing splits the tree into disjoint subtrees. Every internal node above the fork depth becomes a
+ * fork join task that hashes its children in parallel and then hashes itself, and every node at the fork depth
+ * becomes a task that hashes its entire subtree on a single thread. Each node is visited by exactly one task.
+ * If the fork depth is 0, the older strategy is used instead: every thread iterates over the entire tree in a
+ * different order and skips nodes that another thread has already hashed.
+ * </p>
  */
 public class MerkleHashBuilder {
 	private static final Logger log = LogManager.getLogger(MerkleHashBuilder.class);
 
+	/**
+	 * The fork depth used if none is specified.
+	 */
+	public static final int DEFAULT_FORK_DEPTH = 8;
+
 	private final Executor threadPool;
 
+	private final ForkJoinPool forkJoinPool;
+
 	private final int cpuThreadCount;
 
+	private final int forkDepth;
+
 	private final Cryptography cryptography;
 
 	/**
-	 * Construct an object which calculates the hash of a merkle tree.
+	 * Construct an object which calculates the hash of a merkle tree using the default fork depth.
 	 *
 	 * @param cryptography
 	 * 		the {@link Cryptography} implementation to use
@@ -58,21 +82,61 @@ public class MerkleHashBuilder {
 	 * 		the number of threads to be used for computing hash
 	 */
 	public MerkleHashBuilder(final Cryptography cryptography, final int cpuThreadCount) {
+		this(cryptography, cpuThreadCount, DEFAULT_FORK_DEPTH);
+	}
+
+	/**
+	 * Construct an object which calculates the hash of a merkle tree.
+	 *
+	 * @param cryptography
+	 * 		the {@link Cryptography} implementation to use
+	 * @param cpuThreadCount
+	 * 		the number of threads to be used for computing hash
+	 * @param forkDepth
+	 * 		the depth down to which asynchronous hashing is split into parallel tasks, subtrees rooted at this depth
+	 * 		are hashed by a single task. If 0, every thread iterates over the entire tree instead.
+	 */
+	public MerkleHashBuilder(final Cryptography cryptography, final int cpuThreadCount, final int forkDepth) {
+		if (forkDepth < 0) {
+			throw new IllegalArgumentException("fork depth must not be negative");
+		}
 		this.cryptography = cryptography;
 		this.cpuThreadCount = cpuThreadCount;
+		this.forkDepth = forkDepth;
+
+		final Thread.UncaughtExceptionHandler exceptionHandler = (t, ex) -> {
+			log.error(EXCEPTION.getMarker(),
+					"Uncaught exception in MerkleHashBuilder thread pool", ex);
+		};
+
+		if (forkDepth == 0) {
+			final ThreadFactory threadFactory = new ThreadConfiguration()
+					.setDaemon(true)
+					.setComponent(THREAD_COMPONENT_NAME)
+					.setThreadName("merkle hash")
+					.setPriority(Thread.NORM_PRIORITY)
+					.setExceptionHandler(exceptionHandler)
+					.buildFactory();
+
+			this.threadPool = Executors.newFixedThreadPool(cpuThreadCount, threadFactory);
+			this.forkJoinPool = null;
+		} else {
+			this.threadPool = null;
+			this.forkJoinPool = new ForkJoinPool(cpuThreadCount, new ThreadConfiguration()
+					.setDaemon(true)
+					.setComponent(THREAD_COMPONENT_NAME)
+					.setThreadName("merkle hash")
+					.setPriority(Thread.NORM_PRIORITY)
+					.setExceptionHandler(exceptionHandler)
+					.buildForkJoinFactory(), exceptionHandler, false);
+		}
+	}
 
-		final ThreadFactory threadFactory = new ThreadConfiguration()
-				.setDaemon(true)
-				.setComponent(THREAD_COMPONENT_NAME)
-				.setThreadName("merkle hash")
-				.setPriority(Thread.NORM_PRIORITY)
-				.setExceptionHandler((t, ex) -> {
-					log.error(EXCEPTION.getMarker(),
-							"Uncaught exception in MerkleHashBuilder thread pool", ex);
-				})
-				.buildFactory();
-
-		this.threadPool = Executors.newFixedThreadPool(cpuThreadCount, threadFactory);
+	/**
+	 * @return the depth down to which asynchronous hashing is split into parallel tasks
+	 */
+	public int getForkDepth() {
+		return forkDepth;
 	}
 
 	/**
@@ -132,6 +196,17 @@ public class MerkleHashBuilder {
 			return new StandardFuture<>(cryptography.getNullHash(MERKLE_DIGEST_TYPE));
 		} else if (root.getHash() != null) {
 			return new StandardFuture<>(root.getHash());
+		} else if (forkJoinPool != null) {
+			final FutureMerkleHash result = new FutureMerkleHash();
+			forkJoinPool.execute(() -> {
+				try {
+					new HashTask(root, 0).invoke();
+					result.set(root.getHash());
+				} catch (final Throwable t) {
+					result.cancelWithException(t);
+				}
+			});
+			return result;
 		} else {
 			final FutureMerkleHash result = new FutureMerkleHash();
 			AtomicInteger activeThreadCount = new AtomicInteger(cpuThreadCount);
@@ -210,4 +285,72 @@ public class MerkleHashBuilder {
 			}
 		}
 	}
+
+	/**
+	 * Hash a single node whose children, if any, have already been hashed.
+	 */
+	private void hashNode(final MerkleNode node) {
+		// This lock is only contended if the node can be reached through more than one parent.
+		synchronized (node) {
+			if (node.getHash() != null) {
+				return;
+			}
+			if (node.isLeaf()) {
+				cryptography.digestSync(node.asLeaf(), MERKLE_DIGEST_TYPE);
+			} else {
+				cryptography.digestSync(node.asInternal(), MERKLE_DIGEST_TYPE);
+			}
+		}
+	}
+
+	/**
+	 * A task that hashes the subtree rooted at a node. Above the fork depth the children are hashed by child tasks
+	 * that may run in parallel, at the fork depth the subtree is hashed by this task alone.
+	 */
+	private final class HashTask extends RecursiveAction {
+
+		private final MerkleNode node;
+
+		private final int depth;
+
+		HashTask(final MerkleNode node, final int depth) {
+			this.node = node;
+			this.depth = depth;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+			if (!filter(node)) {
+				return;
+			}
+
+			if (node.isSelfHashing() || node.isLeaf()) {
+				hashNode(node);
+				return;
+			}
+
+			if (depth >= forkDepth) {
+				hashSubtree(node.treeIterator()
+						.setFilter(MerkleHashBuilder::filter)
+						.setDescendantFilter(MerkleHashBuilder::descendantFilter), null);
+				return;
+			}
+
+			final MerkleInternal internal = node.asInternal();
+			final int childCount = internal.getNumberOfChildren();
+			final List<HashTask> tasks = new ArrayList<>(childCount);
+			for (int childIndex = 0; childIndex < childCount; childIndex++) {
+				final MerkleNode child = internal.getChild(childIndex);
+				if (filter(child)) {
+					tasks.add(new HashTask(child, depth + 1));
+				}
+			}
+			invokeAll(tasks);
+
+			hashNode(internal);
+		}
+	}
 }
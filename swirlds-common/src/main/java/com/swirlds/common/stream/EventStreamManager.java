@@ -16,6 +16,7 @@
 
 package com.swirlds.common.stream;
 
+import com.swirlds.common.crypto.CryptoFactory;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.ImmutableHash;
@@ -43,6 +44,12 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 	/** use this for all logging, as controlled by the optional data/log4j2.xml file */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	/**
+	 * the number of events that can wait to be hashed by {@link #parallelHashCalculator} before
+	 * {@link #addEvent} blocks
+	 */
+	private static final int PARALLEL_HASH_CAPACITY = 8192;
+
 	/**
 	 * receives consensus events from ConsensusRoundHandler.addEvent(), then passes to hashQueueThread and
 	 * writeQueueThread
@@ -56,6 +63,11 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 	 * runningHashCalculator
 	 */
 	private HashCalculatorForStream<T> hashCalculator;
+	/**
+	 * if hashing threads are configured, receives consensus events from multiStream instead of hashQueueThread,
+	 * calculates the Hash of several events at the same time, then passes them to runningHashCalculator in order
+	 */
+	private ParallelHashCalculatorForStream<T> parallelHashCalculator;
 
 	/** receives consensus events from multiStream, then passes to streamFileWriter */
 	private QueueThreadObjectStream<T> writeQueueThread;
@@ -107,6 +119,47 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 			final long eventsLogPeriod,
 			final int eventStreamQueueCapacity,
 			final Predicate<T> isLastEventInFreezeCheck) throws NoSuchAlgorithmException, IOException {
+		this(selfId, signer, nodeName, enableEventStreaming, eventsLogDir, eventsLogPeriod, eventStreamQueueCapacity,
+				new StreamFileWriterSettings(), 0, isLastEventInFreezeCheck);
+	}
+
+	/**
+	 * @param selfId
+	 * 		the id of this node
+	 * @param signer
+	 * 		an object that can sign things
+	 * @param nodeName
+	 * 		name of this node
+	 * @param enableEventStreaming
+	 * 		whether write event stream files or not
+	 * @param eventsLogDir
+	 * 		eventStream files will be generated in this directory
+	 * @param eventsLogPeriod
+	 * 		period of generating eventStream file
+	 * @param eventStreamQueueCapacity
+	 * 		capacity of the blockingQueue from which we take events and write to EventStream files
+	 * @param writerSettings
+	 * 		how events are flushed to EventStream files, how the files are written and whether index files are written
+	 * @param hashingThreads
+	 * 		if positive, the Hash of events is calculated on this many threads, and only the runningHash is calculated
+	 * 		in order. If 0, both are calculated on a single thread
+	 * @param isLastEventInFreezeCheck
+	 * 		a predicate which checks whether this event is the last event before restart
+	 * @throws NoSuchAlgorithmException
+	 * 		is thrown when fails to get required MessageDigest instance
+	 * @throws IOException
+	 * 		is thrown when fails to create directory for event streaming
+	 */
+	public EventStreamManager(final NodeId selfId,
+			final Signer signer,
+			final String nodeName,
+			final boolean enableEventStreaming,
+			final String eventsLogDir,
+			final long eventsLogPeriod,
+			final int eventStreamQueueCapacity,
+			final StreamFileWriterSettings writerSettings,
+			final int hashingThreads,
+			final Predicate<T> isLastEventInFreezeCheck) throws NoSuchAlgorithmException, IOException {
 		if (enableEventStreaming) {
 			// the directory to which event stream files are written
 			final String eventStreamDir = eventsLogDir + "/events_" + nodeName;
@@ -120,7 +173,8 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 					 * startWriteAtCompleteWindow should be set to be true; when event streaming is started after
 					 * restart, it should be set to be false */
 					false,
-					EventStreamType.EVENT);
+					EventStreamType.EVENT,
+					writerSettings);
 
 			writeQueueThread = new QueueThreadObjectStreamConfiguration<T>()
 					.setNodeId(selfId.getId())
@@ -133,17 +187,31 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 
 		// receives consensus events from hashCalculator, calculates and set runningHash for this event
 		final RunningHashCalculatorForStream<T> runningHashCalculator = new RunningHashCalculatorForStream<>();
-		hashCalculator = new HashCalculatorForStream<>(runningHashCalculator);
-		hashQueueThread = new QueueThreadObjectStreamConfiguration<T>()
-				.setNodeId(selfId.getId())
-				.setComponent("event-stream")
-				.setThreadName("hash-queue")
-				.setForwardTo(hashCalculator)
-				.build();
-		hashQueueThread.start();
+		final LinkedObjectStream<T> hashStream;
+		if (hashingThreads > 0) {
+			parallelHashCalculator = new ParallelHashCalculatorForStream<>(
+					runningHashCalculator,
+					CryptoFactory.getInstance(),
+					hashingThreads,
+					PARALLEL_HASH_CAPACITY,
+					selfId.getId(),
+					"event-stream");
+			parallelHashCalculator.start();
+			hashStream = parallelHashCalculator;
+		} else {
+			hashCalculator = new HashCalculatorForStream<>(runningHashCalculator);
+			hashQueueThread = new QueueThreadObjectStreamConfiguration<T>()
+					.setNodeId(selfId.getId())
+					.setComponent("event-stream")
+					.setThreadName("hash-queue")
+					.setForwardTo(hashCalculator)
+					.build();
+			hashQueueThread.start();
+			hashStream = hashQueueThread;
+		}
 
 		multiStream = new MultiStream<>(
-				enableEventStreaming ? List.of(hashQueueThread, writeQueueThread) : List.of(hashQueueThread));
+				enableEventStreaming ? List.of(hashStream, writeQueueThread) : List.of(hashStream));
 		multiStream.setRunningHash(initialHash);
 
 		this.isLastEventInFreezeCheck = isLastEventInFreezeCheck;
@@ -232,7 +300,9 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 	 * @return current size of working queue for calculating hash and runningHash
 	 */
 	public int getHashQueueSize() {
-		return hashQueueThread.getQueue().size();
+		return parallelHashCalculator != null
+				? parallelHashCalculator.size()
+				: hashQueueThread.getQueue().size();
 	}
 
 	/**
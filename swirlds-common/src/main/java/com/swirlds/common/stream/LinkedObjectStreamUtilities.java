@@ -24,25 +24,33 @@ import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.security.DigestInputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 import static com.swirlds.common.stream.TimestampStreamFileWriter.OBJECT_STREAM_VERSION;
 import static com.swirlds.common.utility.Units.MILLISECONDS_TO_NANOSECONDS;
 import static com.swirlds.common.utility.Units.SECONDS_TO_NANOSECONDS;
+import static com.swirlds.logging.LogMarker.OBJECT_STREAM;
 
 /**
  * Utilities methods for:
  * parsing stream files and stream signature files;
+ * seeking to a timestamp in a stream file with its index file;
  * generating fileName from Instant;
  * calculating period;
  * reading start and end runningHash from a stream file;
@@ -50,6 +58,8 @@ import static com.swirlds.common.utility.Units.SECONDS_TO_NANOSECONDS;
  */
 public final class LinkedObjectStreamUtilities {
 
+	private static final Logger LOG = LogManager.getLogger(LinkedObjectStreamUtilities.class);
+
 	/**
 	 * when converting an Instant to a String, nano-of-second part always outputs this many digits
 	 */
@@ -123,6 +133,17 @@ public final class LinkedObjectStreamUtilities {
 		return file.getAbsolutePath() + "_sig";
 	}
 
+	/**
+	 * generate index file name for a stream file
+	 *
+	 * @param file
+	 * 		a stream file
+	 * @return path of the index file
+	 */
+	public static String generateIndexFilePath(final File file) {
+		return file.getAbsolutePath() + "_idx";
+	}
+
 	/**
 	 * get period number with given consensusTimestamp and logPeriodMs
 	 * Object with different period number should not be written in the same stream file
@@ -197,6 +218,60 @@ public final class LinkedObjectStreamUtilities {
 		return new SingleStreamIterator<>(file, streamType);
 	}
 
+	/**
+	 * Parse a stream file starting from the first object whose timestamp is at or after the given time, without
+	 * reading the objects before it. The offset of that object is found in the file's index file, which is written
+	 * by a {@link TimestampStreamFileWriter} that is configured to write index files.
+	 *
+	 * The returned Iterator contains the objects at or after the given time, followed by the endRunningHash.
+	 * It does not contain the startRunningHash.
+	 *
+	 * @param file
+	 * 		a stream file
+	 * @param streamType
+	 * 		type of the stream file
+	 * @param timestamp
+	 * 		the time to start reading from
+	 * @param <T>
+	 * 		type of the SelfSerializable objects written in the stream file
+	 * @return an Iterator from which we can get the objects at or after the time, or null if the file has no valid
+	 * 		index, in which case it has to be parsed from the start with {@link #parseStreamFile(File, StreamType)}
+	 */
+	public static <T extends SelfSerializable> SingleStreamIterator<T> parseStreamFileFrom(
+			final File file, final StreamType streamType, final Instant timestamp) {
+		if (!streamType.isStreamFile(file)) {
+			String msg = String.format("Fail to parse File %s, its extension doesn't match %s",
+					file.getName(), streamType.getExtension());
+			throw new IllegalArgumentException(msg);
+		}
+
+		final File indexFile = new File(generateIndexFilePath(file));
+		if (!indexFile.exists()) {
+			return null;
+		}
+		try {
+			final StreamFileIndex index = StreamFileIndex.read(indexFile);
+			if (index.getStreamFileLength() != file.length()) {
+				LOG.warn(OBJECT_STREAM.getMarker(), "Index file {} was not written for the current content of {}",
+						indexFile.getName(), file.getName());
+				return null;
+			}
+			final long offset = index.getReadOffset(index.findFirstAtOrAfter(timestamp));
+			final FileInputStream in = new FileInputStream(file);
+			try {
+				in.getChannel().position(offset);
+			} catch (final IOException e) {
+				in.close();
+				throw e;
+			}
+			return new SingleStreamIterator<>(in);
+		} catch (final IOException e) {
+			LOG.warn(OBJECT_STREAM.getMarker(), "Unable to seek in {} with index file {}",
+					file.getName(), indexFile.getName(), e);
+			return null;
+		}
+	}
+
 	/**
 	 * if it is a single stream file of the given type, parse this file, and return an Iterator which contains
 	 * all SelfSerializables contained in the file.
@@ -247,6 +322,44 @@ public final class LinkedObjectStreamUtilities {
 		return new StreamFilesIterator<>(files.toArray(File[]::new), streamType);
 	}
 
+	/**
+	 * Parses a collection of single stream files of given type, reading and deserializing up to {@code parallelism}
+	 * files at a time on worker threads. Checking that each file's startRunningHash matches the previous file's
+	 * endRunningHash happens as the iterator is consumed. Iteration ends early if a file can't be parsed or the
+	 * hashes don't match.
+	 *
+	 * @param files
+	 * 		a collection of stream files to be parsed
+	 * @param streamType
+	 * 		type of stream files to be parsed
+	 * @param parallelism
+	 * 		the number of files parsed at the same time
+	 * @param <T>
+	 * 		type of the SelfSerializable objects written in the stream file
+	 * @return an Iterator which contains the startRunningHash in the first stream file,
+	 * 		all stream objects contained in the files, and the endRunningHash in the last stream file
+	 */
+	public static <T extends SelfSerializable> Iterator<T> parseStreamFileList(final Collection<File> files,
+			final StreamType streamType, final int parallelism) {
+		return new ParallelStreamFilesIterator<>(sortStreamFiles(files, streamType), streamType, parallelism);
+	}
+
+	/**
+	 * Get the stream files of a given type, sorted by name, which is the order in which they were written
+	 *
+	 * @param files
+	 * 		a collection of files
+	 * @param streamType
+	 * 		type of stream files to keep
+	 * @return the stream files of the given type, sorted by name
+	 */
+	static List<File> sortStreamFiles(final Collection<File> files, final StreamType streamType) {
+		return files.stream()
+				.filter(streamType::isStreamFile)
+				.sorted(Comparator.comparing(File::getName))
+				.toList();
+	}
+
 	/**
 	 * Reads startRunningHash from a stream file
 	 *
@@ -359,17 +472,39 @@ public final class LinkedObjectStreamUtilities {
 	 */
 	public static Hash computeEntireHash(final File file) throws IOException, NoSuchAlgorithmException {
 		MessageDigest md = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
-		try (FileInputStream fis = new FileInputStream(file);
-			 BufferedInputStream bis = new BufferedInputStream(fis);
-			 DigestInputStream dis = new DigestInputStream(bis, md)) {
-			while (dis.read() != -1) {
-				// empty on purpose, read all bytes in this file until reach the end
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+			 FileChannel channel = randomAccessFile.getChannel()) {
+			final long size = channel.size();
+			// a single mapping is limited to Integer.MAX_VALUE bytes
+			for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+				md.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+						Math.min(Integer.MAX_VALUE, size - position)));
 			}
 			// completes the hash computation, creates and returns the Hash instance
 			return new Hash(md.digest(), DigestType.SHA_384);
 		}
 	}
 
+	/**
+	 * Maps the whole content of a stream file into memory for reading. The mapping stays valid after this method
+	 * returns and is released when the buffer is garbage collected.
+	 *
+	 * @param file
+	 * 		a stream file
+	 * @return a read only buffer of the file content
+	 * @throws IOException
+	 * 		if the file can't be read, or is too large to be mapped
+	 */
+	static MappedByteBuffer mapStreamFile(final File file) throws IOException {
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+			 FileChannel channel = randomAccessFile.getChannel()) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(String.format("File %s is too large to be mapped", file.getName()));
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
 	/**
 	 * Computes the {@code Hash} representation of metadata of the stream file
 	 * using the file headers, file version, starting running hash, and ending running hash.
@@ -32,6 +32,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.swirlds.common.stream.StreamValidationResult.PARSE_STREAM_FILE_FAIL;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
@@ -171,6 +172,106 @@ public final class LinkedObjectStreamValidateUtils {
 		return validateIterator(LinkedObjectStreamUtilities.parseStreamFileList(fileList, streamType));
 	}
 
+	/**
+	 * Validates a list of stream object files the same way {@link #validateFileList(List, StreamType)} does, but reads,
+	 * deserializes and hashes up to {@code parallelism} files at a time on worker threads. Each file's endRunningHash
+	 * only depends on its own startRunningHash and objects, so only the check that each file's startRunningHash matches
+	 * the previous file's endRunningHash is done sequentially.
+	 *
+	 * @param fileList
+	 * 		a list of stream object files
+	 * @param streamType
+	 * 		type of stream file(s) to be validated
+	 * @param parallelism
+	 * 		the number of files validated at the same time
+	 * @return a Pair of StreamValidationResult and last RunningHash
+	 */
+	public static Pair<StreamValidationResult, Hash> validateFileList(
+			final List<File> fileList, final StreamType streamType, final int parallelism) {
+		return validateFilesInParallel(fileList, streamType, parallelism,
+				(final File file) -> Pair.of(ParsedStreamFile.parse(file, streamType, true), StreamValidationResult.OK));
+	}
+
+	/**
+	 * Validates a list of stream object files and their signature files. Every stream file is validated as in
+	 * {@link #validateFileList(List, StreamType, int)}, and its signature file is validated as in
+	 * {@link #validateFileAndSignature(File, File, PublicKey, StreamType)}. The entireHash of each file is calculated
+	 * and its signatures are verified on the worker threads.
+	 *
+	 * @param fileList
+	 * 		a list of stream object files, the signature file of each is expected next to it
+	 * @param publicKey
+	 * 		the public key required to validate the signatures
+	 * @param streamType
+	 * 		type of stream file(s) to be validated
+	 * @param parallelism
+	 * 		the number of files validated at the same time
+	 * @return a Pair of StreamValidationResult and last RunningHash
+	 */
+	public static Pair<StreamValidationResult, Hash> validateFilesAndSignatures(
+			final List<File> fileList, final PublicKey publicKey, final StreamType streamType, final int parallelism) {
+		return validateFilesInParallel(fileList, streamType, parallelism, (final File file) -> {
+			final ParsedStreamFile<SelfSerializable> parsed = ParsedStreamFile.parse(file, streamType, true);
+			if (parsed.getResult() != StreamValidationResult.OK) {
+				return Pair.of(parsed, StreamValidationResult.OK);
+			}
+			final File sigFile = new File(LinkedObjectStreamUtilities.generateSigFilePath(file));
+			try {
+				final Hash entireHash = LinkedObjectStreamUtilities.computeEntireHash(file);
+				return Pair.of(parsed, validateSignature(entireHash, sigFile, publicKey, streamType));
+			} catch (IOException | NoSuchAlgorithmException ex) {
+				LOGGER.error(EXCEPTION.getMarker(),
+						() -> new StreamParseErrorPayload(
+								String.format(
+										"validateFilesAndSignatures : failed to calculate entireHash for %s",
+										file.getName())),
+						ex);
+				return Pair.of(parsed, StreamValidationResult.FAIL_TO_CALCULATE_ENTIRE_HASH);
+			}
+		});
+	}
+
+	/**
+	 * Runs a validation of each file on worker threads, and checks in order that the files form a chain of
+	 * running hashes
+	 *
+	 * @param validator
+	 * 		parses a file and returns it together with the result of any additional validation
+	 */
+	private static Pair<StreamValidationResult, Hash> validateFilesInParallel(
+			final List<File> fileList, final StreamType streamType, final int parallelism,
+			final Function<File, Pair<ParsedStreamFile<SelfSerializable>, StreamValidationResult>> validator) {
+		final List<File> files = LinkedObjectStreamUtilities.sortStreamFiles(fileList, streamType);
+		if (files.isEmpty()) {
+			return Pair.of(StreamValidationResult.STREAM_FILE_EMPTY, null);
+		}
+		try (final StreamFileReadAhead<Pair<ParsedStreamFile<SelfSerializable>, StreamValidationResult>> reader =
+					 new StreamFileReadAhead<>(files, validator, parallelism)) {
+			Hash endRunningHash = null;
+			while (reader.hasNext()) {
+				final Pair<ParsedStreamFile<SelfSerializable>, StreamValidationResult> validated = reader.next();
+				final ParsedStreamFile<SelfSerializable> parsed = validated.getLeft();
+				if (parsed.getResult() != StreamValidationResult.OK) {
+					return Pair.of(parsed.getResult(), parsed.getEndRunningHash());
+				}
+				if (endRunningHash != null && !endRunningHash.equals(parsed.getStartRunningHash())) {
+					LOGGER.info(EXCEPTION.getMarker(), "startRunningHash {} in {} doesn't match endRunningHash {}",
+							parsed.getStartRunningHash(), parsed.getFile().getName(), endRunningHash);
+					return Pair.of(StreamValidationResult.START_HASH_NOT_MATCH, null);
+				}
+				if (validated.getRight() != StreamValidationResult.OK) {
+					return Pair.of(validated.getRight(), null);
+				}
+				endRunningHash = parsed.getEndRunningHash();
+			}
+			return Pair.of(StreamValidationResult.OK, endRunningHash);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error(EXCEPTION.getMarker(), "interrupted while validating stream files", e);
+			return Pair.of(PARSE_STREAM_FILE_FAIL, null);
+		}
+	}
+
 	/**
 	 * Calculates a runningHash for given startRunningHash and objects in the iterator
 	 * Verifies if the endRunningHash in the Iterator matches the calculated RunningHash
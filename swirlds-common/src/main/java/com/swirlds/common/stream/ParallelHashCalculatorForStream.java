@@ -0,0 +1,384 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.RunningHashable;
+import com.swirlds.common.crypto.SerializableHashable;
+import com.swirlds.common.threading.framework.StoppableThread;
+import com.swirlds.common.threading.framework.config.StoppableThreadConfiguration;
+import com.swirlds.common.threading.interrupt.InterruptableRunnable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+import static com.swirlds.logging.LogMarker.OBJECT_STREAM;
+
+/**
+ * <p>
+ * Accepts a SerializableRunningHashable object each time, calculates and sets its Hash on one of several worker
+ * threads, and passes the objects to the next stream on a single thread in the order they were added. The next stream
+ * is usually a {@link RunningHashCalculatorForStream}, so only the cheap running hash calculation is done in order.
+ * </p>
+ *
+ * <p>
+ * Objects are handed between the threads through a lock-free ring buffer with a fixed capacity, so no objects are
+ * allocated per object added. Each object gets a sequence number. Hashing threads claim sequence numbers with a CAS
+ * and publish each hashed object in its slot, and the running hash thread passes slots on in sequence order. If the
+ * ring buffer is full, {@link #addObject(RunningHashable)} waits until the oldest object has been passed to the next
+ * stream. Threads without work park until the thread that makes work available for them unparks them, so idle threads
+ * do not wake up.
+ * </p>
+ *
+ * <p>
+ * {@link #addObject(RunningHashable)} must only be called by one thread at a time. If hashing an object fails, the
+ * running hash can not be calculated past that object, so the stream stops: the objects before it are still passed to
+ * the next stream, no object after it is, and {@link #addObject(RunningHashable)} throws an
+ * {@link IllegalStateException}.
+ * </p>
+ *
+ * @param <T>
+ * 		type of the objects
+ */
+public class ParallelHashCalculatorForStream<T extends RunningHashable & SerializableHashable>
+		extends AbstractLinkedObjectStream<T> {
+
+	/** use this for all logging, as controlled by the optional data/log4j2.xml file */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	/**
+	 * how long a thread waiting for objects to be passed on parks before checking again, in case the threads of this
+	 * stream have died and will never unpark it
+	 */
+	private static final long WAIT_NANOS = 10_000_000;
+
+	/** Used for hashing */
+	private final Cryptography cryptography;
+
+	/** the objects in the ring buffer, the object with sequence number {@code n} is at index {@code n % capacity} */
+	private final AtomicReferenceArray<T> objects;
+
+	/**
+	 * for each slot, {@code n + 1} once the object with sequence number {@code n} has been hashed, or
+	 * {@code -(n + 1)} if hashing it failed
+	 */
+	private final AtomicLongArray done;
+
+	/** the sequence number of the next object to be added, only written by the thread adding objects */
+	private final AtomicLong added = new AtomicLong();
+	/** the sequence number of the next object to be hashed, hashing threads claim objects by incrementing it */
+	private final AtomicLong claimed = new AtomicLong();
+	/** the sequence number of the next object to be passed on, only written by the running hash thread */
+	private final AtomicLong forwarded = new AtomicLong();
+	/** objects with a lower sequence number are dropped instead of being passed to the next stream */
+	private volatile long dropBefore;
+	/** true while the running hash thread may be passing an object to the next stream */
+	private volatile boolean forwarding;
+	/** the first failure to hash an object, once set no more objects are accepted */
+	private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+	/** true once the running hash thread has reached an object that failed to hash, only written by that thread */
+	private boolean stopped;
+
+	/** for each hashing thread, the thread itself while it is parked waiting for an object to hash */
+	private final AtomicReferenceArray<Thread> parkedHashers;
+	/** the running hash thread while it is parked waiting for the oldest object to be hashed */
+	private final AtomicReference<Thread> parkedForwarder = new AtomicReference<>();
+	/** the thread adding objects while it is parked waiting for objects to be passed on */
+	private final AtomicReference<Thread> parkedAdder = new AtomicReference<>();
+
+	private final List<StoppableThread> threads = new ArrayList<>();
+
+	/**
+	 * Create a new stream. The threads are not started until {@link #start()} is called.
+	 *
+	 * @param nextStream
+	 * 		the stream the objects are passed to once they have been hashed
+	 * @param cryptography
+	 * 		used for hashing
+	 * @param hashingThreads
+	 * 		the number of threads that hash objects
+	 * @param capacity
+	 * 		the maximum number of objects in the stream that have not been passed to the next stream
+	 * @param nodeId
+	 * 		the id of this node, used to name the threads
+	 * @param component
+	 * 		the component the threads belong to, used to name the threads
+	 */
+	public ParallelHashCalculatorForStream(
+			final LinkedObjectStream<T> nextStream,
+			final Cryptography cryptography,
+			final int hashingThreads,
+			final int capacity,
+			final long nodeId,
+			final String component) {
+		super(Objects.requireNonNull(nextStream));
+		if (hashingThreads <= 0) {
+			throw new IllegalArgumentException("hashingThreads must be positive");
+		}
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.cryptography = Objects.requireNonNull(cryptography);
+		this.objects = new AtomicReferenceArray<>(capacity);
+		this.done = new AtomicLongArray(capacity);
+		this.parkedHashers = new AtomicReferenceArray<>(hashingThreads);
+
+		for (int i = 0; i < hashingThreads; i++) {
+			final int hasher = i;
+			threads.add(buildThread(nodeId, component, "hash-worker", () -> hashNext(hasher)));
+		}
+		threads.add(buildThread(nodeId, component, "running-hash", this::forwardNext));
+	}
+
+	private static StoppableThread buildThread(
+			final long nodeId,
+			final String component,
+			final String threadName,
+			final InterruptableRunnable work) {
+		return new StoppableThreadConfiguration<>()
+				.setNodeId(nodeId)
+				.setComponent(component)
+				.setThreadName(threadName)
+				.setWork(work)
+				.build();
+	}
+
+	/**
+	 * Start the threads.
+	 */
+	public void start() {
+		threads.forEach(StoppableThread::start);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addObject(final T t) {
+		Objects.requireNonNull(t);
+		throwIfFailed();
+		final long sequence = added.get();
+		while (sequence - forwarded.get() >= objects.length()) {
+			if (Thread.currentThread().isInterrupted()) {
+				LOGGER.error(EXCEPTION.getMarker(), "interrupted while attempting to add object to stream");
+				return;
+			}
+			awaitForwarded(() -> sequence - forwarded.get() >= objects.length());
+			throwIfFailed();
+		}
+		// the slot is published to the other threads by incrementing added
+		objects.set(index(sequence), t);
+		added.set(sequence + 1);
+		unparkHasher();
+	}
+
+	private void throwIfFailed() {
+		final RuntimeException e = failure.get();
+		if (e != null) {
+			throw new IllegalStateException("an object failed to hash, the running hash can not be calculated", e);
+		}
+	}
+
+	/**
+	 * Hash the next object that has not been claimed by another hashing thread.
+	 *
+	 * @param hasher
+	 * 		the index of the hashing thread
+	 */
+	private void hashNext(final int hasher) {
+		long sequence = claimed.get();
+		while (sequence >= added.get() || !claimed.compareAndSet(sequence, sequence + 1)) {
+			if (sequence >= added.get()) {
+				// the thread is published before added is checked again, and addObject() increments added before it
+				// checks for parked threads, so either this thread sees the new object or it is unparked
+				final Thread thread = Thread.currentThread();
+				parkedHashers.set(hasher, thread);
+				if (claimed.get() >= added.get()) {
+					LockSupport.park(this);
+				}
+				parkedHashers.compareAndSet(hasher, thread, null);
+				// return so the thread can check if it has been stopped
+				return;
+			}
+			sequence = claimed.get();
+		}
+
+		final int index = index(sequence);
+		boolean hashed = false;
+		try {
+			final T object = objects.get(index);
+			// there is no need to hash objects that will be dropped
+			if (sequence >= dropBefore && object.getHash() == null) {
+				cryptography.digestSync(object);
+			}
+			hashed = true;
+		} catch (final RuntimeException e) {
+			LOGGER.error(EXCEPTION.getMarker(),
+					"failed to hash object, no more objects will be passed on", e);
+			failure.compareAndSet(null, e);
+		} finally {
+			// the slot is always marked, otherwise the running hash thread would wait for it forever
+			done.set(index, hashed ? (sequence + 1) : -(sequence + 1));
+			unpark(parkedForwarder);
+		}
+	}
+
+	/**
+	 * Unpark one of the hashing threads that are waiting for an object to hash, if there are any.
+	 */
+	private void unparkHasher() {
+		for (int i = 0; i < parkedHashers.length(); i++) {
+			if (parkedHashers.get(i) != null) {
+				final Thread thread = parkedHashers.getAndSet(i, null);
+				if (thread != null) {
+					LockSupport.unpark(thread);
+					return;
+				}
+			}
+		}
+	}
+
+	private static void unpark(final AtomicReference<Thread> parked) {
+		if (parked.get() != null) {
+			final Thread thread = parked.getAndSet(null);
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+		}
+	}
+
+	/**
+	 * Pass the oldest object to the next stream once it has been hashed.
+	 */
+	private void forwardNext() {
+		final long sequence = forwarded.get();
+		final int index = index(sequence);
+		long state = done.get(index);
+		if (!isDone(sequence, state)) {
+			// the thread is published before the slot is checked again, and the hashing thread marks the slot before
+			// it checks for a parked thread, so either this thread sees the slot marked or it is unparked
+			final Thread thread = Thread.currentThread();
+			parkedForwarder.set(thread);
+			if (!isDone(sequence, done.get(index))) {
+				LockSupport.park(this);
+			}
+			parkedForwarder.compareAndSet(thread, null);
+			// return so the thread can check if it has been stopped
+			return;
+		}
+
+		final T object = objects.get(index);
+		if (state < 0) {
+			// the running hash of any later object would be wrong
+			stopped = true;
+		}
+		// forwarding is set before dropBefore is read, and clear() sets dropBefore before it reads forwarding, so
+		// either this thread sees the new dropBefore or clear() waits until the object has been passed on
+		forwarding = true;
+		try {
+			if (!stopped && sequence >= dropBefore) {
+				super.addObject(object);
+			}
+		} finally {
+			forwarding = false;
+			// the slot must be cleared before the thread adding objects is allowed to reuse it
+			objects.set(index, null);
+			forwarded.set(sequence + 1);
+			unpark(parkedAdder);
+		}
+	}
+
+	/**
+	 * @return true if the object with the given sequence number has been hashed, or failed to hash
+	 */
+	private static boolean isDone(final long sequence, final long state) {
+		return state == sequence + 1 || state == -(sequence + 1);
+	}
+
+	/**
+	 * Park the calling thread until the running hash thread passes an object on, or until a short time has passed.
+	 *
+	 * @param waiting
+	 * 		checked after the thread is published and before it parks, returns true if the thread should still wait
+	 */
+	private void awaitForwarded(final BooleanSupplier waiting) {
+		final Thread thread = Thread.currentThread();
+		parkedAdder.set(thread);
+		if (waiting.getAsBoolean()) {
+			LockSupport.parkNanos(this, WAIT_NANOS);
+		}
+		parkedAdder.compareAndSet(thread, null);
+	}
+
+	private int index(final long sequence) {
+		return (int) (sequence % objects.length());
+	}
+
+	/**
+	 * @return the number of objects that have been added but not yet passed to the next stream
+	 */
+	public int size() {
+		return (int) Math.max(0, added.get() - forwarded.get());
+	}
+
+	/**
+	 * Drop all objects that have not been passed to the next stream yet, then clear the next stream. Objects that
+	 * have not been hashed yet will not be hashed. Must not be called at the same time as
+	 * {@link #addObject(RunningHashable)}.
+	 */
+	@Override
+	public void clear() {
+		final long clearedUpTo = added.get();
+		dropBefore = clearedUpTo;
+		// wait for the object currently being passed on, so it does not reach the next stream after it is cleared
+		while (forwarding) {
+			awaitForwarded(() -> forwarding);
+		}
+		// wait for the dropped objects to leave the ring buffer, so that size() no longer counts them
+		while (forwarded.get() < clearedUpTo && threadsAlive()) {
+			awaitForwarded(() -> forwarded.get() < clearedUpTo);
+		}
+		super.clear();
+	}
+
+	/**
+	 * Pass all objects that have been added to the next stream, stop the threads, and close the next stream.
+	 */
+	@Override
+	public void close() {
+		while (forwarded.get() < added.get() && threadsAlive()) {
+			awaitForwarded(() -> forwarded.get() < added.get());
+		}
+		threads.forEach(StoppableThread::stop);
+		super.close();
+		LOGGER.info(OBJECT_STREAM.getMarker(), "ParallelHashCalculatorForStream is closed");
+	}
+
+	private boolean threadsAlive() {
+		return threads.stream().allMatch(StoppableThread::isAlive);
+	}
+}
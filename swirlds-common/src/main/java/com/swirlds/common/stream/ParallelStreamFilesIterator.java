@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.logging.LogMarker;
+import com.swirlds.logging.payloads.StreamParseErrorPayload;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Produces the same sequence of objects as {@link StreamFilesIterator}, but files are read and deserialized on
+ * worker threads ahead of the consumer. Only the check that each file's startRunningHash matches the previous file's
+ * endRunningHash is done on the consuming thread.
+ */
+class ParallelStreamFilesIterator<T extends SelfSerializable> implements Iterator<T> {
+	/** use this for all logging, as controlled by the optional data/log4j2.xml file */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final Marker LOGM_OBJECT_STREAM_FILE = LogMarker.OBJECT_STREAM_FILE.getMarker();
+
+	private static final Marker LOGM_EXCEPTION = LogMarker.EXCEPTION.getMarker();
+
+	private final StreamFileReadAhead<ParsedStreamFile<T>> reader;
+	/**
+	 * objects of the current file that have not been returned yet
+	 */
+	private final Deque<T> buffered = new ArrayDeque<>();
+	/**
+	 * endRunningHash in previous file, null before the first file has been read
+	 */
+	private Hash endRunningHash;
+	/**
+	 * no more files will be read, either because all have been read or because one of them is invalid
+	 */
+	private boolean finished;
+
+	/**
+	 * @param files
+	 * 		stream files to be parsed, in order
+	 * @param streamType
+	 * 		streamType of files to be parsed
+	 * @param parallelism
+	 * 		the number of files parsed at the same time
+	 */
+	ParallelStreamFilesIterator(final List<File> files, final StreamType streamType, final int parallelism) {
+		LOGGER.info(LOGM_OBJECT_STREAM_FILE, "ParallelStreamFilesIterator : files to be parsed: {}",
+				() -> files);
+		reader = new StreamFileReadAhead<>(
+				files, (final File file) -> ParsedStreamFile.parse(file, streamType, false), parallelism);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (buffered.isEmpty() && !finished) {
+			readNextFile();
+		}
+		return !buffered.isEmpty();
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return buffered.poll();
+	}
+
+	/**
+	 * take the next parsed file, validate its startRunningHash against the previous endRunningHash
+	 * and buffer its objects; on any error log it and stop reading
+	 */
+	@SuppressWarnings("unchecked")
+	private void readNextFile() {
+		if (!reader.hasNext()) {
+			finish();
+			if (endRunningHash != null) {
+				// the endRunningHash of the last file is the last object
+				LOGGER.info(LOGM_OBJECT_STREAM_FILE, "ParallelStreamFilesIterator : last endRunningHash: {}",
+						endRunningHash);
+				buffered.add((T) endRunningHash);
+			}
+			return;
+		}
+
+		final ParsedStreamFile<T> parsed;
+		try {
+			parsed = reader.next();
+		} catch (final InterruptedException e) {
+			LOGGER.error(LOGM_EXCEPTION, "ParallelStreamFilesIterator : interrupted while parsing files", e);
+			Thread.currentThread().interrupt();
+			finish();
+			return;
+		}
+
+		final String fileName = parsed.getFile().getName();
+		if (parsed.getResult() != StreamValidationResult.OK) {
+			LOGGER.error(LOGM_EXCEPTION,
+					() -> new StreamParseErrorPayload(
+							String.format("Fail to parse %s: %s", fileName, parsed.getResult())));
+			finish();
+			return;
+		}
+		if (endRunningHash == null) {
+			// this is the startRunningHash of the first file, should output it
+			LOGGER.info(LOGM_OBJECT_STREAM_FILE, "ParallelStreamFilesIterator : first startRunningHash: {}",
+					parsed::getStartRunningHash);
+			buffered.add((T) parsed.getStartRunningHash());
+		} else if (!parsed.getStartRunningHash().equals(endRunningHash)) {
+			LOGGER.error(LOGM_EXCEPTION,
+					() -> new StreamParseErrorPayload(
+							String.format("startRunningHash %s in %s doesn't match endRunningHash %s of the " +
+									"previous file", parsed.getStartRunningHash(), fileName, endRunningHash)));
+			finish();
+			return;
+		}
+		buffered.addAll(parsed.getObjects());
+		endRunningHash = parsed.getEndRunningHash();
+	}
+
+	private void finish() {
+		finished = true;
+		reader.close();
+	}
+}
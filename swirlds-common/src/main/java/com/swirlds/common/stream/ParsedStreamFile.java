@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.io.streams.ByteBufferInputStream;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.logging.payloads.StreamParseErrorPayload;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.swirlds.common.stream.StreamValidationResult.OK;
+import static com.swirlds.common.stream.StreamValidationResult.PARSE_STREAM_FILE_FAIL;
+import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_EMPTY;
+import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_MISS_END_HASH;
+import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_MISS_OBJECTS;
+import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_MISS_START_HASH;
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+
+/**
+ * The contents of a single stream file, read in one pass from a memory mapped buffer. Files are read independently
+ * of each other, so several files can be read on different threads. Checking that the files form a chain of running
+ * hashes is left to the caller.
+ *
+ * @param <T>
+ * 		type of the SelfSerializable objects written in the stream file
+ */
+public final class ParsedStreamFile<T extends SelfSerializable> {
+	/** use this for all logging, as controlled by the optional data/log4j2.xml file */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private final File file;
+	private final StreamValidationResult result;
+	private final Hash startRunningHash;
+	private final List<T> objects;
+	private final Hash endRunningHash;
+
+	private ParsedStreamFile(final File file, final StreamValidationResult result, final Hash startRunningHash,
+			final List<T> objects, final Hash endRunningHash) {
+		this.file = file;
+		this.result = result;
+		this.startRunningHash = startRunningHash;
+		this.objects = objects;
+		this.endRunningHash = endRunningHash;
+	}
+
+	/**
+	 * Reads all objects in a stream file. The result is {@link StreamValidationResult#OK} if the file contains a
+	 * startRunningHash, at least one object and an endRunningHash.
+	 *
+	 * @param file
+	 * 		a stream file
+	 * @param streamType
+	 * 		type of the stream file
+	 * @param verifyRunningHash
+	 * 		if true, also check that the endRunningHash matches the running hash calculated from the startRunningHash
+	 * 		and the objects
+	 * @param <T>
+	 * 		type of the SelfSerializable objects written in the stream file
+	 * @return the contents of the file
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends SelfSerializable> ParsedStreamFile<T> parse(final File file,
+			final StreamType streamType, final boolean verifyRunningHash) {
+		final List<SelfSerializable> contents = new ArrayList<>();
+		try {
+			final ByteBuffer buffer = LinkedObjectStreamUtilities.mapStreamFile(file);
+			// skip the file header and OBJECT_STREAM_VERSION
+			final int headerBytes = (streamType.getFileHeader().length + 1) * Integer.BYTES;
+			if (buffer.remaining() < headerBytes) {
+				throw new IOException("file is shorter than its header");
+			}
+			buffer.position(buffer.position() + headerBytes);
+			final SerializableDataInputStream in = new SerializableDataInputStream(new ByteBufferInputStream(buffer));
+			while (buffer.hasRemaining()) {
+				contents.add(in.readSerializable());
+			}
+		} catch (final IOException | RuntimeException e) {
+			LOGGER.error(EXCEPTION.getMarker(),
+					() -> new StreamParseErrorPayload(String.format("Fail to parse %s", file.getName())), e);
+			return new ParsedStreamFile<>(file, PARSE_STREAM_FILE_FAIL, null, Collections.emptyList(), null);
+		}
+
+		final StreamValidationResult result;
+		final Hash endRunningHash;
+		if (verifyRunningHash) {
+			final Pair<StreamValidationResult, Hash> validation =
+					LinkedObjectStreamValidateUtils.validateIterator(contents.iterator());
+			result = validation.getLeft();
+			endRunningHash = validation.getRight();
+		} else {
+			result = checkStructure(contents);
+			endRunningHash = null;
+		}
+		if (result != OK) {
+			final Hash start = !contents.isEmpty() && contents.get(0) instanceof Hash hash ? hash : null;
+			return new ParsedStreamFile<>(file, result, start, Collections.emptyList(), endRunningHash);
+		}
+		return new ParsedStreamFile<>(file, OK, (Hash) contents.get(0),
+				(List<T>) List.copyOf(contents.subList(1, contents.size() - 1)),
+				(Hash) contents.get(contents.size() - 1));
+	}
+
+	/**
+	 * Checks the layout of a file the same way {@link LinkedObjectStreamValidateUtils#validateIterator} does, without
+	 * calculating the running hash
+	 */
+	private static StreamValidationResult checkStructure(final List<SelfSerializable> contents) {
+		if (contents.isEmpty()) {
+			return STREAM_FILE_EMPTY;
+		}
+		if (!(contents.get(0) instanceof Hash)) {
+			return STREAM_FILE_MISS_START_HASH;
+		}
+		if (contents.size() == 1 || (contents.size() == 2 && contents.get(1) instanceof Hash)) {
+			return STREAM_FILE_MISS_OBJECTS;
+		}
+		if (!(contents.get(contents.size() - 1) instanceof Hash)) {
+			return STREAM_FILE_MISS_END_HASH;
+		}
+		return OK;
+	}
+
+	/**
+	 * @return the file that was parsed
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return the result of parsing, and of verifying the running hash if that was requested
+	 */
+	public StreamValidationResult getResult() {
+		return result;
+	}
+
+	/**
+	 * @return the startRunningHash of the file, or null if it could not be read
+	 */
+	public Hash getStartRunningHash() {
+		return startRunningHash;
+	}
+
+	/**
+	 * @return the stream objects in the file, empty if the result is not {@link StreamValidationResult#OK}
+	 */
+	public List<T> getObjects() {
+		return objects;
+	}
+
+	/**
+	 * @return the endRunningHash of the file. If the result is not {@link StreamValidationResult#OK} this is only set
+	 * 		when the endRunningHash doesn't match the calculated running hash.
+	 */
+	public Hash getEndRunningHash() {
+		return endRunningHash;
+	}
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * <p>
+ * An output stream that writes a stream file through a {@link FileChannel} and hashes the bytes written to it.
+ * </p>
+ *
+ * <p>
+ * Bytes are collected in one of two block aligned direct buffers whose size is a multiple of the block size. When a
+ * buffer is full, it is written with a single positional write on the I/O executor while its bytes are added to the
+ * digest on the calling thread, and the other buffer is filled in the meantime. A {@link #flush()} writes the bytes
+ * that have not been written yet without waiting for the buffer to fill up, but they are only hashed once the buffer
+ * is full or the stream is closed.
+ * </p>
+ *
+ * <p>
+ * All operations on the channel run on the I/O executor. A {@link FileChannel} is closed when a thread is interrupted
+ * while it uses the channel, so the thread writing the objects may be interrupted without losing the file. A thread
+ * that is interrupted while it waits for the I/O executor keeps waiting, and its interrupt status is restored.
+ * </p>
+ *
+ * <p>
+ * With direct I/O the file is opened with {@link ExtendedOpenOption#DIRECT}, so its contents bypass the page cache,
+ * and the block size of the file store is used. Every write then starts and ends on a block boundary: a flush writes
+ * the last partial block padded to a whole block and truncates the file to the bytes written. If the file store
+ * does not support direct I/O, the file is written through the page cache instead.
+ * </p>
+ *
+ * <p>
+ * Closing the stream forces the file's contents to the storage device.
+ * </p>
+ */
+class StreamFileChannelOutputStream extends OutputStream {
+
+	private static final Logger LOG = LogManager.getLogger(StreamFileChannelOutputStream.class);
+
+	/**
+	 * The buffer size is rounded up to a multiple of this size, the page size of the file system on most systems.
+	 * With direct I/O the block size of the file store is used if it is larger.
+	 */
+	static final int BLOCK_SIZE = 4096;
+
+	private final FileChannel channel;
+	private final MessageDigest digest;
+	private final ExecutorService ioExecutor;
+
+	/**
+	 * true if the file was opened for direct I/O
+	 */
+	private final boolean directIo;
+
+	/**
+	 * the size that the position and length of direct writes must be a multiple of
+	 */
+	private final int blockSize;
+
+	/**
+	 * the buffer being filled
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * the buffer that was filled before {@link #buffer}, it may still be being written
+	 */
+	private ByteBuffer previousBuffer;
+
+	/**
+	 * the write of {@link #previousBuffer}, null if there is none
+	 */
+	private Future<?> pendingWrite;
+
+	/**
+	 * the number of bytes at the start of {@link #buffer} that have already been written to the file
+	 */
+	private int written;
+
+	/**
+	 * the position in the file of the first byte in {@link #buffer}
+	 */
+	private long bufferPosition;
+
+	private boolean closed;
+
+	/**
+	 * Create a new file, or truncate an existing one, and open a stream to it.
+	 *
+	 * @param file
+	 * 		the file to write
+	 * @param bufferSize
+	 * 		the size of each buffer, rounded up to a multiple of the block size
+	 * @param directIo
+	 * 		if the file should be written with direct I/O, bypassing the page cache
+	 * @param digest
+	 * 		all bytes written to the file are added to this digest
+	 * @param ioExecutor
+	 * 		the executor that writes to the file, its threads must not be interrupted
+	 * @throws IOException
+	 * 		if the file can not be opened
+	 */
+	StreamFileChannelOutputStream(
+			final File file,
+			final int bufferSize,
+			final boolean directIo,
+			final MessageDigest digest,
+			final ExecutorService ioExecutor) throws IOException {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize must be positive");
+		}
+		this.digest = digest;
+		this.ioExecutor = ioExecutor;
+
+		final Path path = file.toPath();
+		final int directBlockSize = directIo ? directBlockSize(path) : 0;
+		FileChannel directChannel = null;
+		if (directBlockSize > 0) {
+			try {
+				directChannel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE, ExtendedOpenOption.DIRECT);
+			} catch (final UnsupportedOperationException | IOException e) {
+				LOG.warn(EXCEPTION.getMarker(), "Unable to open {} for direct I/O, writing it through the page cache",
+						path, e);
+			}
+		}
+		this.directIo = directChannel != null;
+		this.blockSize = this.directIo ? directBlockSize : BLOCK_SIZE;
+		this.channel = this.directIo ? directChannel : FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE);
+
+		final int capacity = (bufferSize + blockSize - 1) / blockSize * blockSize;
+		this.buffer = allocateAligned(capacity, blockSize);
+		this.previousBuffer = allocateAligned(capacity, blockSize);
+	}
+
+	/**
+	 * Get the block size that direct writes to a file must be aligned to.
+	 *
+	 * @return the block size of the file store of the file, or 0 if it is unknown or not a power of two
+	 */
+	private static int directBlockSize(final Path path) {
+		try {
+			final Path directory = path.toAbsolutePath().getParent();
+			final long storeBlockSize = Files.getFileStore(directory).getBlockSize();
+			if (storeBlockSize <= 0 || storeBlockSize > Integer.MAX_VALUE || Long.bitCount(storeBlockSize) != 1) {
+				LOG.warn(EXCEPTION.getMarker(), "Block size {} of the file store of {} can not be used for direct I/O",
+						storeBlockSize, path);
+				return 0;
+			}
+			return Math.max(BLOCK_SIZE, (int) storeBlockSize);
+		} catch (final UnsupportedOperationException | IOException e) {
+			LOG.warn(EXCEPTION.getMarker(), "Unable to get the block size of the file store of {}", path, e);
+			return 0;
+		}
+	}
+
+	/**
+	 * Allocate a direct buffer whose address is a multiple of the alignment. The aligned slice is sliced again, since
+	 * it is larger than the requested capacity if the allocated memory happens to be aligned already.
+	 */
+	private static ByteBuffer allocateAligned(final int capacity, final int alignment) {
+		return ByteBuffer.allocateDirect(capacity + alignment).alignedSlice(alignment).limit(capacity).slice();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final int b) throws IOException {
+		buffer.put((byte) b);
+		if (!buffer.hasRemaining()) {
+			writeBuffer();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+		int remaining = length;
+		int position = offset;
+		while (remaining > 0) {
+			final int toCopy = Math.min(remaining, buffer.remaining());
+			buffer.put(bytes, position, toCopy);
+			position += toCopy;
+			remaining -= toCopy;
+			if (!buffer.hasRemaining()) {
+				writeBuffer();
+			}
+		}
+	}
+
+	/**
+	 * Write the bytes that have not been written to the file yet. The bytes stay in the buffer until it is full.
+	 */
+	@Override
+	public void flush() throws IOException {
+		awaitPendingWrite();
+		final ByteBuffer unwritten = unwritten();
+		if (written < buffer.position()) {
+			final long position = bufferPosition + unwritten.position();
+			final long end = bufferPosition + buffer.position();
+			runIo(() -> {
+				writeFully(unwritten, position);
+				truncatePadding(end);
+				return null;
+			});
+			written = buffer.position();
+		}
+	}
+
+	/**
+	 * Write the remaining bytes, finish hashing them, force the file's contents to the storage device and close the
+	 * file.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			flush();
+			digest.update(buffer.duplicate().flip());
+			runIo(() -> {
+				channel.force(true);
+				return null;
+			});
+		} finally {
+			runIo(() -> {
+				channel.close();
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Start writing a full buffer to the file on the I/O executor, add its bytes to the digest, and continue with the
+	 * other buffer once its own write is complete.
+	 */
+	private void writeBuffer() throws IOException {
+		awaitPendingWrite();
+		final ByteBuffer unwritten = unwritten();
+		final long position = bufferPosition + unwritten.position();
+		pendingWrite = ioExecutor.submit(() -> {
+			writeFully(unwritten, position);
+			return null;
+		});
+		digest.update(buffer.duplicate().flip());
+
+		final ByteBuffer full = buffer;
+		buffer = previousBuffer;
+		previousBuffer = full;
+		buffer.clear();
+		bufferPosition += full.capacity();
+		written = 0;
+	}
+
+	/**
+	 * Get the bytes of {@link #buffer} that have not been written yet. With direct I/O, the bytes are extended to
+	 * block boundaries, so the first block may be written again and the last block is padded.
+	 */
+	private ByteBuffer unwritten() {
+		int start = written;
+		int end = buffer.position();
+		if (directIo) {
+			start = start / blockSize * blockSize;
+			end = (end + blockSize - 1) / blockSize * blockSize;
+		}
+		return buffer.duplicate().limit(end).position(start);
+	}
+
+	/**
+	 * Write all the given bytes to the file, starting at the given position. Only called on the I/O executor.
+	 */
+	private void writeFully(final ByteBuffer bytes, final long position) throws IOException {
+		final int start = bytes.position();
+		while (bytes.hasRemaining()) {
+			channel.write(bytes, position + bytes.position() - start);
+		}
+	}
+
+	/**
+	 * Remove the padding of the last block from the file. Only called on the I/O executor.
+	 */
+	private void truncatePadding(final long end) throws IOException {
+		if (directIo && channel.size() > end) {
+			channel.truncate(end);
+		}
+	}
+
+	/**
+	 * Wait until the previous buffer has been written. The buffer may not be reused before then.
+	 */
+	private void awaitPendingWrite() throws IOException {
+		if (pendingWrite != null) {
+			final Future<?> write = pendingWrite;
+			pendingWrite = null;
+			await(write);
+		}
+	}
+
+	/**
+	 * Run an operation on the channel on the I/O executor and wait until it is complete.
+	 */
+	private void runIo(final Callable<Void> operation) throws IOException {
+		await(ioExecutor.submit(operation));
+	}
+
+	/**
+	 * Wait until an operation on the I/O executor is complete. An interrupt does not stop the wait, since the
+	 * operation can not be cancelled, it is restored once the operation is complete.
+	 */
+	private static void await(final Future<?> operation) throws IOException {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					operation.get();
+					return;
+				} catch (final InterruptedException e) {
+					interrupted = true;
+				} catch (final ExecutionException e) {
+					if (e.getCause() instanceof IOException ioException) {
+						throw ioException;
+					}
+					throw new IOException("unable to write stream file", e.getCause());
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * The index of a stream file. For each object in the stream file, in the order they were written, the index contains
+ * the object's timestamp and the offset in the stream file where the object starts. It also contains the offset of
+ * the endRunningHash.
+ * </p>
+ *
+ * <p>
+ * An index file is written next to its stream file when the stream file is closed, so a stream file that was not
+ * completely written has no index. The timestamps of the objects in a stream file never decrease, which allows the
+ * first object at or after a given time to be found with a binary search.
+ * </p>
+ */
+public final class StreamFileIndex {
+
+	/**
+	 * The serialization format of the index files.
+	 */
+	public static final int INDEX_FILE_VERSION = 1;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private long[] offsets;
+	private long[] seconds;
+	private int[] nanos;
+	private int size;
+
+	private long endRunningHashOffset;
+	private long streamFileLength;
+
+	/**
+	 * Create an empty index that objects are added to as they are written.
+	 */
+	StreamFileIndex() {
+		this(INITIAL_CAPACITY);
+	}
+
+	private StreamFileIndex(final int capacity) {
+		offsets = new long[capacity];
+		seconds = new long[capacity];
+		nanos = new int[capacity];
+	}
+
+	/**
+	 * Add the next object of the stream file.
+	 *
+	 * @param offset
+	 * 		the offset in the stream file where the object starts
+	 * @param timestamp
+	 * 		the timestamp of the object
+	 */
+	void add(final long offset, final Instant timestamp) {
+		if (size == offsets.length) {
+			final int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+			offsets = Arrays.copyOf(offsets, capacity);
+			seconds = Arrays.copyOf(seconds, capacity);
+			nanos = Arrays.copyOf(nanos, capacity);
+		}
+		offsets[size] = offset;
+		seconds[size] = timestamp.getEpochSecond();
+		nanos[size] = timestamp.getNano();
+		size++;
+	}
+
+	/**
+	 * Remove all objects, so that the index can be reused for the next stream file.
+	 */
+	void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Write this index to a file.
+	 *
+	 * @param indexFile
+	 * 		the file to write
+	 * @param endRunningHashOffset
+	 * 		the offset in the stream file where the endRunningHash starts
+	 * @param streamFileLength
+	 * 		the length of the complete stream file
+	 * @throws IOException
+	 * 		if the file can not be written
+	 */
+	void write(final File indexFile, final long endRunningHashOffset, final long streamFileLength)
+			throws IOException {
+		this.endRunningHashOffset = endRunningHashOffset;
+		this.streamFileLength = streamFileLength;
+		try (final SerializableDataOutputStream out = new SerializableDataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+			out.writeInt(INDEX_FILE_VERSION);
+			out.writeLong(streamFileLength);
+			out.writeLong(endRunningHashOffset);
+			out.writeInt(size);
+			for (int ordinal = 0; ordinal < size; ordinal++) {
+				out.writeLong(offsets[ordinal]);
+				out.writeLong(seconds[ordinal]);
+				out.writeInt(nanos[ordinal]);
+			}
+		}
+	}
+
+	/**
+	 * Read an index file.
+	 *
+	 * @param indexFile
+	 * 		the index file
+	 * @return the index
+	 * @throws IOException
+	 * 		if the file can not be read, or is not a valid index file
+	 */
+	public static StreamFileIndex read(final File indexFile) throws IOException {
+		try (final SerializableDataInputStream in = new SerializableDataInputStream(
+				new BufferedInputStream(new FileInputStream(indexFile)))) {
+			final int version = in.readInt();
+			if (version != INDEX_FILE_VERSION) {
+				throw new IOException(String.format("Index file %s has unsupported version %d",
+						indexFile.getName(), version));
+			}
+			final long streamFileLength = in.readLong();
+			final long endRunningHashOffset = in.readLong();
+			final int size = in.readInt();
+			if (size < 0) {
+				throw new IOException(String.format("Index file %s has invalid size %d", indexFile.getName(), size));
+			}
+			final StreamFileIndex index = new StreamFileIndex(Math.max(1, size));
+			for (int ordinal = 0; ordinal < size; ordinal++) {
+				final long offset = in.readLong();
+				index.add(offset, Instant.ofEpochSecond(in.readLong(), in.readInt()));
+			}
+			index.endRunningHashOffset = endRunningHashOffset;
+			index.streamFileLength = streamFileLength;
+			return index;
+		}
+	}
+
+	/**
+	 * @return the number of objects in the stream file, not counting the running hashes
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the offset in the stream file where an object starts.
+	 *
+	 * @param ordinal
+	 * 		the position of the object in the stream file, 0 for the first object after the startRunningHash
+	 * @return the offset of the object
+	 */
+	public long getOffset(final int ordinal) {
+		checkOrdinal(ordinal);
+		return offsets[ordinal];
+	}
+
+	/**
+	 * Get the timestamp of an object.
+	 *
+	 * @param ordinal
+	 * 		the position of the object in the stream file, 0 for the first object after the startRunningHash
+	 * @return the timestamp of the object
+	 */
+	public Instant getTimestamp(final int ordinal) {
+		checkOrdinal(ordinal);
+		return Instant.ofEpochSecond(seconds[ordinal], nanos[ordinal]);
+	}
+
+	/**
+	 * @return the offset in the stream file where the endRunningHash starts
+	 */
+	public long getEndRunningHashOffset() {
+		return endRunningHashOffset;
+	}
+
+	/**
+	 * @return the length of the stream file this index was written for
+	 */
+	public long getStreamFileLength() {
+		return streamFileLength;
+	}
+
+	/**
+	 * Find the first object whose timestamp is at or after a given time.
+	 *
+	 * @param timestamp
+	 * 		the time to look for
+	 * @return the ordinal of the first object at or after the time, or {@link #size()} if all objects are before it
+	 */
+	public int findFirstAtOrAfter(final Instant timestamp) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (compare(middle, timestamp) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Get the offset in the stream file where reading should start to get the objects from a given ordinal on.
+	 *
+	 * @param ordinal
+	 * 		the ordinal of the first object to read, or {@link #size()} to read only the endRunningHash
+	 * @return the offset of the object, or the offset of the endRunningHash
+	 */
+	public long getReadOffset(final int ordinal) {
+		return ordinal == size ? endRunningHashOffset : getOffset(ordinal);
+	}
+
+	private int compare(final int ordinal, final Instant timestamp) {
+		final int compareSeconds = Long.compare(seconds[ordinal], timestamp.getEpochSecond());
+		return compareSeconds != 0 ? compareSeconds : Integer.compare(nanos[ordinal], timestamp.getNano());
+	}
+
+	private void checkOrdinal(final int ordinal) {
+		if (ordinal < 0 || ordinal >= size) {
+			throw new IndexOutOfBoundsException(String.format("ordinal %d is not in [0, %d)", ordinal, size));
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.utility.CommonUtils;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reads a list of stream files on a pool of worker threads and hands back the results in the order of the list.
+ * At most {@code 2 * parallelism} files are read ahead of the caller, which bounds the memory held by results that
+ * have not been consumed yet.
+ * <p>
+ * Idle worker threads time out, so a reader that is abandoned before all results are consumed does not keep its
+ * threads alive. Calling {@link #close()} cancels the files that have not been read yet.
+ *
+ * @param <R>
+ * 		the type of the result produced for each file
+ */
+public class StreamFileReadAhead<R> implements AutoCloseable {
+
+	/** how long an idle worker thread waits for a new file before it exits */
+	private static final long WORKER_KEEP_ALIVE_SECONDS = 1;
+
+	private final Iterator<File> files;
+	private final Function<File, R> reader;
+	private final ThreadPoolExecutor executor;
+	private final int readAhead;
+	/** the files that have been submitted but not consumed, in list order */
+	private final Deque<Future<R>> pending = new ArrayDeque<>();
+
+	/**
+	 * @param files
+	 * 		the files to read, results are returned in this order
+	 * @param reader
+	 * 		reads a single file, called on a worker thread. Should report failures through its result rather than
+	 * 		throwing.
+	 * @param parallelism
+	 * 		the number of worker threads
+	 */
+	public StreamFileReadAhead(final List<File> files, final Function<File, R> reader, final int parallelism) {
+		CommonUtils.throwArgNull(files, "files");
+		CommonUtils.throwArgNull(reader, "reader");
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+		this.files = files.iterator();
+		this.reader = reader;
+		this.readAhead = 2 * parallelism;
+		this.executor = new ThreadPoolExecutor(parallelism, parallelism,
+				WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				new ThreadConfiguration()
+						.setDaemon(true)
+						.setComponent("stream")
+						.setThreadName("stream-file-reader")
+						.buildFactory());
+		executor.allowCoreThreadTimeOut(true);
+		submitFiles();
+	}
+
+	/**
+	 * @return true if there are results that have not been returned by {@link #next()}
+	 */
+	public boolean hasNext() {
+		return !pending.isEmpty();
+	}
+
+	/**
+	 * Get the result of the next file in the list, waiting for it to be read if necessary.
+	 *
+	 * @return the result of the next file
+	 * @throws InterruptedException
+	 * 		if interrupted while waiting for the file to be read
+	 * @throws NoSuchElementException
+	 * 		if all results have been returned
+	 */
+	public R next() throws InterruptedException {
+		final Future<R> next = pending.poll();
+		if (next == null) {
+			throw new NoSuchElementException();
+		}
+		submitFiles();
+		try {
+			return next.get();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("unable to read stream file", e.getCause());
+		}
+	}
+
+	/**
+	 * Stop reading files. Results that have not been consumed are discarded.
+	 */
+	@Override
+	public void close() {
+		pending.forEach(future -> future.cancel(true));
+		pending.clear();
+		executor.shutdownNow();
+	}
+
+	private void submitFiles() {
+		while (pending.size() < readAhead && files.hasNext()) {
+			final File file = files.next();
+			pending.add(executor.submit(() -> reader.apply(file)));
+		}
+		if (!files.hasNext()) {
+			// files already submitted still get read
+			executor.shutdown();
+		}
+	}
+}
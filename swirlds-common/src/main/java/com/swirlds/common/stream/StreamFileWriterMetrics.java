@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.CommonUtils;
+
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_10_3;
+import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
+
+/**
+ * Metrics for the flushes performed by a {@link TimestampStreamFileWriter}.
+ */
+public class StreamFileWriterMetrics {
+
+	private final RunningAverageMetric writeBatchSize;
+	private final RunningAverageMetric flushMicros;
+
+	/**
+	 * Constructor of {@code StreamFileWriterMetrics}
+	 *
+	 * @param metrics
+	 * 		a reference to the metrics-system
+	 * @param prefix
+	 * 		prefix of the metric names, identifies the stream being written
+	 * @throws IllegalArgumentException
+	 * 		if {@code metrics} or {@code prefix} is {@code null}
+	 */
+	public StreamFileWriterMetrics(final Metrics metrics, final String prefix) {
+		CommonUtils.throwArgNull(metrics, "metrics");
+		CommonUtils.throwArgNull(prefix, "prefix");
+		writeBatchSize = metrics.getOrCreate(
+				new RunningAverageMetric.Config(INTERNAL_CATEGORY, prefix + "WriteBatchSize")
+						.withDescription("avg number of objects written to the stream file per flush")
+						.withFormat(FORMAT_10_3));
+		flushMicros = metrics.getOrCreate(
+				new RunningAverageMetric.Config(INTERNAL_CATEGORY, prefix + "FlushMicroSec")
+						.withDescription("avg time taken to flush a batch of objects to the stream file " +
+								"(in microseconds)")
+						.withFormat(FORMAT_10_3));
+	}
+
+	/**
+	 * Record a flush of buffered objects to the stream file.
+	 *
+	 * @param objects
+	 * 		the number of objects written since the previous flush
+	 * @param nanoseconds
+	 * 		the time taken by the flush
+	 */
+	public void flushed(final int objects, final long nanoseconds) {
+		writeBatchSize.update(objects);
+		flushMicros.update(nanoseconds / 1_000.0);
+	}
+}
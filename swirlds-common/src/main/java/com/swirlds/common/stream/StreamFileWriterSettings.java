@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import java.io.FileOutputStream;
+
+/**
+ * Optional settings of a {@link TimestampStreamFileWriter}. The defaults write files the same way as a writer created
+ * without settings: every object is flushed as soon as it is written, files are written through a
+ * {@link FileOutputStream}, and no index files are written.
+ */
+public class StreamFileWriterSettings {
+
+	private int flushThresholdBytes;
+	private long flushIntervalMs;
+	private StreamFileWriterMetrics metrics;
+	private int channelBufferBytes;
+	private boolean directIo;
+	private boolean writeIndexFiles;
+
+	/**
+	 * Get the number of buffered bytes that causes a flush, 0 if every object is flushed as soon as it is written.
+	 */
+	public int getFlushThresholdBytes() {
+		return flushThresholdBytes;
+	}
+
+	/**
+	 * Set the number of buffered bytes that causes a flush. If positive, objects are flushed in groups once this many
+	 * bytes are buffered, if 0 every object is flushed as soon as it is written.
+	 *
+	 * @return this object
+	 */
+	public StreamFileWriterSettings setFlushThresholdBytes(final int flushThresholdBytes) {
+		if (flushThresholdBytes < 0) {
+			throw new IllegalArgumentException("flushThresholdBytes must not be negative");
+		}
+		this.flushThresholdBytes = flushThresholdBytes;
+		return this;
+	}
+
+	/**
+	 * Get the time after which, when objects are flushed in groups, the next object written causes a flush.
+	 */
+	public long getFlushIntervalMs() {
+		return flushIntervalMs;
+	}
+
+	/**
+	 * Set the time after which, when objects are flushed in groups, the next object written causes a flush.
+	 *
+	 * @return this object
+	 */
+	public StreamFileWriterSettings setFlushIntervalMs(final long flushIntervalMs) {
+		this.flushIntervalMs = flushIntervalMs;
+		return this;
+	}
+
+	/**
+	 * Get the metrics that record the size of each flushed batch, null if no metrics are recorded.
+	 */
+	public StreamFileWriterMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Set the metrics that record the size of each flushed batch, may be null.
+	 *
+	 * @return this object
+	 */
+	public StreamFileWriterSettings setMetrics(final StreamFileWriterMetrics metrics) {
+		this.metrics = metrics;
+		return this;
+	}
+
+	/**
+	 * Get the size of the buffer used to write files through a file channel, 0 if files are written through a
+	 * {@link FileOutputStream}.
+	 */
+	public int getChannelBufferBytes() {
+		return channelBufferBytes;
+	}
+
+	/**
+	 * Set the size of the buffer used to write files through a file channel. If positive, files are written through a
+	 * file channel with a buffer of this many bytes, rounded up to a multiple of the block size, if 0 files are
+	 * written through a {@link FileOutputStream}.
+	 *
+	 * @return this object
+	 */
+	public StreamFileWriterSettings setChannelBufferBytes(final int channelBufferBytes) {
+		if (channelBufferBytes < 0) {
+			throw new IllegalArgumentException("channelBufferBytes must not be negative");
+		}
+		this.channelBufferBytes = channelBufferBytes;
+		return this;
+	}
+
+	/**
+	 * Check if files written through a file channel are written with direct I/O.
+	 */
+	public boolean isDirectIo() {
+		return directIo;
+	}
+
+	/**
+	 * Set if files written through a file channel are written with direct I/O, bypassing the page cache. Files are
+	 * written through the page cache if the file system does not support it. Has no effect if files are written
+	 * through a {@link FileOutputStream}.
+	 *
+	 * @return this object
+	 */
+	public StreamFileWriterSettings setDirectIo(final boolean directIo) {
+		this.directIo = directIo;
+		return this;
+	}
+
+	/**
+	 * Check if an index file that maps the timestamp of each object to its offset is written next to each stream
+	 * file.
+	 */
+	public boolean isWriteIndexFiles() {
+		return writeIndexFiles;
+	}
+
+	/**
+	 * Set if an index file that maps the timestamp of each object to its offset is written next to each stream file.
+	 *
+	 * @return this object
+	 */
+	public StreamFileWriterSettings setWriteIndexFiles(final boolean writeIndexFiles) {
+		this.writeIndexFiles = writeIndexFiles;
+		return this;
+	}
+}
@@ -24,21 +24,26 @@ import com.swirlds.common.crypto.SerializableHashable;
 import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.swirlds.common.crypto.DigestType.SHA_384;
 import static com.swirlds.common.crypto.SignatureType.RSA;
+import static com.swirlds.common.stream.LinkedObjectStreamUtilities.generateIndexFilePath;
 import static com.swirlds.common.stream.LinkedObjectStreamUtilities.generateSigFilePath;
 import static com.swirlds.common.stream.LinkedObjectStreamUtilities.generateStreamFileNameFromInstant;
 import static com.swirlds.common.stream.LinkedObjectStreamUtilities.getPeriod;
@@ -60,6 +65,26 @@ import static com.swirlds.logging.LogMarker.OBJECT_STREAM_FILE;
  * fed the same sequence of objects, then both instances will produce the exact same files.
  * </p>
  *
+ * <p>
+ * By default every object is flushed to the file as soon as it is written. In group commit mode objects are
+ * buffered and flushed together once the buffered bytes reach a threshold, or once an object is written after the
+ * flush interval has elapsed. Buffered objects are always flushed when a file is closed. Group commit does not change
+ * the bytes written or the hashes of the files.
+ * </p>
+ *
+ * <p>
+ * Files are written through a {@link FileOutputStream} by default. If a channel buffer size is configured, files are
+ * instead written through a {@link StreamFileChannelOutputStream}, which writes large block aligned buffers on another
+ * thread and hashes each buffer while it is written, optionally with direct I/O. This also does not change the files
+ * or their hashes.
+ * </p>
+ *
+ * <p>
+ * If index files are enabled, a {@link StreamFileIndex} is written next to each stream file when it is closed. It
+ * allows readers to start reading a stream file at a given timestamp, see
+ * {@link LinkedObjectStreamUtilities#parseStreamFileFrom(File, StreamType, Instant)}.
+ * </p>
+ *
  * @param <T>
  * 		the type of the object being streamed
  */
@@ -79,6 +104,16 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 	 */
 	public static final int OBJECT_STREAM_SIG_VERSION = 1;
 
+	/**
+	 * the size of the buffer of the file stream when objects are flushed as soon as they are written
+	 */
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * how long the idle thread that writes buffers through a file channel waits before it exits
+	 */
+	private static final long IO_THREAD_KEEP_ALIVE_SECONDS = 10;
+
 	/**
 	 * Describes the type of object being streamed. (e.g. record stream / event stream).
 	 */
@@ -87,7 +122,7 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 	/**
 	 * The file stream for the current file.
 	 */
-	private FileOutputStream fileStream = null;
+	private OutputStream fileStream = null;
 
 	/**
 	 * Data destined for the output file should be written to this stream.
@@ -154,6 +189,58 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 	 */
 	private final MessageDigest metadataStreamDigest;
 
+	/**
+	 * the number of buffered bytes that causes a flush, 0 if every object is flushed as soon as it is written
+	 */
+	private final int flushThresholdBytes;
+
+	/**
+	 * in group commit mode, the first object written this long after the previous flush causes a flush
+	 */
+	private final long flushIntervalMs;
+
+	/**
+	 * records the size of each flushed batch, may be null
+	 */
+	private final StreamFileWriterMetrics metrics;
+
+	/**
+	 * if positive, files are written through a file channel with a buffer of this many bytes, if 0 files are written
+	 * through a {@link FileOutputStream}
+	 */
+	private final int channelBufferBytes;
+
+	/**
+	 * if true, files written through a file channel are written with direct I/O if the file system supports it
+	 */
+	private final boolean directIo;
+
+	/**
+	 * performs all writes through a file channel, so that they are not interrupted with the thread that adds the
+	 * objects, null if files are written through a {@link FileOutputStream}
+	 */
+	private final ThreadPoolExecutor ioExecutor;
+
+	/**
+	 * the index of the current file, null if index files are not written
+	 */
+	private final StreamFileIndex index;
+
+	/**
+	 * the number of objects written to the current file since the previous flush
+	 */
+	private int unflushedObjects;
+
+	/**
+	 * the size of the current file at the previous flush
+	 */
+	private int flushedBytes;
+
+	/**
+	 * the time of the previous flush
+	 */
+	private long lastFlushTimeMs;
+
 	/**
 	 * Create a new stream.
 	 *
@@ -175,7 +262,52 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 			final Signer signer,
 			final boolean startWriteAtCompleteWindow,
 			final StreamType streamType) {
+		this(directory, windowSizeMs, signer, startWriteAtCompleteWindow, streamType, new StreamFileWriterSettings());
+	}
 
+	/**
+	 * Create a new stream.
+	 *
+	 * @param directory
+	 * 		the directory where files will be written
+	 * @param windowSizeMs
+	 * 		the desired time window for a single file
+	 * @param signer
+	 * 		an object that can sign things
+	 * @param startWriteAtCompleteWindow
+	 * 		if true, then only start writing files when it can be guaranteed
+	 * 		that partial files will not be written
+	 * @param streamType
+	 * 		describes the type of object being passed through this stream
+	 * @param settings
+	 * 		how objects are flushed, how files are written and whether index files are written
+	 */
+	public TimestampStreamFileWriter(
+			final String directory,
+			final long windowSizeMs,
+			final Signer signer,
+			final boolean startWriteAtCompleteWindow,
+			final StreamType streamType,
+			final StreamFileWriterSettings settings) {
+
+		this.channelBufferBytes = settings.getChannelBufferBytes();
+		this.directIo = settings.isDirectIo();
+		if (channelBufferBytes > 0) {
+			ioExecutor = new ThreadPoolExecutor(1, 1,
+					IO_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+					new ThreadConfiguration()
+							.setDaemon(true)
+							.setComponent("stream")
+							.setThreadName("stream-file-writer")
+							.buildFactory());
+			ioExecutor.allowCoreThreadTimeOut(true);
+		} else {
+			ioExecutor = null;
+		}
+		this.index = settings.isWriteIndexFiles() ? new StreamFileIndex() : null;
+		this.flushThresholdBytes = settings.getFlushThresholdBytes();
+		this.flushIntervalMs = settings.getFlushIntervalMs();
+		this.metrics = settings.getMetrics();
 		this.directory = directory;
 		this.windowSizeMs = windowSizeMs;
 		this.signer = signer;
@@ -196,13 +328,35 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 	 */
 	private void serialize(final T object) {
 		try {
+			if (index != null) {
+				index.add(out.size(), object.getTimestamp());
+			}
 			out.writeSerializable(object, true);
-			out.flush();
+			unflushedObjects++;
+			if (flushThresholdBytes == 0
+					|| out.size() - flushedBytes >= flushThresholdBytes
+					|| System.currentTimeMillis() - lastFlushTimeMs >= flushIntervalMs) {
+				flush();
+			}
 		} catch (IOException e) {
 			LOG.warn(EXCEPTION.getMarker(), "IOException when serializing {}", object, e);
 		}
 	}
 
+	/**
+	 * Flush the objects buffered since the previous flush to the current file.
+	 */
+	private void flush() throws IOException {
+		final long start = System.nanoTime();
+		out.flush();
+		if (metrics != null && unflushedObjects > 0) {
+			metrics.flushed(unflushedObjects, System.nanoTime() - start);
+		}
+		unflushedObjects = 0;
+		flushedBytes = out.size();
+		lastFlushTimeMs = System.currentTimeMillis();
+	}
+
 	/**
 	 * Create a new file which will eventually contain the provided object.
 	 *
@@ -216,14 +370,30 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 				LOG.info(OBJECT_STREAM.getMarker(),
 						"Stream file already exists {}", currentFile::getName);
 			} else {
-				fileStream = new FileOutputStream(currentFile, false);
-				out = new SerializableDataOutputStream(
-						new BufferedOutputStream(new HashingOutputStream(streamDigest, fileStream)));
+				if (channelBufferBytes > 0) {
+					// the channel stream buffers and hashes the bytes itself
+					fileStream = new StreamFileChannelOutputStream(
+							currentFile, channelBufferBytes, directIo, streamDigest, ioExecutor);
+					out = new SerializableDataOutputStream(fileStream);
+				} else {
+					fileStream = new FileOutputStream(currentFile, false);
+					// in group commit mode the buffer must be able to hold a whole batch, otherwise it is written
+					// out whenever it fills up
+					out = new SerializableDataOutputStream(new BufferedOutputStream(
+							new HashingOutputStream(streamDigest, fileStream),
+							Math.max(DEFAULT_BUFFER_SIZE, flushThresholdBytes)));
+				}
+				unflushedObjects = 0;
+				flushedBytes = 0;
+				lastFlushTimeMs = System.currentTimeMillis();
+				if (index != null) {
+					index.clear();
+				}
 				metadataOut = new SerializableDataOutputStream(new HashingOutputStream(metadataStreamDigest));
 				LOG.info(OBJECT_STREAM_FILE.getMarker(), "Stream file created {}", currentFile::getName);
 			}
-		} catch (final FileNotFoundException e) {
-			LOG.error(EXCEPTION.getMarker(), "startNewFile :: FileNotFound: ", e);
+		} catch (final IOException e) {
+			LOG.error(EXCEPTION.getMarker(), "startNewFile :: unable to create {}: ", currentFile.getName(), e);
 		}
 	}
 
@@ -266,6 +436,7 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 	 */
 	public void closeCurrentAndSign() {
 		if (fileStream != null) {
+			final long endRunningHashOffset = out.size();
 			try {
 				final Hash finalRunningHash = runningHash.getFutureHash().getAndRethrow();
 				out.writeSerializable(finalRunningHash, true);
@@ -289,6 +460,10 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 			// close current file
 			closeFile();
 
+			if (index != null) {
+				writeIndexFile(closedFile, endRunningHashOffset);
+			}
+
 			// get entire Hash for this stream file
 			final Hash entireHash = new Hash(streamDigest.digest(), SHA_384);
 			// get metaData Hash for this stream file
@@ -311,6 +486,21 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 		}
 	}
 
+	/**
+	 * Write the index file of a stream file that has just been closed. A stream file without an index file can still
+	 * be read from the start, so failures are only logged.
+	 */
+	private void writeIndexFile(final File closedFile, final long endRunningHashOffset) {
+		final File indexFile = new File(generateIndexFilePath(closedFile));
+		try {
+			index.write(indexFile, endRunningHashOffset, closedFile.length());
+			LOG.info(OBJECT_STREAM_FILE.getMarker(), "index file saved: {}", indexFile);
+		} catch (final IOException e) {
+			LOG.error(EXCEPTION.getMarker(), "closeCurrentAndSign :: Fail to generate index file for {}",
+					closedFile.getName(), e);
+		}
+	}
+
 	/**
 	 * Generate a signature file for the current object stream file.
 	 * The signature bytes are generated by signing the endRunningHash.
@@ -363,11 +553,14 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 		final String fileName = currentFile == null ? "null" : currentFile.getName();
 		if (fileStream != null) {
 			try {
-				out.flush();
+				flush();
 				fileStream.flush();
 
-				fileStream.getChannel().force(true);
-				fileStream.getFD().sync();
+				// a channel stream forces its file when it is closed
+				if (fileStream instanceof FileOutputStream fileOutputStream) {
+					fileOutputStream.getChannel().force(true);
+					fileOutputStream.getFD().sync();
+				}
 
 				out.close();
 				fileStream.close();
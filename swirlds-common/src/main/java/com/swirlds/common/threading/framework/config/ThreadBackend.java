@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mechanism used to execute the threads built by a thread configuration. Threads use {@link #PLATFORM} unless
+ * their configuration explicitly opts in to {@link #POOLED} or {@link #VIRTUAL}.
+ */
+public enum ThreadBackend {
+	/**
+	 * Each thread is a dedicated platform (OS) thread.
+	 */
+	PLATFORM,
+	/**
+	 * <p>
+	 * Each stoppable thread runs as a task on a shared pool of at most {@link #POOL_SIZE} reusable platform threads,
+	 * so a stoppable thread that is started and stopped repeatedly does not create a new OS thread each time. A task
+	 * configures the pool thread the way a new thread would be configured, except for its thread group and daemon
+	 * status, and restores it when it is done. If every pool thread is busy, the stoppable thread runs on a dedicated
+	 * platform thread instead, so a long running loop never waits for another one to finish.
+	 * </p>
+	 *
+	 * <p>
+	 * Threads that are not stoppable threads, and thread factories, always use dedicated platform threads with this
+	 * backend, since the caller owns the returned thread.
+	 * </p>
+	 */
+	POOLED,
+	/**
+	 * Each thread is a virtual thread. Virtual threads are run as tasks on a shared scheduler with a bounded number of
+	 * carrier threads, and give up their carrier while they are blocked on I/O, locks, sleeps or queues. If the runtime
+	 * does not support virtual threads, {@link #POOLED} is used instead.
+	 */
+	VIRTUAL;
+
+	/**
+	 * The maximum number of threads in the pool used by {@link #POOLED}.
+	 */
+	public static final int POOL_SIZE = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * How long an idle pool thread waits for a new task before it exits.
+	 */
+	private static final long POOL_KEEP_ALIVE_SECONDS = 60;
+
+	/** creates a virtual thread builder, null if virtual threads are not supported */
+	private static final MethodHandle OF_VIRTUAL;
+	/** creates an unstarted thread from a thread builder */
+	private static final MethodHandle UNSTARTED;
+	/** checks if a thread is virtual */
+	private static final MethodHandle IS_VIRTUAL;
+
+	static {
+		MethodHandle ofVirtual = null;
+		MethodHandle unstarted = null;
+		MethodHandle isVirtual = null;
+		try {
+			// virtual threads are looked up reflectively so that this code can be built for and run on runtimes that
+			// don't have them
+			final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			final Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+			ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+			unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class,
+					Runnable.class));
+			isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+			// virtual threads may exist but be disabled, e.g. if they are a preview feature that was not enabled
+			ofVirtual.invoke();
+		} catch (final Throwable e) {
+			ofVirtual = null;
+		}
+		OF_VIRTUAL = ofVirtual;
+		UNSTARTED = ofVirtual == null ? null : unstarted;
+		IS_VIRTUAL = ofVirtual == null ? null : isVirtual;
+	}
+
+	/**
+	 * @return true if the runtime supports virtual threads
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/**
+	 * Check if a thread is a virtual thread.
+	 *
+	 * @param thread
+	 * 		the thread to check
+	 * @return true if the thread is virtual
+	 */
+	public static boolean isVirtual(final Thread thread) {
+		if (IS_VIRTUAL == null) {
+			return false;
+		}
+		try {
+			return (boolean) IS_VIRTUAL.invoke(thread);
+		} catch (final Throwable e) {
+			throw new IllegalStateException("unable to check if thread is virtual", e);
+		}
+	}
+
+	/**
+	 * Check if stoppable threads using this backend run as tasks on the shared pool. This is the case for
+	 * {@link #POOLED}, and for {@link #VIRTUAL} if the runtime does not support virtual threads.
+	 *
+	 * @return true if stoppable threads run on the shared pool
+	 */
+	public boolean isPooled() {
+		return this == POOLED || (this == VIRTUAL && !isVirtualThreadSupported());
+	}
+
+	/**
+	 * Run a task on the shared pool used by {@link #POOLED}. If every pool thread is busy, the task runs on a new
+	 * dedicated platform thread.
+	 *
+	 * @param task
+	 * 		the task to run, must restore the configuration of the thread it runs on and clear its interrupt status
+	 */
+	public static void executePooled(final Runnable task) {
+		Pool.EXECUTOR.execute(task);
+	}
+
+	/**
+	 * The pool used by {@link #POOLED}, created the first time it is used.
+	 */
+	private static final class Pool {
+
+		private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+				0, POOL_SIZE,
+				POOL_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new SynchronousQueue<>(),
+				new ThreadConfiguration()
+						.setDaemon(true)
+						.setComponent("thread-backend")
+						.setThreadName("pooled")
+						.buildFactory(),
+				(final Runnable task, final ThreadPoolExecutor executor) -> new ThreadConfiguration()
+						.setDaemon(true)
+						.setComponent("thread-backend")
+						.setThreadName("overflow")
+						.setRunnable(task)
+						.build(true));
+
+		private Pool() {
+		}
+	}
+
+	/**
+	 * Create a new unstarted thread using this backend. Threads created by {@link #POOLED}, or by {@link #VIRTUAL} if
+	 * the runtime does not support virtual threads, are dedicated platform threads.
+	 *
+	 * @param threadGroup
+	 * 		the thread group to use, ignored for virtual threads
+	 * @param runnable
+	 * 		the work the thread will do
+	 * @return the new thread
+	 */
+	public Thread newThread(final ThreadGroup threadGroup, final Runnable runnable) {
+		if (this == VIRTUAL && isVirtualThreadSupported()) {
+			try {
+				return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(), runnable);
+			} catch (final Throwable e) {
+				throw new IllegalStateException("unable to create a virtual thread", e);
+			}
+		}
+		return new Thread(threadGroup, runnable);
+	}
+}
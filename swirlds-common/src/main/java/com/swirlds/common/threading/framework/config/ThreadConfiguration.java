@@ -19,6 +19,8 @@ package com.swirlds.common.threading.framework.config;
 import com.swirlds.common.threading.framework.ThreadSeed;
 import com.swirlds.common.threading.framework.internal.AbstractThreadConfiguration;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -125,7 +127,33 @@ public class ThreadConfiguration extends AbstractThreadConfiguration<ThreadConfi
 		enableThreadNumbering();
 
 		final ThreadFactory factory = (final Runnable r) -> {
-			final Thread thread = new Thread(getThreadGroup(), r);
+			final Thread thread = getBackend().newThread(getThreadGroup(), r);
+			configureThread(thread);
+			return thread;
+		};
+
+		becomeImmutable();
+
+		return factory;
+	}
+
+	/**
+	 * <p>
+	 * Get a {@link ForkJoinPool.ForkJoinWorkerThreadFactory} that contains the configuration specified by this object.
+	 * Fork join worker threads are always platform threads in the common thread group, so the backend and thread
+	 * group of this configuration are ignored.
+	 * </p>
+	 *
+	 * <p>
+	 * After calling this method, this configuration object should not be modified or used to construct other
+	 * threads, factories, or seeds.
+	 * </p>
+	 */
+	public ForkJoinPool.ForkJoinWorkerThreadFactory buildForkJoinFactory() {
+		enableThreadNumbering();
+
+		final ForkJoinPool.ForkJoinWorkerThreadFactory factory = (final ForkJoinPool pool) -> {
+			final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
 			configureThread(thread);
 			return thread;
 		};
@@ -129,7 +129,12 @@ public abstract class AbstractStoppableThreadConfiguration<
 		stoppableThread.setInjected();
 		return () -> {
 			stoppableThread.markAsStarted(Thread.currentThread());
-			buildThreadSeed().inject();
+			try {
+				buildThreadSeed().inject();
+			} finally {
+				// join() returns once the configuration of the thread has been restored
+				stoppableThread.markAsFinished();
+			}
 		};
 	}
 
@@ -19,6 +19,7 @@ package com.swirlds.common.threading.framework.internal;
 import com.swirlds.common.Copyable;
 import com.swirlds.common.Mutable;
 import com.swirlds.common.threading.interrupt.InterruptableRunnable;
+import com.swirlds.common.threading.framework.config.ThreadBackend;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.framework.ThreadSeed;
 import org.apache.logging.log4j.LogManager;
@@ -106,6 +107,11 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
 	 */
 	private Thread.UncaughtExceptionHandler exceptionHandler;
 
+	/**
+	 * The backend used to execute new threads.
+	 */
+	private ThreadBackend backend = ThreadBackend.PLATFORM;
+
 	/**
 	 * The runnable that will be executed on the thread.
 	 */
@@ -141,6 +147,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
 		this.priority = that.priority;
 		this.contextClassLoader = that.contextClassLoader;
 		this.exceptionHandler = that.exceptionHandler;
+		this.backend = that.backend;
 		this.runnable = that.runnable;
 		this.nextThreadNumber = that.nextThreadNumber;
 		this.useThreadNumbers = that.useThreadNumbers;
@@ -194,7 +201,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
 	 * @return a stoppable thread built using this configuration
 	 */
 	protected Thread buildThread(final boolean start) {
-		final Thread thread = new Thread(getThreadGroup(),
+		final Thread thread = getBackend().newThread(getThreadGroup(),
 				requireNonNull(getRunnable(), "runnable must not be null"));
 		configureThread(thread);
 
@@ -345,8 +352,8 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
 	 */
 	protected void configureThread(final Thread thread) {
 		thread.setName(buildThreadName());
-		if (!thread.isAlive()) {
-			// Daemon status can only be configured before a thread starts.
+		if (!thread.isAlive() && !ThreadBackend.isVirtual(thread)) {
+			// Daemon status can only be configured before a thread starts. Virtual threads are always daemons.
 			thread.setDaemon(isDaemon());
 		}
 		thread.setPriority(getPriority());
@@ -456,6 +463,27 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
 		return (C) this;
 	}
 
+	/**
+	 * Get the backend used to execute new threads. By default this is {@link ThreadBackend#PLATFORM}.
+	 */
+	public ThreadBackend getBackend() {
+		return backend;
+	}
+
+	/**
+	 * Set the backend used to execute new threads. Only threads that spend most of their time blocked should use
+	 * {@link ThreadBackend#VIRTUAL}, threads that spin must keep their own platform thread.
+	 *
+	 * @return this object
+	 */
+	@SuppressWarnings("unchecked")
+	public C setBackend(final ThreadBackend backend) {
+		throwIfImmutable();
+
+		this.backend = requireNonNull(backend, "backend must not be null");
+		return (C) this;
+	}
+
 	/**
 	 * Get the node ID that will run threads created by this object.
 	 */
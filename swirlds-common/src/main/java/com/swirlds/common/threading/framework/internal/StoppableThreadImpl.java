@@ -19,6 +19,7 @@ package com.swirlds.common.threading.framework.internal;
 import com.swirlds.common.threading.framework.Stoppable;
 import com.swirlds.common.threading.framework.ThreadSeed;
 import com.swirlds.common.threading.framework.TypedStoppableThread;
+import com.swirlds.common.threading.framework.config.ThreadBackend;
 import com.swirlds.common.threading.interrupt.InterruptableRunnable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -107,6 +108,17 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 	 */
 	private volatile boolean injected;
 
+	/**
+	 * True if this thread runs as a task on the shared pool of {@link ThreadBackend#POOLED}.
+	 */
+	private volatile boolean pooled;
+
+	/**
+	 * Held while a pool thread is interrupted, and while a pool thread clears its interrupt status after this
+	 * thread's task, so that an interrupt never reaches the next task run by the same pool thread.
+	 */
+	private final Object interruptLock = new Object();
+
 	/**
 	 * Used by join, necessary in case join is called before the thread is started.
 	 */
@@ -207,7 +219,9 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 			Thread.currentThread().interrupt();
 		} finally {
 			status.set(Status.DEAD);
-			finished.countDown();
+			if (!injected) {
+				finished.countDown();
+			}
 		}
 	}
 
@@ -242,7 +256,7 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 	 */
 	@Override
 	public synchronized boolean start() {
-		if (injected) {
+		if (injected && !pooled) {
 			throw new IllegalStateException("Thread can not be started if it has built a seed");
 		}
 
@@ -253,6 +267,11 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 			return false;
 		}
 
+		if (configuration.getBackend().isPooled()) {
+			startPooled();
+			return true;
+		}
+
 		final Thread t = configuration.buildThread(false);
 		markAsStarted(t);
 		t.start();
@@ -260,6 +279,28 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 		return true;
 	}
 
+	/**
+	 * Start this thread as a task on the shared pool. The thread is alive as soon as this method returns, even if the
+	 * task has not yet been picked up by a pool thread.
+	 */
+	private void startPooled() {
+		pooled = true;
+		final ThreadSeed seed = configuration.buildStoppableThreadSeed(this);
+		status.set(Status.ALIVE);
+
+		ThreadBackend.executePooled(() -> {
+			try {
+				seed.inject();
+			} catch (final Throwable e) {
+				configuration.getExceptionHandler().uncaughtException(Thread.currentThread(), e);
+			} finally {
+				synchronized (interruptLock) {
+					Thread.interrupted();
+				}
+			}
+		});
+	}
+
 	/**
 	 * Get the current thread. Blocks until the thread has been started.
 	 * This method is not interruptable, so calling this method before
@@ -479,7 +520,13 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 			return false;
 		}
 
-		t.interrupt();
+		synchronized (interruptLock) {
+			if (pooled && status.get() == Status.DEAD) {
+				// the pool thread may already be running another task
+				return false;
+			}
+			t.interrupt();
+		}
 		return true;
 	}
 
@@ -507,10 +554,19 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 	 */
 	protected void markAsStarted(final Thread thread) {
 		this.thread.set(thread);
-		status.set(Status.ALIVE);
+		// a pooled thread is already alive, and may have been asked to stop before its task started
+		status.compareAndSet(Status.NOT_STARTED, Status.ALIVE);
 		started.countDown();
 	}
 
+	/**
+	 * Indicate that an injected thread has finished, and that the configuration of the thread it ran on has been
+	 * restored.
+	 */
+	protected void markAsFinished() {
+		finished.countDown();
+	}
+
 	/**
 	 * Closes the thread with a certain behavior
 	 *
@@ -611,7 +667,11 @@ public class StoppableThreadImpl<T extends InterruptableRunnable> implements Typ
 	 */
 	@Override
 	public boolean isHanging() {
-		return uninterruptableGetThread().isAlive() && hanging;
+		if (!hanging) {
+			return false;
+		}
+		// the thread of an injected or pooled stoppable thread may outlive it
+		return injected ? isAlive() : uninterruptableGetThread().isAlive();
 	}
 
 	/**
@@ -105,6 +105,7 @@ module com.swirlds.common {
 
 	requires java.desktop;
 	requires jdk.management;
+	requires jdk.unsupported;
 
 	/* Cryptography Libraries */
 	requires lazysodium.java;
@@ -24,8 +24,10 @@ import com.swirlds.fchashmap.internal.GarbageCollectionEvent;
 import com.swirlds.fchashmap.internal.Mutation;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +36,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -184,6 +187,9 @@ public class FCHashMap<K, V> extends AbstractMap<K, V> implements FastCopyable {
 	 * Use this to clean up resources held by this copy.
 	 * Failure to call delete on a copy before it is garbage collected will result in a memory leak.
 	 *
+	 * If background garbage collection is enabled (see {@link FCHashMapSettings#getGCThreadCount()}) then the
+	 * mutations no longer needed are removed asynchronously, otherwise they are removed before this method returns.
+	 *
 	 * Not thread safe.
 	 * Must not be called at the same time another thread is attempting to read from this copy.
 	 */
@@ -193,7 +199,11 @@ public class FCHashMap<K, V> extends AbstractMap<K, V> implements FastCopyable {
 		if (previouslyReleased) {
 			throw new ReferenceCountException("this object has already been released");
 		}
-		doGarbageCollection();
+
+		final FCHashMapGarbageCollector collector = FCHashMapGarbageCollector.getInstance();
+		if (collector == null || !collector.submit(() -> doGarbageCollection(collector))) {
+			doGarbageCollection(collector);
+		}
 		return true;
 	}
 
@@ -206,40 +216,81 @@ public class FCHashMap<K, V> extends AbstractMap<K, V> implements FastCopyable {
 	}
 
 	/**
-	 * Perform garbage collection on this copy of the map.
-	 */
-	private void doGarbageCollection() {
-		if (!garbageCollectionLock.tryLock()) {
-			// Another thread is currently doing garbage collection. That thread will do GC
-			// for this copy, or else the next release of a copy will do GC for this copy.
-			return;
-		}
+	 * Perform garbage collection for all released copies of the map.
+	 *
+	 * @param collector
+	 * 		the collector used to clean mutations in parallel, or null to clean them on the calling thread
+	 */
+	private void doGarbageCollection(final FCHashMapGarbageCollector collector) {
+		do {
+			if (!garbageCollectionLock.tryLock()) {
+				// Another thread is currently doing garbage collection. That thread will do GC
+				// for this copy, or else the next release of a copy will do GC for this copy.
+				return;
+			}
 
-		try {
-			final Iterator<FCHashMap<K, V>> iterator = copies.iterator();
+			try {
+				collectReleasedCopies(collector);
+			} finally {
+				garbageCollectionLock.unlock();
+			}
 
-			while (iterator.hasNext()) {
-				final FCHashMap<K, V> copy = iterator.next();
-				if (!copy.isDestroyed()) {
-					// Stop when the first un-destroyed copy is discovered.
-					return;
-				}
+			// A copy released while the lock was held may have skipped its own collection, check again.
+			final FCHashMap<K, V> oldestCopy = copies.peekFirst();
+			if (oldestCopy == null || !oldestCopy.isDestroyed()) {
+				return;
+			}
+		} while (true);
+	}
 
-				GarbageCollectionEvent<K> event;
-				while ((event = garbageCollectionEvents.peekFirst()) != null) {
-					if (event.getVersion() > copy.version) {
-						// Stop when the first event from the next version is discovered.
-						break;
-					}
+	/**
+	 * Remove released copies from the front of the list of copies and clean the mutations they no longer need.
+	 * Must be called while holding the garbage collection lock.
+	 *
+	 * @param collector
+	 * 		the collector used to clean mutations in parallel, or null to clean them on the calling thread
+	 */
+	private void collectReleasedCopies(final FCHashMapGarbageCollector collector) {
+		final long start = System.nanoTime();
+		final List<GarbageCollectionEvent<K>> events = new ArrayList<>();
+
+		final Iterator<FCHashMap<K, V>> iterator = copies.iterator();
+		while (iterator.hasNext()) {
+			final FCHashMap<K, V> copy = iterator.next();
+			if (!copy.isDestroyed()) {
+				// Stop when the first un-destroyed copy is discovered.
+				break;
+			}
 
-					garbageCollectionEvents.pop();
-					cleanOldMutations(event.getKey(), copy.version);
+			GarbageCollectionEvent<K> event;
+			while ((event = garbageCollectionEvents.peekFirst()) != null) {
+				if (event.getVersion() > copy.version) {
+					// Stop when the first event from the next version is discovered.
+					break;
 				}
-				iterator.remove();
+
+				garbageCollectionEvents.pop();
+				// Clean at the version of the event, not of the copy. An event registered after the copy before it
+				// was released is only reached when a later copy is released, and cleaning at that later version
+				// would remove a mutation still needed by the copies in between.
+				events.add(event);
 			}
-		} finally {
-			garbageCollectionLock.unlock();
+			iterator.remove();
 		}
+
+		if (events.isEmpty()) {
+			return;
+		}
+
+		final Consumer<GarbageCollectionEvent<K>> cleaner =
+				(final GarbageCollectionEvent<K> event) -> cleanOldMutations(event.getKey(), event.getVersion());
+		if (collector == null) {
+			events.forEach(cleaner);
+		} else {
+			collector.clean(events, cleaner);
+		}
+
+		FCHashMapStatistics.updateGCMicros((System.nanoTime() - start) / 1_000.0);
 	}
 
 	/**
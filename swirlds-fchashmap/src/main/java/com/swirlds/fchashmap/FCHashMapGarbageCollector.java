@@ -0,0 +1,227 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.fchashmap.internal.GarbageCollectionEvent;
+import com.swirlds.logging.payloads.GarbageCollectionQueuePayload;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+
+/**
+ * Performs {@link FCHashMap} garbage collection on a dedicated pool of background threads, so that releasing a copy
+ * does not stall the releasing thread. The events that need to be cleaned are partitioned by the hash code of their
+ * keys and the partitions are cleaned in parallel. All events for a given key are handled by the same thread, in the
+ * order they were registered.
+ * <p>
+ * If more released copies are waiting than {@link FCHashMapSettings#getMaximumGCQueueSize()}, garbage collection is
+ * done on the releasing thread instead. This applies backpressure to the thread that creates and releases copies.
+ */
+final class FCHashMapGarbageCollector {
+
+	private static final Logger logger = LogManager.getLogger(FCHashMapGarbageCollector.class);
+
+	/**
+	 * Batches with fewer keys than this per thread are not worth splitting.
+	 */
+	private static final int MINIMUM_PARTITION_SIZE = 256;
+
+	/**
+	 * The collector shared by all maps, null until it is first needed or if background collection is disabled.
+	 */
+	private static volatile FCHashMapGarbageCollector instance;
+
+	private final ForkJoinPool pool;
+	private final int parallelism;
+	private final int maximumQueueSize;
+	private final long thresholdPeriodNanos;
+
+	/**
+	 * The number of garbage collection jobs that have been submitted and have not yet finished.
+	 */
+	private final AtomicInteger queueSize = new AtomicInteger();
+
+	/**
+	 * The last time the queue size warning was logged.
+	 */
+	private final AtomicLong lastWarningNanos;
+
+	/**
+	 * Create a new collector.
+	 *
+	 * @param threadCount
+	 * 		the number of background threads
+	 * @param maximumQueueSize
+	 * 		the number of jobs that may wait before collection is done on the releasing thread
+	 * @param thresholdPeriod
+	 * 		the minimum amount of time between two warnings about the queue size
+	 */
+	FCHashMapGarbageCollector(final int threadCount, final int maximumQueueSize, final Duration thresholdPeriod) {
+		if (threadCount <= 0) {
+			throw new IllegalArgumentException("threadCount must be positive");
+		}
+		this.parallelism = threadCount;
+		this.maximumQueueSize = maximumQueueSize;
+		this.thresholdPeriodNanos = thresholdPeriod.toNanos();
+		this.lastWarningNanos = new AtomicLong(System.nanoTime() - thresholdPeriodNanos);
+
+		final Thread.UncaughtExceptionHandler exceptionHandler = (t, ex) ->
+				logger.error(EXCEPTION.getMarker(), "Uncaught exception during FCHashMap garbage collection", ex);
+		this.pool = new ForkJoinPool(threadCount, new ThreadConfiguration()
+				.setDaemon(true)
+				.setComponent("fchashmap")
+				.setThreadName("garbage-collector")
+				.setExceptionHandler(exceptionHandler)
+				.buildForkJoinFactory(), exceptionHandler, false);
+	}
+
+	/**
+	 * Get the collector shared by all maps.
+	 *
+	 * @return the collector, or null if garbage collection should be done on the releasing thread
+	 */
+	static FCHashMapGarbageCollector getInstance() {
+		FCHashMapGarbageCollector collector = instance;
+		if (collector == null) {
+			final FCHashMapSettings settings = FCHashMapSettingsFactory.get();
+			if (settings.getGCThreadCount() <= 0) {
+				return null;
+			}
+			synchronized (FCHashMapGarbageCollector.class) {
+				collector = instance;
+				if (collector == null) {
+					collector = new FCHashMapGarbageCollector(settings.getGCThreadCount(),
+							settings.getMaximumGCQueueSize(), settings.getGCQueueThresholdPeriod());
+					instance = collector;
+				}
+			}
+		}
+		return collector;
+	}
+
+	/**
+	 * Get the number of garbage collection jobs waiting in the shared collector.
+	 *
+	 * @return the number of jobs, 0 if there is no background collector
+	 */
+	static int getSharedQueueSize() {
+		final FCHashMapGarbageCollector collector = instance;
+		return collector == null ? 0 : collector.getQueueSize();
+	}
+
+	/**
+	 * @return the number of garbage collection jobs that have been submitted and have not yet finished
+	 */
+	int getQueueSize() {
+		return queueSize.get();
+	}
+
+	/**
+	 * Submit a garbage collection job.
+	 *
+	 * @param job
+	 * 		the job to run
+	 * @return true if the job was accepted, false if the queue is full and the caller must run the job itself
+	 */
+	boolean submit(final Runnable job) {
+		if (queueSize.get() >= maximumQueueSize) {
+			logQueueSize();
+			return false;
+		}
+
+		queueSize.incrementAndGet();
+		pool.execute(() -> {
+			try {
+				job.run();
+			} finally {
+				queueSize.decrementAndGet();
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Clean a batch of garbage collection events, partitioning them by the hash code of their keys and cleaning the
+	 * partitions in parallel. Events for the same key are always cleaned by the same thread, in the order they appear
+	 * in the batch. Returns when all events have been cleaned. May be called from a job of this collector or from any
+	 * other thread.
+	 *
+	 * @param events
+	 * 		the events to clean
+	 * @param cleaner
+	 * 		cleans a single event
+	 * @param <K>
+	 * 		the type of the key
+	 */
+	<K> void clean(final List<GarbageCollectionEvent<K>> events, final Consumer<GarbageCollectionEvent<K>> cleaner) {
+		final int partitionCount = Math.min(parallelism, events.size() / MINIMUM_PARTITION_SIZE);
+		if (partitionCount <= 1) {
+			events.forEach(cleaner);
+			return;
+		}
+
+		final List<List<GarbageCollectionEvent<K>>> partitions = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++) {
+			partitions.add(new ArrayList<>(events.size() / partitionCount + 1));
+		}
+		for (final GarbageCollectionEvent<K> event : events) {
+			partitions.get(Math.floorMod(event.getKey().hashCode(), partitionCount)).add(event);
+		}
+
+		final List<RecursiveAction> tasks = new ArrayList<>(partitionCount);
+		for (final List<GarbageCollectionEvent<K>> partition : partitions) {
+			tasks.add(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					partition.forEach(cleaner);
+				}
+			});
+		}
+
+		if (ForkJoinTask.getPool() == pool) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+		}
+	}
+
+	private void logQueueSize() {
+		final long now = System.nanoTime();
+		final long last = lastWarningNanos.get();
+		if (now - last >= thresholdPeriodNanos && lastWarningNanos.compareAndSet(last, now)) {
+			final int size = queueSize.get();
+			logger.error(EXCEPTION.getMarker(), () -> new GarbageCollectionQueuePayload(size).toString());
+		}
+	}
+}
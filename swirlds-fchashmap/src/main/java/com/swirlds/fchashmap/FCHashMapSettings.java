@@ -33,6 +33,12 @@ public interface FCHashMapSettings {
 	 */
 	Duration getGCQueueThresholdPeriod();
 
+	/**
+	 * Get the number of threads used to garbage collect released copies in the background. If 0 then garbage
+	 * collection is done on the thread that releases a copy.
+	 */
+	int getGCThreadCount();
+
 	/**
 	 * Is the archival of FCHashMap enabled?
 	 */
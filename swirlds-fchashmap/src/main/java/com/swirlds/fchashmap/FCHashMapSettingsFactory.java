@@ -61,6 +61,11 @@ public final class FCHashMapSettingsFactory {
 				return Duration.ofMinutes(1);
 			}
 
+			@Override
+			public int getGCThreadCount() {
+				return 0;
+			}
+
 			@Override
 			public boolean isArchiveEnabled() {
 				return true;
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap;
+
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.CommonUtils;
+
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_9_6;
+
+/**
+ * Singleton factory for loading and registering {@link FCHashMap} statistics.
+ */
+public final class FCHashMapStatistics {
+
+	public static final String FCHASHMAP_CATEGORY = "FCHashMap";
+
+	/**
+	 * avg time taken to garbage collect the released copies of an FCHashMap (in microseconds)
+	 */
+	private static final RunningAverageMetric.Config GC_MICROS_CONFIG =
+			new RunningAverageMetric.Config(FCHASHMAP_CATEGORY, "fchmGCMicroSec")
+					.withDescription("avg time taken to garbage collect the released copies of an FCHashMap " +
+							"(in microseconds)")
+					.withFormat(FORMAT_9_6);
+	private static RunningAverageMetric gcMicros;
+
+	/**
+	 * number of FCHashMap garbage collection jobs waiting in the background collector
+	 */
+	private static final FunctionGauge.Config<Integer> GC_QUEUE_SIZE_CONFIG =
+			new FunctionGauge.Config<>(FCHASHMAP_CATEGORY, "fchmGCQueueSize",
+					FCHashMapGarbageCollector::getSharedQueueSize)
+					.withDescription("number of FCHashMap garbage collection jobs waiting in the background collector")
+					.withFormat("%d");
+
+	/**
+	 * Default private constructor to ensure that this may not be instantiated.
+	 */
+	private FCHashMapStatistics() {
+
+	}
+
+	/**
+	 * Registers the {@link FCHashMap} statistics.
+	 *
+	 * @param metrics
+	 * 		the metrics-system
+	 */
+	public static void register(final Metrics metrics) {
+		CommonUtils.throwArgNull(metrics, "metrics");
+		gcMicros = metrics.getOrCreate(GC_MICROS_CONFIG);
+		metrics.getOrCreate(GC_QUEUE_SIZE_CONFIG);
+	}
+
+	/**
+	 * Update the average time taken to garbage collect released copies
+	 *
+	 * @param value
+	 * 		the value to record
+	 */
+	static void updateGCMicros(final double value) {
+		if (gcMicros != null) {
+			gcMicros.update(value);
+		}
+	}
+}
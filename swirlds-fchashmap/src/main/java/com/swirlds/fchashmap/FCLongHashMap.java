@@ -0,0 +1,637 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap;
+
+import com.swirlds.common.FastCopyable;
+import com.swirlds.common.exceptions.ReferenceCountException;
+import com.swirlds.fchashmap.internal.Mutation;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <p>
+ * A map with primitive {@code long} keys that provides the same {@link FastCopyable} semantics as {@link FCHashMap}.
+ * </p>
+ *
+ * <p>
+ * An {@code FCHashMap<Long, V>} pays for a boxed key, a hash map node and a {@link Mutation} for every entry, plus a
+ * garbage collection event object for every key modified in a new version. This map instead keeps the keys in an
+ * open addressing table backed by a {@code long[]}, stores the newest value and version of every key inline in
+ * parallel arrays, and only allocates {@link Mutation} objects for the older versions of keys that are still
+ * needed by unreleased copies. Pending garbage collection work is kept in a pair of {@code long[]} ring buffers.
+ * </p>
+ *
+ * <p>
+ * All operations are thread safe. Modifications of the mutable copy and garbage collection are serialized by a lock
+ * shared by all copies, reads from any copy are optimistic and only wait for that lock if they race with a
+ * modification. {@link #size} may return incorrect results if executed concurrently with an operation that modifies
+ * the size.
+ * </p>
+ *
+ * <p>
+ * It is not thread safe to perform read/write operations on a copy of this this map while that copy is being released.
+ * </p>
+ *
+ * @param <V>
+ * 		the type of the value
+ */
+public class FCLongHashMap<V> implements FastCopyable {
+
+	private static final int MINIMUM_CAPACITY = 16;
+
+	/**
+	 * The table is doubled in size when more than this fraction of its slots are used.
+	 */
+	private static final double LOAD_FACTOR = 0.6;
+
+	private static final int INITIAL_GC_CAPACITY = 64;
+
+	/**
+	 * Monotonically increasing version number that is incremented every time copy() is called on the mutable copy.
+	 */
+	private final long version;
+
+	/**
+	 * Is this object a mutable object?
+	 */
+	private boolean immutable;
+
+	/**
+	 * Contains the data of this map and all copies that have not been garbage collected.
+	 */
+	private final Table<V> table;
+
+	/**
+	 * The copies of this map that have not been garbage collected, ordered from oldest to newest.
+	 */
+	private final Deque<FCLongHashMap<V>> copies;
+
+	/**
+	 * The number of entries in this copy of the map.
+	 */
+	private volatile int size;
+
+	private final AtomicBoolean released = new AtomicBoolean(false);
+
+	/**
+	 * Create a new FCLongHashMap.
+	 */
+	public FCLongHashMap() {
+		this(0);
+	}
+
+	/**
+	 * Create a new FCLongHashMap.
+	 *
+	 * @param capacity
+	 * 		the number of entries the map can hold before its table needs to grow
+	 */
+	public FCLongHashMap(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity must not be negative");
+		}
+		table = new Table<>(capacity);
+		copies = new ConcurrentLinkedDeque<>();
+
+		immutable = false;
+		version = 0;
+		size = 0;
+
+		copies.add(this);
+	}
+
+	/**
+	 * Copy constructor.
+	 *
+	 * @param that
+	 * 		the map to copy
+	 */
+	protected FCLongHashMap(final FCLongHashMap<V> that) {
+		table = that.table;
+		copies = that.copies;
+		size = that.size;
+
+		immutable = false;
+		that.immutable = true;
+		version = that.version + 1;
+
+		copies.add(this);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public FCLongHashMap<V> copy() {
+		throwIfImmutable();
+		throwIfDestroyed();
+		return new FCLongHashMap<>(this);
+	}
+
+	/**
+	 * Exposed for testing. Get the total number of copies that have not been fully garbage collected (including
+	 * copies not eligible for garbage collection).
+	 *
+	 * @return the number of un-garbage-collected copies
+	 */
+	protected int copyCount() {
+		return copies.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isImmutable() {
+		return this.immutable;
+	}
+
+	/**
+	 * Use this to clean up resources held by this copy.
+	 * Failure to call delete on a copy before it is garbage collected will result in a memory leak.
+	 *
+	 * If background garbage collection is enabled (see {@link FCHashMapSettings#getGCThreadCount()}) then the
+	 * versions no longer needed are removed asynchronously, otherwise they are removed before this method returns.
+	 *
+	 * Not thread safe.
+	 * Must not be called at the same time another thread is attempting to read from this copy.
+	 */
+	@Override
+	public synchronized boolean release() {
+		final boolean previouslyReleased = released.getAndSet(true);
+		if (previouslyReleased) {
+			throw new ReferenceCountException("this object has already been released");
+		}
+
+		final FCHashMapGarbageCollector collector = FCHashMapGarbageCollector.getInstance();
+		if (collector == null || !collector.submit(this::doGarbageCollection)) {
+			doGarbageCollection();
+		}
+		return true;
+	}
+
+	/**
+	 * Check to see if this copy has been deleted.
+	 */
+	@Override
+	public boolean isDestroyed() {
+		return released.get();
+	}
+
+	/**
+	 * Remove released copies from the front of the list of copies and clean the versions they no longer need.
+	 */
+	private void doGarbageCollection() {
+		final long start = System.nanoTime();
+		final long stamp = table.lock.writeLock();
+		try {
+			final Iterator<FCLongHashMap<V>> iterator = copies.iterator();
+			while (iterator.hasNext()) {
+				final FCLongHashMap<V> copy = iterator.next();
+				if (!copy.isDestroyed()) {
+					// Stop when the first un-destroyed copy is discovered.
+					break;
+				}
+				table.collect(copy.version);
+				iterator.remove();
+			}
+		} finally {
+			table.lock.unlockWrite(stamp);
+		}
+		FCHashMapStatistics.updateGCMicros((System.nanoTime() - start) / 1_000.0);
+	}
+
+	/**
+	 * Returns the version of the copy.
+	 *
+	 * @return the version of the copy
+	 */
+	public long version() {
+		return version;
+	}
+
+	/**
+	 * Get the number of entries in this copy of the map.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return true if this copy of the map contains no entries
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Check if this copy of the map contains a key.
+	 *
+	 * @param key
+	 * 		the key to look up
+	 * @return true if the key is in the map at this version
+	 */
+	public boolean containsKey(final long key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Get the value of a key at the version of this copy. Map deletion and reads against the map must be externally
+	 * synchronized.
+	 *
+	 * @param key
+	 * 		the key to look up
+	 * @return the value, or null if the key is not in the map at this version
+	 */
+	public V get(final long key) {
+		final StampedLock lock = table.lock;
+		final long optimisticStamp = lock.tryOptimisticRead();
+		if (optimisticStamp != 0) {
+			final V value = table.getOptimistic(key, version, optimisticStamp);
+			if (lock.validate(optimisticStamp)) {
+				return value;
+			}
+		}
+
+		final long stamp = lock.readLock();
+		try {
+			return table.get(key, version);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Associate a value with a key in the mutable copy of the map.
+	 *
+	 * @param key
+	 * 		the key
+	 * @param value
+	 * 		the value, must not be null
+	 * @return the previous value of the key, or null if the key was not in the map
+	 */
+	public V put(final long key, final V value) {
+		if (value == null) {
+			throw new NullPointerException("FCLongHashMap does not support null values");
+		}
+		return mutate(key, value);
+	}
+
+	/**
+	 * Remove a key from the mutable copy of the map.
+	 *
+	 * @param key
+	 * 		the key to remove
+	 * @return the value of the key that was removed, or null if the key was not in the map
+	 */
+	public V remove(final long key) {
+		return mutate(key, null);
+	}
+
+	/**
+	 * Update the value for a key at this version.
+	 *
+	 * @param key
+	 * 		the key associated that will hold the new value
+	 * @param value
+	 * 		the new value, or null if this operation signifies a deletion.
+	 * @return the original value, or null if originally deleted
+	 */
+	private V mutate(final long key, final V value) {
+		throwIfImmutable();
+
+		final V originalValue;
+		final long stamp = table.lock.writeLock();
+		try {
+			originalValue = table.mutate(key, value, version);
+		} finally {
+			table.lock.unlockWrite(stamp);
+		}
+
+		if (originalValue == null && value != null) {
+			size++;
+		} else if (originalValue != null && value == null) {
+			size--;
+		}
+
+		return originalValue;
+	}
+
+	/**
+	 * The data shared by all copies of the map. Keys are placed with linear probing, and removed with backward shift
+	 * deletion so that no tombstones are needed. All methods must be called while holding the write lock of
+	 * {@link #lock}, except for {@link #get(long, long)} which may also be called while holding the read lock, and
+	 * {@link #getOptimistic(long, long, long)}.
+	 *
+	 * @param <V>
+	 * 		the type of the value
+	 */
+	private static final class Table<V> {
+
+		private static final long EMPTY = -1;
+
+		final StampedLock lock = new StampedLock();
+
+		private int mask;
+		private int used;
+		private int resizeThreshold;
+
+		private long[] keys;
+
+		/**
+		 * The newest value of each key, null if the newest mutation is a deletion.
+		 */
+		private Object[] values;
+
+		/**
+		 * The version of the newest mutation of each key, or {@link #EMPTY} for unused slots.
+		 */
+		private long[] versions;
+
+		/**
+		 * The older mutations of each key, newest first. Null for keys that only have a single version.
+		 */
+		private Mutation<V>[] older;
+
+		/**
+		 * Keys that require garbage collection, with the version that must be released before they can be cleaned.
+		 * Both arrays form a ring buffer ordered by version.
+		 */
+		private long[] gcKeys = new long[INITIAL_GC_CAPACITY];
+		private long[] gcVersions = new long[INITIAL_GC_CAPACITY];
+		private int gcHead;
+		private int gcCount;
+
+		Table(final int capacity) {
+			allocate(tableSizeFor(capacity));
+		}
+
+		@SuppressWarnings("unchecked")
+		private void allocate(final int tableSize) {
+			mask = tableSize - 1;
+			resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+			keys = new long[tableSize];
+			values = new Object[tableSize];
+			versions = new long[tableSize];
+			Arrays.fill(versions, EMPTY);
+			older = new Mutation[tableSize];
+		}
+
+		private static int tableSizeFor(final int capacity) {
+			final int required = (int) Math.ceil(capacity / LOAD_FACTOR);
+			if (required <= MINIMUM_CAPACITY) {
+				return MINIMUM_CAPACITY;
+			}
+			return Integer.highestOneBit(required - 1) << 1;
+		}
+
+		private static int hash(final long key) {
+			final long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+
+		/**
+		 * @return the slot holding the key, or {@code -(insertionSlot + 1)} if the key is not in the table
+		 */
+		private int find(final long key) {
+			int slot = hash(key) & mask;
+			while (versions[slot] != EMPTY) {
+				if (keys[slot] == key) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return -(slot + 1);
+		}
+
+		V get(final long key, final long version) {
+			return get(keys, values, versions, older, key, version);
+		}
+
+		/**
+		 * Get the value of a key without holding a lock. The arrays are only indexed once the stamp confirms that
+		 * they all belong to the same table, so a resize can not cause an out of bounds read. Their contents may
+		 * still change during the read, so the result must be discarded unless the stamp is valid afterwards.
+		 *
+		 * @param stamp
+		 * 		the stamp of an optimistic read of {@link #lock}
+		 * @return the value, or null if the key is not in the map at this version or the stamp is no longer valid
+		 */
+		V getOptimistic(final long key, final long version, final long stamp) {
+			final long[] keys = this.keys;
+			final Object[] values = this.values;
+			final long[] versions = this.versions;
+			final Mutation<V>[] older = this.older;
+			if (!lock.validate(stamp)) {
+				return null;
+			}
+			return get(keys, values, versions, older, key, version);
+		}
+
+		/**
+		 * Look up a key in the arrays of a table. Probing stops after visiting every slot, so a read that races with
+		 * a modification always terminates.
+		 */
+		@SuppressWarnings("unchecked")
+		private static <V> V get(
+				final long[] keys,
+				final Object[] values,
+				final long[] versions,
+				final Mutation<V>[] older,
+				final long key,
+				final long version) {
+
+			final int mask = keys.length - 1;
+			int slot = hash(key) & mask;
+			long slotVersion = EMPTY;
+			for (int probes = 0; probes < keys.length; probes++) {
+				slotVersion = versions[slot];
+				if (slotVersion == EMPTY || keys[slot] == key) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			if (slotVersion == EMPTY || keys[slot] != key) {
+				return null;
+			}
+			if (slotVersion <= version) {
+				return (V) values[slot];
+			}
+			for (Mutation<V> mutation = older[slot]; mutation != null; mutation = mutation.getPrevious()) {
+				if (mutation.getVersion() <= version) {
+					return mutation.getValue();
+				}
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		V mutate(final long key, final V value, final long version) {
+			int slot = find(key);
+			if (slot < 0) {
+				if (value == null) {
+					return null;
+				}
+				if (used >= resizeThreshold) {
+					resize();
+					slot = find(key);
+				}
+				slot = -(slot + 1);
+				keys[slot] = key;
+				values[slot] = value;
+				versions[slot] = version;
+				used++;
+				return null;
+			}
+
+			final V originalValue = (V) values[slot];
+			if (versions[slot] != version) {
+				// The list of mutations now contains at least two entries. Once all copies before the current
+				// version are released the older mutations will no longer be reachable.
+				older[slot] = new Mutation<>(versions[slot], originalValue, older[slot]);
+				versions[slot] = version;
+				registerGarbageCollectionEvent(key, version - 1);
+			}
+			values[slot] = value;
+
+			if (value == null && older[slot] == null) {
+				// If the only remaining mutation is a deletion then it is safe to remove the key from the table
+				removeSlot(slot);
+			}
+			return originalValue;
+		}
+
+		private void registerGarbageCollectionEvent(final long key, final long version) {
+			if (gcCount == gcKeys.length) {
+				final int tail = gcKeys.length - gcHead;
+				final long[] newKeys = new long[gcKeys.length * 2];
+				final long[] newVersions = new long[gcKeys.length * 2];
+				System.arraycopy(gcKeys, gcHead, newKeys, 0, tail);
+				System.arraycopy(gcKeys, 0, newKeys, tail, gcHead);
+				System.arraycopy(gcVersions, gcHead, newVersions, 0, tail);
+				System.arraycopy(gcVersions, 0, newVersions, tail, gcHead);
+				gcKeys = newKeys;
+				gcVersions = newVersions;
+				gcHead = 0;
+			}
+			final int index = (gcHead + gcCount) & (gcKeys.length - 1);
+			gcKeys[index] = key;
+			gcVersions[index] = version;
+			gcCount++;
+		}
+
+		/**
+		 * Clean all keys whose garbage collection events have been unlocked by the release of a version.
+		 */
+		void collect(final long releasedVersion) {
+			while (gcCount > 0 && gcVersions[gcHead] <= releasedVersion) {
+				// Clean at the version of the event, not of the released copy, see FCHashMap.
+				cleanOldMutations(gcKeys[gcHead], gcVersions[gcHead]);
+				gcHead = (gcHead + 1) & (gcKeys.length - 1);
+				gcCount--;
+			}
+		}
+
+		private void cleanOldMutations(final long key, final long version) {
+			final int slot = find(key);
+			if (slot < 0) {
+				return;
+			}
+
+			if (versions[slot] <= version) {
+				older[slot] = null;
+			} else {
+				Mutation<V> parent = null;
+				Mutation<V> target = older[slot];
+				while (target != null) {
+					// truncate all older mutations
+					if (target.getVersion() <= version) {
+						if (parent == null) {
+							older[slot] = null;
+						} else {
+							parent.setPrevious(null);
+						}
+						break;
+					}
+					parent = target;
+					target = target.getPrevious();
+				}
+			}
+
+			if (older[slot] == null && values[slot] == null) {
+				// entry can be deleted if just a single deletion record remains
+				removeSlot(slot);
+			}
+		}
+
+		/**
+		 * Remove the key in a slot, and shift back the keys that follow it in the same probe sequence.
+		 */
+		private void removeSlot(final int slot) {
+			int gap = slot;
+			int index = slot;
+			while (true) {
+				index = (index + 1) & mask;
+				if (versions[index] == EMPTY) {
+					break;
+				}
+				final int ideal = hash(keys[index]) & mask;
+				if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+					moveSlot(index, gap);
+					gap = index;
+				}
+			}
+			versions[gap] = EMPTY;
+			values[gap] = null;
+			older[gap] = null;
+			used--;
+		}
+
+		private void moveSlot(final int from, final int to) {
+			keys[to] = keys[from];
+			values[to] = values[from];
+			versions[to] = versions[from];
+			older[to] = older[from];
+		}
+
+		private void resize() {
+			final long[] oldKeys = keys;
+			final Object[] oldValues = values;
+			final long[] oldVersions = versions;
+			final Mutation<V>[] oldOlder = older;
+
+			allocate(oldKeys.length * 2);
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldVersions[i] != EMPTY) {
+					final int slot = -(find(oldKeys[i]) + 1);
+					keys[slot] = oldKeys[i];
+					values[slot] = oldValues[i];
+					versions[slot] = oldVersions[i];
+					older[slot] = oldOlder[i];
+				}
+			}
+		}
+	}
+}
@@ -39,13 +39,16 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static com.swirlds.common.utility.CommonUtils.hex;
 
@@ -226,20 +229,13 @@ public class FCQueue<E extends FastCopyable & SerializableHashable>
 
 		final int limit = currentSize - currentRunningHashSize;
 		FCQHashAlgorithm.increaseRollingBase(limit, localHash);
-		int index = 0;
-		while (index < limit) {
-			final FCQueueNode<E> node = it.next();
-			final byte[] elementHash;
-
-			if (node.getElementHashOfHash() == null) {
-				elementHash = getHash(node.getElement());
-				node.setElementHashOfHash(elementHash);
-			} else {
-				elementHash = node.getElementHashOfHash();
+		if (limit <= FCQHashAlgorithm.CHUNK_SIZE) {
+			// a single chunk is not worth splitting, so the elements are added to the hash one by one
+			for (int index = 0; index < limit; index++) {
+				HASH_ALGORITHM.computeHash(localHash, getElementHashOfHash(it.next()), index);
 			}
-
-			HASH_ALGORITHM.computeHash(localHash, elementHash, index);
-			index++;
+		} else {
+			hashInChunks(it, limit, localHash);
 		}
 
 		synchronized (this) {
@@ -253,6 +249,53 @@ public class FCQueue<E extends FastCopyable & SerializableHashable>
 		return new ImmutableHash(hash);
 	}
 
+	/**
+	 * Add the elements added since the last hash to the hash of the queue. The elements are split into chunks of
+	 * {@link FCQHashAlgorithm#CHUNK_SIZE}, which are hashed in parallel and then added to the hash of the queue one
+	 * chunk at a time.
+	 *
+	 * @param it
+	 * 		an iterator over the nodes of the queue, starting from the tail
+	 * @param limit
+	 * 		the number of elements added since the last hash
+	 * @param localHash
+	 * 		the hash of the queue, with its rolling base already increased by {@code limit}
+	 */
+	private void hashInChunks(final Iterator<FCQueueNode<E>> it, final int limit, final byte[] localHash) {
+		final byte[][] elementHashes = new byte[limit][];
+		final List<FCQueueNode<E>> nodes = new ArrayList<>(limit);
+		for (int index = 0; index < limit; index++) {
+			nodes.add(it.next());
+		}
+
+		final int chunkCount = (limit + FCQHashAlgorithm.CHUNK_SIZE - 1) / FCQHashAlgorithm.CHUNK_SIZE;
+		final byte[][] chunkHashes = new byte[chunkCount][];
+		IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+			final int from = chunk * FCQHashAlgorithm.CHUNK_SIZE;
+			final int to = Math.min(limit, from + FCQHashAlgorithm.CHUNK_SIZE);
+			for (int index = from; index < to; index++) {
+				elementHashes[index] = getElementHashOfHash(nodes.get(index));
+			}
+			chunkHashes[chunk] = HASH_ALGORITHM.computeChunkHash(elementHashes, from, to);
+		});
+
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			HASH_ALGORITHM.computeHash(localHash, chunkHashes[chunk], chunk * FCQHashAlgorithm.CHUNK_SIZE);
+		}
+	}
+
+	/**
+	 * Get the hash of the hash of a node's element, computing and caching it if needed.
+	 */
+	private byte[] getElementHashOfHash(final FCQueueNode<E> node) {
+		byte[] elementHash = node.getElementHashOfHash();
+		if (elementHash == null) {
+			elementHash = getHash(node.getElement());
+			node.setElementHashOfHash(elementHash);
+		}
+		return elementHash;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
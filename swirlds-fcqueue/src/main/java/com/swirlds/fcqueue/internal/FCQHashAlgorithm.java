@@ -28,7 +28,26 @@ public enum FCQHashAlgorithm {
 
 	public static final long HASH_RADIX = 3;
 
+	/**
+	 * The number of element hashes that are combined into one chunk hash by {@link #computeChunkHash(byte[][], int,
+	 * int)}. Chunks are small enough to be hashed in parallel and large enough to keep the final combine cheap.
+	 */
+	public static final int CHUNK_SIZE = 1024;
+
 	private static final int BYTE_BLOCK = 8;
+
+	/**
+	 * Powers of {@link #HASH_RADIX} for all exponents used within a chunk, so the rolling hash does not need to
+	 * compute them for every element.
+	 */
+	private static final long[] RADIX_POWERS = new long[CHUNK_SIZE + 1];
+
+	static {
+		RADIX_POWERS[0] = 1;
+		for (int i = 1; i < RADIX_POWERS.length; i++) {
+			RADIX_POWERS[i] = RADIX_POWERS[i - 1] * HASH_RADIX;
+		}
+	}
 	private final TriConsumer<byte[], byte[], Integer> hashCalculator;
 	private final TriConsumer<byte[], byte[], Integer> removalHashCalculator;
 
@@ -46,6 +65,29 @@ public enum FCQHashAlgorithm {
 		this.removalHashCalculator.accept(hash, elementHash, exponent);
 	}
 
+	/**
+	 * Combine a run of element hashes into a single chunk hash. The result is the hash that {@link
+	 * #computeHash(byte[], byte[], int)} would produce when starting from zero and adding the element hashes with the
+	 * exponents 0, 1, 2, and so on. Because both the sum and the rolling hash are linear, adding the chunk hash to a
+	 * queue hash with {@code computeHash(hash, chunkHash, exponent)} is the same as adding each element hash with the
+	 * exponent of the first element plus its position in the run.
+	 *
+	 * @param elementHashes
+	 * 		the element hashes
+	 * @param from
+	 * 		the index of the first element hash of the run, inclusive
+	 * @param to
+	 * 		the index of the last element hash of the run, exclusive
+	 * @return the chunk hash
+	 */
+	public byte[] computeChunkHash(final byte[][] elementHashes, final int from, final int to) {
+		final byte[] chunkHash = new byte[elementHashes[from].length];
+		for (int i = from; i < to; i++) {
+			computeHash(chunkHash, elementHashes[i], i - from);
+		}
+		return chunkHash;
+	}
+
 	/**
 	 * This is treated as a "set", not "list", so changing the order does not change the hash.
 	 * The hash is the sum of the hashes of the elements, modulo 2^384.
@@ -182,6 +224,10 @@ public enum FCQHashAlgorithm {
 	 * @return x^y
 	 */
 	private static long power(long x, long y) {
+		if (x == HASH_RADIX && y < RADIX_POWERS.length) {
+			return RADIX_POWERS[(int) y];
+		}
+
 		long res = 1;
 
 		while (y > 0) {
@@ -17,11 +17,13 @@
 package com.swirlds.jasperdb;
 
 import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.common.metrics.IntegerGauge;
 import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.utility.CommonUtils;
 
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_3_1;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_9_6;
 
 /**
@@ -73,6 +75,9 @@ public class JasperDbStatistics {
 	private DoubleGauge leafPathToHashKeyValueStoreMediumMergeTime;
 	private DoubleGauge leafPathToHashKeyValueStoreLargeMergeTime;
 
+	/** The percentage of the memory mapped indexes that has been loaded into memory */
+	private volatile double indexWarmUpPercent = 100;
+
 	/**
 	 * Create a new statistics object for a JPDB instances.
 	 *
@@ -218,6 +223,12 @@ public class JasperDbStatistics {
 				"leafHKVLargeMergeTime_" + label,
 				LARGE_MERGE_PREFIX + LEAF_PATH_TO_HKV_STORE_MIDDLE + label + MERGE_SUFFIX
 		);
+		metrics.getOrCreate(
+				new FunctionGauge.Config<>(STAT_CATEGORY, "indexWarmUpPercent_" + label, () -> indexWarmUpPercent)
+						.withDescription("The percentage of the memory mapped indexes for " + label +
+								" that has been loaded into memory")
+						.withFormat(FORMAT_3_1)
+		);
 	}
 
 	/**
@@ -265,6 +276,16 @@ public class JasperDbStatistics {
 		}
 	}
 
+	/**
+	 * Set the current value for the IndexWarmUpPercent stat
+	 *
+	 * @param value
+	 * 		the value to set
+	 */
+	public void setIndexWarmUpPercent(final double value) {
+		indexWarmUpPercent = value;
+	}
+
 	/**
 	 * Set the current value for the InternalHashesStoreFileCount stat
 	 *
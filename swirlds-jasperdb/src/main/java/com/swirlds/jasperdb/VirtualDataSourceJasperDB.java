@@ -62,6 +62,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Objects;
@@ -220,6 +221,11 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 	 */
 	private final ExecutorService storeKeyToPathExecutor;
 
+	/**
+	 * Thread pool loading memory mapped indexes into memory, null if indexes are not memory mapped
+	 */
+	private final ExecutorService indexWarmUpExecutor;
+
 	/**
 	 * Thread pool creating snapshots, it is unbounded in threads, but we use at most 7
 	 */
@@ -391,11 +397,13 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 
 		// create path to disk location index
 		final boolean forceIndexRebuilding = settings.isIndexRebuildingEnforced();
+		final boolean lazyIndexLoading = settings.isLazyIndexLoadingEnabled();
 		final LongList longListInternalNodes;
 		if (preferDiskBasedIndexes) {
 			longListInternalNodes = new LongListDisk(dbPaths.pathToDiskLocationInternalNodesFile);
 		} else if (Files.exists(dbPaths.pathToDiskLocationInternalNodesFile) && !forceIndexRebuilding) {
-			longListInternalNodes = new LongListOffHeap(dbPaths.pathToDiskLocationInternalNodesFile);
+			longListInternalNodes = new LongListOffHeap(dbPaths.pathToDiskLocationInternalNodesFile,
+					lazyIndexLoading);
 		} else {
 			longListInternalNodes = new LongListOffHeap();
 		}
@@ -403,7 +411,7 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 		if (preferDiskBasedIndexes) {
 			longListLeafNodes = new LongListDisk(dbPaths.pathToDiskLocationLeafNodesFile);
 		} else if (Files.exists(dbPaths.pathToDiskLocationLeafNodesFile) && !forceIndexRebuilding) {
-			longListLeafNodes = new LongListOffHeap(dbPaths.pathToDiskLocationLeafNodesFile);
+			longListLeafNodes = new LongListOffHeap(dbPaths.pathToDiskLocationLeafNodesFile, lazyIndexLoading);
 		} else {
 			longListLeafNodes = new LongListOffHeap();
 		}
@@ -436,7 +444,8 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 			isLongKeyMode = true;
 			objectKeyToPath = null;
 			if (Files.exists(dbPaths.longKeyToPathFile)) {
-				longKeyToPath = new LongListBufferedWrapper(new LongListOffHeap(dbPaths.longKeyToPathFile));
+				longKeyToPath = new LongListBufferedWrapper(
+						new LongListOffHeap(dbPaths.longKeyToPathFile, lazyIndexLoading));
 				// we do not need callback longKeyToPath was written to disk, so we can load it directly
 				loadedDataCallback = null;
 			} else {
@@ -476,6 +485,20 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 
 		statistics = new JasperDbStatistics(label, isLongKeyMode);
 
+		// load memory mapped indexes into memory in the background, they can already be used while this happens
+		if (lazyIndexLoading) {
+			indexWarmUpExecutor = Executors.newSingleThreadExecutor(new ThreadConfiguration()
+					.setComponent(JASPER_DB_COMPONENT)
+					.setThreadGroup(threadGroup)
+					.setThreadName("Index Warm Up")
+					.setExceptionHandler((t, ex) ->
+							LOG.error(EXCEPTION.getMarker(), "[{}] Uncaught exception during index warm up", label, ex))
+					.buildFactory());
+			startIndexWarmUp();
+		} else {
+			indexWarmUpExecutor = null;
+		}
+
 		LOG.info(JASPER_DB.getMarker(),
 				"Created JDB [{}] with store path '{}', maxNumKeys = {}, hash RAM/disk cutoff = {}",
 				label, storageDir, maxNumOfKeys, internalHashesRamToDiskThreshold);
@@ -819,6 +842,10 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 	public void close() throws IOException {
 		if (!closed.getAndSet(true)) {
 			try {
+				// stop loading indexes that are about to be closed
+				if (indexWarmUpExecutor != null) {
+					indexWarmUpExecutor.shutdownNow();
+				}
 				// stop merging
 				stopBackgroundCompaction();
 				// shut down all four DB threads
@@ -1066,6 +1093,46 @@ public class VirtualDataSourceJasperDB<K extends VirtualKey<? super K>, V extend
 				leafDataFileSizeStats.getSum() * Units.BYTES_TO_MEBIBYTES);
 	}
 
+	/**
+	 * Load the memory mapped parts of all indexes into memory on the index warm up thread, updating the warm up
+	 * statistic as each chunk is loaded.
+	 */
+	private void startIndexWarmUp() {
+		final List<LongList> indexes = new ArrayList<>();
+		indexes.add(pathToDiskLocationInternalNodes.getWrappedLongList());
+		indexes.add(pathToDiskLocationLeafNodes.getWrappedLongList());
+		if (longKeyToPath != null) {
+			indexes.add(longKeyToPath.getWrappedLongList());
+		}
+		if (objectKeyToPath != null) {
+			indexes.add(objectKeyToPath.getBucketIndexToBucketLocation().getWrappedLongList());
+		}
+		final List<LongListOffHeap> mappedIndexes = indexes.stream()
+				.filter(index -> index instanceof LongListOffHeap offHeap && offHeap.getMappedBytes() > 0)
+				.map(LongListOffHeap.class::cast)
+				.toList();
+		final long bytesToLoad = mappedIndexes.stream().mapToLong(LongListOffHeap::getMappedBytes).sum();
+		if (bytesToLoad == 0) {
+			indexWarmUpExecutor.shutdown();
+			return;
+		}
+		statistics.setIndexWarmUpPercent(0);
+		indexWarmUpExecutor.execute(() -> {
+			final long start = System.currentTimeMillis();
+			final AtomicLong loadedBytes = new AtomicLong();
+			for (final LongListOffHeap index : mappedIndexes) {
+				index.warmUp(chunkBytes ->
+						statistics.setIndexWarmUpPercent(100.0 * loadedBytes.addAndGet(chunkBytes) / bytesToLoad));
+			}
+			if (!Thread.currentThread().isInterrupted()) {
+				LOG.info(JASPER_DB.getMarker(), "[{}] Loaded {} of memory mapped indexes in {} ms",
+						label, DataFileCommon.formatSizeBytes(bytesToLoad), System.currentTimeMillis() - start);
+			}
+		});
+		// let the thread end once the indexes are loaded
+		indexWarmUpExecutor.shutdown();
+	}
+
 	/**
 	 * Shutdown threads if they are running and wait for them to finish
 	 *
@@ -28,10 +28,12 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
 
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 
@@ -74,6 +76,12 @@ public final class LongListOffHeap extends LongList implements Closeable {
 	 */
 	private final CopyOnWriteArrayList<ByteBuffer> data = new CopyOnWriteArrayList<>();
 
+	/**
+	 * The read only chunks memory mapped from the file this list was loaded from. A chunk is replaced in {@link #data}
+	 * by a copy in memory the first time it is written to, but stays in this list so it can still be warmed up.
+	 */
+	private final CopyOnWriteArrayList<MappedByteBuffer> mappedChunks = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Construct a new OffHeapLongList with the default 8Mb chunk size
 	 */
@@ -100,22 +108,80 @@ public final class LongListOffHeap extends LongList implements Closeable {
 	 * 		If there was a problem reading the file
 	 */
 	public LongListOffHeap(final Path file) throws IOException {
+		this(file, false);
+	}
+
+	/**
+	 * Create a {@link LongListOffHeap} from a file that was saved, optionally memory mapping the file instead of
+	 * reading it.
+	 *
+	 * <p>When memory mapped, every chunk that is completely contained in the file is mapped read only, so the list
+	 * can be used without reading the file first. The file is only opened for reading, it may be a read only hard link
+	 * to a saved state. The pages of mapped chunks are read from the file on first access, or by
+	 * {@link #warmUp(LongConsumer)}. The first write to a mapped chunk copies it into memory, so changes to the list
+	 * are never written to the file.</p>
+	 *
+	 * @param file
+	 * 		The file to read
+	 * @param memoryMapped
+	 * 		true to memory map the file, false to read it into memory
+	 * @throws IOException
+	 * 		If there was a problem reading the file
+	 */
+	public LongListOffHeap(final Path file, final boolean memoryMapped) throws IOException {
 		super(FileChannel.open(file, StandardOpenOption.READ));
 		// read data
 		int numOfBuffers = (int) Math.ceil((double) size() / (double) numLongsPerChunk);
 		// read data
 		for (int i = 0; i < numOfBuffers; i++) {
-			final ByteBuffer directBuffer = ByteBuffer.allocateDirect(memoryChunkSize);
+			final long chunkOffset = FILE_HEADER_SIZE + (long) i * memoryChunkSize;
+			final ByteBuffer directBuffer;
+			if (memoryMapped && chunkOffset + memoryChunkSize <= fileChannel.size()) {
+				// a mapping of a file opened for reading can not extend past its end, so only full chunks are mapped
+				final MappedByteBuffer mappedChunk =
+						fileChannel.map(FileChannel.MapMode.READ_ONLY, chunkOffset, memoryChunkSize);
+				mappedChunks.add(mappedChunk);
+				directBuffer = mappedChunk;
+			} else {
+				directBuffer = ByteBuffer.allocateDirect(memoryChunkSize);
+				JasperDBFileUtils.completelyRead(fileChannel, directBuffer, chunkOffset);
+			}
 			directBuffer.order(ByteOrder.nativeOrder());
-			JasperDBFileUtils.completelyRead(fileChannel, directBuffer);
 			directBuffer.position(0);
 			data.add(directBuffer);
 		}
-		// close file channel as we are done with it
+		// close file channel as we are done with it, mapped chunks stay valid after it is closed
 		fileChannel.close();
 		fileChannel = null;
 	}
 
+	/**
+	 * Get the number of bytes of this list that are memory mapped from the file it was loaded from.
+	 *
+	 * @return the number of mapped bytes, 0 if the file was not memory mapped
+	 */
+	public long getMappedBytes() {
+		return (long) mappedChunks.size() * memoryChunkSize;
+	}
+
+	/**
+	 * Load the pages of all memory mapped chunks into physical memory, so later reads do not have to wait for the
+	 * file to be read. This can be called while the list is being used. It returns early if the calling thread is
+	 * interrupted.
+	 *
+	 * @param loadedBytes
+	 * 		called with the size of each mapped chunk after it has been loaded
+	 */
+	public void warmUp(final LongConsumer loadedBytes) {
+		for (final MappedByteBuffer mappedChunk : mappedChunks) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			mappedChunk.load();
+			loadedBytes.accept(mappedChunk.capacity());
+		}
+	}
+
 	/**
 	 * Close and clean up resources
 	 */
@@ -124,6 +190,7 @@ public final class LongListOffHeap extends LongList implements Closeable {
 		maxIndexThatCanBeStored.set(0);
 		size.set(0);
 		data.clear();
+		mappedChunks.clear();
 	}
 
 	/**
@@ -134,7 +201,7 @@ public final class LongListOffHeap extends LongList implements Closeable {
 		checkValueAndIndex(value, index);
 		expandIfNeeded(index);
 		final int dataIndex = (int) (index / numLongsPerChunk);
-		final ByteBuffer chunk = data.get(dataIndex);
+		final ByteBuffer chunk = writableChunk(dataIndex);
 		/* The remaining lines below are equivalent to a chunk.put(subIndex, value) call
 		on a heap byte buffer. Since we have instead a direct buffer, we need to, first,
 		get its native memory address from the Buffer.address field; and, second, store
@@ -153,7 +220,7 @@ public final class LongListOffHeap extends LongList implements Closeable {
 		checkValueAndIndex(newValue, index);
 		expandIfNeeded(index);
 		final int dataIndex = (int) (index / numLongsPerChunk);
-		final ByteBuffer chunk = data.get(dataIndex);
+		final ByteBuffer chunk = writableChunk(dataIndex);
 		/* Below would be equivalent to a compareAndSet(subIndex, oldValue, newValue)
 		call on a heap byte buffer, if such a method existed. Since we have instead a
 		direct buffer, we need to, first, get its native memory address from the
@@ -222,6 +289,35 @@ public final class LongListOffHeap extends LongList implements Closeable {
 	// =================================================================================================================
 	// Private helper methods
 
+	/**
+	 * Get a chunk that can be written to. A read only memory mapped chunk is replaced by a copy in memory the first
+	 * time this is called for it.
+	 *
+	 * @param dataIndex
+	 * 		the index of the chunk in {@link #data}
+	 * @return the chunk, never read only
+	 */
+	private ByteBuffer writableChunk(final int dataIndex) {
+		final ByteBuffer chunk = data.get(dataIndex);
+		if (!chunk.isReadOnly()) {
+			return chunk;
+		}
+		// the copy is made under a lock so only one copy of a chunk ever exists, otherwise a write to a copy that is
+		// then replaced by another copy would be lost
+		synchronized (mappedChunks) {
+			final ByteBuffer current = data.get(dataIndex);
+			if (!current.isReadOnly()) {
+				return current;
+			}
+			final ByteBuffer copy = ByteBuffer.allocateDirect(memoryChunkSize);
+			copy.order(ByteOrder.nativeOrder());
+			copy.put(current.duplicate().position(0));
+			copy.position(0);
+			data.set(dataIndex, copy);
+			return copy;
+		}
+	}
+
 	/**
 	 * Expand the available data storage if needed to allow storage of an item at newIndex
 	 *
@@ -170,8 +170,9 @@ public class HalfDiskHashMap<K extends VirtualKey<? super K>> implements AutoClo
 			// load or rebuild index
 			final boolean forceIndexRebuilding = settings.isIndexRebuildingEnforced();
 			if (Files.exists(indexFile) && !forceIndexRebuilding) {
-				bucketIndexToBucketLocation = new LongListBufferedWrapper(
-						preferDiskBasedIndexes ? new LongListDisk(indexFile) : new LongListOffHeap(indexFile));
+				bucketIndexToBucketLocation = new LongListBufferedWrapper(preferDiskBasedIndexes
+						? new LongListDisk(indexFile)
+						: new LongListOffHeap(indexFile, settings.isLazyIndexLoadingEnabled()));
 				loadedDataCallback = null;
 			} else {
 				// create new index and setup call back to rebuild
@@ -309,6 +310,15 @@ public class HalfDiskHashMap<K extends VirtualKey<? super K>> implements AutoClo
 		bucketIndexToBucketLocation.setUseOverlay(false);
 	}
 
+	/**
+	 * Get the index from bucket index to the location of the bucket on disk.
+	 *
+	 * @return the bucket index
+	 */
+	public LongListBufferedWrapper getBucketIndexToBucketLocation() {
+		return bucketIndexToBucketLocation;
+	}
+
 	/**
 	 * Get statistics for sizes of all files
 	 *
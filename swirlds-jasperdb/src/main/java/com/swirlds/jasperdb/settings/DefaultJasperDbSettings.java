@@ -48,6 +48,7 @@ public class DefaultJasperDbSettings implements JasperDbSettings {
 	public static final long DEFAULT_MAX_FILE_SIZE_BYTES = 64L * 1024 * 1024 * 1024;
 	public static final boolean DEFAULT_RECONNECT_KEY_LEAK_MITIGATION_ENABLED = false;
 	public static final boolean DEFAULT_INDEX_REBUILDING_ENFORCED = false;
+	public static final boolean DEFAULT_LAZY_INDEX_LOADING_ENABLED = false;
 
 	// These default parameters result in a bloom filter false positive rate of less than 1/1000 when 1 billion
 	// leaf nodes are transmitted during a reconnect. https://hur.st/bloomfilter/?n=1000000000&p=1.0E-3&m=&k=
@@ -223,4 +224,12 @@ public class DefaultJasperDbSettings implements JasperDbSettings {
 	public boolean isIndexRebuildingEnforced() {
 		return DEFAULT_INDEX_REBUILDING_ENFORCED;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isLazyIndexLoadingEnabled() {
+		return DEFAULT_LAZY_INDEX_LOADING_ENABLED;
+	}
 }
@@ -185,4 +185,11 @@ public interface JasperDbSettings {
 	 * rebuilding those indexes from data files,
 	 */
 	boolean isIndexRebuildingEnforced();
+
+	/**
+	 * Configuration used to speed up loading a saved state. If true, in-memory indexes stored with a saved state are
+	 * memory mapped instead of being read when a database is loaded, and are loaded into memory by a background
+	 * thread while the database is already in use.
+	 */
+	boolean isLazyIndexLoadingEnabled();
 }
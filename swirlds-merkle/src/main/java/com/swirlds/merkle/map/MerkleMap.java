@@ -35,14 +35,17 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
 import static com.swirlds.common.merkle.copy.MerklePathReplacement.getParentInPath;
 import static com.swirlds.common.merkle.copy.MerklePathReplacement.replacePath;
@@ -100,6 +103,22 @@ public class MerkleMap<K, V extends MerkleNode & Keyed<K>>
 
 	private static final int DEFAULT_INITIAL_MAP_CAPACITY = 2_000_000;
 
+	/**
+	 * The largest capacity the index is pre-sized with when it is rebuilt.
+	 */
+	private static final long MAX_INDEX_CAPACITY_HINT = 1 << 30;
+
+	/**
+	 * Trees with fewer entries than this are rebuilt on the calling thread.
+	 */
+	private static final long MINIMUM_PARALLEL_REBUILD_SIZE = 10_000;
+
+	/**
+	 * The number of subtrees per available processor that the tree is split into for a parallel rebuild. Using more
+	 * subtrees than threads evens out the work when the subtrees differ in size.
+	 */
+	private static final int REBUILD_SUBTREES_PER_THREAD = 4;
+
 	/**
 	 * Internal map to guarantee O(1) access
 	 */
@@ -822,12 +841,93 @@ public class MerkleMap<K, V extends MerkleNode & Keyed<K>>
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * <p>
+	 * Copies all of the mappings from the specified map to this map. The resulting map, including the layout of its
+	 * tree, is identical to the one produced by calling {@link #put(Object, Object)} for each mapping in iteration
+	 * order.
+	 * </p>
+	 *
+	 * <p>
+	 * The write lock is taken once for the whole batch, and the new entries are added to the tree in a single
+	 * structural pass with {@link MerkleBinaryTree#insertAll(List, Consumer)}.
+	 * </p>
 	 */
 	@Override
-	public void putAll(Map<? extends K, ? extends V> m) {
+	public void putAll(final Map<? extends K, ? extends V> m) {
+		throwIfImmutable();
 		for (final Entry<? extends K, ? extends V> entry : m.entrySet()) {
-			put(entry.getKey(), entry.getValue());
+			if (entry.getKey() == null) {
+				throw new NullPointerException("null keys are not supported");
+			}
+			if (entry.getValue() == null) {
+				throw new NullPointerException("null values are not supported");
+			}
+		}
+
+		final long stamp = writeLock();
+		try {
+			final List<V> newEntries = new ArrayList<>();
+			for (final Entry<? extends K, ? extends V> entry : m.entrySet()) {
+				final K key = entry.getKey();
+				final V value = entry.getValue();
+				if (index.containsKey(key)) {
+					replaceInternal(key, value);
+				} else {
+					if (value.getReservationCount() != 0) {
+						throw new IllegalArgumentException("Value is in another tree, can not insert");
+					}
+					value.setKey(key);
+					newEntries.add(value);
+				}
+			}
+
+			if (!newEntries.isEmpty()) {
+				// Entries inserted early in the batch may be copied when later entries push them down, so they must be
+				// in the index before the tree is modified for the copies to replace them.
+				for (final V value : newEntries) {
+					index.put(value.getKey(), value);
+				}
+				getTree().insertAll(newEntries, this::updateCache);
+				invalidateHash();
+			}
+		} finally {
+			releaseWriteLock(stamp);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Removes the mappings for all of the given keys that are present in this map. The resulting map, including the
+	 * layout of its tree, is identical to the one produced by calling {@link #remove(Object)} for each key in
+	 * iteration order.
+	 * </p>
+	 *
+	 * <p>
+	 * The write lock is taken and the hash is invalidated once for the whole batch.
+	 * </p>
+	 *
+	 * @param keys
+	 * 		the keys whose mappings are to be removed
+	 * @return the number of mappings that were removed
+	 */
+	public int removeAll(final Collection<?> keys) {
+		throwIfImmutable();
+		final long stamp = writeLock();
+		try {
+			int removed = 0;
+			for (final Object key : keys) {
+				final V entry = index.remove(key);
+				if (entry != null) {
+					getTree().delete(entry, this::updateCache);
+					removed++;
+				}
+			}
+			if (removed > 0) {
+				invalidateHash();
+			}
+			return removed;
+		} finally {
+			releaseWriteLock(stamp);
 		}
 	}
 
@@ -915,17 +1015,35 @@ public class MerkleMap<K, V extends MerkleNode & Keyed<K>>
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Rebuild the index from the entries of the tree, e.g. after the map is deserialized or reconnected. If the index
+	 * is still empty it is replaced with one sized for the tree. Large trees are split into subtrees whose entries
+	 * are inserted into the index in parallel.
 	 */
 	@Override
 	public void rebuild() {
-		final Iterator<V> entryIterator = getTree().iterator();
-		while (entryIterator.hasNext()) {
-			final V nextEntry = entryIterator.next();
-			index.put(nextEntry.getKey(), nextEntry);
+		final long start = System.nanoTime();
+		final long treeSize = getTree().size();
+
+		if (index.isEmpty() && treeSize > 0) {
+			index.release();
+			index = new FCHashMap<>((int) Math.min(treeSize, MAX_INDEX_CAPACITY_HINT));
+		}
+
+		if (treeSize < MINIMUM_PARALLEL_REBUILD_SIZE) {
+			getTree().iterator().forEachRemaining(this::updateCache);
+		} else {
+			final int subtreeCount = Runtime.getRuntime().availableProcessors() * REBUILD_SUBTREES_PER_THREAD;
+			getTree().subtreeIterators(subtreeCount).parallelStream()
+					.forEach((final Iterator<V> iterator) -> iterator.forEachRemaining(this::updateCache));
+		}
+
+		final long nanos = System.nanoTime() - start;
+		if (MerkleMapMetrics.isRegistered()) {
+			MerkleMapMetrics.updateRebuild(treeSize, nanos);
 		}
 
-		LOG.debug(RECONNECT.getMarker(), "MerkleMap Initialized [ internalMapSize = {}, treeSize = {} ]",
-				index::size, () -> getTree().size());
+		LOG.debug(RECONNECT.getMarker(),
+				"MerkleMap Initialized [ internalMapSize = {}, treeSize = {}, millis = {} ]",
+				index::size, () -> treeSize, () -> nanos / 1_000_000);
 	}
 }
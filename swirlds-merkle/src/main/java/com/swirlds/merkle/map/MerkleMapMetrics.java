@@ -58,6 +58,19 @@ public final class MerkleMapMetrics {
 					.withDescription("avg time taken to execute the MerkleMap put method (in microseconds)");
 	private static RunningAverageMetric mmPutMicroSec;
 
+	// avg time taken to rebuild the index of a MerkleMap (in milliseconds)
+	private static final RunningAverageMetric.Config MM_REBUILD_MILLIS_CONFIG =
+			new RunningAverageMetric.Config(MM_CATEGORY, "mmRebuildMillis")
+					.withDescription("avg time taken to rebuild the index of a MerkleMap (in milliseconds)");
+	private static RunningAverageMetric mmRebuildMillis;
+
+	// avg number of entries per second inserted into the index when a MerkleMap is rebuilt
+	private static final RunningAverageMetric.Config MM_REBUILD_ENTRIES_PER_SEC_CONFIG =
+			new RunningAverageMetric.Config(MM_CATEGORY, "mmRebuildEntriesPerSec")
+					.withDescription("avg number of entries per second inserted into the index when a MerkleMap is " +
+							"rebuilt");
+	private static RunningAverageMetric mmRebuildEntriesPerSec;
+
 	/**
 	 * Default private constructor to ensure that this may not be instantiated.
 	 */
@@ -85,6 +98,8 @@ public final class MerkleMapMetrics {
 		mmGfmMicroSec = metrics.getOrCreate(MM_GFM_MICRO_SEC_CONFIG);
 		mmReplaceMicroSec = metrics.getOrCreate(MM_REPLACE_MICRO_SEC_CONFIG);
 		mmPutMicroSec = metrics.getOrCreate(MM_PUT_MICRO_SEC_CONFIG);
+		mmRebuildMillis = metrics.getOrCreate(MM_REBUILD_MILLIS_CONFIG);
+		mmRebuildEntriesPerSec = metrics.getOrCreate(MM_REBUILD_ENTRIES_PER_SEC_CONFIG);
 
 		registered = true;
 	}
@@ -124,4 +139,17 @@ public final class MerkleMapMetrics {
 	public static void updateMmPutMicroSec(final long microseconds) {
 		mmPutMicroSec.update(microseconds);
 	}
+
+	/**
+	 * Update the time taken and the rate of a MerkleMap rebuild
+	 *
+	 * @param entries the number of entries in the rebuilt map
+	 * @param nanoseconds the time taken by the rebuild
+	 */
+	public static void updateRebuild(final long entries, final long nanoseconds) {
+		mmRebuildMillis.update(nanoseconds / 1_000_000.0);
+		if (nanoseconds > 0) {
+			mmRebuildEntriesPerSec.update(entries * 1_000_000_000.0 / nanoseconds);
+		}
+	}
 }
@@ -25,7 +25,9 @@ import com.swirlds.common.merkle.impl.PartialBinaryMerkleInternal;
 import com.swirlds.common.merkle.utility.MerkleLong;
 import com.swirlds.merkle.tree.internal.BitUtil;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -437,6 +439,158 @@ public class MerkleBinaryTree<T extends MerkleNode>
 		getSize().increment();
 	}
 
+	/**
+	 * <p>
+	 * Inserts a batch of leaves into the tree. The resulting tree is identical to the tree produced by calling
+	 * {@link #insert(MerkleNode, Consumer)} for each leaf in the order given.
+	 * </p>
+	 *
+	 * <p>
+	 * Inserting a leaf pushes an existing leaf one level down, and a leaf may be pushed several times during a
+	 * large batch. Instead of moving leaves one level at a time, this method computes where every pushed leaf ends
+	 * up and builds the new part of the tree in one pass. Each existing leaf that moves is copied once, directly to
+	 * its final position, and the new leaves are never copied.
+	 * </p>
+	 *
+	 * @param entries
+	 * 		the new entries, in insertion order
+	 * @param updateCache
+	 * 		a function that is used to register changes that may need to be tracked by a cache in the outer scope
+	 */
+	public void insertAll(final List<T> entries, final Consumer<T> updateCache) {
+		throwIfImmutable();
+
+		// Trees with fewer than two leaves have a special layout.
+		int firstEntry = 0;
+		while (firstEntry < entries.size() && getSize().getValue() < SIMPLE_TREE_SIZE) {
+			insert(entries.get(firstEntry), updateCache);
+			firstEntry++;
+		}
+		if (firstEntry == entries.size()) {
+			return;
+		}
+
+		final BatchInsertion<T> batch =
+				new BatchInsertion<>(entries, firstEntry, size(), size() + entries.size() - firstEntry, updateCache);
+
+		// A leaf at a given level and position is pushed down when the tree grows past 2^level + position leaves.
+		// Find the leaves of the current tree that are pushed down by this batch, the rest of the tree is untouched.
+		final long completeLevelWidth = BitUtil.findLeftMostBit(batch.originalSize);
+		final int completeLevel = Long.numberOfTrailingZeros(completeLevelWidth);
+		final long leavesBelowCompleteLevel = 2 * (batch.originalSize - completeLevelWidth);
+
+		for (long position = leavesBelowCompleteLevel / 2;
+				position < completeLevelWidth && completeLevelWidth + position < batch.finalSize; position++) {
+			pushDownLeaf(batch, completeLevel, position);
+		}
+		for (long position = 0;
+				position < leavesBelowCompleteLevel && 2 * completeLevelWidth + position < batch.finalSize;
+				position++) {
+			pushDownLeaf(batch, completeLevel + 1, position);
+		}
+
+		setSize(batch.finalSize);
+		setRightMostLeaf();
+	}
+
+	/**
+	 * Parameters of a batch insertion.
+	 *
+	 * @param entries
+	 * 		the entries being inserted
+	 * @param firstEntry
+	 * 		the index of the first entry inserted in bulk, earlier entries were inserted one at a time
+	 * @param originalSize
+	 * 		the size of the tree before the bulk insertion
+	 * @param finalSize
+	 * 		the size of the tree after the bulk insertion
+	 * @param updateCache
+	 * 		a function that is used to register leaves that are copied
+	 */
+	private record BatchInsertion<T>(
+			List<T> entries,
+			int firstEntry,
+			long originalSize,
+			long finalSize,
+			Consumer<T> updateCache) {
+
+		/**
+		 * @return the entry inserted when the tree grows from {@code size} to {@code size + 1} leaves
+		 */
+		T entryInsertedAt(final long size) {
+			return entries.get(firstEntry + (int) (size - originalSize));
+		}
+	}
+
+	/**
+	 * Replace an existing leaf with the subtree that grows in its place during a batch insertion.
+	 *
+	 * @param batch
+	 * 		the batch being inserted
+	 * @param level
+	 * 		the level of the leaf, the root is at level 0
+	 * @param position
+	 * 		the position of the leaf within its level, counting from the left
+	 */
+	private void pushDownLeaf(final BatchInsertion<T> batch, final int level, final long position) {
+		MerkleNode node = getRoot();
+		for (int bit = level - 1; bit >= 0; bit--) {
+			final MerkleTreeInternalNode parent = node.cast();
+			node = ((position >> bit) & 1) == 0 ? parent.getLeft() : parent.getRight();
+		}
+		final T leaf = node.cast();
+
+		// Take an artificial reference to the leaf to prevent it from being destroyed before it is copied.
+		leaf.reserve();
+
+		final MerkleNode[] path = replacePath(getRoot(), leaf.getRoute(), 1);
+		final MerkleTreeInternalNode parent = getParentInPath(path);
+		placeLeaf(batch, parent, findChildPositionInParent(parent, leaf), level, position, leaf, true);
+
+		leaf.release();
+	}
+
+	/**
+	 * Place a leaf at a position in the tree. If the leaf would be pushed down by a later insertion in the batch
+	 * then an internal node is created at the position instead, and the leaf is placed below it.
+	 *
+	 * @param batch
+	 * 		the batch being inserted
+	 * @param parent
+	 * 		the mutable parent of the position
+	 * @param indexInParent
+	 * 		the index of the position within the parent
+	 * @param level
+	 * 		the level of the position
+	 * @param position
+	 * 		the position within its level
+	 * @param leaf
+	 * 		the leaf that is inserted at the position
+	 * @param existingLeaf
+	 * 		true if the leaf was in the tree before the batch, such leaves are copied to their new position
+	 */
+	private void placeLeaf(
+			final BatchInsertion<T> batch,
+			final MerkleTreeInternalNode parent,
+			final int indexInParent,
+			final int level,
+			final long position,
+			final T leaf,
+			final boolean existingLeaf) {
+
+		final long pushDownSize = (1L << level) + position;
+		if (pushDownSize < batch.finalSize) {
+			final MerkleTreeInternalNode newParent = new MerkleTreeInternalNode();
+			parent.setChild(indexInParent, newParent);
+			placeLeaf(batch, newParent, 0, level + 1, 2 * position, leaf, existingLeaf);
+			placeLeaf(batch, newParent, 1, level + 1, 2 * position + 1, batch.entryInsertedAt(pushDownSize), false);
+		} else if (existingLeaf) {
+			batch.updateCache.accept(copyTreeToLocation(parent, indexInParent, leaf));
+		} else {
+			parent.setChild(indexInParent, leaf);
+		}
+	}
+
 	/**
 	 * Walks node by node from the specified node to the first leaf in the last
 	 * complete layer
@@ -558,6 +712,52 @@ public class MerkleBinaryTree<T extends MerkleNode>
 				.setDescendantFilter(MerkleBinaryTree::descendantFilter);
 	}
 
+	/**
+	 * Split the tree into disjoint subtrees and return an iterator over the leaves of each of them. The subtrees are
+	 * found by walking down the tree breadth first until there are at least {@code minimumCount} subtrees, or until
+	 * no subtree can be split any further. Together the iterators return every leaf exactly once, which allows the
+	 * leaves to be visited by several threads at the same time.
+	 *
+	 * @param minimumCount
+	 * 		the number of subtrees to split the tree into, if the tree is large enough
+	 * @return iterators over the leaves of each subtree, empty if the tree is empty
+	 */
+	public List<MerkleIterator<T>> subtreeIterators(final int minimumCount) {
+		List<MerkleNode> subtrees = new ArrayList<>();
+		if (getRoot() != null) {
+			subtrees.add(getRoot());
+		}
+
+		boolean split = true;
+		while (split && subtrees.size() < minimumCount) {
+			split = false;
+			final List<MerkleNode> next = new ArrayList<>(subtrees.size() * 2);
+			for (final MerkleNode node : subtrees) {
+				if (filter(node)) {
+					next.add(node);
+					continue;
+				}
+				split = true;
+				final MerkleInternal internal = node.asInternal();
+				for (int childIndex = 0; childIndex < internal.getNumberOfChildren(); childIndex++) {
+					final MerkleNode child = internal.getChild(childIndex);
+					if (child != null) {
+						next.add(child);
+					}
+				}
+			}
+			subtrees = next;
+		}
+
+		final List<MerkleIterator<T>> iterators = new ArrayList<>(subtrees.size());
+		for (final MerkleNode subtree : subtrees) {
+			iterators.add(new MerkleIterator<T>(subtree)
+					.setFilter(MerkleBinaryTree::filter)
+					.setDescendantFilter(MerkleBinaryTree::descendantFilter));
+		}
+		return iterators;
+	}
+
 	/**
 	 * This method is used by the iterator to ignore all of the internal nodes in the tree.
 	 *
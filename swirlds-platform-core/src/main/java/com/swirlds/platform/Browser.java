@@ -38,6 +38,7 @@ import com.swirlds.common.system.address.AddressBook;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.fchashmap.FCHashMapSettingsFactory;
+import com.swirlds.fchashmap.FCHashMapStatistics;
 import com.swirlds.jasperdb.settings.JasperDbSettingsFactory;
 import com.swirlds.logging.payloads.NodeAddressMismatchPayload;
 import com.swirlds.logging.payloads.NodeStartPayload;
@@ -825,6 +826,8 @@ public abstract class Browser {
 				new PlatformMetricsFactory()
 		);
 		CryptoMetrics.registerMetrics(metrics);
+		CryptoFactory.registerMetrics(metrics);
+		FCHashMapStatistics.register(metrics);
 
 		// Create all instances for all nodes that should run locally
 		createLocalPlatforms(appDefinition, crypto, infoSwirld, appLoader, metrics);
@@ -903,7 +906,10 @@ public abstract class Browser {
 		browserWindow = new WinBrowser();
 	}
 
-	protected static void populateSettingsCommon() {
+	/**
+	 * Populate the values in {@link SettingsCommon} from the values in {@link Settings}.
+	 */
+	public static void populateSettingsCommon() {
 		SettingsCommon.maxTransactionCountPerEvent = Settings.getInstance().getMaxTransactionCountPerEvent();
 		SettingsCommon.maxTransactionBytesPerEvent = Settings.getInstance().getMaxTransactionBytesPerEvent();
 		SettingsCommon.maxAddressSizeAllowed = Settings.getInstance().getMaxAddressSizeAllowed();
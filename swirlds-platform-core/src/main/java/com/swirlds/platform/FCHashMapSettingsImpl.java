@@ -28,6 +28,7 @@ public class FCHashMapSettingsImpl extends SubSetting implements FCHashMapSettin
 
 	public int maximumGCQueueSize = 200;
 	public Duration gcQueueThresholdPeriod = Duration.ofMinutes(1);
+	public int gcThreadCount = 0;
 	public boolean archiveEnabled = true;
 
 	/**
@@ -54,6 +55,18 @@ public class FCHashMapSettingsImpl extends SubSetting implements FCHashMapSettin
 		this.gcQueueThresholdPeriod = gcQueueThresholdPeriod;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getGCThreadCount() {
+		return gcThreadCount;
+	}
+
+	public void setGCThreadCount(final int gcThreadCount) {
+		this.gcThreadCount = gcThreadCount;
+	}
+
 	/**
 	 * Check if archival of the FCHashMap is enabled.
 	 */
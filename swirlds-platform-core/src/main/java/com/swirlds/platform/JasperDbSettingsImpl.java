@@ -29,6 +29,7 @@ import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_KEY_
 import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_KEY_SET_BLOOM_FILTER_SIZE_IN_BYTES;
 import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_BUFFER;
 import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_SIZE;
+import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_LAZY_INDEX_LOADING_ENABLED;
 import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_MAX_FILE_SIZE_BYTES;
 import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_MAX_GB_RAM_FOR_MERGING;
 import static com.swirlds.jasperdb.settings.DefaultJasperDbSettings.DEFAULT_MAX_NUMBER_OF_FILES_IN_MERGE;
@@ -67,6 +68,7 @@ public class JasperDbSettingsImpl extends SubSetting implements JasperDbSettings
 	public long keySetHalfDiskHashMapSize = DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_SIZE;
 	public int keySetHalfDiskHashMapBuffer = DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_BUFFER;
 	public boolean indexRebuildingEnforced = DEFAULT_INDEX_REBUILDING_ENFORCED;
+	public boolean lazyIndexLoadingEnabled = DEFAULT_LAZY_INDEX_LOADING_ENABLED;
 
 	/**
 	 * {@inheritDoc}
@@ -342,5 +344,13 @@ public class JasperDbSettingsImpl extends SubSetting implements JasperDbSettings
 		return indexRebuildingEnforced;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isLazyIndexLoadingEnabled() {
+		return lazyIndexLoadingEnabled;
+	}
+
 }
 
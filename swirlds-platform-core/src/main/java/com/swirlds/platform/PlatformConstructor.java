@@ -42,6 +42,7 @@ import com.swirlds.platform.metrics.ConsensusMetricsImpl;
 import com.swirlds.platform.metrics.IssMetrics;
 import com.swirlds.platform.metrics.SwirldStateMetrics;
 import com.swirlds.platform.network.NetworkMetrics;
+import com.swirlds.platform.network.connectivity.NioFactory;
 import com.swirlds.platform.network.connectivity.SocketFactory;
 import com.swirlds.platform.network.connectivity.TcpFactory;
 import com.swirlds.platform.network.connectivity.TlsFactory;
@@ -113,10 +114,18 @@ final class PlatformConstructor {
 	}
 
 	static SocketFactory socketFactory(final KeysAndCerts keysAndCerts) {
+		final boolean useNio = Settings.getInstance().isUseNioTransport();
 		if (!Settings.getInstance().isUseTLS()) {
-			return new TcpFactory(PlatformConstructor.settingsProvider());
+			return useNio
+					? new NioFactory(null, PlatformConstructor.settingsProvider())
+					: new TcpFactory(PlatformConstructor.settingsProvider());
 		}
 		try {
+			if (useNio) {
+				return new NioFactory(
+						TlsFactory.createSslContext(keysAndCerts, PlatformConstructor.settingsProvider()),
+						PlatformConstructor.settingsProvider());
+			}
 			return new TlsFactory(keysAndCerts, PlatformConstructor.settingsProvider());
 		} catch (final NoSuchAlgorithmException | UnrecoverableKeyException
 					   | KeyStoreException | KeyManagementException
@@ -35,11 +35,15 @@ public final class SettingConstants {
 	static final int MAX_OUTGOING_SYNCS_DEFAULT_VALUE = 2;
 	static final int MAX_INCOMING_SYNCS_INC_DEFAULT_VALUE = 1;
 	static final int BUFFER_SIZE_DEFAULT_VALUE = 8 * 1024;
+	static final boolean GOSSIP_COMPRESSION_DEFAULT_VALUE = false;
+	static final int GOSSIP_FRAME_SIZE_DEFAULT_VALUE = 64 * 1024;
 	static final int SOCKET_IP_TOS_DEFAULT_VALUE = -1;
 	static final int HALF_LIFE_DEFAULT_VALUE = 10;
 	static final int COIN_FREQ_DEFAULT_VALUE = 12;
 	static final boolean LOG_STACK_DEFAULT_VALUE = true;
 	static final boolean USE_LTS_DEFAULT_VALUE = true;
+	static final boolean USE_NIO_TRANSPORT_DEFAULT_VALUE = false;
+	static final int NIO_EVENT_LOOP_THREADS_DEFAULT_VALUE = 2;
 	static final boolean DO_UPNP_DEFAULT_VALUE = true;
 	static final boolean USE_LOOPBACK_IP_DEFAULT_VALUE = true;
 	static final boolean TCP_NO_DELAY_DEFAULT_VALUE = true;
@@ -66,6 +70,7 @@ public final class SettingConstants {
 	static final int MAX_ADDRESS_SIZE_ALLOWED_DEFAULT_VALUE = 1024;
 	static final int THREAD_PRIORITY_SYNC_DEFAULT_VALUE = Thread.NORM_PRIORITY;
 	static final int THREAD_PRIORITY_NON_SYNC_DEFAULT_VALUE = Thread.NORM_PRIORITY;
+	static final boolean USE_VIRTUAL_THREADS_DEFAULT_VALUE = false;
 	static final int FREEZE_SECONDS_AFTER_STARTUP_DEFAULT_VALUE = 10;
 	static final boolean LOAD_KEYS_FROM_PFX_FILES_DEFAULT_VALUE = true;
 	static final int MAX_TRANSACTION_BYTES_PER_EVENT_DEFAULT_VALUE = 245760;
@@ -85,6 +90,12 @@ public final class SettingConstants {
 	static final boolean RUN_PAUSE_CHECK_TIMER_DEFAULT_VALUE = false;
 	static final boolean ENABLE_BETA_MIRROR_DEFAULT_VALUE = false;
 	static final int EVENT_STREAM_QUEUE_CAPACITY_DEFAULT_VALUE = 500;
+	static final int EVENT_STREAM_FLUSH_THRESHOLD_BYTES_DEFAULT_VALUE = 0;
+	static final int EVENT_STREAM_FLUSH_INTERVAL_MS_DEFAULT_VALUE = 100;
+	static final int EVENT_STREAM_CHANNEL_BUFFER_BYTES_DEFAULT_VALUE = 0;
+	static final boolean EVENT_STREAM_DIRECT_IO_DEFAULT_VALUE = false;
+	static final boolean EVENT_STREAM_INDEX_FILES_DEFAULT_VALUE = false;
+	static final int EVENT_STREAM_HASHING_THREADS_DEFAULT_VALUE = 0;
 	static final int EVENTS_LOG_PERIOD_DEFAULT_VALUE = 60;
 	static final String EVENTS_LOG_DIR_DEFAULT_VALUE = "./eventstreams";
 	static final int THREAD_DUMP_PERIOD_MS_DEFAULT_VALUE = 0;
@@ -94,6 +105,7 @@ public final class SettingConstants {
 	static final boolean ENABLE_STATE_RECOVERY_DEFAULT_VALUE = false;
 	static final String PLAYBACK_STREAM_FILE_DIRECTORY_DEFAULT_VALUE = "";
 	static final String PLAYBACK_END_TIME_STAMP_DEFAULT_VALUE = "";
+	static final boolean PLAYBACK_FAST_REPLAY_DEFAULT_VALUE = false;
 	static final boolean GOSSIP_WITH_DIFFERENT_VERSIONS_DEFAULT_VALUE = false;
 
 	private SettingConstants() {
@@ -70,8 +70,16 @@ import static com.swirlds.platform.SettingConstants.EVENTS_LOG_DIR_DEFAULT_VALUE
 import static com.swirlds.platform.SettingConstants.EVENTS_LOG_PERIOD_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.EVENT_INTAKE_QUEUE_SIZE_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.EVENT_INTAKE_QUEUE_THROTTLE_SIZE_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.EVENT_STREAM_CHANNEL_BUFFER_BYTES_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.EVENT_STREAM_DIRECT_IO_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.EVENT_STREAM_FLUSH_INTERVAL_MS_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.EVENT_STREAM_FLUSH_THRESHOLD_BYTES_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.EVENT_STREAM_HASHING_THREADS_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.EVENT_STREAM_INDEX_FILES_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.EVENT_STREAM_QUEUE_CAPACITY_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.FREEZE_SECONDS_AFTER_STARTUP_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.GOSSIP_COMPRESSION_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.GOSSIP_FRAME_SIZE_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.GOSSIP_WITH_DIFFERENT_VERSIONS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.HALF_LIFE_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.JVM_PAUSE_DETECTOR_SLEEP_MS_DEFAULT_VALUE;
@@ -86,9 +94,11 @@ import static com.swirlds.platform.SettingConstants.MAX_INCOMING_SYNCS_INC_DEFAU
 import static com.swirlds.platform.SettingConstants.MAX_OUTGOING_SYNCS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.MAX_TRANSACTION_BYTES_PER_EVENT_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.MAX_TRANSACTION_COUNT_PER_EVENT_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.NIO_EVENT_LOOP_THREADS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.NUM_CONNECTIONS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.NUM_CRYPTO_THREADS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.PLAYBACK_END_TIME_STAMP_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.PLAYBACK_FAST_REPLAY_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.PLAYBACK_STREAM_FILE_DIRECTORY_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.RANDOM_EVENT_PROBABILITY_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.REQUIRE_STATE_LOAD_DEFAULT_VALUE;
@@ -121,6 +131,8 @@ import static com.swirlds.platform.SettingConstants.TRANSACTION_MAX_BYTES_DEFAUL
 import static com.swirlds.platform.SettingConstants.TRANS_THROTTLE_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.USE_LOOPBACK_IP_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.USE_LTS_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.USE_NIO_TRANSPORT_DEFAULT_VALUE;
+import static com.swirlds.platform.SettingConstants.USE_VIRTUAL_THREADS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.VERBOSE_STATISTICS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.VERIFY_EVENT_SIGS_DEFAULT_VALUE;
 import static com.swirlds.platform.SettingConstants.WAIT_AT_STARTUP_DEFAULT_VALUE;
@@ -237,6 +249,14 @@ public class Settings {
 	private int maxIncomingSyncsInc = MAX_INCOMING_SYNCS_INC_DEFAULT_VALUE;
 	/** for BufferedInputStream and BufferedOutputStream for syncing */
 	private int bufferSize = BUFFER_SIZE_DEFAULT_VALUE;
+	/**
+	 * if true, this node offers to batch the data sent over each connection into compressed frames. Compression is
+	 * only used on a connection if both peers have it enabled. If false, the connection handshake is the same as in
+	 * versions without compression, so it must only be enabled once all peers run a version that supports it.
+	 */
+	private boolean gossipCompression = GOSSIP_COMPRESSION_DEFAULT_VALUE;
+	/** the maximum number of uncompressed bytes in a single compressed frame, if gossipCompression is used */
+	private int gossipFrameSize = GOSSIP_FRAME_SIZE_DEFAULT_VALUE;
 	/**
 	 * The IP_TOS to set for a socket, from 0 to 255, or -1 to not set one. This number (if not -1) will be
 	 * part of every TCP/IP packet, and is normally ignored by internet routers, but it is possible to make
@@ -254,6 +274,13 @@ public class Settings {
 	private boolean logStack = LOG_STACK_DEFAULT_VALUE;
 	/** should TLS be turned on, rather than making all sockets unencrypted? */
 	private boolean useTLS = USE_LTS_DEFAULT_VALUE;
+	/**
+	 * if true, the network I/O (and TLS) of all connections is done by a small pool of event loop threads using
+	 * non-blocking channels, instead of by the threads that use the connections
+	 */
+	private boolean useNioTransport = USE_NIO_TRANSPORT_DEFAULT_VALUE;
+	/** the number of event loop threads used for network I/O, if useNioTransport is true */
+	private int nioEventLoopThreads = NIO_EVENT_LOOP_THREADS_DEFAULT_VALUE;
 	/** should this set up uPnP port forwarding on the router once every 60 seconds? */
 	private boolean doUpnp = DO_UPNP_DEFAULT_VALUE;
 	/** should be set to true when using the internet simulator */
@@ -287,6 +314,13 @@ public class Settings {
 	private double statsSkipSeconds = STATS_SKIP_SECONDS_DEFAULT_VALUE;
 	/** priority for threads that sync (in SyncCaller, SyncListener, SyncServer) */
 	private int threadPrioritySync = THREAD_PRIORITY_SYNC_DEFAULT_VALUE;// Thread.MAX_PRIORITY;
+	/**
+	 * if true, the sync listener, heartbeat and sync caller threads, which spend most of their time blocked on
+	 * sockets, are virtual threads that share a small pool of carrier threads instead of each having their own OS
+	 * thread. All other threads are unaffected. If the runtime does not support virtual threads, these threads run as
+	 * tasks on a shared bounded pool of reusable platform threads instead.
+	 */
+	private boolean useVirtualThreads = USE_VIRTUAL_THREADS_DEFAULT_VALUE;
 	/** maximum number of bytes allowed in a transaction */
 	private int transactionMaxBytes = TRANSACTION_MAX_BYTES_DEFAULT_VALUES;
 	/** the maximum number of address allowed in a address book, the same as the maximum allowed network size */
@@ -383,6 +417,37 @@ public class Settings {
 	private boolean enableEventStreaming = ENABLE_EVENT_STREAMING_DEFAULT_VALUE;
 	/** capacity of the blockingQueue from which we take events and write to EventStream files */
 	private int eventStreamQueueCapacity = EVENT_STREAM_QUEUE_CAPACITY_DEFAULT_VALUE;
+	/**
+	 * if positive, events are flushed to EventStream files in groups once this many bytes are buffered, if 0 every
+	 * event is flushed as soon as it is written
+	 */
+	private int eventStreamFlushThresholdBytes = EVENT_STREAM_FLUSH_THRESHOLD_BYTES_DEFAULT_VALUE;
+	/**
+	 * when events are flushed in groups, the first event written this many milliseconds after the previous flush
+	 * causes a flush
+	 */
+	private int eventStreamFlushIntervalMs = EVENT_STREAM_FLUSH_INTERVAL_MS_DEFAULT_VALUE;
+	/**
+	 * if positive, EventStream files are written through a file channel in block aligned writes of up to this many
+	 * bytes, and each block is hashed while it is written. If 0 they are written through a file output stream
+	 */
+	private int eventStreamChannelBufferBytes = EVENT_STREAM_CHANNEL_BUFFER_BYTES_DEFAULT_VALUE;
+	/**
+	 * if true and eventStreamChannelBufferBytes is positive, EventStream files are written with direct I/O, bypassing
+	 * the page cache, if the file system supports it. Best used with eventStreamFlushThresholdBytes, since every flush
+	 * writes at least a whole block
+	 */
+	private boolean eventStreamDirectIo = EVENT_STREAM_DIRECT_IO_DEFAULT_VALUE;
+	/**
+	 * if true, an index file that maps the consensus timestamp of each event to its offset is written next to each
+	 * EventStream file, which allows tools to start reading a file at a given consensus time
+	 */
+	private boolean eventStreamIndexFiles = EVENT_STREAM_INDEX_FILES_DEFAULT_VALUE;
+	/**
+	 * if positive, the hashes of consensus events are calculated on this many threads, and only their running hash is
+	 * calculated in consensus order. If 0, both are calculated on a single thread
+	 */
+	private int eventStreamHashingThreads = EVENT_STREAM_HASHING_THREADS_DEFAULT_VALUE;
 	/** period of generating eventStream file */
 	private long eventsLogPeriod = EVENTS_LOG_PERIOD_DEFAULT_VALUE;
 
@@ -408,6 +473,11 @@ public class Settings {
 	private String playbackStreamFileDirectory = PLAYBACK_STREAM_FILE_DIRECTORY_DEFAULT_VALUE;
 	/** last time stamp (inclusive) to stop the playback, format is "2019-10-02T19:46:30.037063163Z" */
 	private String playbackEndTimeStamp = PLAYBACK_END_TIME_STAMP_DEFAULT_VALUE;
+	/**
+	 * if true, state recovery only creates a signed state for the last recovered round, instead of every
+	 * signedStateFreq rounds
+	 */
+	private boolean playbackFastReplay = PLAYBACK_FAST_REPLAY_DEFAULT_VALUE;
 	/**
 	 * if set to false, the platform will refuse to gossip with a node which has a different version of either
 	 * platform or application
@@ -830,6 +900,14 @@ public class Settings {
 		return bufferSize;
 	}
 
+	public boolean isGossipCompression() {
+		return gossipCompression;
+	}
+
+	public int getGossipFrameSize() {
+		return gossipFrameSize;
+	}
+
 	public int getSocketIpTos() {
 		return socketIpTos;
 	}
@@ -858,6 +936,14 @@ public class Settings {
 		this.useTLS = useTLS;
 	}
 
+	public boolean isUseNioTransport() {
+		return useNioTransport;
+	}
+
+	public int getNioEventLoopThreads() {
+		return nioEventLoopThreads;
+	}
+
 	public boolean isDoUpnp() {
 		return doUpnp;
 	}
@@ -914,6 +1000,10 @@ public class Settings {
 		return threadPriorityNonSync;
 	}
 
+	public boolean isUseVirtualThreads() {
+		return useVirtualThreads;
+	}
+
 	public int getTransactionMaxBytes() {
 		return transactionMaxBytes;
 	}
@@ -1042,6 +1132,30 @@ public class Settings {
 		return eventStreamQueueCapacity;
 	}
 
+	public int getEventStreamFlushThresholdBytes() {
+		return eventStreamFlushThresholdBytes;
+	}
+
+	public int getEventStreamFlushIntervalMs() {
+		return eventStreamFlushIntervalMs;
+	}
+
+	public int getEventStreamChannelBufferBytes() {
+		return eventStreamChannelBufferBytes;
+	}
+
+	public boolean isEventStreamDirectIo() {
+		return eventStreamDirectIo;
+	}
+
+	public boolean isEventStreamIndexFiles() {
+		return eventStreamIndexFiles;
+	}
+
+	public int getEventStreamHashingThreads() {
+		return eventStreamHashingThreads;
+	}
+
 	public long getEventsLogPeriod() {
 		return eventsLogPeriod;
 	}
@@ -1078,6 +1192,10 @@ public class Settings {
 		return playbackEndTimeStamp;
 	}
 
+	public boolean isPlaybackFastReplay() {
+		return playbackFastReplay;
+	}
+
 	public ChatterSubSetting getChatter() {
 		return chatter;
 	}
@@ -102,6 +102,11 @@ public interface SettingsProvider {
 	 */
 	boolean isTcpNoDelay();
 
+	/**
+	 * @see Settings#nioEventLoopThreads
+	 */
+	int getNioEventLoopThreads();
+
 	/**
 	 * @see CryptoSettings#getKeystorePassword()
 	 */
@@ -137,6 +142,16 @@ public interface SettingsProvider {
 	 */
 	int connectionStreamBufferSize();
 
+	/**
+	 * @see Settings#gossipCompression
+	 */
+	boolean isGossipCompression();
+
+	/**
+	 * @see Settings#gossipFrameSize
+	 */
+	int getGossipFrameSize();
+
 	/**
 	 * @see Settings#sleepHeartbeat
 	 */
@@ -146,4 +161,9 @@ public interface SettingsProvider {
 
 	String getPlaybackEndTimeStamp();
 
+	/**
+	 * @see Settings#playbackFastReplay
+	 */
+	boolean isPlaybackFastReplay();
+
 }
@@ -138,6 +138,11 @@ public final class StaticSettingsProvider implements SettingsProvider {
 		return settings.isTcpNoDelay();
 	}
 
+	@Override
+	public int getNioEventLoopThreads() {
+		return settings.getNioEventLoopThreads();
+	}
+
 	@Override
 	public String getKeystorePassword() {
 		return settings.getCrypto().getKeystorePassword();
@@ -176,6 +181,16 @@ public final class StaticSettingsProvider implements SettingsProvider {
 		return settings.getBufferSize();
 	}
 
+	@Override
+	public boolean isGossipCompression() {
+		return settings.isGossipCompression();
+	}
+
+	@Override
+	public int getGossipFrameSize() {
+		return settings.getGossipFrameSize();
+	}
+
 	@Override
 	public int sleepHeartbeatMillis() {
 		return settings.getSleepHeartbeat();
@@ -190,4 +205,9 @@ public final class StaticSettingsProvider implements SettingsProvider {
 	public String getPlaybackEndTimeStamp() {
 		return settings.getPlaybackEndTimeStamp();
 	}
+
+	@Override
+	public boolean isPlaybackFastReplay() {
+		return settings.isPlaybackFastReplay();
+	}
 }
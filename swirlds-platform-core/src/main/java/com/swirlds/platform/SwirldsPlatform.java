@@ -32,6 +32,8 @@ import com.swirlds.common.notification.listeners.ReconnectCompleteListener;
 import com.swirlds.common.notification.listeners.ReconnectCompleteNotification;
 import com.swirlds.common.notification.listeners.StateLoadedFromDiskNotification;
 import com.swirlds.common.stream.EventStreamManager;
+import com.swirlds.common.stream.StreamFileWriterMetrics;
+import com.swirlds.common.stream.StreamFileWriterSettings;
 import com.swirlds.common.system.InitTrigger;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.system.PlatformStatus;
@@ -46,6 +48,7 @@ import com.swirlds.common.system.transaction.internal.SystemTransaction;
 import com.swirlds.common.threading.framework.QueueThread;
 import com.swirlds.common.threading.framework.config.QueueThreadConfiguration;
 import com.swirlds.common.threading.framework.config.StoppableThreadConfiguration;
+import com.swirlds.common.threading.framework.config.ThreadBackend;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.interrupt.InterruptableConsumer;
 import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
@@ -196,7 +199,6 @@ import java.util.function.Predicate;
 
 import static com.swirlds.common.io.utility.FileUtils.deleteDirectoryAndLog;
 import static com.swirlds.common.merkle.hash.MerkleHashChecker.generateHashDebugString;
-import static com.swirlds.common.merkle.utility.MerkleUtils.rehashTree;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.PLATFORM_STATUS;
 import static com.swirlds.logging.LogMarker.RECONNECT;
@@ -649,9 +651,9 @@ public class SwirldsPlatform extends AbstractPlatform {
 					final Hash oldHash = deserializedSignedState.originalHash();
 					signedState = deserializedSignedState.signedState();
 
-					// When loading from disk, we should hash the state every time so that the first fast copy will
-					// only hash the difference
-					final Hash newHash = rehashTree(signedState.getState());
+					// The state is hashed by the reader once it has been initialized, so that the first fast copy
+					// will only hash the difference
+					final Hash newHash = signedState.getState().getHash();
 
 					if (settings.isCheckSignedStateFromDisk()) {
 						if (newHash.equals(oldHash)) {
@@ -1494,6 +1496,7 @@ public class SwirldsPlatform extends AbstractPlatform {
 					.setComponent(PLATFORM_THREAD_POOL_NAME)
 					.setOtherNodeId(otherId.getId())
 					.setThreadName("listener")
+					.setBackend(syncThreadBackend())
 					.setWork(new Listener(
 							protocolHandlers,
 							connectionManagers.getManager(otherId, false)
@@ -1507,6 +1510,7 @@ public class SwirldsPlatform extends AbstractPlatform {
 					.setNodeId(selfId.getId())
 					.setComponent(PLATFORM_THREAD_POOL_NAME)
 					.setThreadName("heartbeat")
+					.setBackend(syncThreadBackend())
 					.setOtherNodeId(otherId.getId())
 					.setWork(new HeartbeatSender(
 							otherId,
@@ -1526,6 +1530,13 @@ public class SwirldsPlatform extends AbstractPlatform {
 		}
 	}
 
+	/**
+	 * @return the backend for sync threads that spend most of their time blocked on sockets
+	 */
+	private ThreadBackend syncThreadBackend() {
+		return settings.isUseVirtualThreads() ? ThreadBackend.VIRTUAL : ThreadBackend.PLATFORM;
+	}
+
 	/**
 	 * Spawn a thread to initiate syncs with other users
 	 */
@@ -1540,6 +1551,7 @@ public class SwirldsPlatform extends AbstractPlatform {
 				.setNodeId(selfId.getId())
 				.setComponent(PLATFORM_THREAD_POOL_NAME)
 				.setThreadName("syncCaller-" + callerNumber)
+				.setBackend(syncThreadBackend())
 				.setRunnable(syncCaller)
 				.build();
 
@@ -2039,6 +2051,14 @@ public class SwirldsPlatform extends AbstractPlatform {
 					settings.getEventsLogDir(),
 					settings.getEventsLogPeriod(),
 					settings.getEventStreamQueueCapacity(),
+					new StreamFileWriterSettings()
+							.setFlushThresholdBytes(settings.getEventStreamFlushThresholdBytes())
+							.setFlushIntervalMs(settings.getEventStreamFlushIntervalMs())
+							.setMetrics(new StreamFileWriterMetrics(metrics, "eventStream"))
+							.setChannelBufferBytes(settings.getEventStreamChannelBufferBytes())
+							.setDirectIo(settings.isEventStreamDirectIo())
+							.setWriteIndexFiles(settings.isEventStreamIndexFiles()),
+					settings.getEventStreamHashingThreads(),
 					this::isLastEventBeforeRestart);
 		} catch (final NoSuchAlgorithmException | IOException e) {
 			log.error(EXCEPTION.getMarker(), "Fail to initialize eventStreamHelper. Exception: {}",
@@ -69,6 +69,24 @@ public interface ChatterSettings {
 	 */
 	int getDescriptorQueueCapacity();
 
+	/**
+	 * @return the maximum number of bytes of self events sent to a neighbour before lower priority messages get a
+	 * 		chance to be sent
+	 */
+	int getSelfEventByteBudget();
+
+	/**
+	 * @return the maximum number of bytes of other events sent to a neighbour before lower priority messages get a
+	 * 		chance to be sent
+	 */
+	int getOtherEventByteBudget();
+
+	/**
+	 * @return the maximum number of bytes of event descriptors sent to a neighbour before lower priority messages get
+	 * 		a chance to be sent
+	 */
+	int getDescriptorByteBudget();
+
 	/**
 	 * @return the interval at which to send each peer processing time messages
 	 */
@@ -37,6 +37,12 @@ public class ChatterSubSetting extends SubSetting implements ChatterSettings {
 	public int otherEventQueueCapacity = 45000;
 	/** @see #getDescriptorQueueCapacity() */
 	public int descriptorQueueCapacity = 45000;
+	/** @see #getSelfEventByteBudget() */
+	public int selfEventByteBudget = 256 * 1024;
+	/** @see #getOtherEventByteBudget() */
+	public int otherEventByteBudget = 256 * 1024;
+	/** @see #getDescriptorByteBudget() */
+	public int descriptorByteBudget = 32 * 1024;
 	/** @see #getProcessingTimeInterval() */
 	public Duration processingTimeInterval = Duration.ofMillis(100);
 	/** @see #getHeartbeatInterval() */
@@ -84,6 +90,21 @@ public class ChatterSubSetting extends SubSetting implements ChatterSettings {
 		return descriptorQueueCapacity;
 	}
 
+	@Override
+	public int getSelfEventByteBudget() {
+		return selfEventByteBudget;
+	}
+
+	@Override
+	public int getOtherEventByteBudget() {
+		return otherEventByteBudget;
+	}
+
+	@Override
+	public int getDescriptorByteBudget() {
+		return descriptorByteBudget;
+	}
+
 	@Override
 	public Duration getProcessingTimeInterval() {
 		return processingTimeInterval;
@@ -17,7 +17,6 @@
 package com.swirlds.platform.chatter;
 
 import com.swirlds.common.crypto.Cryptography;
-import com.swirlds.common.system.events.BaseEventHashedData;
 import com.swirlds.platform.chatter.protocol.MessageHandler;
 import com.swirlds.platform.event.GossipEvent;
 
@@ -36,8 +35,7 @@ public class PrepareChatterEvent implements MessageHandler<GossipEvent> {
 	 */
 	@Override
 	public void handleMessage(final GossipEvent event) {
-		final BaseEventHashedData hashedData = event.getHashedData();
-		cryptography.digestSync(hashedData);
+		event.computeHash(cryptography);
 		event.buildDescriptor();
 	}
 }
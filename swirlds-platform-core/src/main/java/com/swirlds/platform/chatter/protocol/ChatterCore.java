@@ -41,6 +41,7 @@ import com.swirlds.platform.chatter.protocol.processing.ProcessingTimeSendReceiv
 import com.swirlds.platform.chatter.protocol.processing.ProcessingTimes;
 import com.swirlds.platform.state.signed.LoadableFromSignedState;
 import com.swirlds.platform.state.signed.SignedState;
+import com.swirlds.platform.stats.AverageAndMax;
 import com.swirlds.platform.stats.AverageStat;
 import com.swirlds.platform.stats.PerSecondStat;
 
@@ -74,6 +75,7 @@ public class ChatterCore<E extends ChatterEvent> implements Shiftable, LoadableF
 
 	private final PerSecondStat msgsPerSecRead;
 	private final PerSecondStat msgsPerSecWrit;
+	private final AverageAndMax sendBatchSize;
 	private final ProcessingTimes processingTimes;
 
 	/**
@@ -100,9 +102,24 @@ public class ChatterCore<E extends ChatterEvent> implements Shiftable, LoadableF
 		this.prepareReceivedEvent = prepareReceivedEvent;
 		this.settings = settings;
 		this.pingConsumer = pingConsumer;
-		this.selfEventOutput = new QueueOutputMain<>("selfEvent", settings.getSelfEventQueueCapacity(), metrics);
-		this.otherEventOutput = new QueueOutputMain<>("otherEvent", settings.getOtherEventQueueCapacity(), metrics);
-		this.hashOutput = new QueueOutputMain<>("descriptor", settings.getDescriptorQueueCapacity(), metrics);
+		this.selfEventOutput = new QueueOutputMain<>(
+				"selfEvent",
+				settings.getSelfEventQueueCapacity(),
+				ChatterEvent::getSerializedLength,
+				settings.getSelfEventByteBudget(),
+				metrics);
+		this.otherEventOutput = new QueueOutputMain<>(
+				"otherEvent",
+				settings.getOtherEventQueueCapacity(),
+				ChatterEvent::getSerializedLength,
+				settings.getOtherEventByteBudget(),
+				metrics);
+		this.hashOutput = new QueueOutputMain<>(
+				"descriptor",
+				settings.getDescriptorQueueCapacity(),
+				ChatterEventDescriptor::getSerializedLength,
+				settings.getDescriptorByteBudget(),
+				metrics);
 		this.peerInstances = new HashMap<>();
 		this.processingTimes = new ProcessingTimes(metrics);
 
@@ -126,6 +143,14 @@ public class ChatterCore<E extends ChatterEvent> implements Shiftable, LoadableF
 						AverageStat.WEIGHT_VOLATILE
 				)
 		);
+		this.sendBatchSize = new AverageAndMax(
+				metrics,
+				"chatter",
+				"sendBatchSize",
+				"number of chatter messages written to a peer between flushes",
+				FORMAT_8_1,
+				AverageStat.WEIGHT_VOLATILE
+		);
 	}
 
 	/**
@@ -175,7 +200,8 @@ public class ChatterCore<E extends ChatterEvent> implements Shiftable, LoadableF
 						hashPeerInstance,
 						selfEventPeerInstance,
 						otherEventPeerInstance),
-				msgsPerSecWrit);
+				msgsPerSecWrit,
+				sendBatchSize);
 		final InputDelegate inputDelegate = InputDelegateBuilder.builder()
 				.addHandler(MessageTypeHandlerBuilder.builder(eventClass)
 						.addHandler(prepareReceivedEvent)
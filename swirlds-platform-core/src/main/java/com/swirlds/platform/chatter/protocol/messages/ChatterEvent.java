@@ -37,6 +37,12 @@ public interface ChatterEvent extends SelfSerializable {
 	 */
 	Instant getTimeReceived();
 
+	/**
+	 * @return the number of bytes this event takes up when serialized, used to limit the number of bytes sent in each
+	 * 		round of output
+	 */
+	int getSerializedLength();
+
 	/**
 	 * Get the generation of the event
 	 *
@@ -102,6 +102,14 @@ public class ChatterEventDescriptor implements SelfSerializable {
 		return ClassVersion.ORIGINAL;
 	}
 
+	/**
+	 * @return the number of bytes this descriptor takes up when serialized
+	 */
+	public int getSerializedLength() {
+		// the hash's version, digest type and length, followed by its value, the creator and the generation
+		return 3 * Integer.BYTES + hash.getDigestType().digestLength() + 2 * Long.BYTES;
+	}
+
 	/**
 	 * Get the hash of the event.
 	 *
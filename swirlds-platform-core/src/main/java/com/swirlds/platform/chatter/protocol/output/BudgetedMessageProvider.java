@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.chatter.protocol.output;
+
+import com.swirlds.platform.chatter.protocol.MessageProvider;
+
+/**
+ * A {@link MessageProvider} that is only allowed to provide a limited number of bytes in each round of a
+ * {@link PriorityOutputAggregator}. Once its budget is used up, it stops providing messages so that lower priority
+ * providers get a chance to send, until the aggregator starts a new round.
+ */
+public interface BudgetedMessageProvider extends MessageProvider {
+	/**
+	 * @return true if this provider has messages to send, but is holding them back because it has used up its budget
+	 */
+	boolean isOverBudget();
+
+	/**
+	 * Start a new round, restoring the full budget of this provider
+	 */
+	void resetBudget();
+}
@@ -18,6 +18,7 @@ package com.swirlds.platform.chatter.protocol.output;
 
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.platform.chatter.protocol.MessageProvider;
+import com.swirlds.platform.stats.AverageAndMax;
 import com.swirlds.platform.stats.PerSecondStat;
 
 import java.util.List;
@@ -25,14 +26,36 @@ import java.util.List;
 /**
  * Holds a list of message providers in order of priority. When a message is requested, it will check the providers in
  * priority order until it finds one that has messages to be sent.
+ * <p>
+ * Providers that implement {@link BudgetedMessageProvider} can only send a limited number of bytes in each round, after
+ * which lower priority providers get their turn. A new round starts once every provider is either empty or over its
+ * budget, or when a batch ends. A batch is a sequence of messages provided without a null in between, since the caller
+ * flushes its stream whenever there is nothing to send.
+ * <p>
+ * All methods except {@link #clear()} must be called by the same thread.
  */
 public class PriorityOutputAggregator implements MessageProvider {
 	private final List<MessageProvider> providers;
 	private final PerSecondStat msgsPerSec;
+	private final AverageAndMax batchSizes;
+	/** the number of messages provided since the last time null was returned */
+	private int batchSize;
 
-	public PriorityOutputAggregator(final List<MessageProvider> providers, final PerSecondStat msgsPerSec) {
+	/**
+	 * @param providers
+	 * 		the providers of messages, in order of priority
+	 * @param msgsPerSec
+	 * 		tracks the number of messages provided per second
+	 * @param batchSizes
+	 * 		tracks the number of messages provided in each batch
+	 */
+	public PriorityOutputAggregator(
+			final List<MessageProvider> providers,
+			final PerSecondStat msgsPerSec,
+			final AverageAndMax batchSizes) {
 		this.providers = providers;
 		this.msgsPerSec = msgsPerSec;
+		this.batchSizes = batchSizes;
 	}
 
 	/**
@@ -40,16 +63,51 @@ public class PriorityOutputAggregator implements MessageProvider {
 	 */
 	@Override
 	public SelfSerializable getMessage() {
+		SelfSerializable message = getPriorityMessage();
+		if (message == null && isAnyOverBudget()) {
+			resetBudgets();
+			message = getPriorityMessage();
+		}
+		if (message != null) {
+			msgsPerSec.increment();
+			batchSize++;
+			return message;
+		}
+		if (batchSize > 0) {
+			batchSizes.update(batchSize);
+			batchSize = 0;
+			resetBudgets();
+		}
+		return null;
+	}
+
+	private SelfSerializable getPriorityMessage() {
 		for (final MessageProvider provider : providers) {
 			final SelfSerializable message = provider.getMessage();
 			if (message != null) {
-				msgsPerSec.increment();
 				return message;
 			}
 		}
 		return null;
 	}
 
+	private boolean isAnyOverBudget() {
+		for (final MessageProvider provider : providers) {
+			if (provider instanceof final BudgetedMessageProvider budgeted && budgeted.isOverBudget()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void resetBudgets() {
+		for (final MessageProvider provider : providers) {
+			if (provider instanceof final BudgetedMessageProvider budgeted) {
+				budgeted.resetBudget();
+			}
+		}
+	}
+
 	@Override
 	public void clear() {
 		for (final MessageProvider provider : providers) {
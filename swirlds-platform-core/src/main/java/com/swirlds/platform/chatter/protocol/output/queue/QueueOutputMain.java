@@ -17,6 +17,7 @@
 package com.swirlds.platform.chatter.protocol.output.queue;
 
 import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.metrics.Counter;
 import com.swirlds.common.metrics.Metrics;
 import com.swirlds.platform.chatter.protocol.MessageProvider;
 import com.swirlds.platform.chatter.protocol.output.MessageOutput;
@@ -27,23 +28,52 @@ import com.swirlds.platform.stats.AverageStat;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_8_1;
+import static com.swirlds.common.utility.Units.MICROSECONDS_TO_NANOSECONDS;
 
 /**
  * A {@link MessageOutput} that has a separate queue for each peer. When a message is supposed to be sent, it adds it to
- * each individual peer's queue
+ * each individual peer's queue. Each instance is a single priority lane of the chatter output, every peer's queue of
+ * this lane is limited to a number of bytes per round of the {@link
+ * com.swirlds.platform.chatter.protocol.output.PriorityOutputAggregator PriorityOutputAggregator}.
+ * <p>
+ * {@link #send(SelfSerializable)} must always be called by the same thread.
  *
  * @param <T>
  * 		the type of message
  */
 public class QueueOutputMain<T extends SelfSerializable> implements MessageOutput<T> {
 	private final int queueCapacity;
+	private final ToIntFunction<T> messageSize;
+	private final int byteBudget;
 	private final List<QueueOutputPeer<T>> peerInstances;
 	private final AverageAndMax stats;
+	private final AverageAndMax enqueueMicros;
+	private final Counter drops;
 
-	public QueueOutputMain(final String queueName, final int queueCapacity, final Metrics metrics) {
+	/**
+	 * @param queueName
+	 * 		the name of this lane, used for metrics
+	 * @param queueCapacity
+	 * 		the maximum number of messages queued for each peer
+	 * @param messageSize
+	 * 		estimates the number of bytes a message takes up when sent
+	 * @param byteBudget
+	 * 		the maximum number of bytes each peer's queue provides in a single round of the aggregator
+	 * @param metrics
+	 * 		reference to the metrics-system
+	 */
+	public QueueOutputMain(
+			final String queueName,
+			final int queueCapacity,
+			final ToIntFunction<T> messageSize,
+			final int byteBudget,
+			final Metrics metrics) {
 		this.queueCapacity = queueCapacity;
+		this.messageSize = messageSize;
+		this.byteBudget = byteBudget;
 		peerInstances = new ArrayList<>();
 		stats = new AverageAndMax(
 				metrics,
@@ -53,16 +83,30 @@ public class QueueOutputMain<T extends SelfSerializable> implements MessageOutpu
 				FORMAT_8_1,
 				AverageStat.WEIGHT_VOLATILE
 		);
+		enqueueMicros = new AverageAndMax(
+				metrics,
+				"chatter",
+				queueName + "EnqueueMicros",
+				"time it takes to add a message to all " + queueName + " queues, in microseconds",
+				FORMAT_8_1,
+				AverageStat.WEIGHT_VOLATILE
+		);
+		drops = metrics.getOrCreate(
+				new Counter.Config("chatter", queueName + "Drops")
+						.withDescription("number of messages dropped because a " + queueName + " queue was full")
+		);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void send(final T message) {
+		final long start = System.nanoTime();
 		for (final QueueOutputPeer<T> outputPeer : peerInstances) {
 			outputPeer.add(message);
 			stats.update(outputPeer.getQueueSize());
 		}
+		enqueueMicros.update((System.nanoTime() - start) / MICROSECONDS_TO_NANOSECONDS);
 	}
 
 	/**
@@ -70,7 +114,13 @@ public class QueueOutputMain<T extends SelfSerializable> implements MessageOutpu
 	 */
 	public MessageProvider createPeerInstance(
 			final CommunicationState communicationState, final SendCheck<T> sendCheck) {
-		final QueueOutputPeer<T> queueOutputPeer = new QueueOutputPeer<>(queueCapacity, communicationState, sendCheck);
+		final QueueOutputPeer<T> queueOutputPeer = new QueueOutputPeer<>(
+				queueCapacity,
+				communicationState,
+				sendCheck,
+				messageSize,
+				byteBudget,
+				drops::increment);
 		peerInstances.add(queueOutputPeer);
 		return queueOutputPeer;
 	}
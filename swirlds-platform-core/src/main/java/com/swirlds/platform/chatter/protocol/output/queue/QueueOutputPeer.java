@@ -17,34 +17,70 @@
 package com.swirlds.platform.chatter.protocol.output.queue;
 
 import com.swirlds.common.io.SelfSerializable;
-import com.swirlds.platform.chatter.protocol.MessageProvider;
+import com.swirlds.platform.chatter.protocol.output.BudgetedMessageProvider;
 import com.swirlds.platform.chatter.protocol.output.SendCheck;
 import com.swirlds.platform.chatter.protocol.peer.CommunicationState;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
 
 /**
- * Buffers messages in a queue to be sent to one particular peer
+ * Buffers messages in a queue to be sent to one particular peer. Messages are added by a single thread and read by the
+ * peer's writer thread, so they are passed through a lock-free {@link SpscRingBuffer}.
  *
  * @param <T>
  * 		the type of message sent
  */
-public class QueueOutputPeer<T extends SelfSerializable> implements MessageProvider {
-	private final ArrayBlockingQueue<T> queue;
+public class QueueOutputPeer<T extends SelfSerializable> implements BudgetedMessageProvider {
+	private final SpscRingBuffer<T> queue;
 	private final CommunicationState communicationState;
 	private final SendCheck<T> sendCheck;
+	private final ToIntFunction<T> messageSize;
+	private final int byteBudget;
+	private final Runnable dropListener;
+	/**
+	 * the ring buffer only supports one consumer at a time, but {@link #clear()} can be called by a different thread
+	 * than the one calling {@link #getMessage()}, so the consumer side is claimed before it is used
+	 */
+	private final AtomicBoolean consumerClaimed = new AtomicBoolean(false);
+	/** the number of bytes this instance is still allowed to provide in the current round */
+	private int budgetRemaining;
 
+	/**
+	 * @param queueCapacity
+	 * 		the maximum number of messages that can be queued
+	 * @param communicationState
+	 * 		the state of communication with the peer
+	 * @param sendCheck
+	 * 		decides whether a message should be sent
+	 * @param messageSize
+	 * 		estimates the number of bytes a message takes up when sent
+	 * @param byteBudget
+	 * 		the maximum number of bytes to provide in a single round of the aggregator
+	 * @param dropListener
+	 * 		called whenever a message is dropped because the queue is full
+	 */
 	public QueueOutputPeer(
 			final int queueCapacity,
 			final CommunicationState communicationState,
-			final SendCheck<T> sendCheck) {
-		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+			final SendCheck<T> sendCheck,
+			final ToIntFunction<T> messageSize,
+			final int byteBudget,
+			final Runnable dropListener) {
+		if (byteBudget <= 0) {
+			throw new IllegalArgumentException("byte budget must be positive");
+		}
+		this.queue = new SpscRingBuffer<>(queueCapacity);
 		this.communicationState = communicationState;
 		this.sendCheck = sendCheck;
+		this.messageSize = messageSize;
+		this.byteBudget = byteBudget;
+		this.budgetRemaining = byteBudget;
+		this.dropListener = dropListener;
 	}
 
 	/**
-	 * Add a message to the queue to be sent
+	 * Add a message to the queue to be sent. Must only be called by a single thread.
 	 *
 	 * @param message
 	 * 		the message to add
@@ -54,8 +90,10 @@ public class QueueOutputPeer<T extends SelfSerializable> implements MessageProvi
 			return;
 		}
 		if (!queue.offer(message)) {
+			// the peer has fallen too far behind, it will be put out of sync and the queue will be cleared by the
+			// writer once chatter with this peer stops
+			dropListener.run();
 			communicationState.queueOverFlow();
-			queue.clear();
 		}
 	}
 
@@ -64,20 +102,45 @@ public class QueueOutputPeer<T extends SelfSerializable> implements MessageProvi
 	 */
 	@Override
 	public SelfSerializable getMessage() {
-		T message;
-		while ((message = queue.peek()) != null) {
-			switch (sendCheck.shouldSend(message)) {
-				case SEND -> {
-					queue.poll();
-					return message;
-				}
-				case DISCARD -> queue.poll();
-				case WAIT -> {
-					return null;
+		if (budgetRemaining <= 0) {
+			return null;
+		}
+		claimConsumer();
+		try {
+			T message;
+			while ((message = queue.peek()) != null) {
+				switch (sendCheck.shouldSend(message)) {
+					case SEND -> {
+						queue.poll();
+						budgetRemaining -= messageSize.applyAsInt(message);
+						return message;
+					}
+					case DISCARD -> queue.poll();
+					case WAIT -> {
+						return null;
+					}
 				}
 			}
+			return null;
+		} finally {
+			consumerClaimed.set(false);
 		}
-		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isOverBudget() {
+		return budgetRemaining <= 0 && !queue.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resetBudget() {
+		budgetRemaining = byteBudget;
 	}
 
 	/**
@@ -89,6 +152,17 @@ public class QueueOutputPeer<T extends SelfSerializable> implements MessageProvi
 
 	@Override
 	public void clear() {
-		queue.clear();
+		claimConsumer();
+		try {
+			queue.clear();
+		} finally {
+			consumerClaimed.set(false);
+		}
+	}
+
+	private void claimConsumer() {
+		while (!consumerClaimed.compareAndSet(false, true)) {
+			Thread.onSpinWait();
+		}
 	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.chatter.protocol.output.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free queue for exactly one producer thread and one consumer at a time. The producer only ever
+ * writes {@link #tail} and the consumer only ever writes {@link #head}, so neither side has to wait for the other.
+ * <p>
+ * {@link #offer(Object)} may only be called by the producer thread. {@link #peek()}, {@link #poll()} and
+ * {@link #clear()} may be called by different threads, but never concurrently, it is up to the user to ensure this.
+ *
+ * @param <T>
+ * 		the type of element held
+ */
+public class SpscRingBuffer<T> {
+	/** the array is a power of 2 in length so that indexes can be masked, it may be larger than the capacity */
+	private final Object[] buffer;
+	private final int mask;
+	/** the maximum number of elements in the queue */
+	private final int capacity;
+	/** the index of the next element to be read, only written by the consumer */
+	private final AtomicLong head = new AtomicLong(0);
+	/** the index of the next element to be written, only written by the producer */
+	private final AtomicLong tail = new AtomicLong(0);
+
+	/**
+	 * @param capacity
+	 * 		the maximum number of elements the queue can hold
+	 */
+	public SpscRingBuffer(final int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		final int size = Integer.highestOneBit(capacity) == capacity
+				? capacity
+				: Integer.highestOneBit(capacity) << 1;
+		this.buffer = new Object[size];
+		this.mask = size - 1;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Add an element to the end of the queue. Must only be called by the producer thread.
+	 *
+	 * @param element
+	 * 		the element to add
+	 * @return false if the queue is full and the element has not been added
+	 */
+	public boolean offer(final T element) {
+		final long t = tail.get();
+		if (t - head.getAcquire() >= capacity) {
+			return false;
+		}
+		buffer[(int) (t & mask)] = element;
+		tail.setRelease(t + 1);
+		return true;
+	}
+
+	/**
+	 * @return the element at the head of the queue without removing it, or null if the queue is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T peek() {
+		final long h = head.get();
+		if (h == tail.getAcquire()) {
+			return null;
+		}
+		return (T) buffer[(int) (h & mask)];
+	}
+
+	/**
+	 * @return the element at the head of the queue after removing it, or null if the queue is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T poll() {
+		final long h = head.get();
+		if (h == tail.getAcquire()) {
+			return null;
+		}
+		final int index = (int) (h & mask);
+		final T element = (T) buffer[index];
+		// the slot must be cleared before the producer is allowed to reuse it
+		buffer[index] = null;
+		head.setRelease(h + 1);
+		return element;
+	}
+
+	/**
+	 * Remove all the elements that are currently in the queue. Elements added concurrently by the producer may or may
+	 * not be removed.
+	 */
+	public void clear() {
+		final long h = head.get();
+		final long t = tail.getAcquire();
+		for (long i = h; i < t; i++) {
+			buffer[(int) (i & mask)] = null;
+		}
+		head.setRelease(t);
+	}
+
+	/**
+	 * @return true if the queue has no elements
+	 */
+	public boolean isEmpty() {
+		return head.getAcquire() == tail.getAcquire();
+	}
+
+	/**
+	 * @return the number of elements in the queue, this is only an estimate if the queue is being modified
+	 */
+	public int size() {
+		final long h = head.getAcquire();
+		final long t = tail.getAcquire();
+		return (int) Math.max(0, t - h);
+	}
+
+	/**
+	 * @return the maximum number of elements the queue can hold
+	 */
+	public int capacity() {
+		return capacity;
+	}
+}
@@ -16,6 +16,11 @@
 
 package com.swirlds.platform.event;
 
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyException;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.extendable.extensions.CapturingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.system.events.BaseEvent;
@@ -24,23 +29,47 @@ import com.swirlds.common.system.events.BaseEventUnhashedData;
 import com.swirlds.platform.EventStrings;
 import com.swirlds.platform.chatter.protocol.messages.ChatterEvent;
 import com.swirlds.platform.chatter.protocol.messages.ChatterEventDescriptor;
+import com.swirlds.platform.sync.SyncInputStream;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Objects;
 
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+
 /**
  * A class used to hold information about an event transferred through gossip
  */
 public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent {
 	private static final long CLASS_ID = 0xfe16b46795bfb8dcL;
 	private static final long ROUND_CREATED_UNDEFINED = -1;
+	/** the digest used to hash events directly from their serialized bytes */
+	private static final ThreadLocal<MessageDigest> EVENT_DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(DigestType.SHA_384.algorithmName(), DigestType.SHA_384.provider());
+		} catch (final NoSuchAlgorithmException | NoSuchProviderException e) {
+			throw new CryptographyException(e, EXCEPTION);
+		}
+	});
 	private BaseEventHashedData hashedData;
 	private BaseEventUnhashedData unhashedData;
 	private ChatterEventDescriptor descriptor;
 	private Instant timeReceived;
 	private long roundCreated = ROUND_CREATED_UNDEFINED;
+	/**
+	 * The serialized hashed and unhashed data, either as received from a peer or as serialized the first time this
+	 * event was sent. Bytes received from a peer are only kept if they are identical to what this node would write.
+	 * Since both are immutable, these bytes can be written to any other peer as they are. The round created is not
+	 * included, since it can change after the event is received.
+	 */
+	private volatile SerializedData serializedData;
 
 	@SuppressWarnings("unused") // needed for RuntimeConstructable
 	public GossipEvent() {
@@ -63,8 +92,7 @@ public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent {
 	 */
 	@Override
 	public void serialize(final SerializableDataOutputStream out) throws IOException {
-		out.writeSerializable(hashedData, false);
-		out.writeSerializable(unhashedData, false);
+		out.write(getSerializedData().bytes());
 		out.writeLong(roundCreated);
 	}
 
@@ -73,12 +101,119 @@ public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent {
 	 */
 	@Override
 	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
-		hashedData = in.readSerializable(false, BaseEventHashedData::new);
-		unhashedData = in.readSerializable(false, BaseEventUnhashedData::new);
+		// if the event is read from a peer, we keep the bytes received so that we don't need to serialize it again
+		final CapturingStreamExtension capture = in instanceof final SyncInputStream syncIn
+				&& !syncIn.getEventCapture().isCapturing() ? syncIn.getEventCapture() : null;
+		if (capture != null) {
+			capture.startCapturing();
+		}
+		try {
+			hashedData = in.readSerializable(false, BaseEventHashedData::new);
+			final int hashedDataLength = capture == null ? 0 : capture.getCapturedLength();
+			unhashedData = in.readSerializable(false, BaseEventUnhashedData::new);
+			if (capture != null) {
+				serializedData = checkReceivedData(capture.finishCapturing(), hashedDataLength);
+			}
+		} finally {
+			// if reading failed, the stream must not keep capturing the bytes that follow
+			if (capture != null) {
+				capture.stopCapturing();
+			}
+		}
 		roundCreated = in.readLong();
 		timeReceived = Instant.now();
 	}
 
+	/**
+	 * Compare the bytes received from a peer with what this node would write for the same event. A peer may encode an
+	 * event differently, for example with another serialization version or with a different value in a field that is
+	 * ignored when reading. Such bytes would not hash to what this node computes, and must not be relayed to other
+	 * peers.
+	 *
+	 * @param bytes
+	 * 		the hashed and unhashed data as received from the peer
+	 * @param hashedDataLength
+	 * 		the number of bytes at the start of {@code bytes} that belong to the hashed data
+	 * @return the received bytes if they are identical to this node's encoding, otherwise this node's encoding, or null
+	 * 		if the event is missing its hashed or unhashed data
+	 */
+	private SerializedData checkReceivedData(final byte[] bytes, final int hashedDataLength) throws IOException {
+		if (hashedData == null || unhashedData == null) {
+			return null;
+		}
+		final SerializedData canonical = serializeData();
+		if (canonical.hashedDataLength() == hashedDataLength && Arrays.equals(canonical.bytes(), bytes)) {
+			return new SerializedData(bytes, hashedDataLength);
+		}
+		return canonical;
+	}
+
+	/**
+	 * Get the serialized hashed and unhashed data of this event. If the event was not received from a peer, the data
+	 * is serialized the first time this method is called and kept for subsequent calls.
+	 */
+	private SerializedData getSerializedData() throws IOException {
+		SerializedData data = serializedData;
+		if (data == null) {
+			// if multiple threads get here at the same time, they will all produce identical bytes
+			data = serializeData();
+			serializedData = data;
+		}
+		return data;
+	}
+
+	/**
+	 * Serialize the hashed and unhashed data of this event.
+	 */
+	private SerializedData serializeData() throws IOException {
+		final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		try (final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut)) {
+			out.writeSerializable(hashedData, false);
+			out.flush();
+			final int hashedDataLength = byteOut.size();
+			out.writeSerializable(unhashedData, false);
+			out.flush();
+			return new SerializedData(byteOut.toByteArray(), hashedDataLength);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getSerializedLength() {
+		try {
+			return getSerializedData().bytes().length + Long.BYTES;
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Compute the hash of the hashed data and set it. If this event was received from a peer, the hash is computed
+	 * directly from the bytes kept when it was read, avoiding the cost of serializing the hashed data again. The
+	 * result is identical to {@link Cryptography#digestSync(com.swirlds.common.crypto.SerializableHashable)}.
+	 *
+	 * @param cryptography
+	 * 		used to hash the event if it was not received from a peer
+	 */
+	public void computeHash(final Cryptography cryptography) {
+		final SerializedData data = serializedData;
+		if (data == null) {
+			cryptography.digestSync(hashedData);
+			return;
+		}
+		// the hash of a serializable object covers its class ID, followed by what writeSerializable() writes
+		final MessageDigest digest = EVENT_DIGEST.get();
+		digest.reset();
+		final long classId = hashedData.getClassId();
+		for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+			digest.update((byte) (classId >>> shift));
+		}
+		digest.update(data.bytes(), 0, data.hashedDataLength());
+		hashedData.setHash(new Hash(digest.digest(), DigestType.SHA_384));
+	}
+
 	/**
 	 * Get the hashed data for the event.
 	 */
@@ -188,6 +323,17 @@ public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent {
 	}
 
 
+	/**
+	 * The serialized form of an event, excluding the round created
+	 *
+	 * @param bytes
+	 * 		the serialized hashed data followed by the serialized unhashed data, never modified
+	 * @param hashedDataLength
+	 * 		the number of bytes at the start of {@code bytes} that belong to the hashed data
+	 */
+	private record SerializedData(byte[] bytes, int hashedDataLength) {
+	}
+
 	private static final class ClassVersion {
 		public static final int ORIGINAL = 1;
 	}
@@ -57,7 +57,7 @@ public class EventValidator {
 		try {
 			if (gossipEvent.getHashedData().getHash() == null) {
 				// only hash if it hasn't been already hashed
-				cryptography.digestSync(gossipEvent.getHashedData());
+				gossipEvent.computeHash(cryptography);
 				// we also need to build the descriptor once we have the hash
 				gossipEvent.buildDescriptor();
 			}
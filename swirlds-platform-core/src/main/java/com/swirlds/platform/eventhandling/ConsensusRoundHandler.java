@@ -40,6 +40,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
@@ -110,6 +111,22 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 
 	private final SoftwareVersion softwareVersion;
 
+	/**
+	 * When true, a signed state is only created for {@link #replayEndRound}, for a round with a shutdown event, and for
+	 * the rounds in a freeze period that would be signed otherwise. Used by state recovery to skip hashing and signing
+	 * intermediate states while replaying the event stream.
+	 */
+	private volatile boolean replayMode = false;
+
+	/** The round for which a signed state is created in replay mode, unknown until all events have been read */
+	private volatile long replayEndRound = Long.MAX_VALUE;
+
+	/** The maximum number of consecutive rounds applied to the state as one batch in replay mode */
+	private static final int MAX_REPLAY_BATCH_ROUNDS = 100;
+
+	/** The rounds collected in replay mode that have not been applied to the state yet, only used by thread-cons */
+	private final List<ConsensusRound> replayBatch = new ArrayList<>();
+
 	/**
 	 * Instantiate, but don't start any threads yet. The Platform should first instantiate the {@link
 	 * ConsensusRoundHandler}. Then the Platform should call start to start the queue thread.
@@ -289,6 +306,9 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 	 * Adds the consensus events in the round to the eventsAndGenerations queue and feeds their transactions to the
 	 * consensus state object (which is a SwirldState representing the effect of all consensus transactions so far). It
 	 * also creates the signed state if Settings.signedStateFreq > 0 and this is a round for which it should be done.
+	 * <p>
+	 * In replay mode, consecutive rounds are collected into a batch that is applied once a round that should be signed
+	 * is added, the batch is full, or no more rounds are queued.
 	 *
 	 * @throws InterruptedException
 	 * 		if this thread was interrupted while adding a signed state to the signed state queue
@@ -300,34 +320,78 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 			return;
 		}
 
+		if (!replayMode) {
+			applyConsensusRoundsToState(List.of(round));
+			return;
+		}
+
+		replayBatch.add(round);
+		if ((round.isComplete() && shouldSignState(round))
+				|| replayBatch.size() >= MAX_REPLAY_BATCH_ROUNDS
+				|| queueThread.size() == 0) {
+			try {
+				applyConsensusRoundsToState(replayBatch);
+			} finally {
+				replayBatch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Applies consecutive rounds to the state as a single cycle. Only the last round of the batch may be signed, the
+	 * events are stored and expired round by round, so the signed state is the same as if each round had been applied
+	 * on its own.
+	 *
+	 * @param rounds
+	 * 		the rounds to apply, in order
+	 * @throws InterruptedException
+	 * 		if this thread was interrupted while adding a signed state to the signed state queue
+	 */
+	private void applyConsensusRoundsToState(final List<ConsensusRound> rounds) throws InterruptedException {
 		final CycleTimingStat consensusTimingStat = consensusHandlingMetrics.getConsCycleStat();
 		consensusTimingStat.startCycle();
 
-		propagateConsensusData(round);
+		for (final ConsensusRound round : rounds) {
+			propagateConsensusData(round);
+		}
 
 		consensusTimingStat.setTimePoint(1);
 
-		swirldStateManager.handleConsensusRound(round);
+		for (final ConsensusRound round : rounds) {
+			swirldStateManager.handleConsensusRound(round);
+		}
 
 		consensusTimingStat.setTimePoint(2);
 
-		eventsAndGenerations.addEvents(round.getConsensusEvents());
+		final ConsensusRound lastRound = rounds.get(rounds.size() - 1);
+		int numEvents = 0;
+		for (final ConsensusRound round : rounds) {
+			eventsAndGenerations.addEvents(round.getConsensusEvents());
+			numEvents += round.getConsensusEvents().size();
+			if (round != lastRound) {
+				// expired after each round, as if it had been applied on its own
+				eventsAndGenerations.expire();
+			}
+		}
 
 		// count events that have had all their transactions handled by stateCons
-		numEventsCons.updateAndGet(prevValue -> prevValue + round.getConsensusEvents().size());
+		final int handledEvents = numEvents;
+		numEventsCons.updateAndGet(prevValue -> prevValue + handledEvents);
 
 		consensusTimingStat.setTimePoint(3);
 
-		for (final EventImpl event : round.getConsensusEvents()) {
-			if (event.getHash() == null) {
-				CryptoFactory.getInstance().digestSync(event);
+		for (final ConsensusRound round : rounds) {
+			for (final EventImpl event : round.getConsensusEvents()) {
+				if (event.getHash() == null) {
+					CryptoFactory.getInstance().digestSync(event);
+				}
 			}
-		}
 
-		// the round will only ever be incomplete if we are in recovery mode
-		if (round.isComplete()) {
-			// update the running hash object
-			eventsConsRunningHash = round.getLastEvent().getRunningHash();
+			// the round will only ever be incomplete if we are in recovery mode
+			if (round.isComplete()) {
+				// update the running hash object
+				eventsConsRunningHash = round.getLastEvent().getRunningHash();
+			}
 		}
 
 		// time point 3 to the end is misleading on its own because it is recorded even when no signed state is created
@@ -337,8 +401,8 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 
 		// If the round is complete and it should be signed (either because it has a shutdown event or the settings say
 		// so), create the signed state
-		if (round.isComplete() && (round.hasShutdownEvent() || timeToSignState(round.getRoundNum()))) {
-			if (isRoundInFreezePeriod(round)) {
+		if (lastRound.isComplete() && shouldSignState(lastRound)) {
+			if (isRoundInFreezePeriod(lastRound)) {
 				// We are saving the first state in the freeze period.
 				// This should never be set to false once it is true. It is reset by restarting the node
 				savedStateInFreeze = true;
@@ -350,8 +414,8 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 			// the consensus timestamp for the signed state should be the timestamp of the last transaction
 			// in the last event. if the last event has no transactions, then it will be the timestamp of
 			// the event
-			final Instant ssConsTime = round.getLastEvent().getLastTransTime();
-			createSignedState(round, ssConsTime);
+			final Instant ssConsTime = lastRound.getLastEvent().getLastTransTime();
+			createSignedState(lastRound, ssConsTime);
 		}
 
 		consensusTimingStat.setTimePoint(5);
@@ -360,6 +424,10 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 		eventsAndGenerations.expire();
 
 		consensusTimingStat.stopCycle();
+
+		if (replayMode) {
+			consensusHandlingMetrics.recordReplayedEvents(numEvents);
+		}
 	}
 
 	/**
@@ -374,6 +442,18 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 		}
 	}
 
+	private boolean shouldSignState(final ConsensusRound round) {
+		if (round.hasShutdownEvent()) {
+			return true;
+		}
+		if (replayMode) {
+			// the periodic states in between are skipped, but not a state that would end the replay early
+			return round.getRoundNum() >= replayEndRound
+					|| (isRoundInFreezePeriod(round) && timeToSignState(round.getRoundNum()));
+		}
+		return timeToSignState(round.getRoundNum());
+	}
+
 	private boolean timeToSignState(final long roundNum) {
 		return settings.getSignedStateFreq() > 0 // and we are signing states
 
@@ -430,6 +510,25 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable
 		ssTimingStat.stopCycle();
 	}
 
+	/**
+	 * Stop creating signed states for every {@code signedStateFreq} rounds, and apply consecutive rounds to the state
+	 * in batches. Until {@link #setReplayEndRound(long)} is called, only the states of rounds with a shutdown event and
+	 * of rounds in a freeze period are created. Must be called before the first replayed round is added.
+	 */
+	public void startReplay() {
+		replayMode = true;
+	}
+
+	/**
+	 * Set the round for which a signed state is created in replay mode. Must be called before that round is added.
+	 *
+	 * @param round
+	 * 		the last complete round being replayed
+	 */
+	public void setReplayEndRound(final long round) {
+		replayEndRound = round;
+	}
+
 	public void addMinGenInfo(final long round, final long minGeneration) {
 		eventsAndGenerations.addRoundGeneration(round, minGeneration);
 	}
@@ -17,6 +17,7 @@
 package com.swirlds.platform.internal;
 
 import com.swirlds.common.crypto.internal.CryptographySettings;
+import com.swirlds.common.merkle.hash.MerkleHashBuilder;
 
 public class CryptoSettings extends SubSetting implements CryptographySettings {
 
@@ -50,6 +51,22 @@ public class CryptoSettings extends SubSetting implements CryptographySettings {
 	 */
 	public String keystorePassword = CryptoSettings.DEFAULT_KEYSTORE_PASSWORD;
 
+	/**
+	 * the depth of a merkle tree down to which hashing is split into parallel tasks, 0 to have every hashing thread
+	 * iterate over the entire tree instead
+	 */
+	public int merkleHashForkDepth = MerkleHashBuilder.DEFAULT_FORK_DEPTH;
+
+	/**
+	 * should lists of Ed25519 signatures be verified with a single set of scratch buffers
+	 */
+	public boolean sharedBufferEd25519Verification = false;
+
+	/**
+	 * the maximum number of signature verification results to cache, 0 to disable the cache
+	 */
+	public int verificationCacheSize = 0;
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -100,4 +117,28 @@ public class CryptoSettings extends SubSetting implements CryptographySettings {
 	public String getKeystorePassword() {
 		return (keystorePassword == null) ? CryptographySettings.DEFAULT_KEYSTORE_PASSWORD : keystorePassword;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getMerkleHashForkDepth() {
+		return merkleHashForkDepth;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean sharedBufferEd25519Verification() {
+		return sharedBufferEd25519Verification;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getVerificationCacheSize() {
+		return verificationCacheSize;
+	}
 }
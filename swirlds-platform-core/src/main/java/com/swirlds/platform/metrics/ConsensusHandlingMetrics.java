@@ -17,6 +17,7 @@
 package com.swirlds.platform.metrics;
 
 import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.platform.eventhandling.ConsensusRoundHandler;
 import com.swirlds.platform.internal.ConsensusRound;
@@ -29,6 +30,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_16_2;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_8_1;
 import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
 
@@ -42,6 +44,13 @@ public class ConsensusHandlingMetrics {
 
 	private final AverageAndMax avgEventsPerRound;
 
+	private static final SpeedometerMetric.Config REPLAY_EVENTS_PER_SECOND_CONFIG =
+			new SpeedometerMetric.Config(INTERNAL_CATEGORY, "replayEvents/sec")
+					.withDescription("number of consensus events per second applied to the state when replaying " +
+							"the event stream in state recovery")
+					.withFormat(FORMAT_16_2);
+	private final SpeedometerMetric replayEventsPerSecond;
+
 	/**
 	 * Constructor of {@code ConsensusHandlingMetrics}
 	 *
@@ -89,6 +98,7 @@ public class ConsensusHandlingMetrics {
 				FORMAT_8_1,
 				AverageStat.WEIGHT_VOLATILE
 		);
+		replayEventsPerSecond = metrics.getOrCreate(REPLAY_EVENTS_PER_SECOND_CONFIG);
 	}
 
 	/**
@@ -116,4 +126,14 @@ public class ConsensusHandlingMetrics {
 	public void recordEventsPerRound(final int numEvents) {
 		avgEventsPerRound.update(numEvents);
 	}
+
+	/**
+	 * Records the number of events applied to the state when replaying the event stream.
+	 *
+	 * @param numEvents
+	 * 		the number of events applied
+	 */
+	public void recordReplayedEvents(final int numEvents) {
+		replayEventsPerSecond.update(numEvents);
+	}
 }
@@ -33,6 +33,11 @@ public final class ByteConstants {
 	public static final byte COMM_SYNC_ONGOING = 0x46 /* 70 */;
 	/** sent after a new socket connection is made */
 	public static final byte COMM_CONNECT = 0x47 /* 71 */;
+	/**
+	 * sent instead of COMM_CONNECT by a listener that wants to compress the connection, the caller replies whether it
+	 * agrees
+	 */
+	public static final byte COMM_CONNECT_COMPRESSED = 0x4f /* 79 */;
 	/** sent before sending each event */
 	public static final byte COMM_EVENT_NEXT = 0x48 /* 72 */;
 	/** sent after all events have been sent for this sync */
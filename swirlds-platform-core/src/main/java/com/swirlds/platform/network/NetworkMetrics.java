@@ -23,6 +23,7 @@ import com.swirlds.common.system.NodeId;
 import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.platform.AbstractPlatform;
 import com.swirlds.platform.Connection;
+import com.swirlds.platform.network.framing.FrameCompressionStats;
 
 import java.util.Iterator;
 import java.util.List;
@@ -32,6 +33,8 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.IntStream;
 
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_10_0;
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_10_2;
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_10_6;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_16_2;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_4_2;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_7_0;
@@ -59,6 +62,20 @@ public class NetworkMetrics {
 					.withDescription("number of times a TLS connections was created")
 					.withFormat(FORMAT_10_0)
 					.withHalfLife(0.0);
+	private static final RunningAverageMetric.Config COMPRESSION_RATIO_CONFIG =
+			new RunningAverageMetric.Config(INTERNAL_CATEGORY, "frameCompressionRatio")
+					.withDescription("bytes written into compressed frames divided by the bytes sent for them " +
+							"(only connections that use compression)")
+					.withFormat(FORMAT_10_2);
+	private static final RunningAverageMetric.Config AVG_FRAME_SIZE_CONFIG =
+			new RunningAverageMetric.Config(INTERNAL_CATEGORY, "frameBytes")
+					.withDescription("average number of uncompressed bytes in a compressed frame sent")
+					.withFormat(FORMAT_10_2);
+	private static final RunningAverageMetric.Config COMPRESSION_CPU_CONFIG =
+			new RunningAverageMetric.Config(INTERNAL_CATEGORY, "frameCodecCpu")
+					.withDescription("fraction of a single CPU spent compressing and decompressing frames " +
+							"(total for this member)")
+					.withFormat(FORMAT_10_6);
 
 	private final NodeId selfId;
 	/** all connections of this platform */
@@ -70,6 +87,11 @@ public class NetworkMetrics {
 	private final RunningAverageMetric avgPing;
 	private final SpeedometerMetric bytesPerSecondSent;
 	private final RunningAverageMetric avgConnsCreated;
+	private final RunningAverageMetric compressionRatio;
+	private final RunningAverageMetric avgFrameSize;
+	private final RunningAverageMetric compressionCpu;
+	/** the time of the last call to {@link #update()}, used to compute the compression CPU fraction */
+	private long lastUpdateNanos = System.nanoTime();
 
 	/**
 	 * Constructor of {@code NetworkMetrics}
@@ -106,6 +128,9 @@ public class NetworkMetrics {
 		avgPing = metrics.getOrCreate(AVG_PING_CONFIG);
 		bytesPerSecondSent = metrics.getOrCreate(BYTES_PER_SECOND_SENT_CONFIG);
 		avgConnsCreated = metrics.getOrCreate(AVG_CONNS_CREATED_CONFIG);
+		compressionRatio = metrics.getOrCreate(COMPRESSION_RATIO_CONFIG);
+		avgFrameSize = metrics.getOrCreate(AVG_FRAME_SIZE_CONFIG);
+		compressionCpu = metrics.getOrCreate(COMPRESSION_CPU_CONFIG);
 	}
 
 	/**
@@ -152,6 +177,10 @@ public class NetworkMetrics {
 		avgPing.update(pingValue);
 
 		long totalBytesSent = 0;
+		long bytesBeforeCompression = 0;
+		long bytesAfterCompression = 0;
+		long framesWritten = 0;
+		long codecNanos = 0;
 		for (final Iterator<Connection> iterator = connections.iterator(); iterator.hasNext(); ) {
 			final Connection conn = iterator.next();
 			if (conn != null) {
@@ -161,6 +190,13 @@ public class NetworkMetrics {
 				if (otherId < avgBytePerSecSent.size() && avgBytePerSecSent.get(otherId) != null) {
 					avgBytePerSecSent.get(otherId).update(bytesSent);
 				}
+				final FrameCompressionStats compressionStats = conn.getDos().getCompressionStats();
+				if (compressionStats != null) {
+					bytesBeforeCompression += compressionStats.getAndResetBytesBeforeCompression();
+					bytesAfterCompression += compressionStats.getAndResetBytesAfterCompression();
+					framesWritten += compressionStats.getAndResetFramesWritten();
+					codecNanos += compressionStats.getAndResetCodecNanos();
+				}
 				if (!conn.connected()) {
 					iterator.remove();
 				}
@@ -168,6 +204,18 @@ public class NetworkMetrics {
 		}
 		bytesPerSecondSent.update(totalBytesSent);
 		avgConnsCreated.update(connsCreated.sum());
+
+		final long now = System.nanoTime();
+		if (bytesAfterCompression > 0) {
+			compressionRatio.update((double) bytesBeforeCompression / bytesAfterCompression);
+		}
+		if (framesWritten > 0) {
+			avgFrameSize.update((double) bytesBeforeCompression / framesWritten);
+		}
+		if (now > lastUpdateNanos) {
+			compressionCpu.update((double) codecNanos / (now - lastUpdateNanos));
+		}
+		lastUpdateNanos = now;
 	}
 
 	/**
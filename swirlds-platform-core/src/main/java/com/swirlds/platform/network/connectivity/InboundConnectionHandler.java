@@ -25,11 +25,13 @@ import com.swirlds.platform.Connection;
 import com.swirlds.platform.network.ByteConstants;
 import com.swirlds.platform.network.ConnectionTracker;
 import com.swirlds.platform.network.NetworkUtils;
+import com.swirlds.platform.network.framing.FrameCompressionStats;
 import com.swirlds.platform.sync.SyncInputStream;
 import com.swirlds.platform.sync.SyncOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -81,19 +83,41 @@ public class InboundConnectionHandler {
 			clientSocket.setSoTimeout(settings.getTimeoutSyncClientSocket());
 			dis = new DataInputStream(clientSocket.getInputStream());
 
-			dos = new DataOutputStream(clientSocket.getOutputStream());
+			// the handshake replies are buffered so that each one is sent in a single write, reads are not buffered
+			// so that no bytes sent after the handshake are consumed before we know which streams to use
+			dos = new DataOutputStream(
+					new BufferedOutputStream(clientSocket.getOutputStream(), settings.connectionStreamBufferSize()));
 
 			final String otherKey = dis.readUTF();
 
 			otherId = addressBook.getId(otherKey);
 
-			dos.writeInt(ByteConstants.COMM_CONNECT);// send an ACK for creating connection
-			dos.flush();
+			final boolean compress;
+			if (settings.isGossipCompression()) {
+				// offer compression with a distinct ACK, it is only used if the caller also wants it
+				dos.writeInt(ByteConstants.COMM_CONNECT_COMPRESSED);
+				dos.flush();
+				compress = dis.readBoolean();
+			} else {
+				dos.writeInt(ByteConstants.COMM_CONNECT);// send an ACK for creating connection
+				dos.flush();
+				compress = false;
+			}
 
-			final SyncInputStream sis = SyncInputStream.createSyncInputStream(
-					clientSocket.getInputStream(), settings.connectionStreamBufferSize());
-			final SyncOutputStream sos = SyncOutputStream.createSyncOutputStream(
-					clientSocket.getOutputStream(), settings.connectionStreamBufferSize());
+			final SyncInputStream sis;
+			final SyncOutputStream sos;
+			if (compress) {
+				final FrameCompressionStats compressionStats = new FrameCompressionStats();
+				sis = SyncInputStream.createCompressedSyncInputStream(
+						clientSocket.getInputStream(), settings.connectionStreamBufferSize(), compressionStats);
+				sos = SyncOutputStream.createCompressedSyncOutputStream(clientSocket.getOutputStream(),
+						settings.connectionStreamBufferSize(), settings.getGossipFrameSize(), compressionStats);
+			} else {
+				sis = SyncInputStream.createSyncInputStream(
+						clientSocket.getInputStream(), settings.connectionStreamBufferSize());
+				sos = SyncOutputStream.createSyncOutputStream(
+						clientSocket.getOutputStream(), settings.connectionStreamBufferSize());
+			}
 
 			final SocketConnection sc = SocketConnection.create(
 					selfId,
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+
+/**
+ * A single thread that waits on a {@link Selector} and does all the network I/O for the {@link NioSocketImpl}s
+ * registered with it. Other threads interact with the loop by submitting tasks with {@link #execute(Runnable)}.
+ * <p>
+ * When the loop is stopped, all of its connections are failed and the selector is closed. Tasks submitted after that
+ * are run by the submitting thread, they will find the selector closed and fail their connection.
+ */
+class NioEventLoop {
+	private static final Logger LOG = LogManager.getLogger();
+
+	private final Selector selector;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private final Thread thread;
+	private volatile boolean running = true;
+	/** set by the loop thread once it has closed the selector and will no longer run tasks */
+	private volatile boolean stopped;
+
+	/**
+	 * @param component
+	 * 		the component name used for the thread
+	 * @param name
+	 * 		the name of the thread
+	 */
+	NioEventLoop(final String component, final String name) {
+		try {
+			this.selector = Selector.open();
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Unable to open a selector", e);
+		}
+		this.thread = new ThreadConfiguration()
+				.setComponent(component)
+				.setThreadName(name)
+				.setRunnable(this::run)
+				.build(true);
+	}
+
+	/**
+	 * Run a task on the event loop thread. The task is run immediately if called from the loop thread, or if the loop
+	 * has been stopped.
+	 *
+	 * @param task
+	 * 		the task to run
+	 */
+	void execute(final Runnable task) {
+		if (Thread.currentThread() == thread) {
+			task.run();
+			return;
+		}
+		tasks.add(task);
+		selector.wakeup();
+		// only this task is run here, running other tasks could take the locks of other sockets while this thread
+		// holds the lock of its own socket
+		if (stopped && tasks.remove(task)) {
+			task.run();
+		}
+	}
+
+	/**
+	 * @return the selector used by this loop, it must only be used by tasks running on the loop thread
+	 */
+	Selector getSelector() {
+		return selector;
+	}
+
+	/**
+	 * Stop the loop, fail all of its connections and wait for the loop thread to die
+	 *
+	 * @throws InterruptedException
+	 * 		if interrupted while waiting for the loop thread
+	 */
+	void stop() throws InterruptedException {
+		running = false;
+		selector.wakeup();
+		thread.join();
+	}
+
+	private void run() {
+		try {
+			while (running) {
+				selector.select();
+				runTasks();
+				for (final SelectionKey key : selector.selectedKeys()) {
+					if (key.isValid()) {
+						((NioSocketImpl) key.attachment()).pump();
+					}
+				}
+				selector.selectedKeys().clear();
+			}
+		} catch (final IOException | ClosedSelectorException e) {
+			LOG.error(EXCEPTION.getMarker(), "NIO event loop stopped unexpectedly", e);
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Fail all connections of this loop and close the selector, then run any tasks still waiting
+	 */
+	private void close() {
+		try {
+			for (final SelectionKey key : selector.keys()) {
+				((NioSocketImpl) key.attachment()).fail(new SocketException("NIO event loop has been stopped"));
+			}
+			selector.close();
+		} catch (final IOException | ClosedSelectorException e) {
+			LOG.error(EXCEPTION.getMarker(), "Unable to close NIO selector", e);
+		}
+		stopped = true;
+		runTasks();
+	}
+
+	private void runTasks() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (final RuntimeException e) {
+				LOG.error(EXCEPTION.getMarker(), "Exception in NIO event loop task", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed set of {@link NioEventLoop}s that share the network I/O of all connections. Connections are assigned to
+ * loops in a round-robin fashion.
+ */
+class NioEventLoopGroup {
+	private final NioEventLoop[] loops;
+	private final AtomicInteger next = new AtomicInteger(0);
+
+	/**
+	 * @param component
+	 * 		the component name used for the loop threads
+	 * @param numberOfLoops
+	 * 		the number of loops (threads) to create
+	 */
+	NioEventLoopGroup(final String component, final int numberOfLoops) {
+		if (numberOfLoops <= 0) {
+			throw new IllegalArgumentException("the number of event loops must be positive");
+		}
+		loops = new NioEventLoop[numberOfLoops];
+		for (int i = 0; i < numberOfLoops; i++) {
+			loops[i] = new NioEventLoop(component, "nioEventLoop-" + i);
+		}
+	}
+
+	/**
+	 * @return the loop that should handle the next connection
+	 */
+	NioEventLoop next() {
+		return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+	}
+
+	/**
+	 * Stop all the loops in this group, failing all of their connections
+	 *
+	 * @throws InterruptedException
+	 * 		if interrupted while waiting for the loops to stop
+	 */
+	void stop() throws InterruptedException {
+		for (final NioEventLoop loop : loops) {
+			loop.stop();
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import com.swirlds.platform.SettingsProvider;
+import com.swirlds.platform.crypto.CryptoConstants;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Creates sockets whose I/O, including TLS if it is used, is done by a small, shared pool of event loop threads that
+ * use non-blocking channels and a {@link java.nio.channels.Selector}, instead of by the threads that read from and
+ * write to the sockets. The sockets behave like regular blocking sockets, so they can be used by all the existing
+ * protocols. They are configured the same way {@link TcpFactory} and {@link TlsFactory} configure theirs.
+ */
+public class NioFactory implements SocketFactory {
+	/** the minimum size of each of the buffers of a connection */
+	private static final int MIN_BUFFER_SIZE = 64 * 1024;
+
+	private final SettingsProvider settings;
+	/** used to create TLS engines, null if connections should not be encrypted */
+	private final SSLContext sslContext;
+	private final NioEventLoopGroup loops;
+	private final int bufferSize;
+
+	/**
+	 * @param sslContext
+	 * 		the context used to encrypt connections, or null if connections should not be encrypted
+	 * @param settings
+	 * 		the settings for configuration
+	 */
+	public NioFactory(final SSLContext sslContext, final SettingsProvider settings) {
+		this.settings = settings;
+		this.sslContext = sslContext;
+		this.loops = new NioEventLoopGroup("network", settings.getNioEventLoopThreads());
+		this.bufferSize = Math.max(MIN_BUFFER_SIZE, settings.connectionStreamBufferSize());
+	}
+
+	@Override
+	public ServerSocket createServerSocket(final byte[] ipAddress, final int port) throws IOException {
+		final ServerSocket serverSocket = new NioServerSocket(() -> createSocketImpl(false));
+		try {
+			SocketFactory.configureAndBind(serverSocket, settings, ipAddress, port);
+		} catch (final IOException | RuntimeException e) {
+			serverSocket.close();
+			throw e;
+		}
+		return serverSocket;
+	}
+
+	/**
+	 * Connects a new socket. If TLS is used, this waits for the handshake to finish, like {@link TlsFactory} does.
+	 */
+	@Override
+	public Socket createClientSocket(final String ipAddress, final int port) throws IOException {
+		final NioSocket clientSocket = new NioSocket(createSocketImpl(true));
+		try {
+			SocketFactory.configureAndConnect(clientSocket, settings, ipAddress, port);
+			clientSocket.awaitHandshake();
+		} catch (final IOException | RuntimeException e) {
+			clientSocket.close();
+			throw e;
+		}
+		return clientSocket;
+	}
+
+	/**
+	 * Stop the event loops, all connections of sockets created by this factory are closed
+	 *
+	 * @throws InterruptedException
+	 * 		if interrupted while waiting for the loops to stop
+	 */
+	public void stop() throws InterruptedException {
+		loops.stop();
+	}
+
+	private NioSocketImpl createSocketImpl(final boolean clientMode) {
+		return new NioSocketImpl(loops.next(), createEngine(clientMode), bufferSize);
+	}
+
+	/**
+	 * @return a new TLS engine configured the same way {@link TlsFactory} configures its sockets, or null if TLS is not
+	 * 		used
+	 */
+	private SSLEngine createEngine(final boolean clientMode) {
+		if (sslContext == null) {
+			return null;
+		}
+		final SSLEngine engine = sslContext.createSSLEngine();
+		engine.setUseClientMode(clientMode);
+		// ensure the connection is ALWAYS the exact cipher suite we've chosen
+		engine.setEnabledCipherSuites(new String[] { CryptoConstants.TLS_SUITE });
+		engine.setWantClientAuth(true);
+		engine.setNeedClientAuth(true);
+		return engine;
+	}
+}
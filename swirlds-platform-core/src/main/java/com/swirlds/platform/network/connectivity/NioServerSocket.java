@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ServerSocket} that returns each connection it accepts as a {@link NioSocket}, so that its I/O is done by
+ * the shared event loops, see {@link NioServerSocketImpl}
+ */
+class NioServerSocket extends ServerSocket {
+	/** creates the implementation of each socket accepted */
+	private final Supplier<NioSocketImpl> socketImplSupplier;
+
+	/**
+	 * @param socketImplSupplier
+	 * 		creates the implementation of each socket accepted
+	 */
+	NioServerSocket(final Supplier<NioSocketImpl> socketImplSupplier) {
+		super(new NioServerSocketImpl());
+		this.socketImplSupplier = socketImplSupplier;
+	}
+
+	/**
+	 * Waits for a new connection for at most the time set by {@link #setSoTimeout(int)}. If TLS is used, the handshake
+	 * is done by the event loop in the background. Reads wait for it to finish, and bytes written are sent once it is
+	 * done.
+	 */
+	@Override
+	public Socket accept() throws IOException {
+		if (isClosed()) {
+			throw new SocketException("Socket is closed");
+		}
+		if (!isBound()) {
+			throw new SocketException("Socket is not bound yet");
+		}
+		final NioSocket socket = new NioSocket(socketImplSupplier.get());
+		implAccept(socket);
+		return socket;
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketImpl;
+import java.net.SocketOption;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.swirlds.platform.network.connectivity.NioSocketImpl.socketException;
+import static com.swirlds.platform.network.connectivity.NioSocketImpl.toChannelOption;
+
+/**
+ * A {@link SocketImpl} for server sockets, backed by a non-blocking {@link ServerSocketChannel}. The accepting thread
+ * waits for connections on a {@link Selector} of its own, so that the accept timeout is honoured, and each connection
+ * accepted is handed over to a {@link NioSocketImpl}.
+ * <p>
+ * A server channel does not support {@link StandardSocketOptions#IP_TOS}, so that option is applied to each accepted
+ * connection instead.
+ */
+class NioServerSocketImpl extends SocketImpl {
+	private final Object acceptLock = new Object();
+	private ServerSocketChannel channel;
+	private Selector selector;
+	private InetSocketAddress bindAddress;
+	private volatile int soTimeout;
+	/** the type of service of accepted connections, null to leave it unchanged */
+	private volatile Integer ipTos;
+
+	@Override
+	protected void create(final boolean stream) throws IOException {
+		if (!stream) {
+			throw new SocketException("Datagram sockets are not supported");
+		}
+		channel = ServerSocketChannel.open();
+		try {
+			channel.configureBlocking(false);
+			selector = Selector.open();
+		} catch (final IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Only remembers the address, a channel binds and starts listening in a single step, see {@link #listen(int)}
+	 */
+	@Override
+	protected void bind(final InetAddress host, final int port) {
+		bindAddress = new InetSocketAddress(host, port);
+	}
+
+	@Override
+	protected void listen(final int backlog) throws IOException {
+		channel.bind(bindAddress, backlog);
+		channel.register(selector, SelectionKey.OP_ACCEPT);
+		final InetSocketAddress local = (InetSocketAddress) channel.getLocalAddress();
+		this.address = local.getAddress();
+		this.localport = local.getPort();
+	}
+
+	/**
+	 * Waits for a new connection for at most the time set by the {@link #SO_TIMEOUT} option
+	 *
+	 * @param s
+	 * 		the {@link NioSocketImpl} that will be used for the connection
+	 */
+	@Override
+	protected void accept(final SocketImpl s) throws IOException {
+		synchronized (acceptLock) {
+			final int timeout = soTimeout;
+			final long deadline = System.currentTimeMillis() + timeout;
+			try {
+				SocketChannel accepted;
+				while ((accepted = channel.accept()) == null) {
+					if (timeout <= 0) {
+						selector.select();
+					} else {
+						final long remaining = deadline - System.currentTimeMillis();
+						if (remaining <= 0) {
+							throw new SocketTimeoutException("Accept timed out");
+						}
+						selector.select(remaining);
+					}
+					selector.selectedKeys().clear();
+					if (Thread.currentThread().isInterrupted()) {
+						throw new InterruptedIOException("Interrupted while accepting a connection");
+					}
+				}
+				handOver(accepted, (NioSocketImpl) s);
+			} catch (final ClosedChannelException | ClosedSelectorException e) {
+				throw socketException("Socket is closed", e);
+			}
+		}
+	}
+
+	private void handOver(final SocketChannel accepted, final NioSocketImpl socketImpl) throws IOException {
+		try {
+			final Integer tos = ipTos;
+			if (tos != null) {
+				accepted.setOption(StandardSocketOptions.IP_TOS, tos);
+			}
+			socketImpl.accepted(accepted);
+		} catch (final IOException | RuntimeException e) {
+			accepted.close();
+			throw e;
+		}
+	}
+
+	@Override
+	protected void close() throws IOException {
+		try {
+			channel.close();
+		} finally {
+			// wakes up a thread waiting to accept, it will find the selector closed
+			selector.close();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void setOption(final int optID, final Object value) throws SocketException {
+		if (optID == SO_TIMEOUT) {
+			soTimeout = (Integer) value;
+			return;
+		}
+		try {
+			setOption((SocketOption<Object>) toChannelOption(optID), value);
+		} catch (final IOException e) {
+			throw socketException("Unable to set socket option " + optID, e);
+		}
+	}
+
+	@Override
+	public Object getOption(final int optID) throws SocketException {
+		try {
+			return switch (optID) {
+				case SO_TIMEOUT -> soTimeout;
+				case SO_BINDADDR -> address;
+				default -> getOption(toChannelOption(optID));
+			};
+		} catch (final IOException e) {
+			throw socketException("Unable to get socket option " + optID, e);
+		}
+	}
+
+	@Override
+	protected <T> void setOption(final SocketOption<T> name, final T value) throws IOException {
+		if (name == StandardSocketOptions.IP_TOS) {
+			ipTos = (Integer) value;
+			return;
+		}
+		channel.setOption(name, value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected <T> T getOption(final SocketOption<T> name) throws IOException {
+		if (name == StandardSocketOptions.IP_TOS) {
+			return (T) (ipTos == null ? Integer.valueOf(0) : ipTos);
+		}
+		return channel.getOption(name);
+	}
+
+	@Override
+	protected Set<SocketOption<?>> supportedOptions() {
+		final Set<SocketOption<?>> options = new HashSet<>(channel.supportedOptions());
+		options.add(StandardSocketOptions.IP_TOS);
+		return options;
+	}
+
+	@Override
+	protected void connect(final String host, final int port) throws IOException {
+		throw new SocketException("Connecting is not supported by server sockets");
+	}
+
+	@Override
+	protected void connect(final InetAddress address, final int port) throws IOException {
+		throw new SocketException("Connecting is not supported by server sockets");
+	}
+
+	@Override
+	protected void connect(final SocketAddress address, final int timeout) throws IOException {
+		throw new SocketException("Connecting is not supported by server sockets");
+	}
+
+	@Override
+	protected InputStream getInputStream() throws IOException {
+		throw new SocketException("Server sockets have no streams");
+	}
+
+	@Override
+	protected OutputStream getOutputStream() throws IOException {
+		throw new SocketException("Server sockets have no streams");
+	}
+
+	@Override
+	protected int available() {
+		return 0;
+	}
+
+	@Override
+	protected void sendUrgentData(final int data) throws IOException {
+		throw new SocketException("Urgent data is not supported");
+	}
+}
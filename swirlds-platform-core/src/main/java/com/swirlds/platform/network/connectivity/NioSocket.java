@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketException;
+
+/**
+ * A {@link Socket} whose I/O is done by the shared event loops, see {@link NioSocketImpl}
+ */
+class NioSocket extends Socket {
+	private final NioSocketImpl impl;
+
+	/**
+	 * @param impl
+	 * 		the implementation of this socket, it is connected by {@link #connect} or by a {@link NioServerSocket}
+	 * @throws SocketException
+	 * 		never thrown, but declared by the super constructor
+	 */
+	NioSocket(final NioSocketImpl impl) throws SocketException {
+		super(impl);
+		this.impl = impl;
+	}
+
+	/**
+	 * Wait until the TLS handshake is done, for at most the read timeout of this socket. Does nothing if the
+	 * connection is not encrypted.
+	 *
+	 * @throws IOException
+	 * 		if the handshake fails or times out
+	 */
+	void awaitHandshake() throws IOException {
+		impl.awaitHandshake(getSoTimeout());
+	}
+}
@@ -0,0 +1,674 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.connectivity;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLHandshakeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketImpl;
+import java.net.SocketOption;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.FINISHED;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_TASK;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_UNWRAP;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_UNWRAP_AGAIN;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_WRAP;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING;
+
+/**
+ * A {@link SocketImpl} backed by a non-blocking {@link SocketChannel}. Once connected, all reads from and writes to
+ * the channel, as well as all TLS work when an {@link SSLEngine} is used, are done by a {@link NioEventLoop} that is
+ * shared with other connections. The streams of this socket only copy bytes to and from buffers, and block while the
+ * buffers are empty (when reading) or full (when writing), so a {@link java.net.Socket} using this implementation
+ * behaves like a regular socket, including its read timeout.
+ * <p>
+ * All buffers are guarded by {@link #lock} and are always kept in write mode, they are only flipped while data is
+ * being taken out of them.
+ */
+class NioSocketImpl extends SocketImpl {
+	private final NioEventLoop loop;
+	/** does the TLS work, null if the connection is not encrypted */
+	private final SSLEngine engine;
+	private final Object lock = new Object();
+	/** plain bytes received that have not been read by the application */
+	private final ByteBuffer appIn;
+	/** plain bytes written by the application that have not been sent */
+	private final ByteBuffer appOut;
+	/** encrypted bytes received that have not been decrypted, only used with TLS */
+	private final ByteBuffer netIn;
+	/** encrypted bytes that have not been sent, only used with TLS */
+	private final ByteBuffer netOut;
+	private final AtomicBoolean pumpScheduled = new AtomicBoolean(false);
+	private final InputStream inputStream = new NioInputStream();
+	private final OutputStream outputStream = new NioOutputStream();
+	private volatile SocketChannel channel;
+	private SelectionKey key;
+	/** the error that broke this connection, if any */
+	private IOException failure;
+	/** has the peer closed its side of the connection */
+	private boolean channelEnded;
+	/** have all the bytes sent by the peer been made available to the application */
+	private boolean endOfStream;
+	/** is the loop waiting for the application to read before it reads more from the channel */
+	private boolean readBlocked;
+	private boolean handshakeDone;
+	private boolean closed;
+	private volatile int soTimeout;
+
+	/**
+	 * @param loop
+	 * 		the loop that will do the I/O for this socket once it is connected
+	 * @param engine
+	 * 		the engine used for TLS, or null if the connection is not encrypted
+	 * @param bufferSize
+	 * 		the minimum size of the buffers used
+	 */
+	NioSocketImpl(final NioEventLoop loop, final SSLEngine engine, final int bufferSize) {
+		this.loop = loop;
+		this.engine = engine;
+		if (engine == null) {
+			appIn = ByteBuffer.allocate(bufferSize);
+			appOut = ByteBuffer.allocate(bufferSize);
+			netIn = null;
+			netOut = null;
+			handshakeDone = true;
+		} else {
+			final int appSize = Math.max(bufferSize, engine.getSession().getApplicationBufferSize());
+			final int netSize = Math.max(bufferSize, engine.getSession().getPacketBufferSize());
+			appIn = ByteBuffer.allocate(appSize);
+			appOut = ByteBuffer.allocate(appSize);
+			netIn = ByteBuffer.allocate(netSize);
+			netOut = ByteBuffer.allocate(netSize);
+		}
+	}
+
+	/**
+	 * Map the ID of a socket option, as used by {@link java.net.SocketOptions}, to the equivalent option of a channel
+	 *
+	 * @param optID
+	 * 		the ID of the option
+	 * @return the equivalent channel option
+	 * @throws SocketException
+	 * 		if the option is not supported
+	 */
+	static SocketOption<?> toChannelOption(final int optID) throws SocketException {
+		return switch (optID) {
+			case TCP_NODELAY -> StandardSocketOptions.TCP_NODELAY;
+			case SO_REUSEADDR -> StandardSocketOptions.SO_REUSEADDR;
+			case SO_KEEPALIVE -> StandardSocketOptions.SO_KEEPALIVE;
+			case SO_SNDBUF -> StandardSocketOptions.SO_SNDBUF;
+			case SO_RCVBUF -> StandardSocketOptions.SO_RCVBUF;
+			case SO_LINGER -> StandardSocketOptions.SO_LINGER;
+			case IP_TOS -> StandardSocketOptions.IP_TOS;
+			default -> throw new SocketException("Unsupported socket option: " + optID);
+		};
+	}
+
+	/**
+	 * @return a {@link SocketException} with the supplied cause
+	 */
+	static SocketException socketException(final String message, final Throwable cause) {
+		final SocketException e = new SocketException(message);
+		e.initCause(cause);
+		return e;
+	}
+
+	@Override
+	protected void create(final boolean stream) throws IOException {
+		if (!stream) {
+			throw new SocketException("Datagram sockets are not supported");
+		}
+		if (channel == null) {
+			channel = SocketChannel.open();
+		}
+	}
+
+	@Override
+	protected void connect(final String host, final int port) throws IOException {
+		connect(new InetSocketAddress(host, port), 0);
+	}
+
+	@Override
+	protected void connect(final InetAddress address, final int port) throws IOException {
+		connect(new InetSocketAddress(address, port), 0);
+	}
+
+	/**
+	 * Connects the channel in blocking mode, then hands it over to the event loop. If TLS is used, the handshake is
+	 * started by the event loop, see {@link #awaitHandshake(int)}.
+	 */
+	@Override
+	protected void connect(final SocketAddress address, final int timeout) throws IOException {
+		final InetSocketAddress remote = (InetSocketAddress) address;
+		if (remote.isUnresolved()) {
+			throw new UnknownHostException(remote.getHostName());
+		}
+		try {
+			channel.socket().connect(remote, timeout);
+			start();
+		} catch (final IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Use a channel accepted by a server socket for this socket, and hand it over to the event loop
+	 *
+	 * @param accepted
+	 * 		a newly accepted channel
+	 * @throws IOException
+	 * 		if the channel cannot be configured
+	 */
+	void accepted(final SocketChannel accepted) throws IOException {
+		channel = accepted;
+		start();
+	}
+
+	private void start() throws IOException {
+		channel.configureBlocking(false);
+		final InetSocketAddress remote = (InetSocketAddress) channel.getRemoteAddress();
+		this.address = remote.getAddress();
+		this.port = remote.getPort();
+		this.localport = ((InetSocketAddress) channel.getLocalAddress()).getPort();
+		loop.execute(this::register);
+	}
+
+	private void register() {
+		synchronized (lock) {
+			try {
+				key = channel.register(loop.getSelector(), SelectionKey.OP_READ, this);
+				if (engine != null) {
+					engine.beginHandshake();
+				}
+			} catch (final IOException e) {
+				fail(e);
+				return;
+			} catch (final ClosedSelectorException e) {
+				fail(socketException("NIO event loop has been stopped", e));
+				return;
+			}
+		}
+		pump();
+	}
+
+	/**
+	 * Make the loop move data between the channel and the buffers
+	 */
+	private void schedulePump() {
+		if (pumpScheduled.compareAndSet(false, true)) {
+			loop.execute(this::pump);
+		}
+	}
+
+	/**
+	 * Move as much data as possible between the channel and the buffers without blocking. Must only be called by the
+	 * event loop.
+	 */
+	void pump() {
+		pumpScheduled.set(false);
+		synchronized (lock) {
+			if (closed || key == null) {
+				return;
+			}
+			readBlocked = false;
+			try {
+				readFromChannel();
+				if (engine == null) {
+					endOfStream = channelEnded;
+				} else {
+					processTls();
+				}
+				writeToChannel();
+				updateInterest();
+			} catch (final IOException e) {
+				fail(e);
+			} catch (final RuntimeException e) {
+				fail(new SSLException("Unexpected failure of a NIO connection", e));
+			}
+			lock.notifyAll();
+		}
+	}
+
+	private void readFromChannel() throws IOException {
+		final ByteBuffer target = engine == null ? appIn : netIn;
+		if (!channelEnded && target.hasRemaining() && channel.read(target) < 0) {
+			channelEnded = true;
+		}
+	}
+
+	private void writeToChannel() throws IOException {
+		final ByteBuffer source = engine == null ? appOut : netOut;
+		if (source.position() > 0) {
+			source.flip();
+			try {
+				channel.write(source);
+			} finally {
+				source.compact();
+			}
+		}
+	}
+
+	/**
+	 * Drives the TLS engine until no more progress can be made without more data from the peer, more room in the
+	 * buffers, or the channel becoming writable
+	 */
+	private void processTls() throws IOException {
+		boolean progress = true;
+		boolean inputExhausted = false;
+		while (progress) {
+			progress = false;
+			SSLEngineResult.HandshakeStatus status = engine.getHandshakeStatus();
+			if (status == NEED_TASK) {
+				Runnable task;
+				while ((task = engine.getDelegatedTask()) != null) {
+					task.run();
+				}
+				progress = true;
+				continue;
+			}
+
+			if (status == NEED_UNWRAP || status == NEED_UNWRAP_AGAIN
+					|| (status == NOT_HANDSHAKING && netIn.position() > 0 && !engine.isInboundDone())) {
+				netIn.flip();
+				final SSLEngineResult result;
+				try {
+					result = engine.unwrap(netIn, appIn);
+				} finally {
+					netIn.compact();
+				}
+				checkHandshakeFinished(result);
+				switch (result.getStatus()) {
+					case OK -> progress = result.bytesConsumed() > 0 || result.bytesProduced() > 0
+							|| result.getHandshakeStatus() != status;
+					case BUFFER_UNDERFLOW -> inputExhausted = true;
+					case BUFFER_OVERFLOW -> readBlocked = true;
+					case CLOSED -> {
+						// the peer has sent close_notify, the reply is sent by the wrap below
+						inputExhausted = true;
+						channelEnded = true;
+						progress = result.getHandshakeStatus() != status;
+					}
+				}
+			} else if (netIn.position() == 0 || engine.isInboundDone()) {
+				inputExhausted = true;
+			}
+
+			status = engine.getHandshakeStatus();
+			if (status == NEED_WRAP || (status == NOT_HANDSHAKING && appOut.position() > 0)) {
+				if (engine.isOutboundDone()) {
+					throw new SocketException("TLS connection has been closed");
+				}
+				if (netOut.remaining() < engine.getSession().getPacketBufferSize()) {
+					writeToChannel();
+				}
+				progress |= wrap(status);
+			}
+		}
+		if (channelEnded && inputExhausted) {
+			if (!handshakeDone) {
+				throw new SSLHandshakeException("Connection closed by peer during the TLS handshake");
+			}
+			endOfStream = true;
+		}
+	}
+
+	/**
+	 * Wrap as much of {@link #appOut} into {@link #netOut} as possible, or the handshake or closure message that the
+	 * engine needs to send
+	 *
+	 * @param status
+	 * 		the handshake status before wrapping
+	 * @return true if the engine made progress
+	 */
+	private boolean wrap(final SSLEngineResult.HandshakeStatus status) throws IOException {
+		appOut.flip();
+		final SSLEngineResult result;
+		try {
+			result = engine.wrap(appOut, netOut);
+		} finally {
+			appOut.compact();
+		}
+		checkHandshakeFinished(result);
+		return switch (result.getStatus()) {
+			case OK, CLOSED -> result.bytesConsumed() > 0 || result.bytesProduced() > 0
+					|| result.getHandshakeStatus() != status;
+			// the loop will try again once the channel is writable
+			case BUFFER_OVERFLOW, BUFFER_UNDERFLOW -> false;
+		};
+	}
+
+	private void checkHandshakeFinished(final SSLEngineResult result) {
+		if (result.getHandshakeStatus() == FINISHED) {
+			handshakeDone = true;
+		}
+	}
+
+	private void updateInterest() {
+		int ops = 0;
+		if (!channelEnded && !readBlocked && (engine == null ? appIn : netIn).hasRemaining()) {
+			ops |= SelectionKey.OP_READ;
+		}
+		readBlocked = (ops & SelectionKey.OP_READ) == 0 && !channelEnded;
+		if ((engine == null ? appOut : netOut).position() > 0
+				|| (engine != null && engine.getHandshakeStatus() == NEED_WRAP)) {
+			ops |= SelectionKey.OP_WRITE;
+		}
+		if (key.isValid() && key.interestOps() != ops) {
+			key.interestOps(ops);
+		}
+	}
+
+	/**
+	 * Close the connection because of an error
+	 *
+	 * @param e
+	 * 		the error, it is the cause of the exceptions thrown to the application from now on
+	 */
+	void fail(final IOException e) {
+		synchronized (lock) {
+			if (failure == null) {
+				failure = e;
+			}
+			closeChannel();
+		}
+	}
+
+	/**
+	 * Close the channel and wake up all threads waiting on this socket, must be called while holding {@link #lock}
+	 */
+	private void closeChannel() {
+		closed = true;
+		try {
+			if (channel != null) {
+				channel.close();
+			}
+		} catch (final IOException ignored) {
+			// we are closing anyway
+		}
+		lock.notifyAll();
+	}
+
+	/**
+	 * Throw an exception if this socket can no longer be used, must be called while holding {@link #lock}
+	 */
+	private void checkUsable() throws IOException {
+		if (failure != null) {
+			throw socketException("Connection failed: " + failure.getMessage(), failure);
+		}
+		if (closed) {
+			throw new SocketException("Socket is closed");
+		}
+	}
+
+	/**
+	 * Wait until the TLS handshake is done
+	 *
+	 * @param timeoutMillis
+	 * 		the maximum amount of time to wait, 0 means wait forever
+	 * @throws IOException
+	 * 		if the handshake fails or times out
+	 */
+	void awaitHandshake(final int timeoutMillis) throws IOException {
+		synchronized (lock) {
+			final long deadline = System.currentTimeMillis() + timeoutMillis;
+			while (!handshakeDone) {
+				checkUsable();
+				waitUntil(deadline, timeoutMillis, "TLS handshake timed out");
+			}
+		}
+	}
+
+	/**
+	 * Wait on {@link #lock} until notified or until the deadline passes
+	 *
+	 * @param deadline
+	 * 		the time at which to give up, ignored if the timeout is 0
+	 * @param timeoutMillis
+	 * 		the timeout the deadline was computed from, 0 means wait forever
+	 * @param timeoutMessage
+	 * 		the message of the exception thrown if the deadline has passed
+	 */
+	private void waitUntil(final long deadline, final int timeoutMillis, final String timeoutMessage)
+			throws IOException {
+		try {
+			if (timeoutMillis <= 0) {
+				lock.wait();
+				return;
+			}
+			final long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				throw new SocketTimeoutException(timeoutMessage);
+			}
+			lock.wait(remaining);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting on a socket");
+		}
+	}
+
+	@Override
+	protected InputStream getInputStream() {
+		return inputStream;
+	}
+
+	@Override
+	protected OutputStream getOutputStream() {
+		return outputStream;
+	}
+
+	@Override
+	protected int available() {
+		synchronized (lock) {
+			return appIn.position();
+		}
+	}
+
+	/**
+	 * Closes the connection. Bytes that have been written but not sent yet are sent if the channel can take them
+	 * without blocking, and a TLS connection sends its closure message the same way.
+	 */
+	@Override
+	protected void close() {
+		synchronized (lock) {
+			if (closed) {
+				return;
+			}
+			// the channel may not have been registered with the loop yet, but it can be written to already
+			if (failure == null && channel != null && channel.isConnected()) {
+				try {
+					if (engine != null && handshakeDone) {
+						processTls();
+						engine.closeOutbound();
+						wrap(engine.getHandshakeStatus());
+					}
+					writeToChannel();
+				} catch (final IOException | RuntimeException ignored) {
+					// the connection is being closed, the peer will see it end without the remaining bytes
+				}
+			}
+			closeChannel();
+		}
+	}
+
+	@Override
+	protected void sendUrgentData(final int data) throws IOException {
+		throw new SocketException("Urgent data is not supported");
+	}
+
+	@Override
+	protected void bind(final InetAddress host, final int port) throws IOException {
+		channel.bind(new InetSocketAddress(host, port));
+	}
+
+	@Override
+	protected void listen(final int backlog) throws IOException {
+		throw new SocketException("Listening is not supported by client sockets");
+	}
+
+	@Override
+	protected void accept(final SocketImpl s) throws IOException {
+		throw new SocketException("Accepting is not supported by client sockets");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void setOption(final int optID, final Object value) throws SocketException {
+		if (optID == SO_TIMEOUT) {
+			soTimeout = (Integer) value;
+			return;
+		}
+		// a disabled linger time is passed as false by Socket, but as a negative number to a channel
+		final Object channelValue = optID == SO_LINGER && value instanceof Boolean ? -1 : value;
+		try {
+			channel.setOption((SocketOption<Object>) toChannelOption(optID), channelValue);
+		} catch (final IOException e) {
+			throw socketException("Unable to set socket option " + optID, e);
+		}
+	}
+
+	@Override
+	public Object getOption(final int optID) throws SocketException {
+		try {
+			return switch (optID) {
+				case SO_TIMEOUT -> soTimeout;
+				case SO_BINDADDR -> ((InetSocketAddress) channel.getLocalAddress()).getAddress();
+				default -> channel.getOption(toChannelOption(optID));
+			};
+		} catch (final IOException e) {
+			throw socketException("Unable to get socket option " + optID, e);
+		}
+	}
+
+	@Override
+	protected <T> void setOption(final SocketOption<T> name, final T value) throws IOException {
+		channel.setOption(name, value);
+	}
+
+	@Override
+	protected <T> T getOption(final SocketOption<T> name) throws IOException {
+		return channel.getOption(name);
+	}
+
+	@Override
+	protected Set<SocketOption<?>> supportedOptions() {
+		return channel.supportedOptions();
+	}
+
+	private class NioInputStream extends InputStream {
+		@Override
+		public int read() throws IOException {
+			final byte[] single = new byte[1];
+			return read(single, 0, 1) < 0 ? -1 : (single[0] & 0xFF);
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			synchronized (lock) {
+				final int timeout = soTimeout;
+				final long deadline = System.currentTimeMillis() + timeout;
+				while (appIn.position() == 0) {
+					if (endOfStream) {
+						return -1;
+					}
+					checkUsable();
+					waitUntil(deadline, timeout, "Read timed out");
+				}
+				appIn.flip();
+				final int toRead = Math.min(len, appIn.remaining());
+				appIn.get(b, off, toRead);
+				appIn.compact();
+				if (readBlocked) {
+					schedulePump();
+				}
+				return toRead;
+			}
+		}
+
+		@Override
+		public int available() {
+			return NioSocketImpl.this.available();
+		}
+	}
+
+	/**
+	 * Like the output stream of a regular socket, writes block until the bytes have been taken by the loop, which is
+	 * only limited by the peer reading them, and are not subject to the read timeout.
+	 */
+	private class NioOutputStream extends OutputStream {
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+			synchronized (lock) {
+				int offset = off;
+				int remaining = len;
+				while (remaining > 0) {
+					checkUsable();
+					if (!appOut.hasRemaining()) {
+						schedulePump();
+						waitUntil(0, 0, null);
+						continue;
+					}
+					final int toWrite = Math.min(remaining, appOut.remaining());
+					appOut.put(b, offset, toWrite);
+					offset += toWrite;
+					remaining -= toWrite;
+				}
+				schedulePump();
+			}
+		}
+
+		/**
+		 * Waits until all bytes written have been handed to the channel
+		 */
+		@Override
+		public void flush() throws IOException {
+			synchronized (lock) {
+				schedulePump();
+				while (appOut.position() > 0 || (netOut != null && netOut.position() > 0)) {
+					checkUsable();
+					waitUntil(0, 0, null);
+				}
+			}
+		}
+	}
+}
@@ -26,11 +26,15 @@ import com.swirlds.platform.network.ByteConstants;
 import com.swirlds.platform.network.ConnectionTracker;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.connection.NotConnectedConnection;
+import com.swirlds.platform.network.framing.FrameCompressionStats;
 import com.swirlds.platform.sync.SyncInputStream;
 import com.swirlds.platform.sync.SyncOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.Socket;
@@ -89,19 +93,40 @@ public class OutboundConnectionCreator {
 		try {
 			clientSocket = socketFactory.createClientSocket(ipAddress, port);
 
-			dos = SyncOutputStream.createSyncOutputStream(clientSocket.getOutputStream(),
-					settings.connectionStreamBufferSize());
-			dis = SyncInputStream.createSyncInputStream(clientSocket.getInputStream(),
-					settings.connectionStreamBufferSize());
+			// the handshake is read without buffering, so that no bytes sent after it are consumed before we know
+			// which streams to use for the rest of the connection, writes are buffered until they are flushed
+			final DataOutputStream handshakeOut = new DataOutputStream(
+					new BufferedOutputStream(clientSocket.getOutputStream(), settings.connectionStreamBufferSize()));
+			final DataInputStream handshakeIn = new DataInputStream(clientSocket.getInputStream());
 
-			dos.writeUTF(addressBook.getAddress(selfId.getId()).getNickname());
-			dos.flush();
+			handshakeOut.writeUTF(addressBook.getAddress(selfId.getId()).getNickname());
+			handshakeOut.flush();
 
-			final int ack = dis.readInt(); // read the ACK for creating the connection
-			if (ack != ByteConstants.COMM_CONNECT) {  // this is an ACK for creating the connection
+			final int ack = handshakeIn.readInt(); // read the ACK for creating the connection
+			final boolean compress;
+			if (ack == ByteConstants.COMM_CONNECT_COMPRESSED) {
+				// the listener offers compression, it is only used if we also want it
+				compress = settings.isGossipCompression();
+				handshakeOut.writeBoolean(compress);
+				handshakeOut.flush();
+			} else if (ack == ByteConstants.COMM_CONNECT) {  // this is an ACK for creating the connection
+				compress = false;
+			} else {
 				throw new ConnectException("ack is not " + ByteConstants.COMM_CONNECT
 						+ ", it is " + ack);
 			}
+			if (compress) {
+				final FrameCompressionStats compressionStats = new FrameCompressionStats();
+				dos = SyncOutputStream.createCompressedSyncOutputStream(clientSocket.getOutputStream(),
+						settings.connectionStreamBufferSize(), settings.getGossipFrameSize(), compressionStats);
+				dis = SyncInputStream.createCompressedSyncInputStream(clientSocket.getInputStream(),
+						settings.connectionStreamBufferSize(), compressionStats);
+			} else {
+				dos = SyncOutputStream.createSyncOutputStream(clientSocket.getOutputStream(),
+						settings.connectionStreamBufferSize());
+				dis = SyncInputStream.createSyncInputStream(clientSocket.getInputStream(),
+						settings.connectionStreamBufferSize());
+			}
 			LOG.debug(NETWORK.getMarker(),
 					"`connect` : finished, {} connected to {}",
 					selfId, otherId);
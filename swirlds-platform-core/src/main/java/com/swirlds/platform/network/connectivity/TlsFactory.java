@@ -59,6 +59,24 @@ public class TlsFactory implements SocketFactory {
 			throws NoSuchAlgorithmException, UnrecoverableKeyException, KeyStoreException, KeyManagementException,
 			CertificateException, IOException {
 		this.settings = settings;
+		final SSLContext sslContext = createSslContext(keysAndCerts, settings);
+		sslServerSocketFactory = sslContext.getServerSocketFactory();
+		sslSocketFactory = sslContext.getSocketFactory();
+	}
+
+	/**
+	 * Create the SSLContext used for all TLS connections, it trusts the certificates in the trustStore of the supplied
+	 * keys and certs, and authenticates with its agreement key.
+	 *
+	 * @param keysAndCerts
+	 * 		the keys and certificates of this node, and the trustStore with the certificates of all members
+	 * @param settings
+	 * 		the settings that provide the keystore password
+	 * @return the new SSLContext, which is also set as the default
+	 */
+	public static SSLContext createSslContext(final KeysAndCerts keysAndCerts, final SettingsProvider settings)
+			throws NoSuchAlgorithmException, UnrecoverableKeyException, KeyStoreException, KeyManagementException,
+			CertificateException, IOException {
 		final char[] password = settings.getKeystorePassword().toCharArray();
 		/* nondeterministic CSPRNG */
 		final SecureRandom nonDetRandom = CryptoStatic.getNonDetRandom();
@@ -82,8 +100,7 @@ public class TlsFactory implements SocketFactory {
 		sslContext.init(keyManagerFactory.getKeyManagers(),
 				trustManagerFactory.getTrustManagers(),
 				nonDetRandom);
-		sslServerSocketFactory = sslContext.getServerSocketFactory();
-		sslSocketFactory = sslContext.getSocketFactory();
+		return sslContext;
 	}
 
 	@Override
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.framing;
+
+import com.swirlds.common.utility.CommonUtils;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.swirlds.platform.network.framing.CompressedFrameOutputStream.FRAME_DEFLATED;
+import static com.swirlds.platform.network.framing.CompressedFrameOutputStream.FRAME_RAW;
+
+/**
+ * Reads the frames written by a {@link CompressedFrameOutputStream} and exposes their uncompressed contents as a
+ * continuous stream of bytes.
+ * <p>
+ * This class is thread safe in the same way {@link java.io.BufferedInputStream} is.
+ */
+public class CompressedFrameInputStream extends InputStream {
+	/** the largest frame we will accept from a peer, to protect against huge allocations */
+	static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+	private final DataInputStream in;
+	private final FrameCompressionStats stats;
+	private final Inflater inflater = new Inflater();
+	/** the uncompressed contents of the current frame */
+	private byte[] frame;
+	/** holds the compressed payload of a frame before it is inflated */
+	private byte[] compressed;
+	/** the number of valid bytes in {@link #frame} */
+	private int frameLength;
+	/** the position of the next byte to read from {@link #frame} */
+	private int position;
+
+	/**
+	 * @param in
+	 * 		the stream to read frames from
+	 * @param initialFrameSize
+	 * 		the initial size of the frame buffers, they will grow if the peer sends larger frames
+	 * @param stats
+	 * 		the counters to update when decompressing frames
+	 */
+	public CompressedFrameInputStream(
+			final InputStream in,
+			final int initialFrameSize,
+			final FrameCompressionStats stats) {
+		CommonUtils.throwArgNull(in, "in");
+		CommonUtils.throwArgNull(stats, "stats");
+		this.in = new DataInputStream(in);
+		this.stats = stats;
+		this.frame = new byte[initialFrameSize];
+		this.compressed = new byte[initialFrameSize];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized int read() throws IOException {
+		if (position == frameLength && !readFrame()) {
+			return -1;
+		}
+		return frame[position++] & 0xFF;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized int read(final byte[] b, final int off, final int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (position == frameLength && !readFrame()) {
+			return -1;
+		}
+		final int toCopy = Math.min(len, frameLength - position);
+		System.arraycopy(frame, position, b, off, toCopy);
+		position += toCopy;
+		return toCopy;
+	}
+
+	/**
+	 * Only the bytes remaining in the current frame are reported as available, since reading the next frame may block
+	 */
+	@Override
+	public synchronized int available() {
+		return frameLength - position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			in.close();
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Reads the next non-empty frame from the underlying stream
+	 *
+	 * @return false if the end of the stream has been reached before a new frame started
+	 * @throws IOException
+	 * 		if the stream fails or the frame is malformed
+	 */
+	private boolean readFrame() throws IOException {
+		do {
+			final int type = in.read();
+			if (type < 0) {
+				return false;
+			}
+			final int wireLength = readLength();
+			switch (type) {
+				case FRAME_RAW -> {
+					frame = ensureCapacity(frame, wireLength);
+					in.readFully(frame, 0, wireLength);
+					frameLength = wireLength;
+				}
+				case FRAME_DEFLATED -> {
+					final int uncompressedLength = readLength();
+					compressed = ensureCapacity(compressed, wireLength);
+					frame = ensureCapacity(frame, uncompressedLength);
+					in.readFully(compressed, 0, wireLength);
+					inflate(wireLength, uncompressedLength);
+					frameLength = uncompressedLength;
+				}
+				default -> throw new IOException(String.format("Unknown frame type: %02X", type));
+			}
+			position = 0;
+		} while (frameLength == 0);
+		return true;
+	}
+
+	private int readLength() throws IOException {
+		final int length;
+		try {
+			length = in.readInt();
+		} catch (final EOFException e) {
+			throw new EOFException("Stream ended in the middle of a frame header");
+		}
+		if (length < 0 || length > MAX_FRAME_SIZE) {
+			throw new IOException(String.format("Illegal frame length: %d, max is %d", length, MAX_FRAME_SIZE));
+		}
+		return length;
+	}
+
+	private void inflate(final int compressedLength, final int uncompressedLength) throws IOException {
+		final long start = System.nanoTime();
+		inflater.reset();
+		inflater.setInput(compressed, 0, compressedLength);
+		try {
+			int length = 0;
+			while (length < uncompressedLength && !inflater.finished()) {
+				final int inflated = inflater.inflate(frame, length, uncompressedLength - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+			if (length != uncompressedLength || !inflater.finished()) {
+				throw new IOException(String.format(
+						"Frame inflated to %d bytes, expected %d", length, uncompressedLength));
+			}
+		} catch (final DataFormatException e) {
+			throw new IOException("Malformed compressed frame", e);
+		} finally {
+			stats.codecTime(System.nanoTime() - start);
+		}
+	}
+
+	private static byte[] ensureCapacity(final byte[] buffer, final int length) {
+		if (buffer.length >= length) {
+			return buffer;
+		}
+		return new byte[length];
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.framing;
+
+import com.swirlds.common.utility.CommonUtils;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+/**
+ * An output stream that collects everything written to it into frames, and compresses each frame before sending it.
+ * A frame is sent when the frame buffer is full or when the stream is flushed. Since the sync and chatter protocols
+ * only flush after writing a batch of events, a single frame usually contains many events, which gives the
+ * compressor much more redundancy to work with than a single event would.
+ * <p>
+ * Each frame on the wire has the following format:
+ * <pre>
+ * byte  frame type ({@link #FRAME_RAW} or {@link #FRAME_DEFLATED})
+ * int   payload length on the wire
+ * int   uncompressed payload length (only if the frame type is {@link #FRAME_DEFLATED})
+ * byte[] payload
+ * </pre>
+ * Frames that are too small to benefit from compression, or that would not shrink, are sent raw.
+ * <p>
+ * This class is thread safe in the same way {@link java.io.BufferedOutputStream} is.
+ */
+public class CompressedFrameOutputStream extends OutputStream {
+	/** the frame payload is sent as is */
+	static final byte FRAME_RAW = 0;
+	/** the frame payload is compressed with {@link Deflater} */
+	static final byte FRAME_DEFLATED = 1;
+	/** frames smaller than this are not worth compressing */
+	static final int MIN_COMPRESSION_SIZE = 256;
+
+	private final DataOutputStream out;
+	private final FrameCompressionStats stats;
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+	/** accumulates the bytes of the frame currently being written */
+	private final byte[] frame;
+	/** holds the compressed version of a frame, it can be larger than the frame if the data is incompressible */
+	private final byte[] compressed;
+	/** the number of bytes in {@link #frame} */
+	private int frameLength;
+
+	/**
+	 * @param out
+	 * 		the stream to write frames to
+	 * @param frameSize
+	 * 		the maximum number of uncompressed bytes in a single frame
+	 * @param stats
+	 * 		the counters to update for every frame written
+	 */
+	public CompressedFrameOutputStream(
+			final OutputStream out,
+			final int frameSize,
+			final FrameCompressionStats stats) {
+		CommonUtils.throwArgNull(out, "out");
+		CommonUtils.throwArgNull(stats, "stats");
+		if (frameSize <= 0 || frameSize > CompressedFrameInputStream.MAX_FRAME_SIZE) {
+			throw new IllegalArgumentException("Illegal frame size: " + frameSize);
+		}
+		this.out = new DataOutputStream(out);
+		this.stats = stats;
+		this.frame = new byte[frameSize];
+		// deflate can expand incompressible input slightly, but we never send a compressed frame larger than the
+		// original, so there is no need for more space than the frame itself
+		this.compressed = new byte[frameSize];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void write(final int b) throws IOException {
+		if (frameLength == frame.length) {
+			writeFrame();
+		}
+		frame[frameLength++] = (byte) b;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+		int offset = off;
+		int remaining = len;
+		while (remaining > 0) {
+			if (frameLength == frame.length) {
+				writeFrame();
+			}
+			final int toCopy = Math.min(remaining, frame.length - frameLength);
+			System.arraycopy(b, offset, frame, frameLength, toCopy);
+			frameLength += toCopy;
+			offset += toCopy;
+			remaining -= toCopy;
+		}
+	}
+
+	/**
+	 * Sends all the data written so far as a frame, and flushes the underlying stream
+	 */
+	@Override
+	public synchronized void flush() throws IOException {
+		writeFrame();
+		out.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			out.close();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Writes the buffered bytes as a single frame, compressing them if that is beneficial
+	 */
+	private void writeFrame() throws IOException {
+		if (frameLength == 0) {
+			return;
+		}
+		final int compressedLength = frameLength < MIN_COMPRESSION_SIZE ? -1 : compress();
+		if (compressedLength > 0) {
+			out.writeByte(FRAME_DEFLATED);
+			out.writeInt(compressedLength);
+			out.writeInt(frameLength);
+			out.write(compressed, 0, compressedLength);
+			stats.frameWritten(frameLength, compressedLength);
+		} else {
+			out.writeByte(FRAME_RAW);
+			out.writeInt(frameLength);
+			out.write(frame, 0, frameLength);
+			stats.frameWritten(frameLength, frameLength);
+		}
+		frameLength = 0;
+	}
+
+	/**
+	 * Compresses the current frame into {@link #compressed}
+	 *
+	 * @return the compressed length, or -1 if the frame did not shrink when compressed
+	 */
+	private int compress() {
+		final long start = System.nanoTime();
+		deflater.reset();
+		deflater.setInput(frame, 0, frameLength);
+		deflater.finish();
+		int length = 0;
+		while (!deflater.finished() && length < compressed.length) {
+			length += deflater.deflate(compressed, length, compressed.length - length);
+		}
+		final boolean shrunk = deflater.finished() && length < frameLength;
+		stats.codecTime(System.nanoTime() - start);
+		return shrunk ? length : -1;
+	}
+}
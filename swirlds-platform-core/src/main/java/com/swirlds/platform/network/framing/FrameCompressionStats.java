@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.framing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters kept by the compressed frame streams of a single connection. The values are accumulated until they are
+ * read and reset by {@link com.swirlds.platform.network.NetworkMetrics}.
+ */
+public class FrameCompressionStats {
+	/** number of payload bytes written into frames, before compression */
+	private final LongAdder bytesBeforeCompression = new LongAdder();
+	/** number of payload bytes written to the wire, after compression */
+	private final LongAdder bytesAfterCompression = new LongAdder();
+	/** number of frames written */
+	private final LongAdder framesWritten = new LongAdder();
+	/** time spent compressing and decompressing frames, in nanoseconds */
+	private final LongAdder codecNanos = new LongAdder();
+
+	/**
+	 * Record a frame that was written to the wire
+	 *
+	 * @param uncompressedLength
+	 * 		the number of payload bytes in the frame
+	 * @param wireLength
+	 * 		the number of payload bytes actually sent
+	 */
+	public void frameWritten(final int uncompressedLength, final int wireLength) {
+		bytesBeforeCompression.add(uncompressedLength);
+		bytesAfterCompression.add(wireLength);
+		framesWritten.increment();
+	}
+
+	/**
+	 * Record time spent in the compression codec
+	 *
+	 * @param nanos
+	 * 		the time spent, in nanoseconds
+	 */
+	public void codecTime(final long nanos) {
+		codecNanos.add(nanos);
+	}
+
+	/**
+	 * @return the number of payload bytes written before compression since the last reset
+	 */
+	public long getAndResetBytesBeforeCompression() {
+		return bytesBeforeCompression.sumThenReset();
+	}
+
+	/**
+	 * @return the number of payload bytes sent after compression since the last reset
+	 */
+	public long getAndResetBytesAfterCompression() {
+		return bytesAfterCompression.sumThenReset();
+	}
+
+	/**
+	 * @return the number of frames written since the last reset
+	 */
+	public long getAndResetFramesWritten() {
+		return framesWritten.sumThenReset();
+	}
+
+	/**
+	 * @return the time spent compressing and decompressing since the last reset, in nanoseconds
+	 */
+	public long getAndResetCodecNanos() {
+		return codecNanos.sumThenReset();
+	}
+}
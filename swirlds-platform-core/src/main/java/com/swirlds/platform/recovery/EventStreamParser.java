@@ -18,18 +18,23 @@ package com.swirlds.platform.recovery;
 
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.internal.SettingsCommon;
+import com.swirlds.common.stream.StreamFileReadAhead;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.platform.Browser;
 import com.swirlds.platform.Settings;
 import com.swirlds.platform.internal.EventImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -48,12 +53,15 @@ import static com.swirlds.platform.EventFileParser.parseEventStreamFile;
 
 /**
  * Parses event stream file and buffers the events for retrieval. Entire files are parsed, so events before the start
- * time may be put into the queue. Events after the stop time are not put into the queue.
+ * time may be put into the queue. Events after the stop time are not put into the queue. Several files are parsed at
+ * the same time, but events are queued in the order they appear in the stream.
  */
 public class EventStreamParser {
 
 	private static final Logger LOG = LogManager.getLogger();
 	private static final int EVENTS_QUEUE_CAPACITY = 100_000;
+	/** the number of event stream files parsed at the same time */
+	private static final int PARSER_THREADS = Runtime.getRuntime().availableProcessors();
 	private final BlockingQueue<EventImpl> events = new LinkedBlockingQueue<>(EVENTS_QUEUE_CAPACITY);
 	private final Path eventStreamDir;
 	private final Instant startTimestamp;
@@ -175,8 +183,39 @@ public class EventStreamParser {
 	private void parseEventFolder() {
 		LOG.info(EVENT_PARSER.getMarker(), "Loading event file from {} ", () -> eventStreamDir);
 
-		final LinkedList<Path> filesBeforeEndTime = getFilesBeforeEndTime();
+		final List<File> filesToParse = getFilesToParse();
+		if (filesToParse.isEmpty()) {
+			return;
+		}
+		sendInitialHash(filesToParse.get(0).toPath());
+
+		// settings are populated once here, the workers must not rewrite them while other workers are hashing
+		if (populateSettingsCommon) {
+			Browser.populateSettingsCommon();
+		}
+
+		// files are parsed and their events hashed on worker threads, events are still queued in file order
+		try (final StreamFileReadAhead<List<EventImpl>> reader =
+					 new StreamFileReadAhead<>(filesToParse, this::readEventsFromFile, PARSER_THREADS)) {
+			while (reader.hasNext()) {
+				for (final EventImpl event : reader.next()) {
+					if (!handleParsedEvent(event)) {
+						return;
+					}
+				}
+			}
+		} catch (final InterruptedException e) {
+			LOG.error(EXCEPTION.getMarker(), "Interrupted while parsing event stream files", e);
+			Thread.currentThread().interrupt();
+		}
+	}
 
+	/**
+	 * @return the files that could contain events in the time range, in order
+	 */
+	private List<File> getFilesToParse() {
+		final LinkedList<Path> filesBeforeEndTime = getFilesBeforeEndTime();
+		final List<File> filesToParse = new ArrayList<>();
 
 		for (final ListIterator<Path> it = filesBeforeEndTime.listIterator(); it.hasNext(); ) {
 			final Path currentFile = it.next();
@@ -186,14 +225,15 @@ public class EventStreamParser {
 				// to make sure we parse all files that could have events in the time range
 				final Path nextFile = filesBeforeEndTime.get(it.nextIndex());
 				if (timestamp(nextFile).isAfter(startTimestamp)) {
-					readEventsFromFile(currentFile);
+					filesToParse.add(currentFile.toFile());
 				}
 			} else {
 				// Always parse the last file. There is no way to know the
 				// timestamp of the last event without reading the events in the file
-				readEventsFromFile(currentFile);
+				filesToParse.add(currentFile.toFile());
 			}
 		}
+		return filesToParse;
 	}
 
 	private void sendInitialHash(final Path path) {
@@ -205,10 +245,11 @@ public class EventStreamParser {
 		}
 	}
 
-	private void readEventsFromFile(final Path path) {
-		LOG.info(EVENT_PARSER.getMarker(), "Parsing events in file {}", () -> filename(path));
-		sendInitialHash(path);
-		parseEventStreamFile(path, this::handleParsedEvent, populateSettingsCommon);
+	private List<EventImpl> readEventsFromFile(final File file) {
+		LOG.info(EVENT_PARSER.getMarker(), "Parsing events in file {}", file::getName);
+		final List<EventImpl> parsedEvents = new ArrayList<>();
+		parseEventStreamFile(file.toPath(), (final Event event) -> parsedEvents.add((EventImpl) event), false);
+		return parsedEvents;
 	}
 
 	private boolean handleParsedEvent(final Event e) {
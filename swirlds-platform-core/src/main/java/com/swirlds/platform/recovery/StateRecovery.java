@@ -38,6 +38,7 @@ import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.concurrent.TimeUnit;
 
+import static com.swirlds.common.utility.Units.NANOSECONDS_TO_SECONDS;
 import static com.swirlds.logging.LogMarker.EVENT_PARSER;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.platform.system.SystemExitReason.SAVED_STATE_NOT_LOADED;
@@ -47,6 +48,11 @@ import static com.swirlds.platform.system.SystemUtils.exitSystem;
  * Performs state recovery in the event of a node crashing. The last signed state saved on disk is loaded and events
  * from the event stream are replayed to get the latest signed state. Once the signed state for the last complete round
  * is written to disk, the node shuts down.
+ * <p>
+ * With {@link SettingsProvider#isPlaybackFastReplay()} enabled, periodic signed states are not created for the rounds
+ * in between, so only the state of the last complete round is hashed, signed and saved, unless a round with a shutdown
+ * event or in a freeze period is reached first. Consecutive rounds are applied to the state in batches, and the rate
+ * is reported by the {@code replayEvents/sec} metric.
  */
 public class StateRecovery {
 
@@ -65,6 +71,10 @@ public class StateRecovery {
 	private final Instant endTimestamp;
 	/** The last complete recovered round */
 	private long lastCompleteRound = Long.MAX_VALUE;
+	/** The time recovery started, in nanoseconds */
+	private long replayStartNanos;
+	/** The number of events aggregated into rounds to be applied to the state */
+	private long replayedEvents;
 
 	/**
 	 * @param selfId
@@ -130,6 +140,13 @@ public class StateRecovery {
 				"State recover process started. Last timestamp from loaded state is {} of round {}",
 				startTimestamp,
 				signedState.getRound());
+		replayStartNanos = System.nanoTime();
+
+		if (settings.isPlaybackFastReplay()) {
+			// only the state of the last recovered round is signed and saved
+			LOG.info(EVENT_PARSER.getMarker(), "Fast replay enabled, intermediate signed states will not be created");
+			consensusRoundHandler.startReplay();
+		}
 
 		final EventStreamParser parser = new EventStreamParser(
 				getEventStreamDir(),
@@ -164,6 +181,8 @@ public class StateRecovery {
 		// consensus round handler. Store the last complete round number so that we know to save it to disk regardless
 		// of the state saving settings.
 		lastCompleteRound = aggregator.noMoreEvents();
+		consensusRoundHandler.setReplayEndRound(lastCompleteRound);
+		replayedEvents = aggregator.getTotalEvents();
 
 		// Register a shutdown hook for the last signed state written to disk
 		registerShutdownListener();
@@ -187,6 +206,7 @@ public class StateRecovery {
 				aggregator.getTotalEvents(),
 				aggregator.getTotalRounds());
 		LOG.info(EVENT_PARSER.getMarker(), "roundOfLastRecoveredEvent {}", aggregator.getLastCompleteRound());
+		logReplayRate("Parsed and routed", totalRouted);
 
 		if (parser.getEventCounter() == 0) {
 			LOG.info(EVENT_PARSER.getMarker(), "No event parsed from event files");
@@ -201,6 +221,7 @@ public class StateRecovery {
 				LOG.info(EVENT_PARSER.getMarker(), () -> new RecoveredStateSavedPayload(
 						"Last recovered signed state has been saved in state recover mode.",
 						notification.getRoundNumber()).toString());
+				logReplayRate("Replayed", replayedEvents);
 				// sleep 10 secs to let event stream finish writing the last file
 				try {
 					TimeUnit.SECONDS.sleep(WAIT_SEC_FOR_EVENT_FLUSH);
@@ -213,6 +234,13 @@ public class StateRecovery {
 		});
 	}
 
+	private void logReplayRate(final String action, final long events) {
+		final double seconds = (System.nanoTime() - replayStartNanos) * NANOSECONDS_TO_SECONDS;
+		LOG.info(EVENT_PARSER.getMarker(), "{} {} events in {} seconds ({} events/sec)",
+				action, events, String.format("%.1f", seconds),
+				String.format("%.1f", seconds > 0 ? events / seconds : 0));
+	}
+
 	/**
 	 * This method is called when a signed state is constructed during recovery.
 	 *
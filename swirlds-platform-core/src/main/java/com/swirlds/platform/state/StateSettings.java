@@ -59,6 +59,32 @@ public class StateSettings extends SubSetting {
 	 */
 	public int signedStateDisk = 3;
 
+	/**
+	 * If true, large subtrees of the state are written to their own files in parallel with the rest of the state,
+	 * and are read back in parallel when the state is loaded. States written this way can always be read, regardless
+	 * of the value of this setting.
+	 */
+	public boolean shardedStateFiles = false;
+
+	/**
+	 * If true, states are written in shards as if {@link #shardedStateFiles} was enabled, and shards that are
+	 * identical to a shard of a state already saved on disk are hard linked to that state's files instead of being
+	 * written again. A shard's files are removed from disk once all states that use them have been deleted.
+	 */
+	public boolean incrementalStateFiles = false;
+
+	/**
+	 * The approximate number of merkle nodes in each separately written subtree when {@link #shardedStateFiles} or
+	 * {@link #incrementalStateFiles} is enabled. Subtrees with fewer nodes are written to the main state file.
+	 * Smaller shards are more likely to be unchanged between incremental saves.
+	 */
+	public int stateShardSize = 1_000_000;
+
+	/**
+	 * The maximum number of threads used to write or read the subtrees of a sharded state.
+	 */
+	public int stateShardThreads = Runtime.getRuntime().availableProcessors();
+
 	/**
 	 * Events this many rounds old are expired, and can be deleted from memory
 	 */
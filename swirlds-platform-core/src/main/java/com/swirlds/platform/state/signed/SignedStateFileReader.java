@@ -16,11 +16,18 @@
 
 package com.swirlds.platform.state.signed;
 
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.extendable.ExtendableInputStream;
+import com.swirlds.common.io.extendable.extensions.HashingStreamExtension;
+import com.swirlds.common.io.streams.DetachedSubtree;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.logging.LogMarker;
+import com.swirlds.platform.Settings;
 import com.swirlds.platform.state.State;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,15 +38,26 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static com.swirlds.common.io.streams.StreamDebugUtils.deserializeAndDebugOnFailure;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.FILE_VERSION;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.INCREMENTAL_FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.MAX_MERKLE_NODES_IN_STATE;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.SHARDED_FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.STATE_SHARD_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.VERSIONED_FILE_BYTE;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStatesDirectoryForSwirld;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.getStateShardDirectory;
+import static com.swirlds.platform.state.signed.StateShards.awaitShard;
+import static com.swirlds.platform.state.signed.StateShards.buildShardExecutor;
 import static com.swirlds.platform.system.SystemExitReason.SAVED_STATE_NOT_LOADED;
 import static com.swirlds.platform.system.SystemUtils.exitSystem;
 import static java.nio.file.Files.exists;
@@ -109,7 +127,121 @@ public final class SignedStateFileReader {
 	}
 
 	/**
-	 * Reads a SignedState from disk
+	 * Read the remainder of a sharded signed state file. All shards are read in parallel while the main tree is
+	 * read, and each shard file is checked against the hash recorded for it at the end of the main file. Each shard
+	 * is initialized, migrated and then hashed by the thread that read it, and it is not initialized again when the
+	 * main tree is initialized. Since a shard is only hashed once none of its nodes can change anymore, its hash can
+	 * not be stale.
+	 *
+	 * @param in
+	 * 		the stream of the main file, positioned after the protocol version
+	 * @param directory
+	 * 		the directory of the signed state
+	 * @param incremental
+	 * 		true if the shard directories are named after the hashes of the shards
+	 * @return the state, its hash, and its signatures
+	 * @throws IOException
+	 * 		if any of the files can not be read or if a shard file does not match its hash
+	 */
+	private static Triple<State, Hash, SigSet> readShardedStateFile(
+			final MerkleDataInputStream in,
+			final Path directory,
+			final boolean incremental) throws IOException {
+
+		final int shardCount = in.readInt();
+		if (shardCount <= 0) {
+			throw new IOException("Invalid number of state shards: " + shardCount);
+		}
+		final List<Path> shardDirectories = new ArrayList<>(shardCount);
+		for (int index = 0; index < shardCount; index++) {
+			shardDirectories.add(incremental
+					? getStateShardDirectory(directory, (Hash) in.readSerializable())
+					: getStateShardDirectory(directory, index));
+		}
+
+		final ExecutorService executor = buildShardExecutor(
+				Settings.getInstance().getState().stateShardThreads, shardCount, "state-shard-reader");
+		try {
+			final List<Future<Pair<DetachedSubtree, Hash>>> shards = new ArrayList<>(shardCount);
+			for (int index = 0; index < shardCount; index++) {
+				final Path shardDirectory = shardDirectories.get(index);
+				shards.add(executor.submit(() -> readAndHashShard(shardDirectory)));
+			}
+
+			final State state;
+			try {
+				state = in.readMerkleTree(directory, MAX_MERKLE_NODES_IN_STATE, (final int index) -> {
+					if (index < 0 || index >= shardCount) {
+						return null;
+					}
+					try {
+						return awaitShard(shards.get(index), index).getLeft();
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (final UncheckedIOException e) {
+				throw e.getCause();
+			}
+			final Hash hash = in.readSerializable();
+			final SigSet sigSet = in.readSerializable(true, () ->
+					new SigSet(state.getPlatformState().getAddressBook()));
+
+			for (int index = 0; index < shardCount; index++) {
+				final Hash expectedHash = in.readSerializable();
+				final Hash shardHash = awaitShard(shards.get(index), index).getRight();
+				if (!shardHash.equals(expectedHash)) {
+					throw new IOException(String.format("State shard %d is corrupted, file hash is %s, expected %s",
+							index, shardHash, expectedHash));
+				}
+			}
+
+			return Triple.of(state, hash, sigSet);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Read a single shard of a sharded signed state, then initialize, migrate and hash it.
+	 *
+	 * @param shardDirectory
+	 * 		the directory of the shard
+	 * @return the initialized and hashed subtree stored in the shard, and the hash of the shard file
+	 */
+	private static Pair<DetachedSubtree, Hash> readAndHashShard(final Path shardDirectory) throws IOException {
+		final Pair<DetachedSubtree, Hash> shard = readShardFile(shardDirectory);
+		final DetachedSubtree subtree = shard.getLeft().initialize();
+		if (subtree.root() != null) {
+			CryptoFactory.getInstance().digestTreeSync(subtree.root());
+		}
+		return Pair.of(subtree, shard.getRight());
+	}
+
+	/**
+	 * Read a single shard of a sharded signed state.
+	 *
+	 * @param shardDirectory
+	 * 		the directory of the shard
+	 * @return the subtree stored in the shard, and the hash of the shard file
+	 */
+	private static Pair<DetachedSubtree, Hash> readShardFile(final Path shardDirectory) throws IOException {
+		final HashingStreamExtension hasher = new HashingStreamExtension(DigestType.SHA_384);
+		try (final MerkleDataInputStream in = new MerkleDataInputStream(new BufferedInputStream(
+				new ExtendableInputStream(new FileInputStream(
+						shardDirectory.resolve(STATE_SHARD_FILE_NAME).toFile()), hasher)))) {
+
+			hasher.startHashing();
+			final DetachedSubtree subtree = in.readDetachedSubtree(shardDirectory, MAX_MERKLE_NODES_IN_STATE);
+			if (in.read() != -1) {
+				throw new IOException("Unexpected data at the end of state shard " + shardDirectory);
+			}
+			return Pair.of(subtree, hasher.finishHashing());
+		}
+	}
+
+	/**
+	 * Reads a SignedState from disk. The state is initialized and fully hashed when it is returned.
 	 *
 	 * @param stateFile
 	 * 		the file to read from
@@ -139,11 +271,19 @@ public final class SignedStateFileReader {
 								"File is not versioned -- data corrupted or is an unsupported legacy state");
 					}
 
-					in.readInt();// file version
+					final int fileVersion = in.readInt();
+					if (fileVersion != FILE_VERSION && fileVersion != SHARDED_FILE_VERSION
+							&& fileVersion != INCREMENTAL_FILE_VERSION) {
+						throw new IOException("Unsupported signed state file version " + fileVersion);
+					}
 					in.readProtocolVersion();
 
 					final Path directory = stateFile.getParent();
 
+					if (fileVersion != FILE_VERSION) {
+						return readShardedStateFile(in, directory, fileVersion == INCREMENTAL_FILE_VERSION);
+					}
+
 					final State state = in.readMerkleTree(directory, MAX_MERKLE_NODES_IN_STATE);
 					final Hash hash = in.readSerializable();
 					final SigSet sigSet = in.readSerializable(true, () ->
@@ -157,6 +297,16 @@ public final class SignedStateFileReader {
 				}
 		);
 
+		try {
+			// the shards of a sharded state have already been hashed, only the rest of the tree is hashed here
+			CryptoFactory.getInstance().digestTreeAsync(data.getLeft()).get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while hashing the state", e);
+		} catch (final ExecutionException e) {
+			throw new IOException("unable to hash the state", e.getCause());
+		}
+
 		final SignedState newSignedState = new SignedState(data.getLeft());
 
 		newSignedState.setSigSet(data.getRight());
@@ -16,12 +16,16 @@
 
 package com.swirlds.platform.state.signed;
 
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.platform.Settings;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -55,6 +59,30 @@ public final class SignedStateFileUtils {
 	 */
 	public static final int FILE_VERSION = 1;
 
+	/**
+	 * The version of a signed state file whose large subtrees are stored in separate shard files. Such a file
+	 * starts with the number of shards, and ends with the hash of each shard file.
+	 */
+	public static final int SHARDED_FILE_VERSION = 2;
+
+	/**
+	 * The version of a sharded signed state file whose shard directories are named after the hashes of the shards,
+	 * so that unchanged shards can be shared between states. The hashes of the shards follow the number of shards.
+	 */
+	public static final int INCREMENTAL_FILE_VERSION = 3;
+
+	/**
+	 * The name of the file that contains a single shard of a sharded signed state. Each shard file is in its own
+	 * directory, see {@link #getStateShardDirectory(Path, int)}.
+	 */
+	public static final String STATE_SHARD_FILE_NAME = "StateShard.swh";
+
+	/**
+	 * The name of the file next to {@link #STATE_SHARD_FILE_NAME} that contains the hash of the shard file, written
+	 * for shards of incremental states.
+	 */
+	public static final String STATE_SHARD_HASH_FILE_NAME = "StateShard.hash";
+
 	public static final int MAX_MERKLE_NODES_IN_STATE = Integer.MAX_VALUE;
 
 	private SignedStateFileUtils() {
@@ -198,6 +226,56 @@ public final class SignedStateFileUtils {
 				.resolve(Long.toString(round));
 	}
 
+	/**
+	 * Get the directory that contains a shard of a sharded signed state.
+	 *
+	 * <pre>
+	 * e.g. data/saved/com.swirlds.foobar/1234/mySwirld/1000/shard-3
+	 *      |--------------------------------------------| |-----|
+	 *                           |                            |
+	 *                  signed state directory           shard index
+	 * </pre>
+	 *
+	 * @param directory
+	 * 		the directory of the signed state
+	 * @param index
+	 * 		the index of the shard
+	 * @return the path of the directory of the shard, may not exist
+	 */
+	public static Path getStateShardDirectory(final Path directory, final int index) {
+		return directory.resolve("shard-" + index);
+	}
+
+	/**
+	 * Get the directory that contains a shard of an incremental signed state. The directory is named after the
+	 * hash of the shard, so identical shards of different states have the same name.
+	 *
+	 * @param directory
+	 * 		the directory of the signed state
+	 * @param shardHash
+	 * 		the merkle hash of the root of the shard
+	 * @return the path of the directory of the shard, may not exist
+	 */
+	public static Path getStateShardDirectory(final Path directory, final Hash shardHash) {
+		return directory.resolve("shard-" + shardHash);
+	}
+
+	/**
+	 * Read the hash of a shard file that was written next to it.
+	 *
+	 * @param shardDirectory
+	 * 		the directory of the shard
+	 * @return the hash of the shard file
+	 * @throws IOException
+	 * 		if the hash can not be read
+	 */
+	public static Hash readShardFileHash(final Path shardDirectory) throws IOException {
+		try (final SerializableDataInputStream in = new SerializableDataInputStream(new BufferedInputStream(
+				new FileInputStream(shardDirectory.resolve(STATE_SHARD_HASH_FILE_NAME).toFile())))) {
+			return in.readSerializable();
+		}
+	}
+
 	/**
 	 * Clean out all files in {@link #getSignedStatesBaseDirectory()} except for
 	 * the signed state files of a particular app.
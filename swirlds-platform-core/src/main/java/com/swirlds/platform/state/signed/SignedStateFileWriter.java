@@ -16,7 +16,12 @@
 
 package com.swirlds.platform.state.signed;
 
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.extendable.ExtendableOutputStream;
+import com.swirlds.common.io.extendable.extensions.HashingStreamExtension;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.logging.payloads.StateSavedToDiskPayload;
 import com.swirlds.platform.Settings;
 import com.swirlds.platform.state.State;
@@ -24,20 +29,43 @@ import com.swirlds.platform.state.StateSettings;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
+import static com.swirlds.common.io.utility.FileUtils.deleteDirectory;
 import static com.swirlds.common.io.utility.FileUtils.executeAndRename;
+import static com.swirlds.common.io.utility.FileUtils.hardLinkTree;
 import static com.swirlds.common.io.utility.FileUtils.writeAndFlush;
 import static com.swirlds.common.merkle.hash.MerkleHashChecker.generateHashDebugString;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.STATE_TO_DISK;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.HASH_INFO_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.INCREMENTAL_FILE_VERSION;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.SHARDED_FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.STATE_SHARD_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.STATE_SHARD_HASH_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.VERSIONED_FILE_BYTE;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.getStateShardDirectory;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.readShardFileHash;
+import static com.swirlds.platform.state.signed.StateShards.awaitShard;
+import static com.swirlds.platform.state.signed.StateShards.buildShardExecutor;
+import static com.swirlds.platform.state.signed.StateShards.selectShards;
 
 /**
  * Utility methods for writing a signed state to disk.
@@ -99,7 +127,158 @@ public final class SignedStateFileWriter {
 	}
 
 	/**
-	 * Write the signed state file.
+	 * Write a {@link SignedState} whose shards are written to separate files. The shards are written by other
+	 * threads while this stream is written, and the hash of each shard file is written at the end of the stream.
+	 *
+	 * @param out
+	 * 		the stream to write to
+	 * @param directory
+	 * 		the directory to write to
+	 * @param signedState
+	 * 		the signed state to write
+	 * @param shards
+	 * 		the roots of the subtrees that are written to separate files
+	 * @param shardHashes
+	 * 		the hashes of the shard files, in the same order as the shards
+	 * @param incremental
+	 * 		if true then the shard directories are named after the hashes of the shards, which are written after the
+	 * 		number of shards
+	 */
+	private static void writeShardedStateFileToStream(
+			final MerkleDataOutputStream out,
+			final Path directory,
+			final SignedState signedState,
+			final List<MerkleNode> shards,
+			final List<Future<Hash>> shardHashes,
+			final boolean incremental) throws IOException {
+
+		final Map<MerkleNode, Integer> detachedSubtrees = new IdentityHashMap<>();
+		for (int index = 0; index < shards.size(); index++) {
+			detachedSubtrees.put(shards.get(index), index);
+		}
+
+		out.write(VERSIONED_FILE_BYTE);
+		out.writeInt(incremental ? INCREMENTAL_FILE_VERSION : SHARDED_FILE_VERSION);
+		out.writeProtocolVersion();
+		out.writeInt(shards.size());
+		if (incremental) {
+			for (final MerkleNode shard : shards) {
+				out.writeSerializable(shard.getHash(), true);
+			}
+		}
+		out.writeMerkleTree(directory, signedState.getState(), detachedSubtrees);
+		out.writeSerializable(signedState.getState().getHash(), true);
+		out.writeSerializable(signedState.getSigSet(), true);
+		for (int index = 0; index < shardHashes.size(); index++) {
+			out.writeSerializable(awaitShard(shardHashes.get(index), index), true);
+		}
+	}
+
+	/**
+	 * Write a single shard of a sharded signed state to its own directory.
+	 *
+	 * @param shardDirectory
+	 * 		the directory of the shard, it is created by this method
+	 * @param shard
+	 * 		the root of the shard
+	 * @param writeHashFile
+	 * 		if true then the hash of the shard file is also written to the shard directory, so that the shard can
+	 * 		be reused by later states without reading it
+	 * @return the hash of the shard file
+	 */
+	private static Hash writeShardFile(
+			final Path shardDirectory,
+			final MerkleNode shard,
+			final boolean writeHashFile) throws IOException {
+
+		Files.createDirectories(shardDirectory);
+		final HashingStreamExtension hasher = new HashingStreamExtension(DigestType.SHA_384);
+		try (final FileOutputStream fileOut = new FileOutputStream(
+				shardDirectory.resolve(STATE_SHARD_FILE_NAME).toFile());
+			 final MerkleDataOutputStream out = new MerkleDataOutputStream(
+					 new BufferedOutputStream(new ExtendableOutputStream(fileOut, hasher)))) {
+
+			hasher.startHashing();
+			out.writeMerkleTree(shardDirectory, shard);
+			out.flush();
+			fileOut.getFD().sync();
+		}
+		final Hash fileHash = hasher.finishHashing();
+		if (writeHashFile) {
+			writeAndFlush(shardDirectory.resolve(STATE_SHARD_HASH_FILE_NAME),
+					out -> out.writeSerializable(fileHash, true));
+		}
+		return fileHash;
+	}
+
+	/**
+	 * Reuse a shard written by a previous state by hard linking its files. If the files can not be linked, the
+	 * shard is written again.
+	 *
+	 * @param previousShardDirectory
+	 * 		the directory of the same shard in a previous state
+	 * @param shardDirectory
+	 * 		the directory of the shard in the state being written
+	 * @param shard
+	 * 		the root of the shard
+	 * @return the hash of the shard file
+	 */
+	private static Hash linkShardFile(
+			final Path previousShardDirectory,
+			final Path shardDirectory,
+			final MerkleNode shard) throws IOException {
+
+		try {
+			hardLinkTree(previousShardDirectory, shardDirectory);
+			return readShardFileHash(shardDirectory);
+		} catch (final IOException | UncheckedIOException e) {
+			LOG.warn(STATE_TO_DISK.getMarker(),
+					"Unable to reuse state shard {}, it will be written again", previousShardDirectory, e);
+			deleteDirectory(shardDirectory);
+			return writeShardFile(shardDirectory, shard, true);
+		}
+	}
+
+	/**
+	 * Find a shard with a given directory name in any of the states already saved next to the state being written.
+	 *
+	 * @param previousStates
+	 * 		the directories of the states already saved
+	 * @param shardDirectoryName
+	 * 		the name of the directory of the shard
+	 * @return the directory of the shard in a previous state, or null if no previous state contains the shard
+	 */
+	private static Path findPreviousShard(final List<Path> previousStates, final Path shardDirectoryName) {
+		for (final Path previousState : previousStates) {
+			final Path previousShard = previousState.resolve(shardDirectoryName);
+			if (Files.exists(previousShard.resolve(STATE_SHARD_HASH_FILE_NAME))) {
+				return previousShard;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * List the states already saved in a directory.
+	 *
+	 * @param statesDirectory
+	 * 		the directory that contains the saved states, may be null
+	 * @return the directories of the saved states
+	 */
+	@SuppressWarnings("resource")
+	private static List<Path> listPreviousStates(final Path statesDirectory) throws IOException {
+		if (statesDirectory == null || !Files.isDirectory(statesDirectory)) {
+			return List.of();
+		}
+		try (final Stream<Path> states = Files.list(statesDirectory)) {
+			return states.filter(Files::isDirectory).toList();
+		}
+	}
+
+	/**
+	 * Write the signed state file. If {@link StateSettings#shardedStateFiles} or
+	 * {@link StateSettings#incrementalStateFiles} is enabled, large subtrees of the state are written to separate
+	 * files in parallel with the main file.
 	 *
 	 * @param directory
 	 * 		the directory to write to
@@ -107,8 +286,77 @@ public final class SignedStateFileWriter {
 	 * 		the signed state to write
 	 */
 	public static void writeStateFile(final Path directory, final SignedState signedState) throws IOException {
-		writeAndFlush(directory.resolve(SIGNED_STATE_FILE_NAME),
-				out -> writeStateFileToStream(out, directory, signedState));
+		writeStateFile(directory, null, signedState);
+	}
+
+	/**
+	 * Write the signed state file. If {@link StateSettings#shardedStateFiles} or
+	 * {@link StateSettings#incrementalStateFiles} is enabled, large subtrees of the state are written to separate
+	 * files in parallel with the main file. If {@link StateSettings#incrementalStateFiles} is enabled, subtrees
+	 * that were already written by a state in {@code previousStatesDirectory} are hard linked instead of written.
+	 *
+	 * @param directory
+	 * 		the directory to write to
+	 * @param previousStatesDirectory
+	 * 		the directory that contains the states saved before this one, may be null
+	 * @param signedState
+	 * 		the signed state to write
+	 */
+	public static void writeStateFile(
+			final Path directory,
+			final Path previousStatesDirectory,
+			final SignedState signedState) throws IOException {
+
+		final StateSettings stateSettings = Settings.getInstance().getState();
+		final List<MerkleNode> shards = stateSettings.shardedStateFiles || stateSettings.incrementalStateFiles
+				? selectShards(signedState.getState(), stateSettings.stateShardSize)
+				: List.of();
+
+		if (shards.isEmpty()) {
+			writeAndFlush(directory.resolve(SIGNED_STATE_FILE_NAME),
+					out -> writeStateFileToStream(out, directory, signedState));
+			return;
+		}
+
+		final boolean incremental = stateSettings.incrementalStateFiles
+				&& shards.stream().allMatch(shard -> shard.getHash() != null);
+		final List<Path> previousStates = incremental ? listPreviousStates(previousStatesDirectory) : List.of();
+
+		final ExecutorService executor =
+				buildShardExecutor(stateSettings.stateShardThreads, shards.size(), "state-shard-writer");
+		try {
+			// identical subtrees share a directory, so each directory is only written once
+			final Map<Path, Future<Hash>> shardDirectories = new HashMap<>();
+			final List<Future<Hash>> shardHashes = new ArrayList<>(shards.size());
+			int linkedShards = 0;
+			for (int index = 0; index < shards.size(); index++) {
+				final MerkleNode shard = shards.get(index);
+				final Path shardDirectory = incremental
+						? getStateShardDirectory(directory, shard.getHash())
+						: getStateShardDirectory(directory, index);
+
+				Future<Hash> shardHash = shardDirectories.get(shardDirectory);
+				if (shardHash == null) {
+					final Path previousShard = findPreviousShard(previousStates, shardDirectory.getFileName());
+					if (previousShard == null) {
+						shardHash = executor.submit(() -> writeShardFile(shardDirectory, shard, incremental));
+					} else {
+						linkedShards++;
+						shardHash = executor.submit(() -> linkShardFile(previousShard, shardDirectory, shard));
+					}
+					shardDirectories.put(shardDirectory, shardHash);
+				}
+				shardHashes.add(shardHash);
+			}
+
+			LOG.info(STATE_TO_DISK.getMarker(), "Writing round {} state with {} shards, {} reused from previous states",
+					signedState.getRound(), shards.size(), linkedShards);
+
+			writeAndFlush(directory.resolve(SIGNED_STATE_FILE_NAME), out -> writeShardedStateFileToStream(
+					out, directory, signedState, shards, shardHashes, incremental));
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	/**
@@ -116,14 +364,17 @@ public final class SignedStateFileWriter {
 	 *
 	 * @param directory
 	 * 		the directory where all files should be placed
+	 * @param previousStatesDirectory
+	 * 		the directory that contains the states saved before this one
 	 * @param signedState
 	 * 		the signed state being written to disk
 	 */
 	private static void writeSignedStateFilesToDirectory(
 			final Path directory,
+			final Path previousStatesDirectory,
 			final SignedState signedState) throws IOException {
 
-		writeStateFile(directory, signedState);
+		writeStateFile(directory, previousStatesDirectory, signedState);
 		writeHashInfoFile(directory, signedState.getState());
 		Settings.getInstance().writeSettingsUsed(directory);
 	}
@@ -150,7 +401,8 @@ public final class SignedStateFileWriter {
 					signedState.getRound(), taskDescription);
 
 			executeAndRename(savedStateDirectory,
-					directory -> writeSignedStateFilesToDirectory(directory, signedState));
+					directory -> writeSignedStateFilesToDirectory(
+							directory, savedStateDirectory.getParent(), signedState));
 
 			LOG.info(STATE_TO_DISK.getMarker(),
 					() -> new StateSavedToDiskPayload(signedState.getRound(),
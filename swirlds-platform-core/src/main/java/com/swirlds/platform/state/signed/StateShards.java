@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.signed;
+
+import com.swirlds.common.io.ExternalSelfSerializable;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.swirlds.platform.SwirldsPlatform.PLATFORM_THREAD_POOL_NAME;
+
+/**
+ * Utilities for splitting a state into shards that are written and read in parallel.
+ */
+final class StateShards {
+
+	private StateShards() {
+
+	}
+
+	/**
+	 * <p>
+	 * Choose the subtrees of a state that should be written to their own shard files. Starting at the root, subtrees
+	 * with at least twice {@code shardSize} nodes are split into their children, and the remaining subtrees with at
+	 * least {@code shardSize} nodes become shards. The root itself is never a shard.
+	 * </p>
+	 *
+	 * <p>
+	 * Nodes that serialize their own descendants are counted as a single node and are never split. A leaf that is
+	 * a {@link Collection} counts as one node per element, so a large queue can be a shard on its own.
+	 * </p>
+	 *
+	 * @param root
+	 * 		the root of the state
+	 * @param shardSize
+	 * 		the approximate number of nodes in a shard
+	 * @return the roots of the shards in the order in which they should be numbered, may be empty
+	 */
+	static List<MerkleNode> selectShards(final MerkleNode root, final int shardSize) {
+		final List<MerkleNode> shards = new ArrayList<>();
+		if (root == null || root.isLeaf() || shardSize <= 0) {
+			return shards;
+		}
+
+		final long splitSize = 2L * shardSize;
+		final Deque<MerkleInternal> parents = new ArrayDeque<>();
+		parents.add(root.asInternal());
+		while (!parents.isEmpty()) {
+			final MerkleInternal parent = parents.remove();
+			for (int childIndex = 0; childIndex < parent.getNumberOfChildren(); childIndex++) {
+				final MerkleNode child = parent.getChild(childIndex);
+				if (child == null) {
+					continue;
+				}
+				final long size = countNodes(child, splitSize);
+				if (size >= splitSize && isSplittable(child)) {
+					parents.add(child.asInternal());
+				} else if (size >= shardSize) {
+					shards.add(child);
+				}
+			}
+		}
+		return shards;
+	}
+
+	/**
+	 * Count the nodes in a subtree, stopping once the count reaches a limit.
+	 */
+	private static long countNodes(final MerkleNode root, final long limit) {
+		final Iterator<MerkleNode> iterator = root.treeIterator()
+				.setDescendantFilter(StateShards::isSplittable);
+		long count = 0;
+		while (count < limit && iterator.hasNext()) {
+			final MerkleNode node = iterator.next();
+			count += node instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1;
+		}
+		return count;
+	}
+
+	/**
+	 * Check if the children of a node are written independently of their parent.
+	 */
+	private static boolean isSplittable(final MerkleNode node) {
+		return !node.isLeaf() && !(node instanceof ExternalSelfSerializable);
+	}
+
+	/**
+	 * Build a thread pool for writing or reading shards.
+	 *
+	 * @param maxThreads
+	 * 		the maximum number of threads to use
+	 * @param shardCount
+	 * 		the number of shards, no more threads than this are created
+	 * @param threadName
+	 * 		the name of the threads in the pool
+	 * @return a new thread pool, it must be shut down by the caller
+	 */
+	static ExecutorService buildShardExecutor(final int maxThreads, final int shardCount, final String threadName) {
+		return Executors.newFixedThreadPool(Math.max(1, Math.min(maxThreads, shardCount)), new ThreadConfiguration()
+				.setDaemon(true)
+				.setComponent(PLATFORM_THREAD_POOL_NAME)
+				.setThreadName(threadName)
+				.buildFactory());
+	}
+
+	/**
+	 * Wait for a shard to be written or read.
+	 *
+	 * @param future
+	 * 		the future of the shard
+	 * @param index
+	 * 		the index of the shard
+	 * @param <T>
+	 * 		the type of the result
+	 * @return the result of the shard
+	 * @throws IOException
+	 * 		if the shard could not be written or read, or if the thread is interrupted while waiting
+	 */
+	static <T> T awaitShard(final Future<T> future, final int index) throws IOException {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while waiting for state shard " + index, e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException("failure in state shard " + index, e.getCause());
+		}
+	}
+}
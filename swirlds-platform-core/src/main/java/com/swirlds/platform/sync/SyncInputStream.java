@@ -18,11 +18,14 @@ package com.swirlds.platform.sync;
 
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.extendable.extensions.CapturingStreamExtension;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.extendable.extensions.HashingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.framing.CompressedFrameInputStream;
+import com.swirlds.platform.network.framing.FrameCompressionStats;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
@@ -38,22 +41,65 @@ public class SyncInputStream extends SerializableDataInputStream {
 
 	private final CountingStreamExtension syncByteCounter;
 	private final HashingStreamExtension hasher;
+	private final CapturingStreamExtension eventCapture;
 
-	private SyncInputStream(InputStream in, CountingStreamExtension syncByteCounter, HashingStreamExtension hasher) {
+	private SyncInputStream(
+			InputStream in,
+			CountingStreamExtension syncByteCounter,
+			HashingStreamExtension hasher,
+			CapturingStreamExtension eventCapture) {
 		super(in);
 		this.syncByteCounter = syncByteCounter;
 		this.hasher = hasher;
+		this.eventCapture = eventCapture;
 	}
 
 	public static SyncInputStream createSyncInputStream(InputStream in, int bufferSize) {
 		CountingStreamExtension syncCounter = new CountingStreamExtension();
 		HashingStreamExtension hasher = new HashingStreamExtension(DigestType.SHA_384);
+		CapturingStreamExtension eventCapture = new CapturingStreamExtension();
 
 		// the buffered reader reads data first, for efficiency
 		return new SyncInputStream(
-				extendInputStream(new BufferedInputStream(in, bufferSize), syncCounter, hasher),
+				extendInputStream(new BufferedInputStream(in, bufferSize), syncCounter, hasher, eventCapture),
 				syncCounter,
-				hasher
+				hasher,
+				eventCapture
+		);
+	}
+
+	/**
+	 * Create a stream that reads the frames written by a stream created with
+	 * {@link SyncOutputStream#createCompressedSyncOutputStream(java.io.OutputStream, int, int, FrameCompressionStats)}.
+	 *
+	 * @param in
+	 * 		the stream to read frames from
+	 * @param bufferSize
+	 * 		the size of the socket read buffer, also used as the initial frame buffer size
+	 * @param compressionStats
+	 * 		the counters to update when decompressing frames
+	 * @return a new decompressing sync input stream
+	 */
+	public static SyncInputStream createCompressedSyncInputStream(
+			final InputStream in,
+			final int bufferSize,
+			final FrameCompressionStats compressionStats) {
+		final CountingStreamExtension syncCounter = new CountingStreamExtension();
+		final HashingStreamExtension hasher = new HashingStreamExtension(DigestType.SHA_384);
+		final CapturingStreamExtension eventCapture = new CapturingStreamExtension();
+
+		// the counter sees the bytes that go over the wire, the hasher and the capture see the decompressed data
+		return new SyncInputStream(
+				extendInputStream(
+						new CompressedFrameInputStream(
+								extendInputStream(new BufferedInputStream(in, bufferSize), syncCounter),
+								bufferSize,
+								compressionStats),
+						hasher,
+						eventCapture),
+				syncCounter,
+				hasher,
+				eventCapture
 		);
 	}
 
@@ -65,6 +111,14 @@ public class SyncInputStream extends SerializableDataInputStream {
 		return hasher;
 	}
 
+	/**
+	 * @return the extension used to keep the original bytes of events read from this stream, so that they can be
+	 * 		relayed to other peers without being serialized again
+	 */
+	public CapturingStreamExtension getEventCapture() {
+		return eventCapture;
+	}
+
 	/**
 	 * Reads a sync request response from the stream
 	 *
@@ -21,6 +21,8 @@ import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.framing.CompressedFrameOutputStream;
+import com.swirlds.platform.network.framing.FrameCompressionStats;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
@@ -35,14 +37,23 @@ public class SyncOutputStream extends SerializableDataOutputStream {
 	private final CountingStreamExtension syncByteCounter;
 	private final CountingStreamExtension connectionByteCounter;
 	private final AtomicReference<Instant> requestSent;
+	private final FrameCompressionStats compressionStats;
 
 	protected SyncOutputStream(OutputStream out,
 			CountingStreamExtension syncByteCounter,
 			CountingStreamExtension connectionByteCounter) {
+		this(out, syncByteCounter, connectionByteCounter, null);
+	}
+
+	protected SyncOutputStream(OutputStream out,
+			CountingStreamExtension syncByteCounter,
+			CountingStreamExtension connectionByteCounter,
+			FrameCompressionStats compressionStats) {
 		super(out);
 		this.syncByteCounter = syncByteCounter;
 		this.connectionByteCounter = connectionByteCounter;
 		this.requestSent = new AtomicReference<>(null);
+		this.compressionStats = compressionStats;
 	}
 
 	public static SyncOutputStream createSyncOutputStream(OutputStream out, int bufferSize) {
@@ -59,6 +70,44 @@ public class SyncOutputStream extends SerializableDataOutputStream {
 		);
 	}
 
+	/**
+	 * Create a stream that batches all data written into frames and compresses each frame. Frames are sent when they
+	 * are full or when the stream is flushed. The peer must read from a stream created with
+	 * {@link SyncInputStream#createCompressedSyncInputStream(java.io.InputStream, int, FrameCompressionStats)}.
+	 *
+	 * @param out
+	 * 		the stream to write frames to
+	 * @param bufferSize
+	 * 		the size of the buffer below the frame layer, so that a frame header and a small payload are sent in a
+	 * 		single write
+	 * @param frameSize
+	 * 		the maximum number of uncompressed bytes in a single frame
+	 * @param compressionStats
+	 * 		the counters to update for every frame written
+	 * @return a new compressing sync output stream
+	 */
+	public static SyncOutputStream createCompressedSyncOutputStream(
+			final OutputStream out,
+			final int bufferSize,
+			final int frameSize,
+			final FrameCompressionStats compressionStats) {
+		final CountingStreamExtension syncByteCounter = new CountingStreamExtension();
+		final CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
+
+		// the byte counters are below the frame layer, so they count the bytes that actually go over the wire
+		return new SyncOutputStream(
+				new CompressedFrameOutputStream(
+						new BufferedOutputStream(
+								extendOutputStream(out, syncByteCounter, connectionByteCounter),
+								bufferSize),
+						frameSize,
+						compressionStats),
+				syncByteCounter,
+				connectionByteCounter,
+				compressionStats
+		);
+	}
+
 	public CountingStreamExtension getSyncByteCounter() {
 		return syncByteCounter;
 	}
@@ -67,6 +116,13 @@ public class SyncOutputStream extends SerializableDataOutputStream {
 		return connectionByteCounter;
 	}
 
+	/**
+	 * @return the frame compression counters of this stream, or null if this stream does not compress
+	 */
+	public FrameCompressionStats getCompressionStats() {
+		return compressionStats;
+	}
+
 	/**
 	 * @return the time the last sync request was sent
 	 */
@@ -31,6 +31,7 @@ module com.swirlds.platform {
 	exports com.swirlds.platform.chatter.protocol.heartbeat;
 	exports com.swirlds.platform.network.connection;
 	exports com.swirlds.platform.network.connectivity;
+	exports com.swirlds.platform.network.framing;
 	exports com.swirlds.platform.event.validation;
 	exports com.swirlds.platform.eventhandling;
 	exports com.swirlds.platform.intake;
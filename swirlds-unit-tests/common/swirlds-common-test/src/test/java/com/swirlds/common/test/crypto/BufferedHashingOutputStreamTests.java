@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.crypto;
+
+import com.swirlds.common.crypto.BufferedHashingOutputStream;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.HashingOutputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("BufferedHashingOutputStream Tests")
+class BufferedHashingOutputStreamTests {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 7, 64, BufferedHashingOutputStream.DEFAULT_BLOCK_SIZE })
+	@DisplayName("Random Writes Test")
+	void randomWritesTest(final int blockSize) throws NoSuchAlgorithmException {
+		final Random random = getRandomPrintSeed();
+		final MessageDigest expected = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
+		final BufferedHashingOutputStream out = new BufferedHashingOutputStream(
+				MessageDigest.getInstance(DigestType.SHA_384.algorithmName()), blockSize);
+
+		for (int digest = 0; digest < 10; digest++) {
+			for (int i = 0; i < 1_000; i++) {
+				if (random.nextBoolean()) {
+					final byte b = (byte) random.nextInt();
+					expected.update(b);
+					out.write(b);
+				} else {
+					// lengths up to twice the block size, to cover both copied and direct updates
+					final byte[] bytes = new byte[random.nextInt(2 * Math.min(blockSize, 1024) + 1)];
+					random.nextBytes(bytes);
+					final int offset = bytes.length == 0 ? 0 : random.nextInt(bytes.length);
+					final int length = random.nextInt(bytes.length - offset + 1);
+					expected.update(bytes, offset, length);
+					out.write(bytes, offset, length);
+				}
+			}
+
+			assertArrayEquals(expected.digest(), out.getDigest(), "digest should match");
+		}
+	}
+
+	@Test
+	@DisplayName("Reset Test")
+	void resetTest() throws NoSuchAlgorithmException {
+		final MessageDigest expected = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
+		final BufferedHashingOutputStream out =
+				new BufferedHashingOutputStream(MessageDigest.getInstance(DigestType.SHA_384.algorithmName()), 16);
+
+		// some bytes are still in the block, some have been passed to the digest
+		out.write(new byte[40], 0, 40);
+		out.write(1);
+		out.resetDigest();
+
+		out.write(new byte[] { 1, 2, 3 }, 0, 3);
+		expected.update(new byte[] { 1, 2, 3 });
+		assertArrayEquals(expected.digest(), out.getDigest(), "bytes written before the reset should be discarded");
+	}
+
+	@Test
+	@DisplayName("Serializable Hash Test")
+	void serializableHashTest() throws IOException, NoSuchAlgorithmException {
+		final Random random = getRandomPrintSeed();
+		final MessageDigest md = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
+
+		for (int i = 0; i < 1_000; i++) {
+			final byte[] stringBytes = new byte[random.nextInt(20_000)];
+			random.nextBytes(stringBytes);
+			final SerializableHashableDummy dummy =
+					new SerializableHashableDummy(random.nextInt(), new String(stringBytes));
+
+			try (final SerializableDataOutputStream out =
+						 new SerializableDataOutputStream(new HashingOutputStream(md))) {
+				out.writeSerializable(dummy, true);
+			}
+			final Hash expected = new Hash(md.digest(), DigestType.SHA_384);
+
+			assertEquals(expected, CryptoFactory.getInstance().digestSync(dummy, DigestType.SHA_384),
+					"hash should match the unbuffered hash");
+		}
+	}
+}
@@ -19,19 +19,27 @@ package com.swirlds.common.test.crypto;
 import com.swirlds.common.crypto.CryptoFactory;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.HashBuilder;
+import com.swirlds.common.crypto.HashingOutputStream;
 import com.swirlds.common.crypto.Message;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.engine.CryptoEngine;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.test.framework.TestTypeTags;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -205,4 +213,164 @@ class CryptographyBenchmarkTests {
 		assertTrue(benchmarkStats.average < 500, "Average hashing time is too slow");
 		assertTrue(benchmarkStats.median < 500, "Median hashing time is too slow");
 	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@DisplayName("SHA384 Batch Hash")
+	void sha384BatchHash() throws NoSuchAlgorithmException {
+		final int batchSize = 1_000;
+		final int batches = 2_000;
+		final MessageDigestPool digestPool = new MessageDigestPool(batchSize, 100);
+		final List<byte[]> payloads = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			payloads.add(digestPool.next().getPayloadDirect());
+		}
+
+		final ArrayList<Long> singleTimes = new ArrayList<>();
+		final ArrayList<Long> batchTimes = new ArrayList<>();
+
+		for (int i = 0; i < batches; i++) {
+			long startTime = System.nanoTime();
+			for (final byte[] payload : payloads) {
+				cryptoProvider.digestSync(payload, DigestType.SHA_384);
+			}
+			long endTime = System.nanoTime();
+			singleTimes.add((endTime - startTime) / batchSize);
+
+			startTime = System.nanoTime();
+			cryptoProvider.digestBatchSync(payloads, DigestType.SHA_384);
+			endTime = System.nanoTime();
+			batchTimes.add((endTime - startTime) / batchSize);
+		}
+
+		final BenchmarkStats singleStats = calculateStats(singleTimes);
+		final BenchmarkStats batchStats = calculateStats(batchTimes);
+
+		System.out.println("===== SHA384 Batch Hashing (per message) =====");
+		System.out.println("Single Average: " + singleStats.average + " ns, Median: " + singleStats.median + " ns");
+		System.out.println("Batch Average: " + batchStats.average + " ns, Median: " + batchStats.median + " ns");
+		System.out.println();
+
+		assertTrue(batchStats.median <= singleStats.median, "Batch hashing should not be slower");
+	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@DisplayName("SHA384 Serializable Hash")
+	void sha384SerializableHash() throws IOException, NoSuchAlgorithmException {
+		final int count = 1_000_000;
+		final MessageDigest md = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
+		final SerializableHashableDummy dummy = new SerializableHashableDummy(123, "a short string of some length");
+
+		final ArrayList<Long> unbufferedTimes = new ArrayList<>();
+		final ArrayList<Long> bufferedTimes = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			long startTime = System.nanoTime();
+			try (final SerializableDataOutputStream out =
+						 new SerializableDataOutputStream(new HashingOutputStream(md))) {
+				out.writeSerializable(dummy, true);
+			}
+			new Hash(md.digest(), DigestType.SHA_384);
+			long endTime = System.nanoTime();
+			if (i > 100) {
+				unbufferedTimes.add(endTime - startTime);
+			}
+
+			startTime = System.nanoTime();
+			cryptoProvider.digestSync(dummy, DigestType.SHA_384);
+			endTime = System.nanoTime();
+			if (i > 100) {
+				bufferedTimes.add(endTime - startTime);
+			}
+		}
+
+		final BenchmarkStats unbufferedStats = calculateStats(unbufferedTimes);
+		final BenchmarkStats bufferedStats = calculateStats(bufferedTimes);
+
+		System.out.println("======= SHA384 Serializable Hashing =======");
+		System.out.println("Unbuffered Average: " + unbufferedStats.average + " ns, Median: "
+				+ unbufferedStats.median + " ns");
+		System.out.println("Buffered Average: " + bufferedStats.average + " ns, Median: "
+				+ bufferedStats.median + " ns");
+		System.out.println();
+
+		assertTrue(bufferedStats.median <= unbufferedStats.median, "Buffered hashing should not be slower");
+	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@DisplayName("SHA384 Internal Node Hash")
+	void sha384InternalHash() {
+		final int count = 5_000_000;
+		final Hash left = cryptoProvider.digestSync(new byte[] { 1 });
+		final Hash right = cryptoProvider.digestSync(new byte[] { 2 });
+		final HashBuilder builder = new HashBuilder(DigestType.SHA_384);
+
+		final ArrayList<Long> builderTimes = new ArrayList<>();
+		final ArrayList<Long> internalTimes = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			long startTime = System.nanoTime();
+			builder.reset().update((long) i).update(1).update(left).update(right).build();
+			long endTime = System.nanoTime();
+			if (i > 100) {
+				builderTimes.add(endTime - startTime);
+			}
+
+			startTime = System.nanoTime();
+			cryptoProvider.digestInternalSync(i, 1, left, right);
+			endTime = System.nanoTime();
+			if (i > 100) {
+				internalTimes.add(endTime - startTime);
+			}
+		}
+
+		final BenchmarkStats builderStats = calculateStats(builderTimes);
+		final BenchmarkStats internalStats = calculateStats(internalTimes);
+
+		System.out.println("======= SHA384 Internal Node Hashing =======");
+		System.out.println("HashBuilder Average: " + builderStats.average + " ns, Median: " + builderStats.median + " ns");
+		System.out.println("Internal Average: " + internalStats.average + " ns, Median: " + internalStats.median + " ns");
+		System.out.println();
+
+		assertTrue(internalStats.median <= builderStats.median, "Internal node hashing should not be slower");
+	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@DisplayName("Verify Ed25519 Batches")
+	void verifyEd25519Batches() {
+		final int count = 50_000;
+		final int batchSize = 256;
+		final SignaturePool ed25519SignaturePool = new SignaturePool(count, 100, true);
+		final List<List<TransactionSignature>> batches = new ArrayList<>();
+		for (int i = 0; i < count / batchSize; i++) {
+			final List<TransactionSignature> batch = new ArrayList<>(batchSize);
+			for (int j = 0; j < batchSize; j++) {
+				batch.add(ed25519SignaturePool.next());
+			}
+			batches.add(batch);
+		}
+
+		System.out.println("===== Ed25519 Verification With Shared Buffers =====");
+		for (final boolean sharedBuffers : new boolean[] { false, true }) {
+			final Cryptography engine = new CryptoEngine(
+					new TestCryptographySettings().setSharedBufferEd25519Verification(sharedBuffers));
+
+			// warm up
+			engine.verifySync(batches.get(0));
+
+			final long startTime = System.nanoTime();
+			for (final List<TransactionSignature> batch : batches) {
+				assertTrue(engine.verifySync(batch), "all signatures should be valid");
+			}
+			final long elapsed = System.nanoTime() - startTime;
+
+			final long verified = (long) batches.size() * batchSize;
+			System.out.println((sharedBuffers ? "Shared buffers: " : "Individual: ") +
+					verified * 1_000_000_000L / elapsed + " signatures/sec");
+		}
+		System.out.println();
+	}
 }
@@ -20,11 +20,14 @@ import com.swirlds.common.crypto.CryptoFactory;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.HashBuilder;
 import com.swirlds.common.crypto.Message;
 import com.swirlds.common.crypto.SerializableHashable;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
+import com.swirlds.common.crypto.engine.CryptoEngine;
+import com.swirlds.common.crypto.engine.VerificationCache;
 import com.swirlds.common.crypto.internal.CryptographySettings;
 import com.swirlds.common.threading.futures.FuturePool;
 import org.apache.commons.lang3.tuple.Triple;
@@ -38,7 +41,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -52,6 +57,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CryptographyTests {
@@ -111,6 +117,47 @@ class CryptographyTests {
 		}
 	}
 
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 10, 101, 25_000 })
+	void digestBatchSyncTest(final int count) {
+		final List<Message> messages = new ArrayList<>(count);
+		final List<byte[]> payloads = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			final Message message = digestPool.next();
+			messages.add(message);
+			payloads.add(message.getPayloadDirect());
+		}
+
+		final List<Hash> hashes = cryptoProvider.digestBatchSync(payloads);
+		assertEquals(count, hashes.size(), "there should be one hash per message");
+		for (int i = 0; i < count; i++) {
+			assertTrue(digestPool.isValid(messages.get(i), hashes.get(i).getValue()), "hash should match");
+		}
+	}
+
+	@Test
+	void digestInternalSyncTest() {
+		final Hash left = cryptoProvider.digestSync("left".getBytes());
+		final Hash right = cryptoProvider.digestSync("right".getBytes());
+		final long classId = 0x1234_5678_9ABC_DEF0L;
+		final int version = 3;
+
+		final Hash expected = new HashBuilder(DigestType.SHA_384)
+				.update(classId)
+				.update(version)
+				.update(left)
+				.update(right)
+				.build();
+
+		assertEquals(expected, cryptoProvider.digestInternalSync(classId, version, left, right),
+				"hash should match the one computed by a hash builder");
+		assertEquals(expected, cryptoProvider.digestInternalSync(classId, version, left, right),
+				"reusing the digest state should not change the result");
+		assertFalse(expected.equals(cryptoProvider.digestInternalSync(classId, version, right, left)),
+				"the order of the children should matter");
+	}
+
 	@Test
 	void hashableSerializableTest() {
 		final SerializableHashable hashable = new SerializableHashableDummy(123, "some string");
@@ -281,6 +328,106 @@ class CryptographyTests {
 		return Triple.of(data, signatureBytes, publicKey);
 	}
 
+	@Test
+	void verifyEd25519WithSharedBuffers() throws ExecutionException, InterruptedException {
+		final Cryptography engine = new CryptoEngine(new TestCryptographySettings().setSharedBufferEd25519Verification(true));
+		ed25519SignaturePool = new SignaturePool(100, 100, true);
+
+		for (final boolean async : new boolean[] { false, true }) {
+			final List<TransactionSignature> signatures = new ArrayList<>();
+			final List<VerificationStatus> expectedStatuses = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				final TransactionSignature original = ed25519SignaturePool.next();
+				if (i % 7 == 3) {
+					// flip a bit of the signature
+					final byte[] contents = original.getContents();
+					contents[original.getSignatureOffset()] ^= 1;
+					signatures.add(copyWithContents(original, contents, 0));
+					expectedStatuses.add(VerificationStatus.INVALID);
+				} else if (i % 5 == 1) {
+					// the message does not start at the beginning of the contents
+					final byte[] contents = new byte[original.getContentsDirect().length + 3];
+					System.arraycopy(original.getContentsDirect(), 0, contents, 3, contents.length - 3);
+					signatures.add(copyWithContents(original, contents, 3));
+					expectedStatuses.add(VerificationStatus.VALID);
+				} else {
+					signatures.add(original);
+					expectedStatuses.add(VerificationStatus.VALID);
+				}
+			}
+
+			if (async) {
+				engine.verifyAsync(signatures);
+				for (final TransactionSignature signature : signatures) {
+					signature.waitForFuture().get();
+				}
+			} else {
+				assertFalse(engine.verifySync(signatures), "some signatures are invalid");
+			}
+
+			for (int i = 0; i < signatures.size(); i++) {
+				assertEquals(expectedStatuses.get(i), signatures.get(i).getSignatureStatus(),
+						"unexpected status for signature " + i);
+			}
+		}
+	}
+
+	@Test
+	void verificationCache() throws ExecutionException, InterruptedException {
+		final CryptoEngine engine = new CryptoEngine(new TestCryptographySettings().setVerificationCacheSize(10));
+		final VerificationCache cache = engine.getVerificationCache();
+		ed25519SignaturePool = new SignaturePool(100, 100, true);
+
+		final TransactionSignature signature = ed25519SignaturePool.next();
+		assertFalse(cache.applyCachedResult(signature), "nothing has been verified yet");
+		final byte[] key = signature.getVerificationCacheKey();
+		assertNotNull(key, "the key should be kept with the signature after a lookup");
+		assertTrue(engine.verifySync(signature), "signature should be valid");
+		assertSame(key, signature.getVerificationCacheKey(), "the key should not be computed again");
+		assertEquals(1, cache.size(), "the result should be cached");
+
+		final TransactionSignature copy = copyWithContents(signature, signature.getContents(), 0);
+		assertTrue(cache.applyCachedResult(copy), "the same signature should be found in the cache");
+		assertEquals(VerificationStatus.VALID, copy.getSignatureStatus(), "the cached status should be applied");
+
+		final byte[] tampered = signature.getContents();
+		tampered[signature.getSignatureOffset()] ^= 1;
+		final TransactionSignature invalid = copyWithContents(signature, tampered, 0);
+		assertFalse(cache.applyCachedResult(invalid), "a different signature should not be found in the cache");
+		assertFalse(engine.verifySync(invalid), "signature should be invalid");
+		final TransactionSignature invalidCopy = copyWithContents(signature, tampered, 0);
+		assertTrue(cache.applyCachedResult(invalidCopy), "invalid results should be cached too");
+		assertEquals(VerificationStatus.INVALID, invalidCopy.getSignatureStatus(),
+				"the cached status should be applied");
+
+		// a hit is resolved before the signature is queued
+		final TransactionSignature asyncCopy = copyWithContents(signature, signature.getContents(), 0);
+		engine.verifyAsync(asyncCopy);
+		assertNotNull(asyncCopy.getFuture(), "future should be set immediately");
+		assertEquals(VerificationStatus.VALID, asyncCopy.getSignatureStatus(), "status should be set immediately");
+
+		// results of asynchronous verification are cached
+		final TransactionSignature other = ed25519SignaturePool.next();
+		engine.verifyAsync(other);
+		other.waitForFuture().get();
+		assertTrue(cache.applyCachedResult(copyWithContents(other, other.getContents(), 0)),
+				"asynchronous results should be cached");
+
+		for (int i = 0; i < 50; i++) {
+			engine.verifySync(ed25519SignaturePool.next());
+		}
+		assertTrue(cache.size() <= 10, "the cache should not exceed its capacity");
+		assertEquals(cache.size() * 128L, cache.estimateMemory(), "memory estimate should be based on size");
+	}
+
+	private static TransactionSignature copyWithContents(final TransactionSignature original, final byte[] contents,
+			final int shift) {
+		return new TransactionSignature(contents,
+				original.getSignatureOffset() + shift, original.getSignatureLength(),
+				original.getPublicKeyOffset() + shift, original.getPublicKeyLength(),
+				original.getMessageOffset() + shift, original.getMessageLength());
+	}
+
 	private void checkMessages(final Message... messages) throws ExecutionException, InterruptedException {
 		int numInvalid = 0;
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.crypto;
+
+import com.swirlds.common.crypto.internal.CryptographySettings;
+
+/**
+ * A {@link CryptographySettings} that uses the default values, except for the optional features that a test enables.
+ */
+class TestCryptographySettings implements CryptographySettings {
+
+	private final CryptographySettings defaults = CryptographySettings.getDefaultSettings();
+
+	private boolean sharedBufferEd25519Verification;
+
+	private int verificationCacheSize;
+
+	/**
+	 * Enable or disable the sharing of scratch buffers when verifying lists of Ed25519 signatures.
+	 *
+	 * @return this object
+	 */
+	TestCryptographySettings setSharedBufferEd25519Verification(final boolean sharedBufferEd25519Verification) {
+		this.sharedBufferEd25519Verification = sharedBufferEd25519Verification;
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of cached verification results, 0 to disable the cache.
+	 *
+	 * @return this object
+	 */
+	TestCryptographySettings setVerificationCacheSize(final int verificationCacheSize) {
+		this.verificationCacheSize = verificationCacheSize;
+		return this;
+	}
+
+	@Override
+	public double getCpuVerifierThreadRatio() {
+		return defaults.getCpuVerifierThreadRatio();
+	}
+
+	@Override
+	public double getCpuDigestThreadRatio() {
+		return defaults.getCpuDigestThreadRatio();
+	}
+
+	@Override
+	public int getCpuVerifierQueueSize() {
+		return defaults.getCpuVerifierQueueSize();
+	}
+
+	@Override
+	public int getCpuDigestQueueSize() {
+		return defaults.getCpuDigestQueueSize();
+	}
+
+	@Override
+	public boolean forceCpu() {
+		return defaults.forceCpu();
+	}
+
+	@Override
+	public String getKeystorePassword() {
+		return defaults.getKeystorePassword();
+	}
+
+	@Override
+	public int getMerkleHashForkDepth() {
+		return defaults.getMerkleHashForkDepth();
+	}
+
+	@Override
+	public boolean sharedBufferEd25519Verification() {
+		return sharedBufferEd25519Verification;
+	}
+
+	@Override
+	public int getVerificationCacheSize() {
+		return verificationCacheSize;
+	}
+}
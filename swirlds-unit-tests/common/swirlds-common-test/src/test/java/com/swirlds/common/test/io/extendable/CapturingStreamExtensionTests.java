@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.io.extendable;
+
+import com.swirlds.common.io.extendable.ExtendableInputStream;
+import com.swirlds.common.io.extendable.ExtendableOutputStream;
+import com.swirlds.common.io.extendable.extensions.CapturingStreamExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CapturingStreamExtension Tests")
+class CapturingStreamExtensionTests {
+
+	@Test
+	@DisplayName("Input Stream Sanity Test")
+	void inputStreamSanityTest() throws IOException {
+		StreamSanityChecks.inputStreamSanityCheck((final InputStream base) ->
+				new ExtendableInputStream(base, new CapturingStreamExtension()));
+
+		StreamSanityChecks.inputStreamSanityCheck((final InputStream base) -> {
+			final CapturingStreamExtension extension = new CapturingStreamExtension(1);
+			extension.startCapturing();
+			return new ExtendableInputStream(base, extension);
+		});
+	}
+
+	@Test
+	@DisplayName("Output Stream Sanity Test")
+	void outputStreamSanityTest() throws IOException {
+		StreamSanityChecks.outputStreamSanityCheck((final OutputStream base) ->
+				new ExtendableOutputStream(base, new CapturingStreamExtension()));
+
+		StreamSanityChecks.outputStreamSanityCheck((final OutputStream base) -> {
+			final CapturingStreamExtension extension = new CapturingStreamExtension(1);
+			extension.startCapturing();
+			return new ExtendableOutputStream(base, extension);
+		});
+	}
+
+	@Test
+	@DisplayName("Input Stream Test")
+	void inputStreamTest() throws IOException {
+		final int size = 1024 * 1024;
+
+		final Random random = getRandomPrintSeed();
+		final byte[] bytes = new byte[size];
+		random.nextBytes(bytes);
+
+		final CapturingStreamExtension extension = new CapturingStreamExtension(16);
+		final InputStream in = new ExtendableInputStream(new ByteArrayInputStream(bytes), extension);
+
+		// bytes read before capturing starts should not be captured
+		final int skipped = 1000;
+		in.readNBytes(skipped);
+		assertFalse(extension.isCapturing(), "capturing should not have started");
+
+		extension.startCapturing();
+		int remaining = size - skipped;
+		while (remaining > 0) {
+			if (random.nextBoolean()) {
+				in.read();
+				remaining--;
+			}
+
+			if (random.nextBoolean()) {
+				remaining -= in.read(new byte[1024], 0, Math.min(1024, remaining));
+			}
+
+			if (random.nextBoolean()) {
+				remaining -= in.readNBytes(Math.min(1024, remaining)).length;
+			}
+
+			if (random.nextBoolean()) {
+				remaining -= in.readNBytes(new byte[1024], 0, Math.min(1024, remaining));
+			}
+		}
+
+		assertTrue(extension.isCapturing(), "capturing should be active");
+		assertEquals(size - skipped, extension.getCapturedLength(), "all bytes read should be captured");
+		assertArrayEquals(Arrays.copyOfRange(bytes, skipped, size), extension.finishCapturing(),
+				"captured bytes should match");
+		assertFalse(extension.isCapturing(), "capturing should have stopped");
+	}
+
+	@Test
+	@DisplayName("Output Stream Test")
+	void outputStreamTest() throws IOException {
+		final int size = 1024 * 1024;
+
+		final Random random = getRandomPrintSeed();
+		final byte[] bytes = new byte[size];
+		random.nextBytes(bytes);
+
+		final CapturingStreamExtension extension = new CapturingStreamExtension();
+		final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		final OutputStream out = new ExtendableOutputStream(byteOut, extension);
+
+		extension.startCapturing();
+		int index = 0;
+		while (size - index > 0) {
+			if (random.nextBoolean()) {
+				out.write(bytes[index]);
+				index++;
+			}
+
+			if (random.nextBoolean()) {
+				final int bytesToWrite = Math.min(1024, size - index);
+				out.write(bytes, index, bytesToWrite);
+				index += bytesToWrite;
+			}
+		}
+		out.flush();
+
+		assertArrayEquals(bytes, extension.finishCapturing(), "captured bytes should match");
+
+		// a new capture should not contain the bytes of the previous one
+		extension.startCapturing();
+		out.write(bytes, 0, 10);
+		assertArrayEquals(Arrays.copyOf(bytes, 10), extension.finishCapturing(), "captured bytes should match");
+		assertEquals(size + 10, byteOut.size(), "all bytes should be passed on to the base stream");
+	}
+
+	@Test
+	@DisplayName("Stop Capturing Test")
+	void stopCapturingTest() throws IOException {
+		final CapturingStreamExtension extension = new CapturingStreamExtension();
+		final OutputStream out = new ExtendableOutputStream(new ByteArrayOutputStream(), extension);
+		final byte[] bytes = new byte[] { 1, 2, 3, 4 };
+
+		extension.startCapturing();
+		out.write(bytes);
+		extension.stopCapturing();
+		assertFalse(extension.isCapturing(), "capturing should have stopped");
+		assertEquals(0, extension.getCapturedLength(), "captured bytes should be discarded");
+
+		// bytes written after capturing stopped should not be captured
+		out.write(bytes);
+		assertEquals(0, extension.getCapturedLength(), "no bytes should be captured after stopping");
+
+		// stopping when not capturing should do nothing
+		extension.stopCapturing();
+		assertFalse(extension.isCapturing(), "capturing should not be active");
+	}
+}
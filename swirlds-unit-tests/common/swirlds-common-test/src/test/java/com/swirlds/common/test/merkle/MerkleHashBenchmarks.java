@@ -18,6 +18,7 @@ package com.swirlds.common.test.merkle;
 
 import com.swirlds.common.crypto.CryptoFactory;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.merkle.hash.MerkleHashBuilder;
 import com.swirlds.common.test.merkle.dummy.DummyMerkleNode;
 import com.swirlds.common.test.merkle.util.MerkleTestUtils;
 import com.swirlds.test.framework.TestComponentTags;
@@ -32,6 +33,7 @@ import java.io.IOException;
 import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
 
 /**
  * Benchmarks for merkle hashing.
@@ -157,4 +159,56 @@ public class MerkleHashBenchmarks {
 
 		System.out.println("Speedup from multithreading: " + (syncTime / asyncTime));
 	}
+
+	/**
+	 * Hash the same trees with a builder where every thread iterates over the entire tree and with builders that
+	 * split the tree into fork join tasks, and print the average time for each.
+	 *
+	 * @param treeBuilder
+	 * 		builds a tree from a seed, the same seed must always produce the same tree
+	 */
+	private void compareHashBuilders(
+			final LongFunction<DummyMerkleNode> treeBuilder,
+			final int numberOfIterations) throws InterruptedException, ExecutionException {
+
+		final int threadCount = Runtime.getRuntime().availableProcessors();
+		final int[] forkDepths = {0, 2, MerkleHashBuilder.DEFAULT_FORK_DEPTH};
+
+		final DummyMerkleNode sample = treeBuilder.apply(0);
+		System.out.println("Number of nodes: " + MerkleTestUtils.measureNumberOfNodes(sample) +
+				", tree depth: " + MerkleTestUtils.measureTreeDepth(sample) + ", threads: " + threadCount);
+
+		for (final int forkDepth : forkDepths) {
+			final MerkleHashBuilder builder = new MerkleHashBuilder(cryptography, threadCount, forkDepth);
+			long totalTime = 0;
+			for (int i = 0; i < numberOfIterations; i++) {
+				final DummyMerkleNode tree = treeBuilder.apply(i);
+				final StopWatch sw = new StopWatch();
+				sw.start();
+				builder.digestTreeAsync(tree).get();
+				sw.stop();
+				totalTime += sw.getTime(TimeUnit.MICROSECONDS);
+			}
+			System.out.println((forkDepth == 0 ? "Whole tree iteration" : ("Fork depth " + forkDepth)) +
+					": average time to hash " + (((double) totalTime) / numberOfIterations) + "us");
+		}
+	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@Tag(TestComponentTags.MERKLE)
+	@DisplayName("Compare Hash Builders On Wide Trees")
+	public void compareHashBuildersWideTrees() throws InterruptedException, ExecutionException {
+		compareHashBuilders((final long seed) -> MerkleTestUtils.generateRandomBalancedTree(
+				seed, 3, 64, 64, 10), 10);
+	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@Tag(TestComponentTags.MERKLE)
+	@DisplayName("Compare Hash Builders On Deep Trees")
+	public void compareHashBuildersDeepTrees() throws InterruptedException, ExecutionException {
+		compareHashBuilders((final long seed) -> MerkleTestUtils.generateRandomBalancedTree(
+				seed, 17, 2, 64, 10), 10);
+	}
 }
@@ -22,6 +22,7 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.exceptions.IllegalChildHashException;
+import com.swirlds.common.merkle.hash.MerkleHashBuilder;
 import com.swirlds.common.merkle.utility.DebugIterationEndpoint;
 import com.swirlds.common.test.RandomUtils;
 import com.swirlds.common.test.merkle.dummy.DummyMerkleInternal;
@@ -37,6 +38,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -346,4 +349,33 @@ class MerkleHashTests {
 		// This should throw the internal exception that was encountered
 		assertThrows(ExecutionException.class, future::get, "expected hashing to fail");
 	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 2, 3, 8})
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.MERKLE)
+	@DisplayName("Fork Depth Test")
+	void forkDepthTest(final int forkDepth) throws InterruptedException, ExecutionException {
+		final MerkleHashBuilder builder = new MerkleHashBuilder(cryptography, 4, forkDepth);
+
+		final DummyMerkleNode tree1 = MerkleTestUtils.generateRandomTree(0, 2,
+				1, 1, 0, 3,
+				1, 0.25);
+		final DummyMerkleNode tree2 = MerkleTestUtils.generateRandomTree(0, 2,
+				1, 1, 0, 3,
+				1, 0.25);
+		assertEquals(cryptography.digestTreeSync(tree1), builder.digestTreeAsync(tree2).get(),
+				"hash should not depend on the fork depth");
+		tree2.forEachNode((node) -> assertNotNull(node.getHash(), "all nodes should be hashed"));
+
+		final DummyMerkleNode tree3 = MerkleTestUtils.buildLessSimpleTreeExtended();
+		tree3.asInternal().setChild(3, new SelfHashingDummyMerkleLeaf("asdf"));
+		builder.digestTreeAsync(tree3).get();
+		tree3.forEachNode((node) -> assertNotNull(node.getHash(), "all nodes should be hashed"));
+
+		final MerkleInternal tree4 = MerkleTestUtils.buildLessSimpleTreeExtended();
+		((DummyMerkleLeaf) tree4.getChild(0)).setThrowWhenHashed(true);
+		assertThrows(ExecutionException.class, () -> builder.digestTreeAsync(tree4).get(),
+				"expected hashing to fail");
+	}
 }
@@ -23,6 +23,7 @@ import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.exceptions.InvalidVersionException;
 import com.swirlds.common.io.streams.DebuggableMerkleDataInputStream;
+import com.swirlds.common.io.streams.DetachedSubtree;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
@@ -55,8 +56,11 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static com.swirlds.common.io.utility.FileUtils.deleteDirectory;
 import static com.swirlds.common.test.merkle.util.MerkleTestUtils.areTreesEqual;
@@ -132,6 +136,62 @@ class MerkleSerializationTests {
 		}
 	}
 
+	/**
+	 * Serialize the children of the root of each tree separately from the rest of the tree, then deserialize the
+	 * children and attach them to the tree while it is read.
+	 */
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.MERKLE)
+	@Tag(TestComponentTags.IO)
+	@DisplayName("Serialize With Detached Subtrees")
+	void serializeWithDetachedSubtrees() throws IOException {
+		final List<DummyMerkleNode> trees = MerkleTestUtils.buildTreeList();
+
+		for (final DummyMerkleNode tree : trees) {
+			if (tree == null || tree.isLeaf()) {
+				continue;
+			}
+			resetDirectory();
+
+			final Map<MerkleNode, Integer> detachedIndices = new IdentityHashMap<>();
+			final List<byte[]> detachedBytes = new ArrayList<>();
+			for (int childIndex = 0; childIndex < tree.asInternal().getNumberOfChildren(); childIndex++) {
+				final MerkleNode child = tree.asInternal().getChild(childIndex);
+				if (child == null) {
+					continue;
+				}
+				final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+				new MerkleDataOutputStream(byteOut).writeMerkleTree(testDirectory, child);
+				detachedIndices.put(child, detachedBytes.size());
+				detachedBytes.add(byteOut.toByteArray());
+			}
+
+			final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+			new MerkleDataOutputStream(byteOut).writeMerkleTree(testDirectory, tree, detachedIndices);
+
+			final List<DetachedSubtree> detachedSubtrees = new ArrayList<>();
+			for (final byte[] bytes : detachedBytes) {
+				detachedSubtrees.add(new MerkleDataInputStream(new ByteArrayInputStream(bytes))
+						.readDetachedSubtree(testDirectory, Integer.MAX_VALUE));
+			}
+
+			final DummyMerkleNode deserializedTree = new MerkleDataInputStream(
+					new ByteArrayInputStream(byteOut.toByteArray()))
+					.readMerkleTree(testDirectory, Integer.MAX_VALUE, detachedSubtrees::get);
+
+			assertTrue(areTreesEqual(tree, deserializedTree), "deserialized tree should match constructed tree");
+			assertTrue(isFullyInitialized(deserializedTree), "tree should be fully initialized");
+
+			if (!detachedSubtrees.isEmpty()) {
+				assertThrows(IOException.class, () -> new MerkleDataInputStream(
+								new ByteArrayInputStream(byteOut.toByteArray()))
+								.readMerkleTree(testDirectory, Integer.MAX_VALUE, index -> null),
+						"missing detached subtrees should be detected");
+			}
+		}
+	}
+
 	@Test
 	@Tag(TestTypeTags.FUNCTIONAL)
 	@Tag(TestComponentTags.MERKLE)
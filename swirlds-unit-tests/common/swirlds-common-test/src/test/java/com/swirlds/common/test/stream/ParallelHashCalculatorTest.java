@@ -0,0 +1,231 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.stream;
+
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.SerializableHashable;
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.stream.LinkedObjectStream;
+import com.swirlds.common.stream.ParallelHashCalculatorForStream;
+import com.swirlds.common.stream.RunningHashCalculatorForStream;
+import com.swirlds.common.test.RandomUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ParallelHashCalculatorForStream Test")
+class ParallelHashCalculatorTest {
+
+	private static final Cryptography cryptography = CryptoFactory.getInstance();
+
+	/**
+	 * A stream that remembers the objects added to it.
+	 */
+	private static class CollectingStream implements LinkedObjectStream<ObjectForTestStream> {
+		private final List<ObjectForTestStream> objects = new ArrayList<>();
+		private boolean closed;
+
+		@Override
+		public void setRunningHash(final Hash hash) {
+		}
+
+		@Override
+		public void addObject(final ObjectForTestStream object) {
+			objects.add(object);
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	@Test
+	@DisplayName("Objects Are Hashed And Passed On In Order")
+	void orderTest() {
+		final CollectingStream collector = new CollectingStream();
+		final RunningHashCalculatorForStream<ObjectForTestStream> runningHashCalculator =
+				new RunningHashCalculatorForStream<>(collector, cryptography);
+		// a small capacity makes the ring buffer wrap around many times
+		final ParallelHashCalculatorForStream<ObjectForTestStream> hashCalculator =
+				new ParallelHashCalculatorForStream<>(runningHashCalculator, cryptography, 4, 16, 0, "test");
+		hashCalculator.start();
+
+		final Hash initialHash = RandomUtils.randomHash();
+		hashCalculator.setRunningHash(initialHash);
+
+		final List<ObjectForTestStream> objects = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			final ObjectForTestStream object = ObjectForTestStream.getRandomObjectForTestStream(100);
+			objects.add(object);
+			hashCalculator.addObject(object);
+		}
+		hashCalculator.close();
+
+		assertTrue(collector.closed, "closing should close the next stream");
+		assertEquals(objects.size(), collector.objects.size(), "all objects should be passed on before closing");
+		Hash expectedRunningHash = initialHash;
+		for (int i = 0; i < objects.size(); i++) {
+			final ObjectForTestStream object = objects.get(i);
+			assertSame(object, collector.objects.get(i), "objects should be passed on in the order they were added");
+			assertEquals(cryptography.digestSync((SelfSerializable) object), object.getHash(),
+					"the object should be hashed");
+			expectedRunningHash = cryptography.calcRunningHash(expectedRunningHash, object.getHash(),
+					DigestType.SHA_384);
+			assertEquals(expectedRunningHash, object.getRunningHash().getHash(),
+					"the running hash should be calculated in order");
+		}
+		assertEquals(0, hashCalculator.size(), "no objects should be left in the stream");
+	}
+
+	@Test
+	@DisplayName("Next Stream Test")
+	void nextStreamTest() {
+		@SuppressWarnings("unchecked") final LinkedObjectStream<ObjectForTestStream> nextStream =
+				mock(LinkedObjectStream.class);
+		final ParallelHashCalculatorForStream<ObjectForTestStream> hashCalculator =
+				new ParallelHashCalculatorForStream<>(nextStream, cryptography, 2, 1024, 0, "test");
+		hashCalculator.start();
+
+		final Hash hash = RandomUtils.randomHash();
+		hashCalculator.setRunningHash(hash);
+		verify(nextStream).setRunningHash(hash);
+
+		for (int i = 0; i < 1000; i++) {
+			hashCalculator.addObject(ObjectForTestStream.getRandomObjectForTestStream(100));
+		}
+		hashCalculator.clear();
+		verify(nextStream).clear();
+		assertEquals(0, hashCalculator.size(), "clearing should drop all objects that were not passed on");
+
+		final ObjectForTestStream object = ObjectForTestStream.getRandomObjectForTestStream(100);
+		hashCalculator.addObject(object);
+		hashCalculator.close();
+		verify(nextStream).addObject(object);
+		verify(nextStream).close();
+
+		assertThrows(NullPointerException.class, () -> hashCalculator.addObject(null),
+				"null objects should not be accepted");
+	}
+
+	@Test
+	@DisplayName("An Object That Fails To Hash Stops The Stream")
+	void hashingFailureTest() {
+		final List<ObjectForTestStream> objects = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			objects.add(ObjectForTestStream.getRandomObjectForTestStream(100));
+		}
+		final int failingIndex = 10;
+		final ObjectForTestStream failing = objects.get(failingIndex);
+
+		final Cryptography failingCryptography = mock(Cryptography.class, CALLS_REAL_METHODS);
+		doAnswer(invocation -> {
+			final SerializableHashable object = invocation.getArgument(0);
+			if (object == failing) {
+				throw new IllegalStateException("intentional failure");
+			}
+			return cryptography.digestSync(object, invocation.getArgument(1), invocation.getArgument(2));
+		}).when(failingCryptography).digestSync(any(SerializableHashable.class), any(DigestType.class), anyBoolean());
+
+		final CollectingStream collector = new CollectingStream();
+		// the capacity is smaller than the number of objects, so a slot that is never released would block adding
+		final ParallelHashCalculatorForStream<ObjectForTestStream> hashCalculator =
+				new ParallelHashCalculatorForStream<>(collector, failingCryptography, 4, 8, 0, "test");
+		hashCalculator.start();
+		assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+			final IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+				// the failure is only seen once the object has been hashed, so keep adding until it is
+				for (final ObjectForTestStream object : objects) {
+					hashCalculator.addObject(object);
+				}
+				while (true) {
+					hashCalculator.addObject(ObjectForTestStream.getRandomObjectForTestStream(100));
+				}
+			}, "adding objects after an object failed to hash should fail");
+			assertEquals("intentional failure", e.getCause().getMessage(), "the cause should be the hashing failure");
+			hashCalculator.close();
+		}, "an object that fails to hash should not block the stream");
+
+		assertEquals(objects.subList(0, failingIndex), collector.objects,
+				"only the objects before the one that failed to hash should be passed on, in order");
+		assertTrue(collector.closed, "closing should close the next stream");
+		assertEquals(0, hashCalculator.size(), "no objects should be left in the stream");
+	}
+
+	@Test
+	@DisplayName("Idle Threads Wait Until They Are Unparked")
+	void idleThreadsTest() {
+		final String component = "idle-hash-test";
+		final CollectingStream collector = new CollectingStream();
+		final ParallelHashCalculatorForStream<ObjectForTestStream> hashCalculator =
+				new ParallelHashCalculatorForStream<>(collector, cryptography, 2, 16, 0, component);
+		hashCalculator.start();
+
+		for (int round = 0; round < 3; round++) {
+			final ObjectForTestStream object = ObjectForTestStream.getRandomObjectForTestStream(100);
+			hashCalculator.addObject(object);
+			assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+				while (hashCalculator.size() > 0) {
+					Thread.sleep(1);
+				}
+			}, "the object should be passed on");
+			assertSame(object, collector.objects.get(round), "the object should be passed on");
+
+			// every thread should end up waiting without a timeout, rather than waking up periodically to look for work
+			assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+				while (!streamThreads(component).stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+					Thread.sleep(1);
+				}
+			}, "idle threads should park until they are unparked");
+			assertEquals(3, streamThreads(component).size(),
+					"there should be two hashing threads and a running hash thread");
+		}
+		hashCalculator.close();
+	}
+
+	private static List<Thread> streamThreads(final String component) {
+		final List<Thread> threads = new ArrayList<>();
+		for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().contains(component)) {
+				threads.add(thread);
+			}
+		}
+		return threads;
+	}
+}
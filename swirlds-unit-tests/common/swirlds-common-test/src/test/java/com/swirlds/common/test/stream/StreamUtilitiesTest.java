@@ -48,7 +48,9 @@ import java.net.URL;
 import java.security.PublicKey;
 import java.time.Instant;
 import java.util.Deque;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import static com.swirlds.common.stream.EventStreamType.EVENT;
 import static com.swirlds.common.stream.LinkedObjectStreamUtilities.computeEntireHash;
@@ -67,6 +69,7 @@ import static com.swirlds.common.stream.StreamValidationResult.OK;
 import static com.swirlds.common.stream.StreamValidationResult.PARSE_SIG_FILE_FAIL;
 import static com.swirlds.common.stream.StreamValidationResult.PARSE_STREAM_FILE_FAIL;
 import static com.swirlds.common.stream.StreamValidationResult.SIG_HASH_NOT_MATCH_FILE;
+import static com.swirlds.common.stream.StreamValidationResult.START_HASH_NOT_MATCH;
 import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_EMPTY;
 import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_MISS_OBJECTS;
 import static com.swirlds.common.stream.StreamValidationResult.STREAM_FILE_MISS_START_HASH;
@@ -230,6 +233,50 @@ class StreamUtilitiesTest {
 		assertEquals(OK, result.getLeft(), "the files are not valid, result: " + result.getLeft());
 	}
 
+	@Test
+	void parseFileListInParallelTest() {
+		final List<File> files = List.of(readStreamDirFile.listFiles());
+		final Iterator<SelfSerializable> sequential = LinkedObjectStreamUtilities.parseStreamFileList(files,
+				TEST_STREAM);
+		final Iterator<SelfSerializable> parallel = LinkedObjectStreamUtilities.parseStreamFileList(files,
+				TEST_STREAM, 4);
+		while (sequential.hasNext()) {
+			assertTrue(parallel.hasNext(), "parallel parsing should return as many objects as sequential parsing");
+			assertEquals(sequential.next(), parallel.next(), "objects should be returned in the same order");
+		}
+		assertFalse(parallel.hasNext(), "parallel parsing should return as many objects as sequential parsing");
+
+		checkIterator(LinkedObjectStreamUtilities.parseStreamFileList(files, TEST_STREAM, 2), 102);
+	}
+
+	@Test
+	void validateFileListInParallelTest() {
+		final List<File> files = List.of(readStreamDirFile.listFiles());
+		final Pair<StreamValidationResult, Hash> sequential =
+				LinkedObjectStreamValidateUtils.validateFileList(files, TEST_STREAM);
+		final Pair<StreamValidationResult, Hash> parallel =
+				LinkedObjectStreamValidateUtils.validateFileList(files, TEST_STREAM, 4);
+		assertEquals(OK, parallel.getLeft(), "the files are not valid, result: " + parallel.getLeft());
+		assertEquals(sequential.getRight(), parallel.getRight(), "the last running hash should match");
+
+		// leaving out a file in the middle breaks the chain of running hashes
+		final List<File> streamFiles = files.stream().filter(TEST_STREAM::isStreamFile).sorted().toList();
+		final List<File> withGap = new ArrayList<>(streamFiles);
+		withGap.remove(2);
+		assertEquals(START_HASH_NOT_MATCH,
+				LinkedObjectStreamValidateUtils.validateFileList(withGap, TEST_STREAM, 4).getLeft(),
+				"a missing file should be detected");
+
+		assertEquals(STREAM_FILE_EMPTY,
+				LinkedObjectStreamValidateUtils.validateFileList(List.of(), TEST_STREAM, 4).getLeft(),
+				"an empty list should not be valid");
+
+		assertEquals(INVALID_ENTIRE_SIGNATURE,
+				LinkedObjectStreamValidateUtils.validateFilesAndSignatures(files, mock(PublicKey.class), TEST_STREAM,
+						4).getLeft(),
+				"should get INVALID_ENTIRE_SIGNATURE when pubKey is not valid");
+	}
+
 	/**
 	 * tests {@link LinkedObjectStreamUtilities#readStartRunningHashFromStreamFile(File, StreamType)} and
 	 * {@link LinkedObjectStreamUtilities#readHashesFromStreamFile(File, StreamType)},
@@ -16,17 +16,47 @@
 
 package com.swirlds.common.test.stream;
 
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.stream.HashCalculatorForStream;
+import com.swirlds.common.stream.LinkedObjectStreamUtilities;
+import com.swirlds.common.stream.RunningHashCalculatorForStream;
+import com.swirlds.common.stream.StreamFileIndex;
+import com.swirlds.common.stream.StreamFileWriterSettings;
 import com.swirlds.common.stream.TimestampStreamFileWriter;
+import com.swirlds.common.test.RandomUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 
+import static com.swirlds.common.stream.LinkedObjectStreamUtilities.getPeriod;
+import static com.swirlds.common.test.stream.TestStreamType.TEST_STREAM;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("TimestampStreamFileWriter Test")
 class TimestampStreamFileWriterTest {
 
+	private static final long WINDOW_SIZE_MS = 1000;
+
 	/**
 	 * @param object
 	 * 		an object that will be added to the stream
@@ -207,4 +237,270 @@ class TimestampStreamFileWriterTest {
 						true,
 						"new period and alignment, should start new file"));
 	}
+
+	/**
+	 * Write a sequence of test objects to stream files.
+	 *
+	 * @param directory
+	 * 		the directory to write the files to
+	 * @param flushThresholdBytes
+	 * 		the group commit threshold of the writer
+	 * @param flushIntervalMs
+	 * 		the group commit interval of the writer
+	 * @param channelBufferBytes
+	 * 		the file channel buffer size of the writer, 0 to write through a file output stream
+	 */
+	private static void writeObjects(
+			final Path directory,
+			final int flushThresholdBytes,
+			final long flushIntervalMs,
+			final int channelBufferBytes) throws IOException {
+		writeObjects(directory, flushThresholdBytes, flushIntervalMs, channelBufferBytes, false);
+	}
+
+	/**
+	 * Write a sequence of test objects to stream files.
+	 *
+	 * @param directory
+	 * 		the directory to write the files to
+	 * @param flushThresholdBytes
+	 * 		the group commit threshold of the writer
+	 * @param flushIntervalMs
+	 * 		the group commit interval of the writer
+	 * @param channelBufferBytes
+	 * 		the file channel buffer size of the writer, 0 to write through a file output stream
+	 * @param writeIndexFiles
+	 * 		if the writer should write index files
+	 */
+	private static void writeObjects(
+			final Path directory,
+			final int flushThresholdBytes,
+			final long flushIntervalMs,
+			final int channelBufferBytes,
+			final boolean writeIndexFiles) throws IOException {
+		writeObjects(directory, new StreamFileWriterSettings()
+				.setFlushThresholdBytes(flushThresholdBytes)
+				.setFlushIntervalMs(flushIntervalMs)
+				.setChannelBufferBytes(channelBufferBytes)
+				.setWriteIndexFiles(writeIndexFiles), false);
+	}
+
+	/**
+	 * Write a sequence of test objects to stream files.
+	 *
+	 * @param directory
+	 * 		the directory to write the files to
+	 * @param settings
+	 * 		the settings of the writer
+	 * @param interruptWriter
+	 * 		if true, the thread adding the objects is interrupted while it adds each object that does not start a new
+	 * 		file
+	 */
+	private static void writeObjects(
+			final Path directory,
+			final StreamFileWriterSettings settings,
+			final boolean interruptWriter) throws IOException {
+
+		Files.createDirectories(directory);
+		final TimestampStreamFileWriter<ObjectForTestStream> writer = new TimestampStreamFileWriter<>(
+				directory.toString(), WINDOW_SIZE_MS, new StreamFileSigner(), false, TEST_STREAM, settings);
+		final HashCalculatorForStream<ObjectForTestStream> hashCalculator = new HashCalculatorForStream<>(
+				new RunningHashCalculatorForStream<>(writer, CryptoFactory.getInstance()),
+				CryptoFactory.getInstance());
+		hashCalculator.setRunningHash(RandomUtils.randomHash(new Random(0)));
+
+		final Iterator<ObjectForTestStream> objects =
+				new ObjectForTestStreamGenerator(5000, 2, Instant.ofEpochSecond(1000)).getIterator();
+		Instant previousTimestamp = null;
+		while (objects.hasNext()) {
+			final ObjectForTestStream object = objects.next();
+			// the writer waits for the running hash when it starts a new file, which an interrupt would abort
+			final boolean interrupt = interruptWriter && previousTimestamp != null &&
+					getPeriod(previousTimestamp, WINDOW_SIZE_MS) == getPeriod(object.getTimestamp(), WINDOW_SIZE_MS);
+			if (interrupt) {
+				Thread.currentThread().interrupt();
+			}
+			hashCalculator.addObject(object);
+			if (interrupt) {
+				assertTrue(Thread.interrupted(), "the writer should keep the interrupt status of the thread");
+			}
+			previousTimestamp = object.getTimestamp();
+		}
+		hashCalculator.close();
+	}
+
+	private static List<Path> streamFiles(final Path directory) throws IOException {
+		return filesWithExtension(directory, TEST_STREAM.getExtension());
+	}
+
+	private static List<Path> filesWithExtension(final Path directory, final String extension) throws IOException {
+		try (final Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.toString().endsWith(extension))
+					.map(directory::relativize)
+					.sorted()
+					.toList();
+		}
+	}
+
+	@Test
+	@DisplayName("Group Commit Writes Identical Files Test")
+	void groupCommitWritesIdenticalFilesTest(@TempDir final Path directory) throws IOException {
+		final Path perObject = directory.resolve("perObject");
+		final Path bySize = directory.resolve("bySize");
+		final Path atFileBoundaries = directory.resolve("atFileBoundaries");
+
+		writeObjects(perObject, 0, 0, 0);
+		writeObjects(bySize, 1024, Long.MAX_VALUE, 0);
+		writeObjects(atFileBoundaries, 1024 * 1024, Long.MAX_VALUE, 0);
+
+		final List<Path> files = streamFiles(perObject);
+		assertTrue(files.size() > 1, "the objects should span several files");
+		for (final Path groupCommitDirectory : List.of(bySize, atFileBoundaries)) {
+			assertEquals(files, streamFiles(groupCommitDirectory), "the same files should be written");
+			for (final Path file : files) {
+				assertArrayEquals(
+						Files.readAllBytes(perObject.resolve(file)),
+						Files.readAllBytes(groupCommitDirectory.resolve(file)),
+						"group commit should not change the contents of " + file);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("File Channel Writes Identical Files Test")
+	void fileChannelWritesIdenticalFilesTest(@TempDir final Path directory) throws IOException {
+		final Path outputStream = directory.resolve("outputStream");
+		final Path channelPerObject = directory.resolve("channelPerObject");
+		final Path channelBySize = directory.resolve("channelBySize");
+		final Path channelLargeBuffer = directory.resolve("channelLargeBuffer");
+
+		writeObjects(outputStream, 0, 0, 0);
+		// a single block buffer is filled and hashed several times per file
+		writeObjects(channelPerObject, 0, 0, 1);
+		writeObjects(channelBySize, 1024, Long.MAX_VALUE, 4096);
+		writeObjects(channelLargeBuffer, 0, 0, 1024 * 1024);
+		assertIdenticalFiles(outputStream, List.of(channelPerObject, channelBySize, channelLargeBuffer));
+	}
+
+	@Test
+	@DisplayName("Direct I/O Writes Identical Files Test")
+	void directIoWritesIdenticalFilesTest(@TempDir final Path directory) throws IOException {
+		final Path outputStream = directory.resolve("outputStream");
+		final Path directPerObject = directory.resolve("directPerObject");
+		final Path directBySize = directory.resolve("directBySize");
+		final Path directLargeBuffer = directory.resolve("directLargeBuffer");
+
+		writeObjects(outputStream, 0, 0, 0);
+		// every flush writes a padded partial block that is written again by the next flush
+		writeObjects(directPerObject, new StreamFileWriterSettings().setChannelBufferBytes(1).setDirectIo(true), false);
+		writeObjects(directBySize, new StreamFileWriterSettings()
+				.setFlushThresholdBytes(1024)
+				.setFlushIntervalMs(Long.MAX_VALUE)
+				.setChannelBufferBytes(8192)
+				.setDirectIo(true), false);
+		writeObjects(directLargeBuffer, new StreamFileWriterSettings()
+				.setChannelBufferBytes(1024 * 1024)
+				.setDirectIo(true), false);
+		assertIdenticalFiles(outputStream, List.of(directPerObject, directBySize, directLargeBuffer));
+	}
+
+	@Test
+	@DisplayName("Interrupted Writer Writes Identical Files Test")
+	void interruptedWriterWritesIdenticalFilesTest(@TempDir final Path directory) throws IOException {
+		final Path outputStream = directory.resolve("outputStream");
+		final Path channel = directory.resolve("channel");
+		final Path direct = directory.resolve("direct");
+
+		writeObjects(outputStream, 0, 0, 0);
+		// an interrupt of the thread that uses a file channel would close the channel
+		writeObjects(channel, new StreamFileWriterSettings().setChannelBufferBytes(1), true);
+		writeObjects(direct, new StreamFileWriterSettings().setChannelBufferBytes(1).setDirectIo(true), true);
+		assertIdenticalFiles(outputStream, List.of(channel, direct));
+	}
+
+	/**
+	 * Check that the same stream and signature files were written to each directory.
+	 */
+	private static void assertIdenticalFiles(final Path expectedDirectory, final List<Path> directories)
+			throws IOException {
+		// the signature files contain the hashes of the stream files
+		for (final String extension : List.of(TEST_STREAM.getExtension(), TEST_STREAM.getSigExtension())) {
+			final List<Path> files = filesWithExtension(expectedDirectory, extension);
+			assertTrue(files.size() > 1, "the objects should span several files");
+			for (final Path channelDirectory : directories) {
+				assertEquals(files, filesWithExtension(channelDirectory, extension),
+						"the same files should be written");
+				for (final Path file : files) {
+					assertArrayEquals(
+							Files.readAllBytes(expectedDirectory.resolve(file)),
+							Files.readAllBytes(channelDirectory.resolve(file)),
+							"the file channel should not change the contents of " + file);
+				}
+			}
+		}
+	}
+
+	private static List<SelfSerializable> readAll(final Iterator<SelfSerializable> iterator) {
+		final List<SelfSerializable> objects = new ArrayList<>();
+		iterator.forEachRemaining(objects::add);
+		return objects;
+	}
+
+	@Test
+	@DisplayName("Index Files Test")
+	void indexFilesTest(@TempDir final Path directory) throws IOException, ConstructableRegistryException {
+		ConstructableRegistry.registerConstructables("com.swirlds.common");
+		final Path indexed = directory.resolve("indexed");
+		final Path notIndexed = directory.resolve("notIndexed");
+
+		writeObjects(indexed, 0, 0, 0, true);
+		writeObjects(notIndexed, 0, 0, 0, false);
+
+		final List<Path> files = streamFiles(indexed);
+		assertTrue(files.size() > 1, "the objects should span several files");
+		for (final Path file : files) {
+			assertArrayEquals(
+					Files.readAllBytes(notIndexed.resolve(file)),
+					Files.readAllBytes(indexed.resolve(file)),
+					"writing an index should not change the contents of " + file);
+			assertNull(LinkedObjectStreamUtilities.parseStreamFileFrom(
+							notIndexed.resolve(file).toFile(), TEST_STREAM, Instant.EPOCH),
+					"a file without an index can not be read from a timestamp");
+
+			final File streamFile = indexed.resolve(file).toFile();
+			// the objects of the file, without the start and end running hashes
+			final List<SelfSerializable> all =
+					readAll(LinkedObjectStreamUtilities.parseStreamFile(streamFile, TEST_STREAM));
+			final Hash endRunningHash = (Hash) all.remove(all.size() - 1);
+			all.remove(0);
+
+			final StreamFileIndex index = StreamFileIndex.read(
+					new File(LinkedObjectStreamUtilities.generateIndexFilePath(streamFile)));
+			assertEquals(all.size(), index.size(), "every object should be indexed");
+			for (int ordinal = 0; ordinal < all.size(); ordinal++) {
+				assertEquals(((ObjectForTestStream) all.get(ordinal)).getTimestamp(), index.getTimestamp(ordinal),
+						"the index should contain the timestamp");
+			}
+			for (int ordinal = 0; ordinal < all.size(); ordinal += 17) {
+				final Instant timestamp = index.getTimestamp(ordinal);
+				// seeking to the timestamp of an object, or to just after the previous object, starts at the object
+				final List<Instant> seekTimes = ordinal == 0
+						? List.of(timestamp, Instant.EPOCH)
+						: List.of(timestamp, index.getTimestamp(ordinal - 1).plusNanos(1));
+				for (final Instant seekTo : seekTimes) {
+					final List<SelfSerializable> expected = new ArrayList<>(all.subList(ordinal, all.size()));
+					expected.add(endRunningHash);
+					assertEquals(expected, readAll(
+									LinkedObjectStreamUtilities.parseStreamFileFrom(streamFile, TEST_STREAM, seekTo)),
+							"reading from " + seekTo + " should skip the objects before it");
+				}
+			}
+
+			final Iterator<SelfSerializable> afterLastObject = LinkedObjectStreamUtilities.parseStreamFileFrom(
+					streamFile, TEST_STREAM, index.getTimestamp(index.size() - 1).plusNanos(1));
+			assertNotNull(afterLastObject, "the file should have an index");
+			assertTrue(afterLastObject.next() instanceof Hash, "only the end running hash should be read");
+			assertFalse(afterLastObject.hasNext(), "only the end running hash should be read");
+		}
+	}
 }
@@ -23,6 +23,7 @@ import com.swirlds.common.threading.framework.Stoppable;
 import com.swirlds.common.threading.framework.StoppableThread;
 import com.swirlds.common.threading.framework.ThreadSeed;
 import com.swirlds.common.threading.framework.config.StoppableThreadConfiguration;
+import com.swirlds.common.threading.framework.config.ThreadBackend;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.interrupt.InterruptableRunnable;
 import com.swirlds.test.framework.TestComponentTags;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Duration;
@@ -39,6 +41,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.swirlds.common.test.AssertionUtils.assertEventuallyEquals;
 import static com.swirlds.common.test.AssertionUtils.assertEventuallyFalse;
@@ -75,6 +78,168 @@ class StoppableThreadTests {
 		assertFalse(runawayThread.isAlive(), "thread should have been interrupted");
 	}
 
+	@ParameterizedTest
+	@EnumSource(ThreadBackend.class)
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Backend Stop Test")
+	void backendStopTest(final ThreadBackend backend) throws InterruptedException {
+		final AtomicInteger count = new AtomicInteger();
+		final StoppableThread thread = new StoppableThreadConfiguration<>()
+				.setThreadName("backend-" + backend)
+				.setBackend(backend)
+				.setWork(() -> {
+					count.getAndIncrement();
+					Thread.sleep(1);
+				})
+				.build();
+
+		thread.start();
+		assertEventuallyTrue(() -> count.get() > 10, Duration.ofSeconds(1), "thread should be doing work");
+		assertFalse(thread.isHanging(), "thread should not be hanging");
+
+		thread.stop();
+		thread.join(1_000);
+		assertFalse(thread.isAlive(), "thread should have stopped");
+		assertFalse(thread.isHanging(), "stopped thread should not be hanging");
+	}
+
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Pooled Backend Test")
+	void pooledBackendTest() {
+		assertFalse(ThreadBackend.PLATFORM.isPooled(), "platform threads should not be pooled");
+		assertTrue(ThreadBackend.POOLED.isPooled(), "pooled threads should be pooled");
+		assertEquals(!ThreadBackend.isVirtualThreadSupported(), ThreadBackend.VIRTUAL.isPooled(),
+				"virtual threads should be pooled only if the runtime does not support them");
+	}
+
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Pooled Thread Reuse Test")
+	void pooledThreadReuseTest() throws InterruptedException {
+		final AtomicReference<Thread> firstThread = new AtomicReference<>();
+		final StoppableThread first = new StoppableThreadConfiguration<>()
+				.setThreadName("first-pooled")
+				.setBackend(ThreadBackend.POOLED)
+				.setStopBehavior(Stoppable.StopBehavior.INTERRUPTABLE)
+				.setWork(() -> {
+					firstThread.set(Thread.currentThread());
+					assertTrue(Thread.currentThread().getName().contains("first-pooled"),
+							"the pool thread should have the name of the stoppable thread");
+					Thread.sleep(1);
+				})
+				.build();
+
+		first.start();
+		assertEventuallyTrue(() -> firstThread.get() != null, Duration.ofSeconds(1), "thread should be doing work");
+		first.stop();
+		first.join(1_000);
+		assertFalse(first.isAlive(), "thread should have stopped");
+		assertFalse(first.interrupt(), "a stopped pooled thread should not interrupt the pool thread");
+		assertEventuallyFalse(() -> firstThread.get().getName().contains("first-pooled"), Duration.ofSeconds(1),
+				"the pool thread should have its original name after the stoppable thread stops");
+
+		final AtomicBoolean interrupted = new AtomicBoolean(true);
+		final CountDownLatch ran = new CountDownLatch(1);
+		final StoppableThread second = new StoppableThreadConfiguration<>()
+				.setThreadName("second-pooled")
+				.setBackend(ThreadBackend.POOLED)
+				.setWork(() -> {
+					if (ran.getCount() > 0) {
+						interrupted.set(Thread.currentThread().isInterrupted());
+						ran.countDown();
+					}
+					Thread.sleep(1);
+				})
+				.build();
+
+		second.start();
+		assertTrue(ran.await(1, SECONDS), "second thread should run");
+		assertFalse(interrupted.get(), "the interrupt of the first thread should not reach the second thread");
+		second.stop();
+		second.join(1_000);
+		assertFalse(second.isAlive(), "thread should have stopped");
+	}
+
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Pooled Stop Before Task Runs Test")
+	void pooledStopBeforeTaskRunsTest() throws InterruptedException {
+		final AtomicInteger count = new AtomicInteger();
+		final StoppableThread thread = new StoppableThreadConfiguration<>()
+				.setBackend(ThreadBackend.POOLED)
+				.setWork(count::getAndIncrement)
+				.build();
+
+		thread.start();
+		assertTrue(thread.isAlive(), "a pooled thread should be alive as soon as it is started");
+		assertFalse(thread.start(), "a pooled thread should not be started twice");
+		assertTrue(thread.stop(), "a pooled thread should be stoppable as soon as it is started");
+		thread.join(1_000);
+		assertFalse(thread.isAlive(), "thread should have stopped");
+	}
+
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Pooled Exception Test")
+	void pooledExceptionTest() throws InterruptedException {
+		final AtomicReference<Throwable> exception = new AtomicReference<>();
+		final StoppableThread thread = new StoppableThreadConfiguration<>()
+				.setBackend(ThreadBackend.POOLED)
+				.setExceptionHandler((final Thread t, final Throwable e) -> exception.set(e))
+				.setWork(() -> {
+					throw new IllegalStateException("intentional");
+				})
+				.build();
+
+		thread.start();
+		thread.join(1_000);
+		assertFalse(thread.isAlive(), "thread should have died");
+		assertEventuallyTrue(() -> exception.get() instanceof IllegalStateException, Duration.ofSeconds(1),
+				"the exception should be passed to the exception handler");
+	}
+
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Pooled Hanging Thread Test")
+	void pooledHangingThreadTest() throws InterruptedException {
+		final AtomicBoolean running = new AtomicBoolean();
+		final AtomicBoolean finish = new AtomicBoolean(false);
+
+		final StoppableThread thread = new StoppableThreadConfiguration<>()
+				.setBackend(ThreadBackend.POOLED)
+				.setWork(() -> {
+					running.set(true);
+					while (!finish.get()) {
+						Thread.onSpinWait();
+					}
+				})
+				.setHangingThreadPeriod(Duration.ofMillis(200))
+				.build();
+
+		thread.start();
+		assertEventuallyTrue(running::get, Duration.ofSeconds(1), "thread should be doing work");
+
+		final Thread stoppingThread = new ThreadConfiguration().setRunnable(thread::stop).build();
+		stoppingThread.start();
+
+		assertEventuallyTrue(thread::isHanging, Duration.ofSeconds(2), "thread should become a hanging thread");
+		assertTrue(thread.isAlive(), "thread should have not yet died");
+
+		finish.set(true);
+		stoppingThread.join(1_000);
+		assertFalse(stoppingThread.isAlive(), "stopping thread should have finished");
+		assertFalse(thread.isAlive(), "thread should be dead");
+		assertFalse(thread.isHanging(), "once a pooled thread stops it should no longer be hanging, "
+				+ "even though its pool thread is still alive");
+	}
+
 	@Test
 	@Tag(TestTypeTags.FUNCTIONAL)
 	@Tag(TestComponentTags.THREADING)
@@ -18,6 +18,7 @@ package com.swirlds.common.test.threading;
 
 import com.swirlds.common.exceptions.MutabilityException;
 import com.swirlds.common.threading.framework.ThreadSeed;
+import com.swirlds.common.threading.framework.config.ThreadBackend;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.test.framework.TestComponentTags;
 import com.swirlds.test.framework.TestTypeTags;
@@ -648,6 +649,7 @@ class ThreadTests {
 				.setPriority(Thread.MAX_PRIORITY)
 				.setContextClassLoader(loader)
 				.setExceptionHandler(exceptionHandler)
+				.setBackend(ThreadBackend.VIRTUAL)
 				.setRunnable(runnable);
 
 		final ThreadConfiguration copy1 = configuration.copy();
@@ -662,6 +664,7 @@ class ThreadTests {
 				"copy configuration should match");
 		assertSame(configuration.getExceptionHandler(), copy1.getExceptionHandler(),
 				"copy configuration should match");
+		assertSame(configuration.getBackend(), copy1.getBackend(), "copy configuration should match");
 		assertSame(configuration.getRunnable(), copy1.getRunnable(), "copy configuration should match");
 
 		// It should matter if the original is immutable.
@@ -680,7 +683,44 @@ class ThreadTests {
 				"copy configuration should match");
 		assertSame(configuration.getExceptionHandler(), copy2.getExceptionHandler(),
 				"copy configuration should match");
+		assertSame(configuration.getBackend(), copy2.getBackend(), "copy configuration should match");
 		assertSame(configuration.getRunnable(), copy2.getRunnable(), "copy configuration should match");
 
 	}
+
+	@Test
+	@Tag(TestTypeTags.FUNCTIONAL)
+	@Tag(TestComponentTags.THREADING)
+	@DisplayName("Backend Test")
+	void backendTest() throws InterruptedException {
+		assertSame(ThreadBackend.PLATFORM, new ThreadConfiguration().getBackend(),
+				"platform threads should be used by default");
+
+		final AtomicBoolean runnableCalled = new AtomicBoolean(false);
+		final Thread thread = new ThreadConfiguration()
+				.setComponent("component")
+				.setThreadName("virtual")
+				.setBackend(ThreadBackend.VIRTUAL)
+				.setRunnable(() -> runnableCalled.set(true))
+				.build();
+
+		assertEquals(ThreadBackend.isVirtualThreadSupported(), ThreadBackend.isVirtual(thread),
+				"a virtual thread should be used only if the runtime supports it");
+		assertTrue(thread.isDaemon(), "thread should be a daemon");
+		assertTrue(thread.getName().contains("component") && thread.getName().contains("virtual"),
+				"thread should be named");
+
+		thread.start();
+		thread.join();
+		assertTrue(runnableCalled.get(), "runnable should have been called");
+
+		final ThreadFactory factory = new ThreadConfiguration()
+				.setBackend(ThreadBackend.VIRTUAL)
+				.buildFactory();
+		assertEquals(ThreadBackend.isVirtualThreadSupported(), ThreadBackend.isVirtual(factory.newThread(() -> {
+		})), "factory should use the configured backend");
+
+		assertThrows(NullPointerException.class, () -> new ThreadConfiguration().setBackend(null),
+				"null backend should not be accepted");
+	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.chatter.output;
+
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.merkle.utility.SerializableLong;
+import com.swirlds.platform.chatter.protocol.output.PriorityOutputAggregator;
+import com.swirlds.platform.chatter.protocol.output.SendAction;
+import com.swirlds.platform.chatter.protocol.output.queue.QueueOutputPeer;
+import com.swirlds.platform.chatter.protocol.peer.CommunicationState;
+import com.swirlds.platform.stats.AverageAndMax;
+import com.swirlds.platform.stats.PerSecondStat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("Priority Output Aggregator Tests")
+class PriorityOutputAggregatorTests {
+
+	private static final int CAPACITY = 100;
+	private static final int MESSAGE_SIZE = 10;
+	/** the messages of the high priority lane have these values added, to tell them apart */
+	private static final long HIGH = 1000;
+
+	private CommunicationState state;
+	private PerSecondStat msgsPerSec;
+	private AverageAndMax batchSizes;
+
+	@BeforeEach
+	void setUp() {
+		state = new CommunicationState();
+		state.chatterSyncStartingPhase3();
+		msgsPerSec = mock(PerSecondStat.class);
+		batchSizes = mock(AverageAndMax.class);
+	}
+
+	private QueueOutputPeer<SerializableLong> createLane(final int messagesPerRound) {
+		return new QueueOutputPeer<>(
+				CAPACITY,
+				state,
+				m -> SendAction.SEND,
+				m -> MESSAGE_SIZE,
+				messagesPerRound * MESSAGE_SIZE,
+				() -> {
+				});
+	}
+
+	private static void add(final QueueOutputPeer<SerializableLong> lane, final long offset, final int count) {
+		for (int i = 0; i < count; i++) {
+			lane.add(new SerializableLong(offset + i));
+		}
+	}
+
+	/**
+	 * @return the values of the messages provided until the aggregator returns null
+	 */
+	private static List<Long> drainBatch(final PriorityOutputAggregator aggregator) {
+		final List<Long> values = new ArrayList<>();
+		SelfSerializable message;
+		while ((message = aggregator.getMessage()) != null) {
+			values.add(((SerializableLong) message).getValue());
+		}
+		return values;
+	}
+
+	@Test
+	@DisplayName("Budgeted Lane Yields Test")
+	void budgetedLaneYieldsTest() {
+		final QueueOutputPeer<SerializableLong> high = createLane(2);
+		final QueueOutputPeer<SerializableLong> low = createLane(CAPACITY);
+		final PriorityOutputAggregator aggregator = new PriorityOutputAggregator(
+				List.of(high, low), msgsPerSec, batchSizes);
+
+		add(high, HIGH, 5);
+		add(low, 0, 2);
+
+		assertEquals(
+				List.of(HIGH, HIGH + 1, 0L, 1L, HIGH + 2, HIGH + 3, HIGH + 4),
+				drainBatch(aggregator),
+				"the high priority lane should yield to the low priority lane once it is over budget, "
+						+ "and get a new budget once the low priority lane has nothing to send");
+		verify(msgsPerSec, times(7)).increment();
+		verify(batchSizes).update(7);
+	}
+
+	@Test
+	@DisplayName("Budget Reset Per Batch Test")
+	void budgetResetPerBatchTest() {
+		final QueueOutputPeer<SerializableLong> high = createLane(2);
+		final QueueOutputPeer<SerializableLong> low = createLane(CAPACITY);
+		final PriorityOutputAggregator aggregator = new PriorityOutputAggregator(
+				List.of(high, low), msgsPerSec, batchSizes);
+
+		add(high, HIGH, 1);
+		assertEquals(List.of(HIGH), drainBatch(aggregator), "the only message should be sent");
+
+		// the budget used in the previous batch should not count against the high priority lane
+		add(high, HIGH + 1, 3);
+		add(low, 0, 1);
+		assertEquals(List.of(HIGH + 1, HIGH + 2, 0L, HIGH + 3), drainBatch(aggregator),
+				"the high priority lane should have its full budget at the start of a batch");
+
+		verify(batchSizes).update(1);
+		verify(batchSizes).update(4);
+	}
+
+	@Test
+	@DisplayName("Empty Aggregator Test")
+	void emptyAggregatorTest() {
+		final PriorityOutputAggregator aggregator = new PriorityOutputAggregator(
+				List.of(createLane(1), createLane(1)), msgsPerSec, batchSizes);
+
+		assertNull(aggregator.getMessage(), "there should be nothing to send");
+		verifyNoInteractions(msgsPerSec, batchSizes);
+	}
+}
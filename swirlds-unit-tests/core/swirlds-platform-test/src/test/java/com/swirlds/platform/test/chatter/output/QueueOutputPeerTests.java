@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.chatter.output;
+
+import com.swirlds.common.merkle.utility.SerializableLong;
+import com.swirlds.platform.chatter.protocol.output.SendAction;
+import com.swirlds.platform.chatter.protocol.output.queue.QueueOutputPeer;
+import com.swirlds.platform.chatter.protocol.peer.CommunicationState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Queue Output Peer Tests")
+class QueueOutputPeerTests {
+
+	private static final int CAPACITY = 5;
+	private static final int MESSAGE_SIZE = 10;
+
+	private CommunicationState state;
+	private AtomicInteger drops;
+
+	@BeforeEach
+	void setUp() {
+		state = new CommunicationState();
+		state.chatterSyncStartingPhase3();
+		drops = new AtomicInteger();
+	}
+
+	private QueueOutputPeer<SerializableLong> createPeer(final int byteBudget) {
+		return new QueueOutputPeer<>(
+				CAPACITY,
+				state,
+				m -> m.getValue() < 0 ? SendAction.DISCARD : SendAction.SEND,
+				m -> MESSAGE_SIZE,
+				byteBudget,
+				drops::incrementAndGet);
+	}
+
+	@Test
+	@DisplayName("Overflow Test")
+	void overflowTest() {
+		final QueueOutputPeer<SerializableLong> peer = createPeer(Integer.MAX_VALUE);
+		for (int i = 0; i < CAPACITY; i++) {
+			peer.add(new SerializableLong(i));
+		}
+		assertEquals(CAPACITY, peer.getQueueSize(), "the queue should hold exactly its capacity");
+		assertEquals(0, drops.get(), "no messages should be dropped before the queue is full");
+		assertTrue(state.shouldChatter(), "the peer should still be in sync");
+
+		peer.add(new SerializableLong(CAPACITY));
+		assertEquals(1, drops.get(), "the message that does not fit should be counted as dropped");
+		assertFalse(state.shouldChatter(), "the peer should be put out of sync when its queue overflows");
+		assertEquals(CAPACITY, peer.getQueueSize(), "the dropped message should not be queued");
+
+		peer.add(new SerializableLong(CAPACITY + 1));
+		assertEquals(1, drops.get(), "messages for a peer that is out of sync are ignored, not dropped");
+		assertEquals(CAPACITY, peer.getQueueSize(), "messages for a peer that is out of sync should not be queued");
+
+		peer.clear();
+		assertEquals(0, peer.getQueueSize(), "the queue should be empty after being cleared");
+	}
+
+	@Test
+	@DisplayName("Drop Count Test")
+	void dropCountTest() {
+		final QueueOutputPeer<SerializableLong> peer = createPeer(Integer.MAX_VALUE);
+		final int rounds = 3;
+		for (int round = 0; round < rounds; round++) {
+			for (int i = 0; i <= CAPACITY; i++) {
+				peer.add(new SerializableLong(i));
+			}
+			assertFalse(state.shouldChatter(), "the peer should be out of sync after an overflow");
+			// the peer is cleared and synced again before chatter resumes
+			peer.clear();
+			state.chatterSyncStartingPhase3();
+		}
+		assertEquals(rounds, drops.get(), "every dropped message should be counted");
+	}
+
+	@Test
+	@DisplayName("Byte Budget Test")
+	void byteBudgetTest() {
+		final QueueOutputPeer<SerializableLong> peer = createPeer(3 * MESSAGE_SIZE - 1);
+		peer.add(new SerializableLong(0));
+		peer.add(new SerializableLong(-1));
+		for (int i = 1; i < CAPACITY - 1; i++) {
+			peer.add(new SerializableLong(i));
+		}
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(i, ((SerializableLong) peer.getMessage()).getValue(),
+					"messages within the budget should be sent in order, skipping discarded ones");
+		}
+		assertTrue(peer.isOverBudget(), "the peer should be over budget with a message left to send");
+		assertNull(peer.getMessage(), "no message should be sent once the budget is used up");
+
+		peer.resetBudget();
+		assertEquals(3, ((SerializableLong) peer.getMessage()).getValue(),
+				"the remaining message should be sent after the budget is reset");
+		assertFalse(peer.isOverBudget(), "an empty peer should never be over budget");
+		assertNull(peer.getMessage(), "there should be no more messages");
+	}
+
+	@Test
+	@DisplayName("Wait Test")
+	void waitTest() {
+		final SerializableLong message = new SerializableLong(1);
+		final AtomicInteger checks = new AtomicInteger();
+		final QueueOutputPeer<SerializableLong> peer = new QueueOutputPeer<>(
+				CAPACITY,
+				state,
+				m -> checks.incrementAndGet() == 1 ? SendAction.WAIT : SendAction.SEND,
+				m -> MESSAGE_SIZE,
+				MESSAGE_SIZE,
+				drops::incrementAndGet);
+		peer.add(message);
+
+		assertNull(peer.getMessage(), "a message that should wait should not be sent");
+		assertEquals(1, peer.getQueueSize(), "a message that should wait should stay in the queue");
+		assertSame(message, peer.getMessage(), "the message should be sent once it no longer has to wait");
+	}
+
+	@Test
+	@DisplayName("Illegal Budget Test")
+	void illegalBudgetTest() {
+		assertThrows(IllegalArgumentException.class, () -> createPeer(0), "the budget must be positive");
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.chatter.output;
+
+import com.swirlds.platform.chatter.protocol.output.queue.SpscRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SPSC Ring Buffer Tests")
+class SpscRingBufferTests {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 3, 4, 5, 1000 })
+	@DisplayName("Exact Capacity Test")
+	void exactCapacityTest(final int capacity) {
+		final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(capacity);
+		assertEquals(capacity, buffer.capacity(), "the capacity should be the one configured");
+
+		for (int i = 0; i < capacity; i++) {
+			assertTrue(buffer.offer(i), "the buffer should accept elements until it is full");
+		}
+		assertEquals(capacity, buffer.size(), "the buffer should be full");
+		assertFalse(buffer.offer(capacity), "a full buffer should reject elements");
+
+		assertEquals(0, buffer.poll(), "the first element should be polled first");
+		assertTrue(buffer.offer(capacity), "polling an element should make room for another one");
+		assertFalse(buffer.offer(capacity + 1), "the buffer should be full again");
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, -1 })
+	@DisplayName("Illegal Capacity Test")
+	void illegalCapacityTest(final int capacity) {
+		assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<Integer>(capacity),
+				"a capacity that is not positive should be rejected");
+	}
+
+	@Test
+	@DisplayName("Wraparound Test")
+	void wraparoundTest() {
+		final int capacity = 5;
+		final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(capacity);
+
+		int next = 0;
+		int expected = 0;
+		// the indexes go around the underlying array many times, with a different fill level each time
+		for (int round = 0; round < 100; round++) {
+			final int toAdd = round % (capacity + 1);
+			for (int i = 0; i < toAdd; i++) {
+				if (buffer.offer(next)) {
+					next++;
+				}
+			}
+			assertEquals(next - expected, buffer.size(), "the size should match the number of elements added");
+			final int toRemove = (round * 7) % (capacity + 1);
+			for (int i = 0; i < toRemove && !buffer.isEmpty(); i++) {
+				assertEquals(expected, buffer.peek(), "peek should return the oldest element");
+				assertEquals(expected, buffer.poll(), "elements should be polled in the order they were added");
+				expected++;
+			}
+		}
+		while (!buffer.isEmpty()) {
+			assertEquals(expected++, buffer.poll(), "elements should be polled in the order they were added");
+		}
+		assertEquals(next, expected, "every element added should have been polled");
+		assertNull(buffer.peek(), "an empty buffer should have nothing to peek");
+		assertNull(buffer.poll(), "an empty buffer should have nothing to poll");
+	}
+
+	@Test
+	@DisplayName("Clear Test")
+	void clearTest() {
+		final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(3);
+		buffer.offer(1);
+		buffer.offer(2);
+		buffer.offer(3);
+		buffer.clear();
+
+		assertTrue(buffer.isEmpty(), "the buffer should be empty after being cleared");
+		for (int i = 0; i < 3; i++) {
+			assertTrue(buffer.offer(i), "a cleared buffer should accept elements up to its capacity");
+		}
+		assertFalse(buffer.offer(3), "the buffer should be full again");
+		assertEquals(0, buffer.poll(), "elements added after clearing should be polled first");
+	}
+
+	@Test
+	@DisplayName("Consumer Handoff Test")
+	void consumerHandoffTest() throws InterruptedException {
+		final int count = 10_000;
+		final int consumers = 4;
+		final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(7);
+		final List<Integer> received = new ArrayList<>(count);
+
+		final Thread producer = new Thread(() -> {
+			for (int i = 0; i < count; i++) {
+				while (!buffer.offer(i)) {
+					Thread.yield();
+				}
+			}
+		});
+		producer.start();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			// each consumer thread takes over after the previous one has finished, as the writer threads do
+			for (int consumer = 0; consumer < consumers; consumer++) {
+				final int last = (consumer + 1) * count / consumers;
+				final Thread thread = new Thread(() -> {
+					while (received.size() < last) {
+						final Integer element = buffer.poll();
+						if (element == null) {
+							Thread.yield();
+						} else {
+							received.add(element);
+						}
+					}
+				});
+				thread.start();
+				thread.join();
+			}
+			producer.join();
+		});
+
+		assertEquals(count, received.size(), "every element should have been received");
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, received.get(i), "elements should be received in the order they were added");
+		}
+		assertTrue(buffer.isEmpty(), "the buffer should be empty");
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.event;
+
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.internal.SettingsCommon;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.system.events.BaseEventHashedData;
+import com.swirlds.common.system.events.BaseEventUnhashedData;
+import com.swirlds.common.system.transaction.internal.ConsensusTransactionImpl;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import com.swirlds.platform.event.GossipEvent;
+import com.swirlds.platform.sync.SyncInputStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Random;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.common.test.RandomUtils.randomByteArray;
+import static com.swirlds.common.test.RandomUtils.randomHash;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Gossip Event Tests")
+class GossipEventTests {
+
+	private static final int BUFFER_SIZE = 1024;
+	private static final int MAX_TRANSACTIONS = 10;
+	private static final int MAX_TRANSACTION_BYTES = 1024;
+
+	@BeforeAll
+	static void setUp() throws ConstructableRegistryException {
+		ConstructableRegistry.registerConstructables("com.swirlds");
+		SettingsCommon.maxTransactionCountPerEvent = MAX_TRANSACTIONS;
+		SettingsCommon.transactionMaxBytes = MAX_TRANSACTION_BYTES;
+	}
+
+	private static GossipEvent randomEvent(final Random random) {
+		final ConsensusTransactionImpl[] transactions = new ConsensusTransactionImpl[random.nextInt(5) + 1];
+		for (int i = 0; i < transactions.length; i++) {
+			transactions[i] = new SwirldTransaction(randomByteArray(random, random.nextInt(100) + 1));
+		}
+		final BaseEventHashedData hashedData = new BaseEventHashedData(
+				random.nextInt(10),
+				random.nextInt(1000),
+				random.nextInt(1000),
+				randomHash(random),
+				randomHash(random),
+				Instant.ofEpochSecond(random.nextInt(1_000_000)),
+				transactions);
+		final BaseEventUnhashedData unhashedData = new BaseEventUnhashedData(
+				random.nextInt(10), randomByteArray(random, 64));
+		final GossipEvent event = new GossipEvent(hashedData, unhashedData);
+		event.setRoundCreated(random.nextInt(100));
+		return event;
+	}
+
+	private static byte[] serialize(final GossipEvent event) throws IOException {
+		final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		try (final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut)) {
+			out.writeSerializable(event, false);
+		}
+		return byteOut.toByteArray();
+	}
+
+	/**
+	 * Read an event the way it is read from a peer, so that the bytes received are captured.
+	 */
+	private static GossipEvent receive(final byte[] bytes) throws IOException {
+		final SyncInputStream in = SyncInputStream.createSyncInputStream(new ByteArrayInputStream(bytes), BUFFER_SIZE);
+		final GossipEvent event = in.readSerializable(false, GossipEvent::new);
+		assertFalse(in.getEventCapture().isCapturing(), "the capture should be stopped after reading the event");
+		return event;
+	}
+
+	/**
+	 * @return the hash of the hashed data of an event, computed from a fresh serialization
+	 */
+	private static Hash digest(final GossipEvent event) throws IOException {
+		final GossipEvent copy = receive(serialize(new GossipEvent(event.getHashedData(), event.getUnhashedData())));
+		return CryptoFactory.getInstance().digestSync(copy.getHashedData());
+	}
+
+	@Test
+	@DisplayName("Received Event Hash And Bytes Test")
+	void receivedEventHashAndBytesTest() throws IOException {
+		final Random random = getRandomPrintSeed();
+		for (int i = 0; i < 100; i++) {
+			final GossipEvent original = randomEvent(random);
+			final GossipEvent received = receive(serialize(original));
+
+			received.computeHash(CryptoFactory.getInstance());
+			assertEquals(digest(original), received.getHashedData().getHash(),
+					"the hash computed from the bytes received should match digestSync");
+
+			final GossipEvent fresh = new GossipEvent(original.getHashedData(), original.getUnhashedData());
+			fresh.setRoundCreated(original.getRoundCreated());
+			assertArrayEquals(serialize(fresh), serialize(received),
+					"the relayed bytes should be identical to a fresh serialization");
+		}
+	}
+
+	@Test
+	@DisplayName("Non Canonical Bytes Test")
+	void nonCanonicalBytesTest() throws IOException {
+		final Random random = getRandomPrintSeed();
+		final GossipEvent original = randomEvent(random);
+		final BaseEventHashedData hashedData = original.getHashedData();
+
+		// the serialized length of the transactions is ignored when reading, so a peer may send any value
+		final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		try (final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut)) {
+			out.writeInt(original.getVersion());
+			out.writeInt(hashedData.getVersion());
+			out.writeLong(hashedData.getCreatorId());
+			out.writeLong(hashedData.getSelfParentGen());
+			out.writeLong(hashedData.getOtherParentGen());
+			out.writeSerializable(hashedData.getSelfParentHash(), false);
+			out.writeSerializable(hashedData.getOtherParentHash(), false);
+			out.writeInstant(hashedData.getTimeCreated());
+			out.writeInt(-1);
+			out.writeSerializableArray(hashedData.getTransactions(), true, false);
+			out.writeSerializable(original.getUnhashedData(), false);
+			out.writeLong(original.getRoundCreated());
+		}
+		final GossipEvent received = receive(byteOut.toByteArray());
+
+		received.computeHash(CryptoFactory.getInstance());
+		assertEquals(digest(original), received.getHashedData().getHash(),
+				"the hash should not be computed from bytes that differ from this node's encoding");
+		assertArrayEquals(serialize(original), serialize(received),
+				"bytes that differ from this node's encoding should not be relayed");
+	}
+
+	@Test
+	@DisplayName("Missing Unhashed Data Test")
+	void missingUnhashedDataTest() throws IOException {
+		final GossipEvent original = randomEvent(getRandomPrintSeed());
+		final GossipEvent withoutUnhashedData = new GossipEvent(original.getHashedData(), null);
+
+		final GossipEvent received = receive(serialize(withoutUnhashedData));
+		assertNull(received.getUnhashedData(), "the unhashed data should be missing");
+
+		received.computeHash(CryptoFactory.getInstance());
+		assertEquals(digest(original), received.getHashedData().getHash(),
+				"the hash should match digestSync");
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.platform.test.eventhandling;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.RunningHash;
+import com.swirlds.common.stream.EventStreamManager;
+import com.swirlds.common.system.BasicSoftwareVersion;
+import com.swirlds.common.test.RandomAddressBookGenerator;
+import com.swirlds.common.threading.framework.Stoppable;
+import com.swirlds.platform.SettingsProvider;
+import com.swirlds.platform.eventhandling.ConsensusRoundHandler;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.metrics.ConsensusHandlingMetrics;
+import com.swirlds.platform.state.State;
+import com.swirlds.platform.state.StateSettings;
+import com.swirlds.platform.state.SwirldStateManager;
+import com.swirlds.platform.state.signed.SignedState;
+import com.swirlds.platform.stats.CycleTimingStat;
+import com.swirlds.platform.sync.Generations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.LongStream;
+
+import static com.swirlds.common.test.AssertionUtils.assertEventuallyTrue;
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.common.test.RandomUtils.randomHash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Consensus Round Handler Replay Tests")
+class ConsensusRoundHandlerReplayTests {
+
+	private static final int ROUNDS = 30;
+	private static final int EVENTS_PER_ROUND = 3;
+	private static final long NO_ROUND = -1;
+	private static final Instant FIRST_ROUND_TIME = Instant.ofEpochSecond(1_000_000);
+
+	/**
+	 * The result of handling a sequence of rounds.
+	 *
+	 * @param handledRounds
+	 * 		the rounds applied to the state, in order
+	 * @param signedStates
+	 * 		the signed states created, in order
+	 * @param metrics
+	 * 		the metrics of the handler
+	 */
+	private record Result(
+			List<Long> handledRounds,
+			List<SignedState> signedStates,
+			ConsensusHandlingMetrics metrics) {
+
+		List<Long> signedRounds() {
+			return signedStates.stream().map(SignedState::getRound).toList();
+		}
+
+		SignedState lastSignedState() {
+			return signedStates.get(signedStates.size() - 1);
+		}
+	}
+
+	private static Instant roundTime(final long round) {
+		return FIRST_ROUND_TIME.plusSeconds(round);
+	}
+
+	private static List<ConsensusRound> buildRounds(final Random random, final long shutdownRound) {
+		final List<ConsensusRound> rounds = new ArrayList<>();
+		long generation = 0;
+		for (long round = 1; round <= ROUNDS; round++) {
+			final List<EventImpl> events = new ArrayList<>();
+			for (int i = 0; i < EVENTS_PER_ROUND; i++) {
+				final Hash hash = randomHash(random);
+				final EventImpl event = mock(EventImpl.class);
+				when(event.getRoundReceived()).thenReturn(round);
+				when(event.getGeneration()).thenReturn(generation++);
+				when(event.isLastInRoundReceived()).thenReturn(i == EVENTS_PER_ROUND - 1);
+				when(event.isLastOneBeforeShutdown()).thenReturn(round == shutdownRound && i == EVENTS_PER_ROUND - 1);
+				when(event.getHash()).thenReturn(hash);
+				when(event.getRunningHash()).thenReturn(new RunningHash(hash));
+				when(event.getLastTransTime()).thenReturn(roundTime(round));
+				when(event.getConsensusTimestamp()).thenReturn(roundTime(round));
+				events.add(event);
+			}
+			rounds.add(new ConsensusRound(events, Generations.GENESIS_GENERATIONS));
+		}
+		return rounds;
+	}
+
+	/**
+	 * Add the rounds to a new handler the way state recovery does, and wait until they have been handled.
+	 *
+	 * @param replay
+	 * 		if the handler should be in replay mode
+	 * @param freezeRound
+	 * 		the first round in the freeze period, or {@link #NO_ROUND}
+	 * @param expectedHandledRounds
+	 * 		the number of rounds that are applied to the state
+	 * @param expectedSignedStates
+	 * 		the number of signed states that are created
+	 */
+	private static Result handleRounds(
+			final List<ConsensusRound> rounds,
+			final boolean replay,
+			final long freezeRound,
+			final int expectedHandledRounds,
+			final int expectedSignedStates) {
+
+		final SettingsProvider settings = mock(SettingsProvider.class);
+		when(settings.getSignedStateFreq()).thenReturn(1);
+		when(settings.getMaxEventQueueForCons()).thenReturn(1000);
+		when(settings.getStateSettings()).thenReturn(new StateSettings());
+
+		final List<Long> handledRounds = new CopyOnWriteArrayList<>();
+		final SwirldStateManager swirldStateManager = mock(SwirldStateManager.class);
+		when(swirldStateManager.getStopBehavior()).thenReturn(Stoppable.StopBehavior.INTERRUPTABLE);
+		when(swirldStateManager.getStateForSigning()).thenAnswer(invocation -> new State());
+		when(swirldStateManager.isInFreezePeriod(any())).thenAnswer(invocation ->
+				freezeRound != NO_ROUND && !invocation.<Instant>getArgument(0).isBefore(roundTime(freezeRound)));
+		doAnswer(invocation -> handledRounds.add(invocation.<ConsensusRound>getArgument(0).getRoundNum()))
+				.when(swirldStateManager).handleConsensusRound(any());
+
+		final ConsensusHandlingMetrics metrics = mock(ConsensusHandlingMetrics.class);
+		when(metrics.getConsCycleStat()).thenReturn(mock(CycleTimingStat.class));
+		when(metrics.getNewSignedStateCycleStat()).thenReturn(mock(CycleTimingStat.class));
+
+		final BlockingQueue<SignedState> stateHashSignQueue = new LinkedBlockingQueue<>();
+		@SuppressWarnings("unchecked")
+		final EventStreamManager<EventImpl> eventStreamManager = mock(EventStreamManager.class);
+		final ConsensusRoundHandler handler = new ConsensusRoundHandler(
+				0,
+				settings,
+				swirldStateManager,
+				metrics,
+				eventStreamManager,
+				new RandomAddressBookGenerator(getRandomPrintSeed()).setSize(4).build(),
+				stateHashSignQueue,
+				() -> {
+				},
+				new BasicSoftwareVersion(1));
+
+		if (replay) {
+			handler.startReplay();
+		}
+		handler.start();
+		final List<SignedState> signedStates = new ArrayList<>();
+		try {
+			// the end round is only known once all events have been read, which is before the last round is added
+			for (final ConsensusRound round : rounds) {
+				if (round.getRoundNum() == ROUNDS) {
+					handler.setReplayEndRound(ROUNDS);
+				}
+				handler.addMinGenInfo(round.getRoundNum(), round.getConsensusEvents().get(0).getGeneration());
+				handler.addConsensusRound(round);
+			}
+			assertEventuallyTrue(() -> {
+				stateHashSignQueue.drainTo(signedStates);
+				return handledRounds.size() >= expectedHandledRounds && signedStates.size() >= expectedSignedStates;
+			}, Duration.ofSeconds(10), "the rounds should be handled");
+		} finally {
+			handler.stop();
+		}
+		stateHashSignQueue.drainTo(signedStates);
+		return new Result(new ArrayList<>(handledRounds), signedStates, metrics);
+	}
+
+	private static List<Long> roundsUpTo(final long lastRound) {
+		return LongStream.rangeClosed(1, lastRound).boxed().toList();
+	}
+
+	@Test
+	@DisplayName("Replay Signs Only The End Round Test")
+	void replaySignsOnlyTheEndRoundTest() {
+		final List<ConsensusRound> rounds = buildRounds(getRandomPrintSeed(), NO_ROUND);
+
+		final Result normal = handleRounds(rounds, false, NO_ROUND, ROUNDS, ROUNDS);
+		final Result replay = handleRounds(rounds, true, NO_ROUND, ROUNDS, 1);
+
+		assertEquals(roundsUpTo(ROUNDS), normal.signedRounds(), "every round should be signed without replay");
+		assertEquals(roundsUpTo(ROUNDS), replay.handledRounds(), "every round should be handled in order");
+		assertEquals(List.of((long) ROUNDS), replay.signedRounds(), "only the end round should be signed");
+
+		final SignedState expected = normal.lastSignedState();
+		final SignedState actual = replay.lastSignedState();
+		assertEquals(expected.getNumEventsCons(), actual.getNumEventsCons(),
+				"the end state should count the same events");
+		assertEquals(expected.getHashEventsCons(), actual.getHashEventsCons(),
+				"the end state should have the same running hash");
+		assertEquals(expected.getEvents().length, actual.getEvents().length,
+				"the end state should have the same events");
+		assertEquals(expected.getMinGenInfo(), actual.getMinGenInfo(),
+				"the end state should have the same min generation info");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Shutdown Round Is Signed Test")
+	void shutdownRoundIsSignedTest(final boolean replay) {
+		final long shutdownRound = 12;
+		final List<ConsensusRound> rounds = buildRounds(getRandomPrintSeed(), shutdownRound);
+
+		final Result result = handleRounds(rounds, replay, NO_ROUND, ROUNDS, replay ? 2 : ROUNDS);
+
+		assertEquals(roundsUpTo(ROUNDS), result.handledRounds(), "every round should be handled in order");
+		if (replay) {
+			assertEquals(List.of(shutdownRound, (long) ROUNDS), result.signedRounds(),
+					"the round with the shutdown event should be signed in replay");
+		} else {
+			assertEquals(roundsUpTo(ROUNDS), result.signedRounds(), "every round should be signed without replay");
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Freeze Round Is Signed Test")
+	void freezeRoundIsSignedTest(final boolean replay) {
+		final long freezeRound = 15;
+		final List<ConsensusRound> rounds = buildRounds(getRandomPrintSeed(), NO_ROUND);
+
+		final Result result = handleRounds(rounds, replay, freezeRound, (int) freezeRound,
+				replay ? 1 : (int) freezeRound);
+
+		assertEquals(roundsUpTo(freezeRound), result.handledRounds(),
+				"no round should be handled after the state in the freeze period is saved");
+		assertEquals(freezeRound, result.lastSignedState().getRound(),
+				"the first round in the freeze period should be signed");
+		assertEquals(replay ? 1 : freezeRound, result.signedStates().size(), "unexpected number of signed states");
+	}
+
+	@Test
+	@DisplayName("Replayed Events Metric Test")
+	void replayedEventsMetricTest() {
+		final List<ConsensusRound> rounds = buildRounds(getRandomPrintSeed(), NO_ROUND);
+
+		final Result normal = handleRounds(rounds, false, NO_ROUND, ROUNDS, ROUNDS);
+		verify(normal.metrics(), never()).recordReplayedEvents(anyInt());
+
+		final Result replay = handleRounds(rounds, true, NO_ROUND, ROUNDS, 1);
+		final ArgumentCaptor<Integer> replayedEvents = ArgumentCaptor.forClass(Integer.class);
+		verify(replay.metrics(), atLeastOnce()).recordReplayedEvents(replayedEvents.capture());
+		assertEquals(ROUNDS * EVENTS_PER_ROUND,
+				replayedEvents.getAllValues().stream().mapToInt(Integer::intValue).sum(),
+				"every replayed event should be recorded");
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.network.connectivity;
+
+import com.swirlds.common.system.NodeId;
+import com.swirlds.common.system.address.Address;
+import com.swirlds.common.system.address.AddressBook;
+import com.swirlds.platform.Connection;
+import com.swirlds.platform.SettingsProvider;
+import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.ConnectionTracker;
+import com.swirlds.platform.network.connectivity.InboundConnectionHandler;
+import com.swirlds.platform.network.connectivity.OutboundConnectionCreator;
+import com.swirlds.platform.network.connectivity.SocketFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Connection Handshake Tests")
+class ConnectionHandshakeTests {
+
+	private static final String NICKNAME = "node0";
+	private static final NodeId SELF = NodeId.createMain(1);
+	private static final NodeId OTHER = NodeId.createMain(0);
+	/** a single byte sent in a raw frame, with the frame type and the payload length */
+	private static final int FRAMED_BYTE_SIZE = 1 + Integer.BYTES + 1;
+
+	private static SettingsProvider settings(final boolean gossipCompression) {
+		final SettingsProvider settings = mock(SettingsProvider.class);
+		when(settings.isGossipCompression()).thenReturn(gossipCompression);
+		when(settings.getGossipFrameSize()).thenReturn(1024);
+		when(settings.connectionStreamBufferSize()).thenReturn(1024);
+		when(settings.useLoopbackIp()).thenReturn(true);
+		return settings;
+	}
+
+	private static AddressBook addressBook() {
+		final Address address = mock(Address.class);
+		when(address.getNickname()).thenReturn(NICKNAME);
+		when(address.isOwnHost()).thenReturn(true);
+		final AddressBook addressBook = mock(AddressBook.class);
+		when(addressBook.getId(NICKNAME)).thenReturn(OTHER.getId());
+		when(addressBook.getAddress(anyLong())).thenReturn(address);
+		return addressBook;
+	}
+
+	/**
+	 * Collects the bytes sent to a socket, and counts the writes that reach it
+	 */
+	private static final class SentBytes extends ByteArrayOutputStream {
+		private int writes;
+
+		@Override
+		public synchronized void write(final int b) {
+			writes++;
+			super.write(b);
+		}
+
+		@Override
+		public synchronized void write(final byte[] b, final int off, final int len) {
+			writes++;
+			super.write(b, off, len);
+		}
+	}
+
+	private static Socket socket(final byte[] received, final ByteArrayOutputStream sent) throws IOException {
+		final Socket socket = mock(Socket.class);
+		when(socket.getInputStream()).thenReturn(new ByteArrayInputStream(received));
+		when(socket.getOutputStream()).thenReturn(sent);
+		when(socket.isBound()).thenReturn(true);
+		when(socket.isConnected()).thenReturn(true);
+		return socket;
+	}
+
+	/**
+	 * Send a single byte over a connection and return the number of bytes that reach the socket, a frame header is
+	 * added if the connection is compressed
+	 */
+	private static int bytesOnWire(final Connection connection, final SentBytes sent) throws IOException {
+		final int before = sent.size();
+		final int writesBefore = sent.writes;
+		connection.getDos().write(1);
+		connection.getDos().flush();
+		assertEquals(1, sent.writes - writesBefore, "the byte and its frame header should be sent in a single write");
+		return sent.size() - before;
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "false,false", "false,true", "true,false", "true,true" })
+	@DisplayName("Inbound Handshake Test")
+	void inboundHandshakeTest(final boolean listenerCompression, final boolean callerCompression) throws Exception {
+		final ByteArrayOutputStream received = new ByteArrayOutputStream();
+		final DataOutputStream receivedOut = new DataOutputStream(received);
+		receivedOut.writeUTF(NICKNAME);
+		if (listenerCompression) {
+			// the caller only answers if compression is offered
+			receivedOut.writeBoolean(callerCompression);
+		}
+		final SentBytes sent = new SentBytes();
+
+		final List<Connection> connections = new ArrayList<>();
+		new InboundConnectionHandler(
+				mock(ConnectionTracker.class),
+				SELF,
+				addressBook(),
+				connections::add,
+				settings(listenerCompression))
+				.handle(socket(received.toByteArray(), sent));
+
+		final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		new DataOutputStream(expected).writeInt(
+				listenerCompression ? ByteConstants.COMM_CONNECT_COMPRESSED : ByteConstants.COMM_CONNECT);
+		assertArrayEquals(expected.toByteArray(), sent.toByteArray(),
+				"the listener should only send the ACK");
+		assertEquals(1, sent.writes, "the ACK should be sent in a single write");
+		assertEquals(1, connections.size(), "a connection should be created");
+		assertEquals(OTHER, connections.get(0).getOtherId(), "the connection should be to the caller");
+		assertEquals(listenerCompression && callerCompression ? FRAMED_BYTE_SIZE : 1,
+				bytesOnWire(connections.get(0), sent), "compression should only be used if both sides want it");
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "false,false", "false,true", "true,false", "true,true" })
+	@DisplayName("Outbound Handshake Test")
+	void outboundHandshakeTest(final boolean listenerCompression, final boolean callerCompression)
+			throws Exception {
+		final ByteArrayOutputStream received = new ByteArrayOutputStream();
+		new DataOutputStream(received).writeInt(
+				listenerCompression ? ByteConstants.COMM_CONNECT_COMPRESSED : ByteConstants.COMM_CONNECT);
+		final SentBytes sent = new SentBytes();
+		final SocketFactory socketFactory = mock(SocketFactory.class);
+		final Socket socket = socket(received.toByteArray(), sent);
+		when(socketFactory.createClientSocket(anyString(), anyInt())).thenReturn(socket);
+
+		final Connection connection = new OutboundConnectionCreator(
+				SELF,
+				settings(callerCompression),
+				mock(ConnectionTracker.class),
+				socketFactory,
+				addressBook())
+				.createConnection(OTHER);
+
+		final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		final DataOutputStream expectedOut = new DataOutputStream(expected);
+		expectedOut.writeUTF(NICKNAME);
+		if (listenerCompression) {
+			expectedOut.writeBoolean(callerCompression);
+		}
+		assertArrayEquals(expected.toByteArray(), sent.toByteArray(),
+				"the caller should only answer the compression offer if the listener made one");
+		assertEquals(listenerCompression ? 2 : 1, sent.writes,
+				"each handshake message should be sent in a single write");
+		assertTrue(connection.connected(), "the connection should be established");
+		assertEquals(listenerCompression && callerCompression ? FRAMED_BYTE_SIZE : 1,
+				bytesOnWire(connection, sent), "compression should only be used if both sides want it");
+	}
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.network.connectivity;
+
+import com.swirlds.common.test.RandomAddressBookGenerator;
+import com.swirlds.platform.SettingsProvider;
+import com.swirlds.platform.crypto.CryptoStatic;
+import com.swirlds.platform.crypto.KeysAndCerts;
+import com.swirlds.platform.network.connectivity.NioFactory;
+import com.swirlds.platform.network.connectivity.SocketFactory;
+import com.swirlds.platform.network.connectivity.TcpFactory;
+import com.swirlds.platform.network.connectivity.TlsFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.net.ssl.SSLSocket;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.common.test.RandomUtils.randomByteArray;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("NIO Factory Tests")
+class NioFactoryTests {
+
+	private static final byte[] LOOPBACK = { 127, 0, 0, 1 };
+	private static final int TIMEOUT_MILLIS = 10_000;
+	/** larger than all the buffers of a connection, so that both sides have to wait for each other */
+	private static final int TRANSFER_SIZE = 1024 * 1024;
+	private static final int CHUNK_SIZE = 8 * 1024;
+
+	private static KeysAndCerts keysAndCerts;
+
+	private final List<NioFactory> nioFactories = new ArrayList<>();
+	private final List<AutoCloseable> sockets = new ArrayList<>();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@BeforeAll
+	static void generateKeys() throws Exception {
+		final ExecutorService threadPool = Executors.newSingleThreadExecutor();
+		try {
+			keysAndCerts = CryptoStatic.generateKeysAndCerts(
+					new RandomAddressBookGenerator(getRandomPrintSeed()).setSize(1).setSequentialIds(true).build(),
+					threadPool)[0];
+		} finally {
+			threadPool.shutdown();
+		}
+	}
+
+	@AfterEach
+	void cleanUp() throws Exception {
+		executor.shutdownNow();
+		for (final AutoCloseable socket : sockets) {
+			socket.close();
+		}
+		for (final NioFactory factory : nioFactories) {
+			factory.stop();
+		}
+	}
+
+	private static SettingsProvider settings() {
+		final SettingsProvider settings = mock(SettingsProvider.class);
+		when(settings.getNioEventLoopThreads()).thenReturn(2);
+		when(settings.connectionStreamBufferSize()).thenReturn(1024);
+		when(settings.getSocketIpTos()).thenReturn(-1);
+		when(settings.isTcpNoDelay()).thenReturn(true);
+		when(settings.getTimeoutSyncClientSocket()).thenReturn(TIMEOUT_MILLIS);
+		when(settings.getTimeoutSyncClientConnect()).thenReturn(TIMEOUT_MILLIS);
+		when(settings.getTimeoutServerAcceptConnect()).thenReturn(TIMEOUT_MILLIS);
+		when(settings.getKeystorePassword()).thenReturn("password");
+		return settings;
+	}
+
+	/**
+	 * @return a factory that uses the NIO transport, or the blocking transport of the same kind
+	 */
+	private SocketFactory factory(final boolean nio, final boolean tls, final SettingsProvider settings)
+			throws Exception {
+		if (!nio) {
+			return tls ? new TlsFactory(keysAndCerts, settings) : new TcpFactory(settings);
+		}
+		final NioFactory factory = new NioFactory(
+				tls ? TlsFactory.createSslContext(keysAndCerts, settings) : null, settings);
+		nioFactories.add(factory);
+		return factory;
+	}
+
+	private ServerSocket listen(final SocketFactory factory) throws IOException {
+		final ServerSocket serverSocket = factory.createServerSocket(LOOPBACK, 0);
+		sockets.add(serverSocket);
+		return serverSocket;
+	}
+
+	private Socket connect(final SocketFactory factory, final ServerSocket serverSocket) throws IOException {
+		final Socket socket = factory.createClientSocket("127.0.0.1", serverSocket.getLocalPort());
+		sockets.add(socket);
+		return socket;
+	}
+
+	/**
+	 * Connect a client to a server, the server accepts on another thread so that a TLS handshake can be done
+	 *
+	 * @return the client socket and the server socket of the connection
+	 */
+	private Socket[] connectPair(final SocketFactory serverFactory, final SocketFactory clientFactory)
+			throws Exception {
+		final ServerSocket serverSocket = listen(serverFactory);
+		final Future<Socket> accepted = executor.submit(() -> {
+			final Socket server = serverSocket.accept();
+			if (server instanceof final SSLSocket sslSocket) {
+				// a blocking TLS socket only does its handshake when asked to, or when it is first used
+				sslSocket.startHandshake();
+			}
+			return server;
+		});
+		final Socket client = connect(clientFactory, serverSocket);
+		final Socket server = accepted.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		sockets.add(server);
+		return new Socket[] { client, server };
+	}
+
+	/**
+	 * Send bytes back as they are received, until the given number of bytes has been sent
+	 */
+	private static Void echo(final Socket socket, final int size) throws IOException {
+		final InputStream in = socket.getInputStream();
+		final OutputStream out = socket.getOutputStream();
+		final byte[] buffer = new byte[CHUNK_SIZE];
+		int echoed = 0;
+		while (echoed < size) {
+			final int read = in.read(buffer);
+			if (read < 0) {
+				throw new IOException("Unexpected end of stream after " + echoed + " bytes");
+			}
+			out.write(buffer, 0, read);
+			echoed += read;
+		}
+		out.flush();
+		return null;
+	}
+
+	/**
+	 * Send random bytes through the server's echo while reading them back at the same time
+	 */
+	private void assertEcho(final Socket client, final Socket server) throws Exception {
+		final byte[] sent = randomByteArray(getRandomPrintSeed(), TRANSFER_SIZE);
+		final Future<Void> echoed = executor.submit(() -> echo(server, sent.length));
+		final Future<Void> written = executor.submit(() -> {
+			final OutputStream out = client.getOutputStream();
+			for (int offset = 0; offset < sent.length; offset += CHUNK_SIZE) {
+				out.write(sent, offset, Math.min(CHUNK_SIZE, sent.length - offset));
+			}
+			out.flush();
+			return null;
+		});
+
+		final byte[] received = new byte[sent.length];
+		new DataInputStream(client.getInputStream()).readFully(received);
+		written.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		echoed.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		assertArrayEquals(sent, received, "the bytes received should be the bytes sent");
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"true,true,false", "true,true,true",
+			"true,false,false", "true,false,true",
+			"false,true,false", "false,true,true" })
+	@DisplayName("Echo Test")
+	void echoTest(final boolean nioServer, final boolean nioClient, final boolean tls) throws Exception {
+		final SettingsProvider settings = settings();
+		final Socket[] pair = connectPair(factory(nioServer, tls, settings), factory(nioClient, tls, settings));
+
+		for (final Socket socket : pair) {
+			assertTrue(socket.isConnected(), "the socket should be connected");
+			assertTrue(socket.isBound(), "the socket should be bound");
+			assertEquals(TIMEOUT_MILLIS, pair[0].getSoTimeout(), "the timeout should be set by the factory");
+		}
+		assertEquals(pair[1].getLocalPort(), pair[0].getPort(), "the client should be connected to the server");
+		assertEquals(pair[0].getLocalPort(), pair[1].getPort(), "the server should be connected to the client");
+		assertEquals(pair[1].getInetAddress(), pair[0].getLocalAddress(), "the server should see the client");
+		assertTrue(pair[0].getTcpNoDelay(), "TCP_NODELAY should be set by the factory");
+
+		assertEcho(pair[0], pair[1]);
+		// the connection can be used again once all the bytes have been read
+		assertEcho(pair[0], pair[1]);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Read Timeout Test")
+	void readTimeoutTest(final boolean tls) throws Exception {
+		final SocketFactory factory = factory(true, tls, settings());
+		final Socket[] pair = connectPair(factory, factory);
+
+		pair[0].setSoTimeout(100);
+		assertThrows(SocketTimeoutException.class, () -> pair[0].getInputStream().read(),
+				"a read should time out if nothing is received");
+
+		pair[1].getOutputStream().write(42);
+		pair[1].getOutputStream().flush();
+		pair[0].setSoTimeout(TIMEOUT_MILLIS);
+		assertEquals(42, pair[0].getInputStream().read(), "the connection should be usable after a timeout");
+	}
+
+	@Test
+	@DisplayName("Accept Timeout Test")
+	void acceptTimeoutTest() throws Exception {
+		final SettingsProvider settings = settings();
+		when(settings.getTimeoutServerAcceptConnect()).thenReturn(100);
+		final ServerSocket serverSocket = listen(factory(true, false, settings));
+		assertEquals(100, serverSocket.getSoTimeout(), "the timeout should be set by the factory");
+		assertThrows(SocketTimeoutException.class, serverSocket::accept,
+				"accept should time out if there is no connection");
+
+		serverSocket.setSoTimeout(0);
+		final Future<Socket> accepted = executor.submit(() -> {
+			final Socket server = serverSocket.accept();
+			if (server instanceof final SSLSocket sslSocket) {
+				// a blocking TLS socket only does its handshake when asked to, or when it is first used
+				sslSocket.startHandshake();
+			}
+			return server;
+		});
+		Thread.sleep(100);
+		serverSocket.close();
+		final ExecutionException e = assertThrows(ExecutionException.class,
+				() -> accepted.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+				"closing the server socket should stop a thread waiting to accept");
+		assertTrue(e.getCause() instanceof SocketException, "accept should fail because the socket is closed");
+		assertTrue(serverSocket.isClosed(), "the server socket should be closed");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("End Of Stream Test")
+	void endOfStreamTest(final boolean tls) throws Exception {
+		final SocketFactory factory = factory(true, tls, settings());
+		final Socket[] pair = connectPair(factory, factory);
+
+		// bytes written just before closing are still delivered
+		pair[0].getOutputStream().write(new byte[] { 1, 2, 3 });
+		pair[0].close();
+		assertTrue(pair[0].isClosed(), "the socket should be closed");
+		assertThrows(SocketException.class, () -> pair[0].getInputStream(), "a closed socket has no streams");
+
+		final byte[] received = new byte[3];
+		new DataInputStream(pair[1].getInputStream()).readFully(received);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, received, "the bytes written before closing should be received");
+		assertEquals(-1, pair[1].getInputStream().read(), "the peer should reach the end of the stream");
+	}
+
+	@Test
+	@DisplayName("Stop Test")
+	void stopTest() throws Exception {
+		final SettingsProvider settings = settings();
+		final NioFactory clientFactory = (NioFactory) factory(true, true, settings);
+		final Socket[] pair = connectPair(factory(true, true, settings), clientFactory);
+
+		pair[0].setSoTimeout(0);
+		final Future<Integer> read = executor.submit(() -> pair[0].getInputStream().read());
+		clientFactory.stop();
+		final ExecutionException e = assertThrows(ExecutionException.class,
+				() -> read.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+				"stopping the factory should fail a read that is waiting");
+		assertTrue(e.getCause() instanceof SocketException, "the read should fail because the loop stopped");
+		assertThrows(SocketException.class, () -> pair[0].getOutputStream().write(1),
+				"a connection of a stopped factory cannot be used");
+		assertEquals(-1, pair[1].getInputStream().read(), "the peer should see the connection end");
+	}
+
+	@Test
+	@DisplayName("Failed Handshake Test")
+	void failedHandshakeTest() throws Exception {
+		final SettingsProvider settings = settings();
+		final Socket[] pair = connectPair(factory(true, true, settings), factory(false, false, settings));
+
+		pair[1].setSoTimeout(TIMEOUT_MILLIS);
+		pair[0].getOutputStream().write("not a TLS record".getBytes(StandardCharsets.US_ASCII));
+		pair[0].getOutputStream().flush();
+		assertThrows(IOException.class, () -> pair[1].getInputStream().read(),
+				"a connection that does not use TLS should be refused by a TLS server");
+	}
+}
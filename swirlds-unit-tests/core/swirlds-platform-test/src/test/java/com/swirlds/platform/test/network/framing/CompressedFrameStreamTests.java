@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.network.framing;
+
+import com.swirlds.platform.network.framing.CompressedFrameInputStream;
+import com.swirlds.platform.network.framing.CompressedFrameOutputStream;
+import com.swirlds.platform.network.framing.FrameCompressionStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Compressed Frame Stream Tests")
+class CompressedFrameStreamTests {
+
+	/** the size of a raw frame header on the wire, the frame type and the payload length */
+	private static final int RAW_HEADER_SIZE = 5;
+
+	/**
+	 * Write bytes in random chunks with random flushes, the data is compressible if it is drawn from a small alphabet
+	 */
+	private static byte[] writeRandom(
+			final Random random,
+			final CompressedFrameOutputStream out,
+			final int size,
+			final boolean compressible) throws IOException {
+		final byte[] data = new byte[size];
+		if (compressible) {
+			for (int i = 0; i < size; i++) {
+				data[i] = (byte) random.nextInt(4);
+			}
+		} else {
+			random.nextBytes(data);
+		}
+
+		int written = 0;
+		while (written < size) {
+			if (random.nextInt(10) == 0) {
+				out.write(data[written++]);
+			} else {
+				final int length = Math.min(size - written, random.nextInt(3000));
+				out.write(data, written, length);
+				written += length;
+			}
+			if (random.nextInt(5) == 0) {
+				out.flush();
+			}
+		}
+		out.flush();
+		return data;
+	}
+
+	private static byte[] readAll(final CompressedFrameInputStream in, final int size) throws IOException {
+		final byte[] data = new byte[size];
+		int read = 0;
+		while (read < size) {
+			final int count = in.read(data, read, size - read);
+			if (count < 0) {
+				break;
+			}
+			read += count;
+		}
+		assertEquals(size, read, "all bytes written should be read back");
+		return data;
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 255, 1024, 64 * 1024 })
+	@DisplayName("Round Trip Test")
+	void roundTripTest(final int frameSize) throws IOException {
+		final Random random = getRandomPrintSeed();
+		final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+		final FrameCompressionStats stats = new FrameCompressionStats();
+		final CompressedFrameOutputStream out = new CompressedFrameOutputStream(wire, frameSize, stats);
+
+		final byte[] compressible = writeRandom(random, out, 100_000, true);
+		final byte[] incompressible = writeRandom(random, out, 100_000, false);
+
+		final CompressedFrameInputStream in = new CompressedFrameInputStream(
+				new ByteArrayInputStream(wire.toByteArray()), 16, new FrameCompressionStats());
+		assertArrayEquals(compressible, readAll(in, compressible.length), "compressible data should round trip");
+		assertArrayEquals(incompressible, readAll(in, incompressible.length),
+				"incompressible data should round trip");
+		assertEquals(-1, in.read(), "the stream should end after the last frame");
+
+		assertEquals(compressible.length + incompressible.length, stats.getAndResetBytesBeforeCompression(),
+				"every byte written should be counted before compression");
+		assertEquals(wire.size(), stats.getAndResetBytesAfterCompression()
+						+ stats.getAndResetFramesWritten() * RAW_HEADER_SIZE
+						+ countDeflatedFrames(wire.toByteArray()) * Integer.BYTES,
+				"the payload and headers should account for every byte on the wire");
+	}
+
+	@Test
+	@DisplayName("Compression Test")
+	void compressionTest() throws IOException {
+		final Random random = getRandomPrintSeed();
+		final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+		final CompressedFrameOutputStream out =
+				new CompressedFrameOutputStream(wire, 64 * 1024, new FrameCompressionStats());
+
+		final byte[] data = writeRandom(random, out, 1_000_000, true);
+		assertTrue(wire.size() < data.length / 2, "data from a small alphabet should compress well");
+
+		final CompressedFrameInputStream in = new CompressedFrameInputStream(
+				new ByteArrayInputStream(wire.toByteArray()), 1024, new FrameCompressionStats());
+		assertArrayEquals(data, readAll(in, data.length), "compressed data should round trip");
+	}
+
+	@Test
+	@DisplayName("Small And Incompressible Frames Are Raw Test")
+	void rawFramesTest() throws IOException {
+		final Random random = getRandomPrintSeed();
+		final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+		final CompressedFrameOutputStream out =
+				new CompressedFrameOutputStream(wire, 64 * 1024, new FrameCompressionStats());
+
+		out.write(new byte[10]);
+		out.flush();
+		assertEquals(RAW_HEADER_SIZE + 10, wire.size(), "a small frame should be sent raw");
+
+		final byte[] incompressible = new byte[10_000];
+		random.nextBytes(incompressible);
+		out.write(incompressible);
+		out.flush();
+		assertEquals(2 * RAW_HEADER_SIZE + 10 + incompressible.length, wire.size(),
+				"a frame that does not shrink should be sent raw");
+
+		out.flush();
+		assertEquals(2 * RAW_HEADER_SIZE + 10 + incompressible.length, wire.size(),
+				"flushing without new data should not send a frame");
+	}
+
+	@Test
+	@DisplayName("Malformed Frame Test")
+	void malformedFrameTest() throws IOException {
+		final ByteArrayOutputStream unknownType = new ByteArrayOutputStream();
+		final DataOutputStream unknownTypeOut = new DataOutputStream(unknownType);
+		unknownTypeOut.writeByte(7);
+		unknownTypeOut.writeInt(1);
+		unknownTypeOut.writeByte(0);
+		assertThrows(IOException.class, () -> new CompressedFrameInputStream(
+						new ByteArrayInputStream(unknownType.toByteArray()), 16, new FrameCompressionStats()).read(),
+				"an unknown frame type should be rejected");
+
+		final ByteArrayOutputStream hugeFrame = new ByteArrayOutputStream();
+		final DataOutputStream hugeFrameOut = new DataOutputStream(hugeFrame);
+		hugeFrameOut.writeByte(0);
+		hugeFrameOut.writeInt(Integer.MAX_VALUE);
+		assertThrows(IOException.class, () -> new CompressedFrameInputStream(
+						new ByteArrayInputStream(hugeFrame.toByteArray()), 16, new FrameCompressionStats()).read(),
+				"a frame larger than the maximum should be rejected without allocating it");
+
+		final ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+		final DataOutputStream truncatedOut = new DataOutputStream(truncated);
+		truncatedOut.writeByte(0);
+		truncatedOut.writeInt(100);
+		truncatedOut.write(new byte[10]);
+		assertThrows(IOException.class, () -> new CompressedFrameInputStream(
+						new ByteArrayInputStream(truncated.toByteArray()), 16, new FrameCompressionStats()).read(),
+				"a truncated frame should be rejected");
+	}
+
+	/**
+	 * Count the deflated frames on the wire, they have an extra header field for the uncompressed length
+	 */
+	private static int countDeflatedFrames(final byte[] wire) {
+		int count = 0;
+		int position = 0;
+		while (position < wire.length) {
+			final boolean deflated = wire[position] != 0;
+			final int length = ((wire[position + 1] & 0xFF) << 24) | ((wire[position + 2] & 0xFF) << 16)
+					| ((wire[position + 3] & 0xFF) << 8) | (wire[position + 4] & 0xFF);
+			position += RAW_HEADER_SIZE + length + (deflated ? Integer.BYTES : 0);
+			if (deflated) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
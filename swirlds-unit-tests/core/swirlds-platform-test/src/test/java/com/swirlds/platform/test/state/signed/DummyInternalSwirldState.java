@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.state.signed;
+
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.impl.PartialNaryMerkleInternal;
+import com.swirlds.common.system.Round;
+import com.swirlds.common.system.SwirldDualState;
+import com.swirlds.common.system.SwirldState2;
+import com.swirlds.common.system.address.AddressBook;
+
+/**
+ * A swirld state with children, so that its subtrees can be written to state shards.
+ */
+public class DummyInternalSwirldState extends PartialNaryMerkleInternal implements MerkleInternal, SwirldState2 {
+
+	private static final long CLASS_ID = 0x5c1e8a3f0b27d946L;
+
+	private static final int CLASS_VERSION = 1;
+
+	public DummyInternalSwirldState() {
+	}
+
+	private DummyInternalSwirldState(final DummyInternalSwirldState that) {
+		super(that);
+		for (int childIndex = 0; childIndex < that.getNumberOfChildren(); childIndex++) {
+			setChild(childIndex, that.getChild(childIndex).copy());
+		}
+	}
+
+	@Override
+	public AddressBook getAddressBookCopy() {
+		return null;
+	}
+
+	@Override
+	public void handleConsensusRound(final Round round, final SwirldDualState swirldDualState) {
+		// intentionally does nothing
+	}
+
+	@Override
+	public DummyInternalSwirldState copy() {
+		throwIfImmutable();
+		setImmutable(true);
+		return new DummyInternalSwirldState(this);
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CLASS_VERSION;
+	}
+}
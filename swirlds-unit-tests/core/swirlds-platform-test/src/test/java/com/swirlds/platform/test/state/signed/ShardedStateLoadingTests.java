@@ -0,0 +1,260 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.state.signed;
+
+import com.swirlds.common.constructable.ClassConstructorPair;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.system.BasicSoftwareVersion;
+import com.swirlds.common.test.RandomAddressBookGenerator;
+import com.swirlds.common.test.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.merkle.dummy.DummyMerkleLeaf;
+import com.swirlds.platform.Settings;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.state.State;
+import com.swirlds.platform.state.StateSettings;
+import com.swirlds.platform.state.signed.DeserializedSignedState;
+import com.swirlds.platform.state.signed.SignedState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.swirlds.common.merkle.utility.MerkleUtils.rehashTree;
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.common.test.RandomUtils.randomHash;
+import static com.swirlds.platform.state.signed.SignedStateFileReader.readStateFile;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileWriter.writeStateFile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DisplayName("Sharded State Loading Tests")
+class ShardedStateLoadingTests {
+
+	private static final int SHARD_COUNT = 4;
+	private static final int PARENTS_PER_SHARD = 3;
+	private static final int LEAVES_PER_PARENT = 5;
+	private static final int SHARD_SIZE = 15;
+
+	/**
+	 * Temporary directory provided by JUnit
+	 */
+	@TempDir
+	Path testDirectory;
+
+	private boolean shardedStateFiles;
+	private boolean incrementalStateFiles;
+	private int stateShardSize;
+
+	@BeforeAll
+	static void setUp() throws ConstructableRegistryException {
+		ConstructableRegistry.registerConstructables("com.swirlds");
+		ConstructableRegistry.registerConstructable(
+				new ClassConstructorPair(DummyInternalSwirldState.class, DummyInternalSwirldState::new));
+	}
+
+	@BeforeEach
+	void enableShards() {
+		final StateSettings settings = Settings.getInstance().getState();
+		shardedStateFiles = settings.shardedStateFiles;
+		incrementalStateFiles = settings.incrementalStateFiles;
+		stateShardSize = settings.stateShardSize;
+		settings.stateShardSize = SHARD_SIZE;
+	}
+
+	@AfterEach
+	void restoreSettings() {
+		final StateSettings settings = Settings.getInstance().getState();
+		settings.shardedStateFiles = shardedStateFiles;
+		settings.incrementalStateFiles = incrementalStateFiles;
+		settings.stateShardSize = stateShardSize;
+		DummyMerkleLeaf.resetMigrationMapper();
+		DummyMerkleInternal.resetMigrationMapper();
+	}
+
+	/**
+	 * Build a swirld state with a subtree for each shard, and hash it. The leaves are two levels below the root of
+	 * each shard, so that replacing a leaf when the tree is initialized does not invalidate the hash of the shard
+	 * root.
+	 *
+	 * @param firstLeaf
+	 * 		the value of the first leaf of the first shard
+	 */
+	private static DummyInternalSwirldState buildSwirldState(final String firstLeaf) {
+		final DummyInternalSwirldState swirldState = new DummyInternalSwirldState();
+		for (int shard = 0; shard < SHARD_COUNT; shard++) {
+			swirldState.setChild(shard, buildShard(shard, shard == 0 ? firstLeaf : null));
+		}
+		CryptoFactory.getInstance().digestTreeSync(swirldState);
+		return swirldState;
+	}
+
+	/**
+	 * Build the subtree of a single shard.
+	 *
+	 * @param shard
+	 * 		the index of the shard
+	 * @param firstLeaf
+	 * 		the value of the first leaf of the shard, or null to use the same kind of value as the other leaves
+	 */
+	private static DummyMerkleInternal buildShard(final int shard, final String firstLeaf) {
+		final DummyMerkleInternal shardRoot = new DummyMerkleInternal();
+		for (int parent = 0; parent < PARENTS_PER_SHARD; parent++) {
+			final DummyMerkleInternal internal = new DummyMerkleInternal();
+			for (int leaf = 0; leaf < LEAVES_PER_PARENT; leaf++) {
+				final String value = firstLeaf != null && parent == 0 && leaf == 0
+						? firstLeaf
+						: (shard + "-" + parent + "-" + leaf);
+				internal.setChild(leaf, new DummyMerkleLeaf(value));
+			}
+			shardRoot.setChild(parent, internal);
+		}
+		return shardRoot;
+	}
+
+	/**
+	 * Write a sharded signed state with the given swirld state to the test directory.
+	 *
+	 * @return the hash of the state that was written
+	 */
+	private Hash writeSignedState(
+			final Random random,
+			final DummyInternalSwirldState swirldState,
+			final boolean incremental) throws IOException {
+
+		final StateSettings settings = Settings.getInstance().getState();
+		settings.shardedStateFiles = !incremental;
+		settings.incrementalStateFiles = incremental;
+
+		final State state = new State();
+		state.setSwirldState(swirldState);
+		final SignedState signedState = new SignedState(
+				state,
+				1,
+				1,
+				randomHash(random),
+				new RandomAddressBookGenerator(random).setSize(4).build(),
+				new EventImpl[0],
+				Instant.now(),
+				false,
+				List.of(),
+				new BasicSoftwareVersion(1));
+		final Hash hash = CryptoFactory.getInstance().digestTreeSync(state);
+		writeStateFile(testDirectory, signedState);
+
+		try (final Stream<Path> files = Files.list(testDirectory)) {
+			assertEquals(SHARD_COUNT, files.filter(Files::isDirectory).count(),
+					"the state should be written in shards");
+		}
+		return hash;
+	}
+
+	/**
+	 * Read the state from the test directory. The state is hashed by the reader, and a node uses that hash without
+	 * rehashing the state, so it must match a full rehash of the loaded state.
+	 */
+	private DeserializedSignedState readSignedState() throws IOException {
+		final DeserializedSignedState deserialized = readStateFile(testDirectory.resolve(SIGNED_STATE_FILE_NAME));
+		final State state = deserialized.signedState().getState();
+		final Hash hashAfterReading = state.getHash();
+		assertNotNull(hashAfterReading, "the state should be hashed when it is read");
+		assertEquals(rehashTree(state), hashAfterReading, "the hash after reading should match a full rehash");
+		return deserialized;
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Loaded Sharded State Matches Full Rehash Test")
+	void loadedStateMatchesRehashTest(final boolean incremental) throws IOException {
+		final Hash originalHash = writeSignedState(getRandomPrintSeed(), buildSwirldState("first"), incremental);
+
+		final DeserializedSignedState deserialized = readSignedState();
+		assertEquals(originalHash, deserialized.originalHash(), "the hash in the file should be read");
+		assertEquals(originalHash, deserialized.signedState().getState().getHash(),
+				"the loaded state should have the hash of the state that was written");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Shard Changed During Initialization Test")
+	void shardChangedDuringInitializationTest(final boolean incremental) throws IOException {
+		final DummyInternalSwirldState original = buildSwirldState("migrate");
+		final Hash originalHash = original.getHash();
+		writeSignedState(getRandomPrintSeed(), original, incremental);
+
+		// the leaf is replaced when the tree is initialized, without a change of its class version
+		DummyMerkleLeaf.setMigrationMapper((final DummyMerkleLeaf leaf, final Integer version) ->
+				"migrate".equals(leaf.getValue()) ? new DummyMerkleLeaf("migrated") : leaf);
+
+		final Hash loadedHash = readSignedState().signedState().getState().getSwirldState().getHash();
+		assertNotEquals(originalHash, loadedHash, "the change made during initialization should change the hash");
+		assertEquals(buildSwirldState("migrated").getHash(), loadedHash,
+				"the loaded state should have the hash of the migrated state");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Shard Root Replaced During Initialization Test")
+	void shardRootReplacedDuringInitializationTest(final boolean incremental) throws IOException {
+		final DummyInternalSwirldState original = buildSwirldState("first");
+		final Hash originalHash = original.getHash();
+		writeSignedState(getRandomPrintSeed(), original, incremental);
+
+		// every shard root is replaced by a new node when the tree is initialized
+		DummyMerkleInternal.setMigrationMapper((final DummyMerkleInternal node, final Integer version) ->
+				isShardRoot(node) ? wrap(node) : node);
+
+		final Hash loadedHash = readSignedState().signedState().getState().getSwirldState().getHash();
+		assertNotEquals(originalHash, loadedHash, "the change made during initialization should change the hash");
+
+		final DummyInternalSwirldState expected = new DummyInternalSwirldState();
+		for (int shard = 0; shard < SHARD_COUNT; shard++) {
+			expected.setChild(shard, wrap(buildShard(shard, shard == 0 ? "first" : null)));
+		}
+		assertEquals(CryptoFactory.getInstance().digestTreeSync(expected), loadedHash,
+				"the loaded state should have the hash of the migrated state");
+	}
+
+	private static boolean isShardRoot(final DummyMerkleInternal node) {
+		return node.getNumberOfChildren() == PARENTS_PER_SHARD && node.getChild(0) instanceof DummyMerkleInternal;
+	}
+
+	/**
+	 * @return a new node with the given node and an additional leaf as its children
+	 */
+	private static DummyMerkleInternal wrap(final DummyMerkleInternal node) {
+		final DummyMerkleInternal replacement = new DummyMerkleInternal();
+		replacement.setChild(0, node);
+		replacement.setChild(1, new DummyMerkleLeaf("added"));
+		return replacement;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap.test;
+
+import com.swirlds.fchashmap.FCHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("FCHashMap Garbage Collection Tests")
+class FCHashMapGarbageCollectionTests {
+
+	@Test
+	@DisplayName("Mutation After Previous Copy Is Released Test")
+	void mutationAfterPreviousCopyIsReleasedTest() {
+		final FCHashMap<Integer, String> copy0 = new FCHashMap<>();
+		copy0.put(0, "A");
+		final FCHashMap<Integer, String> copy1 = copy0.copy();
+		copy0.release();
+
+		// copy 0 is already collected when this mutation requests collection once copy 0 is released
+		copy1.put(0, "B");
+		final FCHashMap<Integer, String> copy2 = copy1.copy();
+		final FCHashMap<Integer, String> copy3 = copy2.copy();
+		copy3.put(0, "D");
+
+		// releasing copy 1 must only remove the mutations older than copy 1, copy 2 still needs the value of copy 1
+		copy1.release();
+		assertEquals("B", copy2.get(0), "copy 2 should still see the value written in copy 1");
+		assertEquals("D", copy3.get(0), "copy 3 should see its own value");
+
+		copy2.release();
+		assertEquals("D", copy3.get(0), "copy 3 should see its own value");
+		copy3.release();
+	}
+
+	@Test
+	@DisplayName("Random Release Order Test")
+	void randomReleaseOrderTest() {
+		final Random random = getRandomPrintSeed();
+		final int keyCount = 20;
+
+		FCHashMap<Integer, Integer> mutableCopy = new FCHashMap<>();
+		final Map<Integer, Integer> mutableExpected = new HashMap<>();
+		final List<FCHashMap<Integer, Integer>> copies = new ArrayList<>();
+		final List<Map<Integer, Integer>> expected = new ArrayList<>();
+
+		for (int round = 0; round < 1_000; round++) {
+			for (int i = 0; i < 5; i++) {
+				final int key = random.nextInt(keyCount);
+				if (random.nextInt(4) == 0) {
+					mutableCopy.remove(key);
+					mutableExpected.remove(key);
+				} else {
+					mutableCopy.put(key, round);
+					mutableExpected.put(key, round);
+				}
+			}
+
+			copies.add(mutableCopy);
+			expected.add(new HashMap<>(mutableExpected));
+			mutableCopy = mutableCopy.copy();
+
+			// release copies out of order so that mutations are made after the copy before them is collected
+			while (copies.size() > 5 || (!copies.isEmpty() && random.nextBoolean())) {
+				final int index = random.nextInt(copies.size());
+				copies.remove(index).release();
+				expected.remove(index);
+			}
+
+			for (int i = 0; i < copies.size(); i++) {
+				for (int key = 0; key < keyCount; key++) {
+					assertEquals(expected.get(i).get(key), copies.get(i).get(key),
+							"a copy should not be affected by the release of other copies");
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap.test;
+
+import com.swirlds.fchashmap.FCHashMap;
+import com.swirlds.fchashmap.FCLongHashMap;
+import com.swirlds.test.framework.TestTypeTags;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the memory use and the speed of {@link FCLongHashMap} and {@link FCHashMap} with {@code Long} keys.
+ */
+@DisplayName("FCLongHashMap Benchmark")
+class FCLongHashMapBenchmark {
+
+	private static final int ENTRY_COUNT = 1_000_000;
+	private static final int ITERATIONS = 5;
+
+	/**
+	 * The operations of one map implementation.
+	 */
+	private interface MapUnderTest {
+		void put(long key, Long value);
+
+		Long get(long key);
+
+		MapUnderTest copy();
+
+		void release();
+	}
+
+	private static MapUnderTest longMap(final FCLongHashMap<Long> map) {
+		return new MapUnderTest() {
+			@Override
+			public void put(final long key, final Long value) {
+				map.put(key, value);
+			}
+
+			@Override
+			public Long get(final long key) {
+				return map.get(key);
+			}
+
+			@Override
+			public MapUnderTest copy() {
+				return longMap(map.copy());
+			}
+
+			@Override
+			public void release() {
+				map.release();
+			}
+		};
+	}
+
+	private static MapUnderTest boxedMap(final FCHashMap<Long, Long> map) {
+		return new MapUnderTest() {
+			@Override
+			public void put(final long key, final Long value) {
+				map.put(key, value);
+			}
+
+			@Override
+			public Long get(final long key) {
+				return map.get(key);
+			}
+
+			@Override
+			public MapUnderTest copy() {
+				return boxedMap(map.copy());
+			}
+
+			@Override
+			public void release() {
+				map.release();
+			}
+		};
+	}
+
+	private static long usedMemory() {
+		final Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Fill a map, copy it and overwrite every entry, release the older copy, and then read every entry. Prints the
+	 * average time of each phase and the memory used per entry.
+	 */
+	private static void benchmark(final String name, final Supplier<MapUnderTest> mapBuilder) {
+		final Random random = new Random(1337);
+		final long[] keys = new long[ENTRY_COUNT];
+		final Long[] values = new Long[ENTRY_COUNT];
+		for (int i = 0; i < ENTRY_COUNT; i++) {
+			keys[i] = random.nextLong();
+			values[i] = (long) i;
+		}
+
+		long putNanos = 0;
+		long getNanos = 0;
+		long releaseNanos = 0;
+		long bytesPerEntry = 0;
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			final long memoryBefore = usedMemory();
+			final MapUnderTest original = mapBuilder.get();
+
+			final StopWatch sw = new StopWatch();
+			sw.start();
+			for (int i = 0; i < ENTRY_COUNT; i++) {
+				original.put(keys[i], values[i]);
+			}
+			final MapUnderTest copy = original.copy();
+			for (int i = 0; i < ENTRY_COUNT; i++) {
+				copy.put(keys[i], values[ENTRY_COUNT - 1 - i]);
+			}
+			sw.stop();
+			putNanos += sw.getTime(TimeUnit.NANOSECONDS);
+
+			sw.reset();
+			sw.start();
+			original.release();
+			sw.stop();
+			releaseNanos += sw.getTime(TimeUnit.NANOSECONDS);
+
+			sw.reset();
+			sw.start();
+			long sum = 0;
+			for (int i = 0; i < ENTRY_COUNT; i++) {
+				sum += copy.get(keys[i]);
+			}
+			sw.stop();
+			getNanos += sw.getTime(TimeUnit.NANOSECONDS);
+			if (sum < 0) {
+				throw new IllegalStateException("unexpected sum");
+			}
+
+			bytesPerEntry += (usedMemory() - memoryBefore) / ENTRY_COUNT;
+			copy.release();
+		}
+
+		System.out.println(name + ": put " + (putNanos / ITERATIONS / (2L * ENTRY_COUNT)) + "ns"
+				+ ", get " + (getNanos / ITERATIONS / ENTRY_COUNT) + "ns"
+				+ ", release " + (releaseNanos / ITERATIONS / 1_000) + "us"
+				+ ", memory " + (bytesPerEntry / ITERATIONS) + "B/entry");
+	}
+
+	@Test
+	@Tag(TestTypeTags.PERFORMANCE)
+	@DisplayName("Compare With FCHashMap")
+	void compareWithFCHashMap() {
+		// run both once to warm up
+		benchmark("FCLongHashMap<Long> warm up", () -> longMap(new FCLongHashMap<>()));
+		benchmark("FCHashMap<Long, Long> warm up", () -> boxedMap(new FCHashMap<>()));
+
+		benchmark("FCLongHashMap<Long>", () -> longMap(new FCLongHashMap<>()));
+		benchmark("FCHashMap<Long, Long>", () -> boxedMap(new FCHashMap<>()));
+	}
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap.test;
+
+import com.swirlds.common.exceptions.MutabilityException;
+import com.swirlds.common.exceptions.ReferenceCountException;
+import com.swirlds.fchashmap.FCHashMap;
+import com.swirlds.fchashmap.FCLongHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FCLongHashMap Tests")
+class FCLongHashMapTests {
+
+	/**
+	 * Exposes the number of copies that have not been garbage collected.
+	 */
+	private static class CountingMap<V> extends FCLongHashMap<V> {
+
+		CountingMap() {
+			super();
+		}
+
+		private CountingMap(final CountingMap<V> that) {
+			super(that);
+		}
+
+		@Override
+		public CountingMap<V> copy() {
+			throwIfImmutable();
+			throwIfDestroyed();
+			return new CountingMap<>(this);
+		}
+
+		int getCopyCount() {
+			return copyCount();
+		}
+	}
+
+	@Test
+	@DisplayName("Basic Operations Test")
+	void basicOperationsTest() {
+		final FCLongHashMap<String> map = new FCLongHashMap<>();
+		assertTrue(map.isEmpty(), "a new map should be empty");
+
+		final long[] keys = { 0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE };
+		for (final long key : keys) {
+			assertNull(map.put(key, "a" + key), "the key should not be in the map yet");
+		}
+		assertEquals(keys.length, map.size(), "every key should be counted");
+		for (final long key : keys) {
+			assertTrue(map.containsKey(key), "the key should be in the map");
+			assertEquals("a" + key, map.get(key), "the value should be stored");
+			assertEquals("a" + key, map.put(key, "b" + key), "the previous value should be returned");
+			assertEquals("b" + key, map.get(key), "the value should be replaced");
+		}
+		assertEquals(keys.length, map.size(), "replacing a value should not change the size");
+		assertFalse(map.containsKey(2), "a key that was never added should not be in the map");
+
+		for (final long key : keys) {
+			assertEquals("b" + key, map.remove(key), "the removed value should be returned");
+			assertNull(map.remove(key), "a removed key should not be in the map");
+			assertNull(map.get(key), "a removed key should not be in the map");
+		}
+		assertTrue(map.isEmpty(), "the map should be empty after removing every key");
+
+		assertThrows(NullPointerException.class, () -> map.put(0, null), "null values should be rejected");
+		assertThrows(IllegalArgumentException.class, () -> new FCLongHashMap<>(-1),
+				"a negative capacity should be rejected");
+		map.release();
+	}
+
+	@Test
+	@DisplayName("Resize Test")
+	void resizeTest() {
+		final FCLongHashMap<Long> map = new FCLongHashMap<>();
+		final int count = 100_000;
+		for (long key = 0; key < count; key++) {
+			map.put(key * 31, key);
+		}
+		assertEquals(count, map.size(), "every key should be counted");
+		for (long key = 0; key < count; key++) {
+			assertEquals(key, map.get(key * 31), "every value should survive resizing");
+		}
+
+		// removing keys shifts the keys that follow them in the table back
+		for (long key = 0; key < count; key += 2) {
+			map.remove(key * 31);
+		}
+		for (long key = 0; key < count; key++) {
+			assertEquals(key % 2 == 0 ? null : key, map.get(key * 31), "removal should not affect other keys");
+		}
+		map.release();
+	}
+
+	@Test
+	@DisplayName("Copy Test")
+	void copyTest() {
+		final FCLongHashMap<String> original = new FCLongHashMap<>();
+		original.put(1, "A");
+		original.put(2, "B");
+
+		final FCLongHashMap<String> copy = original.copy();
+		assertTrue(original.isImmutable(), "the original should be immutable after it is copied");
+		assertFalse(copy.isImmutable(), "the copy should be mutable");
+		assertThrows(MutabilityException.class, () -> original.put(3, "C"),
+				"an immutable copy should not be modified");
+		assertThrows(MutabilityException.class, () -> original.remove(1),
+				"an immutable copy should not be modified");
+		assertThrows(MutabilityException.class, original::copy, "an immutable copy should not be copied");
+
+		copy.put(1, "A2");
+		copy.remove(2);
+		copy.put(3, "C");
+
+		assertEquals("A", original.get(1), "the original should not see modifications of the copy");
+		assertEquals("B", original.get(2), "the original should not see removals of the copy");
+		assertNull(original.get(3), "the original should not see additions of the copy");
+		assertEquals(2, original.size(), "the original should keep its size");
+
+		assertEquals("A2", copy.get(1), "the copy should see its own modification");
+		assertNull(copy.get(2), "the copy should see its own removal");
+		assertEquals("C", copy.get(3), "the copy should see its own addition");
+		assertEquals(2, copy.size(), "the copy should have its own size");
+
+		original.release();
+		copy.release();
+	}
+
+	@Test
+	@DisplayName("Release Test")
+	void releaseTest() {
+		final CountingMap<String> copy0 = new CountingMap<>();
+		copy0.put(0, "A");
+		final CountingMap<String> copy1 = copy0.copy();
+		final CountingMap<String> copy2 = copy1.copy();
+		assertEquals(3, copy2.getCopyCount(), "all copies should be tracked");
+
+		copy1.release();
+		assertTrue(copy1.isDestroyed(), "the copy should be released");
+		assertEquals(3, copy2.getCopyCount(), "a copy can only be collected once all older copies are released");
+		assertThrows(ReferenceCountException.class, copy1::release, "a copy should not be released twice");
+
+		copy0.release();
+		assertEquals(1, copy2.getCopyCount(), "all released copies should be collected");
+		assertEquals("A", copy2.get(0), "the remaining copy should not be affected");
+
+		copy2.release();
+		assertThrows(ReferenceCountException.class, copy2::copy, "a released copy should not be copied");
+	}
+
+	@Test
+	@DisplayName("Mutation After Previous Copy Is Released Test")
+	void mutationAfterPreviousCopyIsReleasedTest() {
+		final FCLongHashMap<String> copy0 = new FCLongHashMap<>();
+		copy0.put(0, "A");
+		final FCLongHashMap<String> copy1 = copy0.copy();
+		copy0.release();
+
+		copy1.put(0, "B");
+		final FCLongHashMap<String> copy2 = copy1.copy();
+		final FCLongHashMap<String> copy3 = copy2.copy();
+		copy3.put(0, "D");
+
+		copy1.release();
+		assertEquals("B", copy2.get(0), "copy 2 should still see the value written in copy 1");
+		assertEquals("D", copy3.get(0), "copy 3 should see its own value");
+
+		copy2.release();
+		copy3.remove(0);
+		final FCLongHashMap<String> copy4 = copy3.copy();
+		copy3.release();
+		assertNull(copy4.get(0), "the removal should remain after the older copies are collected");
+		assertEquals(0, copy4.size(), "the removed key should not be counted");
+		copy4.release();
+	}
+
+	@Test
+	@DisplayName("Garbage Collection Matches FCHashMap Test")
+	void garbageCollectionTest() {
+		final Random random = getRandomPrintSeed();
+		final int keyCount = 100;
+
+		CountingMap<Integer> mutableCopy = new CountingMap<>();
+		FCHashMap<Long, Integer> mutableReference = new FCHashMap<>();
+		final List<CountingMap<Integer>> copies = new ArrayList<>();
+		final List<FCHashMap<Long, Integer>> references = new ArrayList<>();
+
+		for (int round = 0; round < 1_000; round++) {
+			for (int i = 0; i < 20; i++) {
+				final long key = random.nextInt(keyCount);
+				if (random.nextInt(4) == 0) {
+					assertEquals(mutableReference.remove(key), mutableCopy.remove(key),
+							"removal should return the same value as FCHashMap");
+				} else {
+					assertEquals(mutableReference.put(key, round), mutableCopy.put(key, round),
+							"put should return the same value as FCHashMap");
+				}
+			}
+
+			copies.add(mutableCopy);
+			references.add(mutableReference);
+			mutableCopy = mutableCopy.copy();
+			mutableReference = mutableReference.copy();
+
+			// release copies out of order so that mutations are made after the copy before them is collected
+			while (copies.size() > 5 || (!copies.isEmpty() && random.nextBoolean())) {
+				final int index = random.nextInt(copies.size());
+				copies.remove(index).release();
+				references.remove(index).release();
+			}
+
+			for (int i = 0; i < copies.size(); i++) {
+				assertEquals(references.get(i).size(), copies.get(i).size(), "the size should match FCHashMap");
+				for (long key = 0; key < keyCount; key++) {
+					assertEquals(references.get(i).get(key), copies.get(i).get(key),
+							"every copy should match FCHashMap");
+				}
+			}
+		}
+
+		copies.forEach(FCLongHashMap::release);
+		assertEquals(1, mutableCopy.getCopyCount(), "all released copies should be collected");
+		for (long key = 0; key < keyCount; key++) {
+			assertEquals(mutableReference.get(key), mutableCopy.get(key),
+					"the mutable copy should match FCHashMap after collection");
+		}
+	}
+
+	@Test
+	@DisplayName("Concurrent Read Test")
+	void concurrentReadTest() {
+		final FCLongHashMap<Long> immutableCopy = new FCLongHashMap<>();
+		final int keyCount = 1_000;
+		for (long key = 0; key < keyCount; key++) {
+			immutableCopy.put(key, key);
+		}
+		final FCLongHashMap<Long> mutableCopy = immutableCopy.copy();
+
+		final AtomicBoolean done = new AtomicBoolean();
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		final List<Thread> readers = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			final Thread reader = new Thread(() -> {
+				try {
+					while (!done.get()) {
+						for (long key = 0; key < keyCount; key++) {
+							final Long value = immutableCopy.get(key);
+							if (value == null || value != key) {
+								throw new IllegalStateException("key " + key + " had value " + value);
+							}
+						}
+					}
+				} catch (final Throwable t) {
+					error.compareAndSet(null, t);
+				}
+			});
+			reader.start();
+			readers.add(reader);
+		}
+
+		assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+			// overwriting and adding keys resizes the table while the readers use it
+			for (long key = 0; key < 200_000; key++) {
+				mutableCopy.put(key, -key - 1);
+			}
+			for (long key = 0; key < 200_000; key++) {
+				mutableCopy.remove(key);
+			}
+			done.set(true);
+			for (final Thread reader : readers) {
+				reader.join();
+			}
+		}, "reads should not hang while the table is modified");
+
+		assertNull(error.get(), "reads of an immutable copy should not be affected by modifications: " + error.get());
+		assertEquals(0, mutableCopy.size(), "every key should be removed from the mutable copy");
+		immutableCopy.release();
+		mutableCopy.release();
+	}
+}
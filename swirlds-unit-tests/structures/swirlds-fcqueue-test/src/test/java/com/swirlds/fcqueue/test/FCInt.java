@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fcqueue.test;
+
+import com.swirlds.common.FastCopyable;
+import com.swirlds.common.crypto.AbstractSerializableHashable;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+
+import java.io.IOException;
+
+/**
+ * An immutable integer that can be stored in an FCQueue.
+ */
+public class FCInt extends AbstractSerializableHashable implements FastCopyable {
+
+	private static final long CLASS_ID = 0x3a4f8c16e2b7d590L;
+
+	private static final int CLASS_VERSION = 1;
+
+	private int value;
+
+	public FCInt() {
+	}
+
+	public FCInt(final int value) {
+		this.value = value;
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	@Override
+	public FCInt copy() {
+		return new FCInt(value);
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) throws IOException {
+		out.writeInt(value);
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+		value = in.readInt();
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CLASS_VERSION;
+	}
+}
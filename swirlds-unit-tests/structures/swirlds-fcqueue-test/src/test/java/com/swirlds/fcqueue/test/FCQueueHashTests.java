@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fcqueue.test;
+
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.fcqueue.FCQueue;
+import com.swirlds.fcqueue.internal.FCQHashAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.fcqueue.internal.FCQHashAlgorithm.CHUNK_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+@DisplayName("FCQueue Hash Tests")
+class FCQueueHashTests {
+
+	/**
+	 * Compute the hash of a queue with the given elements the way FCQueue used to, by adding the hash of each element
+	 * to the rolling hash one at a time, starting from the tail.
+	 */
+	private static byte[] sequentialHash(final List<FCInt> elements) {
+		final byte[] hash = new byte[FCQueue.NULL_HASH.length];
+		for (int index = 0; index < elements.size(); index++) {
+			FCQHashAlgorithm.ROLLING_HASH.computeHash(
+					hash, elementHashOfHash(elements.get(elements.size() - 1 - index)), index);
+		}
+		return hash;
+	}
+
+	private static byte[] elementHashOfHash(final FCInt element) {
+		final Cryptography cryptography = CryptoFactory.getInstance();
+		cryptography.digestSync(element);
+		return cryptography.digestSync(element.getHash()).getValue();
+	}
+
+	private static void add(final Random random, final FCQueue<FCInt> queue, final List<FCInt> expected,
+			final int count) {
+		for (int i = 0; i < count; i++) {
+			final FCInt element = new FCInt(random.nextInt());
+			queue.add(element);
+			expected.add(element);
+		}
+	}
+
+	private static void remove(final FCQueue<FCInt> queue, final List<FCInt> expected, final int count) {
+		for (int i = 0; i < count; i++) {
+			queue.remove();
+			expected.remove(0);
+		}
+	}
+
+	private static void assertHash(final List<FCInt> expected, final FCQueue<FCInt> queue, final String message) {
+		assertArrayEquals(sequentialHash(expected), queue.getHash().getValue(), message);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 2 * CHUNK_SIZE, 3 * CHUNK_SIZE + 7 })
+	@DisplayName("New Queue Hash Test")
+	void newQueueHashTest(final int size) {
+		final FCQueue<FCInt> queue = new FCQueue<>();
+		final List<FCInt> expected = new ArrayList<>();
+		add(getRandomPrintSeed(), queue, expected, size);
+
+		assertHash(expected, queue, "the hash should match the sequential hash");
+		assertHash(expected, queue, "hashing again should not change the hash");
+	}
+
+	@Test
+	@DisplayName("Incremental Hash Test")
+	void incrementalHashTest() {
+		final Random random = getRandomPrintSeed();
+		final FCQueue<FCInt> queue = new FCQueue<>();
+		final List<FCInt> expected = new ArrayList<>();
+
+		for (final int count : new int[] { 1, CHUNK_SIZE - 2, 3, CHUNK_SIZE + 5, 2 * CHUNK_SIZE + 1, CHUNK_SIZE }) {
+			add(random, queue, expected, count);
+			assertHash(expected, queue, "the hash should match the sequential hash after adding " + count);
+		}
+	}
+
+	@Test
+	@DisplayName("Removal Hash Test")
+	void removalHashTest() {
+		final Random random = getRandomPrintSeed();
+		final FCQueue<FCInt> queue = new FCQueue<>();
+		final List<FCInt> expected = new ArrayList<>();
+
+		add(random, queue, expected, 3 * CHUNK_SIZE + 10);
+		assertHash(expected, queue, "the hash should match the sequential hash");
+
+		remove(queue, expected, CHUNK_SIZE + 3);
+		assertHash(expected, queue, "the hash should match the sequential hash after removing elements");
+
+		// the new elements have not been hashed yet when the old ones are removed
+		add(random, queue, expected, 2 * CHUNK_SIZE);
+		remove(queue, expected, 5);
+		assertHash(expected, queue, "the hash should match the sequential hash after adding and removing elements");
+
+		remove(queue, expected, expected.size());
+		assertArrayEquals(FCQueue.NULL_HASH, queue.getHash().getValue(), "an empty queue should have the null hash");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Copy Hash Test")
+	void copyHashTest(final boolean hashBeforeCopy) {
+		final Random random = getRandomPrintSeed();
+		final FCQueue<FCInt> original = new FCQueue<>();
+		final List<FCInt> originalElements = new ArrayList<>();
+		add(random, original, originalElements, 2 * CHUNK_SIZE + 3);
+		if (hashBeforeCopy) {
+			assertHash(originalElements, original, "the hash should match the sequential hash");
+		}
+
+		final FCQueue<FCInt> copy = original.copy();
+		final List<FCInt> copyElements = new ArrayList<>(originalElements);
+		remove(copy, copyElements, 10);
+		add(random, copy, copyElements, CHUNK_SIZE + 1);
+
+		assertHash(copyElements, copy, "the copy should have the sequential hash of its elements");
+		assertHash(originalElements, original, "changing the copy should not change the hash of the original");
+
+		final FCQueue<FCInt> secondCopy = copy.copy();
+		add(random, secondCopy, copyElements, CHUNK_SIZE - 1);
+		assertHash(copyElements, secondCopy, "a copy of a copy should have the sequential hash of its elements");
+	}
+}
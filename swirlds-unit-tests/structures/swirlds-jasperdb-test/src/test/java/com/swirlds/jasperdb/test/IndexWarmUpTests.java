@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.jasperdb.test;
+
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.platform.PlatformMetricsFactory;
+import com.swirlds.jasperdb.VirtualDataSourceJasperDB;
+import com.swirlds.jasperdb.VirtualInternalRecordSerializer;
+import com.swirlds.jasperdb.VirtualLeafRecordSerializer;
+import com.swirlds.jasperdb.settings.DefaultJasperDbSettings;
+import com.swirlds.jasperdb.settings.JasperDbSettingsFactory;
+import com.swirlds.virtualmap.datasource.VirtualInternalRecord;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.common.test.RandomUtils.randomHash;
+import static com.swirlds.jasperdb.JasperDbStatistics.STAT_CATEGORY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Index Warm Up Tests")
+class IndexWarmUpTests {
+
+	private static final String LABEL = "warmUpTest";
+	/** a key past the first chunk of the key to path index, so that the saved index has a full chunk to map */
+	private static final long LARGE_KEY = 2_000_000;
+
+	/**
+	 * Temporary directory provided by JUnit
+	 */
+	@TempDir
+	Path testDirectory;
+
+	@AfterEach
+	void restoreSettings() {
+		JasperDbSettingsFactory.configure(new DefaultJasperDbSettings());
+	}
+
+	private static VirtualDataSourceJasperDB<TestLongKey, TestLongValue> open(final Path directory)
+			throws IOException {
+		return new VirtualDataSourceJasperDB<>(
+				new VirtualLeafRecordSerializer<>(
+						(short) 1, DigestType.SHA_384,
+						(short) 1, Long.BYTES, new TestLongKey.Supplier(),
+						(short) 1, Long.BYTES, new TestLongValue.Supplier(),
+						true),
+				new VirtualInternalRecordSerializer(),
+				new TestLongKeySerializer(),
+				directory,
+				LABEL,
+				10_000_000,
+				false,
+				Long.MAX_VALUE,
+				false);
+	}
+
+	private static VirtualLeafRecord<TestLongKey, TestLongValue> leaf(
+			final Random random, final long path, final long key) {
+		return new VirtualLeafRecord<>(path, randomHash(random), new TestLongKey(key), new TestLongValue(key + 1));
+	}
+
+	/**
+	 * Save a data source with two leaves and take a snapshot of it, the way a saved state is written.
+	 *
+	 * @return the directory of the snapshot
+	 */
+	private Path saveSnapshot(final Random random) throws IOException {
+		final VirtualDataSourceJasperDB<TestLongKey, TestLongValue> dataSource =
+				open(testDirectory.resolve("original"));
+		dataSource.saveRecords(
+				1,
+				2,
+				Stream.of(new VirtualInternalRecord(0, randomHash(random))),
+				Stream.of(leaf(random, 1, 1), leaf(random, 2, LARGE_KEY)),
+				Stream.empty());
+		final Path snapshot = testDirectory.resolve("snapshot");
+		dataSource.snapshot(snapshot);
+		dataSource.close();
+		return snapshot;
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Index Warm Up Reaches 100 Percent Test")
+	void warmUpTest(final boolean lazyIndexLoading) throws IOException {
+		final Path snapshot = saveSnapshot(getRandomPrintSeed());
+		JasperDbSettingsFactory.configure(new DefaultJasperDbSettings() {
+			@Override
+			public boolean isLazyIndexLoadingEnabled() {
+				return lazyIndexLoading;
+			}
+		});
+
+		final VirtualDataSourceJasperDB<TestLongKey, TestLongValue> dataSource = open(snapshot);
+		final Metrics metrics = new Metrics(mock(ScheduledExecutorService.class), new PlatformMetricsFactory());
+		dataSource.registerMetrics(metrics);
+
+		// the indexes can be used before they have been loaded
+		assertEquals(2, dataSource.loadLeafRecord(new TestLongKey(LARGE_KEY)).getPath(),
+				"the leaf should be found through the key to path index");
+		assertEquals(LARGE_KEY + 1, dataSource.loadLeafRecord(2).getValue().getValue(),
+				"the leaf should be found through the path index");
+
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			while (!Double.valueOf(100).equals(metrics.getValue(STAT_CATEGORY, "indexWarmUpPercent_" + LABEL))) {
+				Thread.sleep(1);
+			}
+		}, "the warm up should reach 100%");
+
+		// writes after loading go to memory, not to the files of the snapshot
+		dataSource.saveRecords(
+				1,
+				2,
+				Stream.empty(),
+				Stream.of(leaf(getRandomPrintSeed(), 2, LARGE_KEY + 1)),
+				Stream.empty());
+		assertEquals(2, dataSource.loadLeafRecord(new TestLongKey(LARGE_KEY + 1)).getPath(),
+				"the new key should be found");
+		dataSource.close();
+
+		final VirtualDataSourceJasperDB<TestLongKey, TestLongValue> reopened = open(snapshot);
+		assertEquals(2, reopened.loadLeafRecord(new TestLongKey(LARGE_KEY)).getPath(),
+				"the snapshot should not be changed by writes to a data source loaded from it");
+		assertNull(reopened.loadLeafRecord(new TestLongKey(LARGE_KEY + 1)),
+				"the snapshot should not contain keys written after it was loaded");
+		reopened.close();
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.jasperdb.test;
+
+import com.swirlds.jasperdb.collections.LongListOffHeap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LongListOffHeap Mapping Tests")
+class LongListOffHeapMappingTests {
+
+	private static final int LONGS_PER_CHUNK = 1024;
+	private static final int FULL_CHUNKS = 3;
+	/** the last chunk is only partly filled, so it can not be mapped */
+	private static final int SIZE = FULL_CHUNKS * LONGS_PER_CHUNK + LONGS_PER_CHUNK / 2;
+	private static final long MAX_LONGS = 100 * LONGS_PER_CHUNK;
+
+	/**
+	 * Temporary directory provided by JUnit
+	 */
+	@TempDir
+	Path testDirectory;
+
+	/**
+	 * Write a list with random values to a read only file, like the hard linked index files of a saved state.
+	 *
+	 * @return the file
+	 */
+	private Path writeList(final Random random) throws IOException {
+		final LongListOffHeap list = new LongListOffHeap(LONGS_PER_CHUNK, MAX_LONGS);
+		for (int i = 0; i < SIZE; i++) {
+			list.put(i, 1 + random.nextInt(Integer.MAX_VALUE));
+		}
+		final Path file = testDirectory.resolve("list.ll");
+		list.writeToFile(file);
+		list.close();
+		assertTrue(file.toFile().setReadOnly(), "the file should be made read only");
+		return file;
+	}
+
+	private static void assertSameValues(final LongListOffHeap expected, final LongListOffHeap actual) {
+		assertEquals(expected.size(), actual.size(), "the lists should have the same size");
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), actual.get(i), "the lists should have the same value at index " + i);
+		}
+	}
+
+	@Test
+	@DisplayName("Mapped List Equals Loaded List Test")
+	void mappedListEqualsLoadedListTest() throws IOException {
+		final Path file = writeList(getRandomPrintSeed());
+
+		final LongListOffHeap loaded = new LongListOffHeap(file);
+		final LongListOffHeap mapped = new LongListOffHeap(file, true);
+
+		assertEquals(0, loaded.getMappedBytes(), "a loaded list should not be mapped");
+		assertEquals((long) FULL_CHUNKS * LONGS_PER_CHUNK * Long.BYTES, mapped.getMappedBytes(),
+				"every full chunk should be mapped");
+		assertSameValues(loaded, mapped);
+
+		loaded.close();
+		mapped.close();
+	}
+
+	@Test
+	@DisplayName("Writes Do Not Reach The File Test")
+	void writesDoNotReachFileTest() throws IOException {
+		final Random random = getRandomPrintSeed();
+		final Path file = writeList(random);
+		final byte[] fileBytes = Files.readAllBytes(file);
+
+		final LongListOffHeap mapped = new LongListOffHeap(file, true);
+		final List<Long> written = new ArrayList<>();
+		// write to every chunk, including the one that is not mapped and one past the end of the file
+		for (int i = 0; i < SIZE + LONGS_PER_CHUNK; i += LONGS_PER_CHUNK / 4) {
+			final long value = 1 + random.nextInt(Integer.MAX_VALUE);
+			mapped.put(i, value);
+			written.add(value);
+		}
+		final long oldValue = mapped.get(1);
+		assertTrue(mapped.putIfEqual(1, oldValue, oldValue + 1), "the value should be replaced");
+		assertFalse(mapped.putIfEqual(1, oldValue, oldValue + 2), "the value should not be replaced twice");
+
+		for (int i = 0; i < written.size(); i++) {
+			assertEquals(written.get(i), mapped.get((long) i * (LONGS_PER_CHUNK / 4)),
+					"the list should return the value written");
+		}
+		assertEquals(oldValue + 1, mapped.get(1), "the list should return the value that was swapped in");
+
+		assertArrayEquals(fileBytes, Files.readAllBytes(file), "writes to the list should not reach the file");
+		final LongListOffHeap reloaded = new LongListOffHeap(file, true);
+		assertEquals(oldValue, reloaded.get(1), "a list mapped again should have the values of the file");
+
+		mapped.close();
+		reloaded.close();
+	}
+
+	@Test
+	@DisplayName("Concurrent Writes To Mapped Chunks Test")
+	void concurrentWritesTest() throws IOException {
+		final Path file = writeList(getRandomPrintSeed());
+		final LongListOffHeap mapped = new LongListOffHeap(file, true);
+
+		final int threadCount = 4;
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			final List<Thread> threads = new ArrayList<>();
+			for (int t = 0; t < threadCount; t++) {
+				final int offset = t;
+				// all threads write to each chunk at the same time, so the first write to a chunk is concurrent
+				final Thread thread = new Thread(() -> {
+					for (int i = offset; i < SIZE; i += threadCount) {
+						mapped.put(i, i + 1);
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+		});
+
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals(i + 1, mapped.get(i), "no write should be lost when a chunk is copied");
+		}
+		mapped.close();
+	}
+
+	@Test
+	@DisplayName("Warm Up Test")
+	void warmUpTest() throws IOException {
+		final Path file = writeList(getRandomPrintSeed());
+		final LongListOffHeap loaded = new LongListOffHeap(file);
+		final LongListOffHeap mapped = new LongListOffHeap(file, true);
+
+		final AtomicLong loadedBytes = new AtomicLong();
+		mapped.warmUp(loadedBytes::addAndGet);
+		assertEquals(mapped.getMappedBytes(), loadedBytes.get(), "every mapped byte should be loaded");
+		assertSameValues(loaded, mapped);
+
+		final AtomicLong notMappedBytes = new AtomicLong();
+		loaded.warmUp(notMappedBytes::addAndGet);
+		assertEquals(0, notMappedBytes.get(), "there should be nothing to load for a list that is not mapped");
+
+		loaded.close();
+		mapped.close();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.jasperdb.test;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.jasperdb.SelfSerializableSupplier;
+import com.swirlds.virtualmap.VirtualLongKey;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A key that is a single long, so that a data source using it maps keys to paths with a long list.
+ */
+public class TestLongKey implements VirtualLongKey {
+
+	private static final long CLASS_ID = 0x6b2e91d4a7c3f058L;
+
+	private static final int CLASS_VERSION = 1;
+
+	private long value;
+
+	public TestLongKey() {
+	}
+
+	public TestLongKey(final long value) {
+		this.value = value;
+	}
+
+	@Override
+	public long getKeyAsLong() {
+		return value;
+	}
+
+	@Override
+	public void serialize(final ByteBuffer buffer) throws IOException {
+		buffer.putLong(value);
+	}
+
+	@Override
+	public void deserialize(final ByteBuffer buffer, final int version) throws IOException {
+		value = buffer.getLong();
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) throws IOException {
+		out.writeLong(value);
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+		value = in.readLong();
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CLASS_VERSION;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		return o instanceof final TestLongKey that && value == that.value;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return "TestLongKey{" + value + "}";
+	}
+
+	/**
+	 * Creates empty keys for the leaf record serializer.
+	 */
+	public static class Supplier implements SelfSerializableSupplier<TestLongKey> {
+
+		private static final long CLASS_ID = 0x1f7a5c0e93d2b846L;
+
+		@Override
+		public TestLongKey get() {
+			return new TestLongKey();
+		}
+
+		@Override
+		public void serialize(final SerializableDataOutputStream out) {
+			// nothing to serialize
+		}
+
+		@Override
+		public void deserialize(final SerializableDataInputStream in, final int version) {
+			// nothing to deserialize
+		}
+
+		@Override
+		public long getClassId() {
+			return CLASS_ID;
+		}
+
+		@Override
+		public int getVersion() {
+			return CLASS_VERSION;
+		}
+	}
+}
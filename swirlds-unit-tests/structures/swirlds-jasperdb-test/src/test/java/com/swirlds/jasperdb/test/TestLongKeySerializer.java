@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.jasperdb.test;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.jasperdb.files.hashmap.KeySerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes {@link TestLongKey}s as a single long.
+ */
+public class TestLongKeySerializer implements KeySerializer<TestLongKey> {
+
+	private static final long CLASS_ID = 0x2d85b7f6c04e19a3L;
+
+	private static final int CLASS_VERSION = 1;
+
+	@Override
+	public int getSerializedSize() {
+		return Long.BYTES;
+	}
+
+	@Override
+	public long getCurrentDataVersion() {
+		return CLASS_VERSION;
+	}
+
+	@Override
+	public int deserializeKeySize(final ByteBuffer buffer) {
+		return Long.BYTES;
+	}
+
+	@Override
+	public TestLongKey deserialize(final ByteBuffer buffer, final long dataVersion) throws IOException {
+		return new TestLongKey(buffer.getLong());
+	}
+
+	@Override
+	public int serialize(final TestLongKey data, final SerializableDataOutputStream outputStream) throws IOException {
+		outputStream.writeLong(data.getKeyAsLong());
+		return Long.BYTES;
+	}
+
+	@Override
+	public boolean equals(final ByteBuffer buffer, final int dataVersion, final TestLongKey keyToCompare) {
+		return buffer.getLong() == keyToCompare.getKeyAsLong();
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) {
+		// nothing to serialize
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) {
+		// nothing to deserialize
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CLASS_VERSION;
+	}
+}
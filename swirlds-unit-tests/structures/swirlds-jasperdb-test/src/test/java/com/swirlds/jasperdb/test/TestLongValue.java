@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.jasperdb.test;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.jasperdb.SelfSerializableSupplier;
+import com.swirlds.virtualmap.VirtualValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A value that is a single long.
+ */
+public class TestLongValue implements VirtualValue {
+
+	private static final long CLASS_ID = 0x48d0c3a9e15f7b62L;
+
+	private static final int CLASS_VERSION = 1;
+
+	private long value;
+
+	public TestLongValue() {
+	}
+
+	public TestLongValue(final long value) {
+		this.value = value;
+	}
+
+	public long getValue() {
+		return value;
+	}
+
+	@Override
+	public TestLongValue copy() {
+		return new TestLongValue(value);
+	}
+
+	@Override
+	public TestLongValue asReadOnly() {
+		return copy();
+	}
+
+	@Override
+	public void serialize(final ByteBuffer buffer) throws IOException {
+		buffer.putLong(value);
+	}
+
+	@Override
+	public void deserialize(final ByteBuffer buffer, final int version) throws IOException {
+		value = buffer.getLong();
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) throws IOException {
+		out.writeLong(value);
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+		value = in.readLong();
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CLASS_VERSION;
+	}
+
+	/**
+	 * Creates empty values for the leaf record serializer.
+	 */
+	public static class Supplier implements SelfSerializableSupplier<TestLongValue> {
+
+		private static final long CLASS_ID = 0x7c94e02b5a6d13f1L;
+
+		@Override
+		public TestLongValue get() {
+			return new TestLongValue();
+		}
+
+		@Override
+		public void serialize(final SerializableDataOutputStream out) {
+			// nothing to serialize
+		}
+
+		@Override
+		public void deserialize(final SerializableDataInputStream in, final int version) {
+			// nothing to deserialize
+		}
+
+		@Override
+		public long getClassId() {
+			return CLASS_ID;
+		}
+
+		@Override
+		public int getVersion() {
+			return CLASS_VERSION;
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkle.test;
+
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.exceptions.MutabilityException;
+import com.swirlds.common.merkle.iterators.MerkleIterator;
+import com.swirlds.common.merkle.utility.KeyedMerkleLong;
+import com.swirlds.common.merkle.utility.SerializableLong;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MerkleMap Bulk Operation Tests")
+class MerkleMapBulkTests {
+
+	private static final int[] INITIAL_SIZES = { 0, 1, 2, 3, 5, 8, 13, 100 };
+	private static final int[] BATCH_SIZES = { 0, 1, 2, 3, 7, 64, 257 };
+
+	@BeforeAll
+	static void setUp() throws ConstructableRegistryException {
+		ConstructableRegistry.registerConstructables("com.swirlds.common");
+		ConstructableRegistry.registerConstructables("com.swirlds.merkle");
+	}
+
+	/**
+	 * Create a new value that is not in any map, the key is set when the value is put into a map.
+	 */
+	private static KeyedMerkleLong<SerializableLong> value(final long value) {
+		return new KeyedMerkleLong<>(value);
+	}
+
+	private static MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> mapWithEntries(final int size) {
+		final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> map = new MerkleMap<>();
+		for (long key = 0; key < size; key++) {
+			map.put(new SerializableLong(key), value(key));
+		}
+		return map;
+	}
+
+	private static Hash hash(final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> map) {
+		return CryptoFactory.getInstance().digestTreeSync(map);
+	}
+
+	/**
+	 * Get the keys of the leaves in the order they appear in the tree, and check that the index of the map points
+	 * at the leaves in the tree.
+	 */
+	static List<Long> leafKeys(final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> map) {
+		final List<Long> keys = new ArrayList<>();
+		new MerkleIterator<KeyedMerkleLong<SerializableLong>>(map)
+				.setFilter(node -> node instanceof KeyedMerkleLong)
+				.forEachRemaining((final KeyedMerkleLong<SerializableLong> leaf) -> {
+					keys.add(leaf.getKey().getValue());
+					assertSame(leaf, map.get(leaf.getKey()), "the index should point at the leaf in the tree");
+				});
+		assertEquals(map.size(), keys.size(), "every entry should be a leaf of the tree");
+		return keys;
+	}
+
+	/**
+	 * Check that the older copies, which are only hashed after the newer copies are modified, still match a map that
+	 * was never modified.
+	 */
+	private static void assertOlderCopyUnchanged(
+			final int initialSize,
+			final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> expectedOlder,
+			final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> actualOlder) {
+
+		final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> unmodified = mapWithEntries(initialSize);
+		assertEquals(leafKeys(unmodified), leafKeys(expectedOlder), "the older copy should not be modified");
+		assertEquals(leafKeys(unmodified), leafKeys(actualOlder), "the older copy should not be modified");
+		assertEquals(hash(unmodified), hash(expectedOlder), "the older copy should not be modified");
+		assertEquals(hash(unmodified), hash(actualOlder), "the older copy should not be modified");
+		unmodified.release();
+	}
+
+	static Stream<Arguments> batchSizes() {
+		final List<Arguments> arguments = new ArrayList<>();
+		for (final int initialSize : INITIAL_SIZES) {
+			for (final int batchSize : BATCH_SIZES) {
+				arguments.add(Arguments.of(initialSize, batchSize, false));
+				arguments.add(Arguments.of(initialSize, batchSize, true));
+			}
+		}
+		return arguments.stream();
+	}
+
+	/**
+	 * Build a batch of new keys, with every third entry replacing an existing key if there are any.
+	 */
+	private static List<Long> batchKeys(final int initialSize, final int batchSize) {
+		final List<Long> keys = new ArrayList<>();
+		for (int i = 0; i < batchSize; i++) {
+			if (initialSize > 0 && i % 3 == 2) {
+				keys.add((long) (i % initialSize));
+			} else {
+				keys.add((long) (initialSize + i));
+			}
+		}
+		return keys;
+	}
+
+	@ParameterizedTest
+	@MethodSource("batchSizes")
+	@DisplayName("Put All Matches Put Test")
+	void putAllTest(final int initialSize, final int batchSize, final boolean olderCopy) {
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> expected = mapWithEntries(initialSize);
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> actual = mapWithEntries(initialSize);
+
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> expectedOlder = null;
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> actualOlder = null;
+		if (olderCopy) {
+			expectedOlder = expected;
+			actualOlder = actual;
+			expected = expected.copy();
+			actual = actual.copy();
+		}
+
+		final Map<SerializableLong, KeyedMerkleLong<SerializableLong>> batch = new LinkedHashMap<>();
+		for (final long key : batchKeys(initialSize, batchSize)) {
+			expected.put(new SerializableLong(key), value(-key));
+			batch.put(new SerializableLong(key), value(-key));
+		}
+		actual.putAll(batch);
+
+		assertEquals(expected.size(), actual.size(), "the size should match a put loop");
+		assertEquals(leafKeys(expected), leafKeys(actual), "the leaf order should match a put loop");
+		assertEquals(hash(expected), hash(actual), "the root hash should match a put loop");
+
+		if (olderCopy) {
+			assertOlderCopyUnchanged(initialSize, expectedOlder, actualOlder);
+			expectedOlder.release();
+			actualOlder.release();
+		}
+		expected.release();
+		actual.release();
+	}
+
+	@Test
+	@DisplayName("Put All Rejects Invalid Batches Test")
+	void putAllRejectsInvalidBatchesTest() {
+		final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> map = mapWithEntries(10);
+		final List<Long> keys = leafKeys(map);
+
+		final Map<SerializableLong, KeyedMerkleLong<SerializableLong>> nullValue = new LinkedHashMap<>();
+		nullValue.put(new SerializableLong(100), value(100));
+		nullValue.put(new SerializableLong(101), null);
+		assertThrows(NullPointerException.class, () -> map.putAll(nullValue), "null values should be rejected");
+		assertEquals(keys, leafKeys(map), "a rejected batch should not modify the map");
+
+		final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> copy = map.copy();
+		assertThrows(MutabilityException.class, () -> map.putAll(Collections.emptyMap()),
+				"an immutable map should not be modified");
+		map.release();
+		copy.release();
+	}
+
+	@ParameterizedTest
+	@MethodSource("batchSizes")
+	@DisplayName("Remove All Matches Remove Test")
+	void removeAllTest(final int initialSize, final int batchSize, final boolean olderCopy) {
+		final Random random = getRandomPrintSeed();
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> expected = mapWithEntries(initialSize);
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> actual = mapWithEntries(initialSize);
+
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> expectedOlder = null;
+		MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> actualOlder = null;
+		if (olderCopy) {
+			expectedOlder = expected;
+			actualOlder = actual;
+			expected = expected.copy();
+			actual = actual.copy();
+		}
+
+		// remove keys in random order, including some keys that are not in the map
+		final List<SerializableLong> keys = new ArrayList<>();
+		for (int i = 0; i < batchSize; i++) {
+			keys.add(new SerializableLong(random.nextInt(initialSize + 2)));
+		}
+
+		int removed = 0;
+		for (final SerializableLong key : keys) {
+			if (expected.remove(key) != null) {
+				removed++;
+			}
+		}
+		assertEquals(removed, actual.removeAll(keys), "the number of removed entries should match a remove loop");
+
+		assertEquals(expected.size(), actual.size(), "the size should match a remove loop");
+		assertEquals(leafKeys(expected), leafKeys(actual), "the leaf order should match a remove loop");
+		assertEquals(hash(expected), hash(actual), "the root hash should match a remove loop");
+
+		if (olderCopy) {
+			assertOlderCopyUnchanged(initialSize, expectedOlder, actualOlder);
+			expectedOlder.release();
+			actualOlder.release();
+		}
+		expected.release();
+		actual.release();
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkle.test;
+
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.iterators.MerkleIterator;
+import com.swirlds.common.merkle.utility.KeyedMerkleLong;
+import com.swirlds.common.merkle.utility.SerializableLong;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.merkle.tree.MerkleBinaryTree;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static com.swirlds.merkle.test.MerkleMapBulkTests.leafKeys;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MerkleMap Rebuild Tests")
+class MerkleMapRebuildTests {
+
+	/**
+	 * Temporary directory provided by JUnit
+	 */
+	@TempDir
+	Path testDirectory;
+
+	@BeforeAll
+	static void setUp() throws ConstructableRegistryException {
+		ConstructableRegistry.registerConstructables("com.swirlds.common");
+		ConstructableRegistry.registerConstructables("com.swirlds.merkle");
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 2, 3, 10, 1000 })
+	@DisplayName("Subtree Iterators Test")
+	void subtreeIteratorsTest(final int size) {
+		final MerkleBinaryTree<KeyedMerkleLong<SerializableLong>> tree = new MerkleBinaryTree<>();
+		for (long key = 0; key < size; key++) {
+			tree.insert(new KeyedMerkleLong<>(new SerializableLong(key), key), leaf -> {
+			});
+		}
+
+		final Set<KeyedMerkleLong<SerializableLong>> allLeaves = Collections.newSetFromMap(new IdentityHashMap<>());
+		tree.iterator().forEachRemaining(allLeaves::add);
+		assertEquals(size, allLeaves.size(), "the tree should contain every leaf");
+
+		for (final int minimumCount : new int[] { 1, 2, 3, 16, 5000 }) {
+			final List<MerkleIterator<KeyedMerkleLong<SerializableLong>>> iterators =
+					tree.subtreeIterators(minimumCount);
+			assertTrue(iterators.size() >= Math.min(minimumCount, size),
+					"the tree should be split into enough subtrees if it has enough leaves");
+
+			final Set<KeyedMerkleLong<SerializableLong>> visited =
+					Collections.newSetFromMap(new IdentityHashMap<>());
+			int count = 0;
+			for (final MerkleIterator<KeyedMerkleLong<SerializableLong>> iterator : iterators) {
+				while (iterator.hasNext()) {
+					visited.add(iterator.next());
+					count++;
+				}
+			}
+			assertEquals(size, count, "every leaf should be visited exactly once");
+			assertEquals(allLeaves, visited, "the subtrees should contain every leaf of the tree");
+		}
+	}
+
+	/**
+	 * Sizes below and above the size at which the index is rebuilt in parallel.
+	 */
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 100, 25_000 })
+	@DisplayName("Rebuild After Deserialization Test")
+	void rebuildAfterDeserializationTest(final int size) throws IOException {
+		final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> map = new MerkleMap<>();
+		for (long key = 0; key < size; key++) {
+			map.put(new SerializableLong(key), new KeyedMerkleLong<>(key));
+		}
+		CryptoFactory.getInstance().digestTreeSync(map);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new MerkleDataOutputStream(bytes).writeMerkleTree(testDirectory, map);
+		final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> deserialized =
+				new MerkleDataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+						.readMerkleTree(testDirectory, Integer.MAX_VALUE);
+
+		// the index is rebuilt while the tree is initialized after deserialization
+		assertEquals(size, deserialized.size(), "every entry should be in the rebuilt index");
+		assertEquals(leafKeys(map), leafKeys(deserialized), "every key should resolve to its leaf");
+		assertEquals(map.getHash(), CryptoFactory.getInstance().digestTreeSync(deserialized),
+				"the deserialized map should have the same hash");
+
+		// rebuilding an index that already has entries should not change it
+		deserialized.rebuild();
+		assertEquals(size, deserialized.size(), "rebuilding again should not add entries");
+		assertEquals(leafKeys(map), leafKeys(deserialized), "every key should still resolve to its leaf");
+
+		map.release();
+		deserialized.release();
+	}
+}
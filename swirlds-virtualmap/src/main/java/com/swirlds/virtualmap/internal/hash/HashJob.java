@@ -19,7 +19,6 @@ package com.swirlds.virtualmap.internal.hash;
 import com.swirlds.common.crypto.CryptoFactory;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.Hash;
-import com.swirlds.common.crypto.HashBuilder;
 import com.swirlds.common.crypto.Hashable;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualValue;
@@ -94,7 +93,7 @@ final class HashJob<K extends VirtualKey<? super K>, V extends VirtualValue> imp
 		this.internal = null;
 	}
 
-	void hash(final HashBuilder builder) {
+	void hash() {
 		if (leaf != null) {
 			hash = CRYPTO.digestSync(leaf);
 			leaf.setHash(hash);
@@ -112,12 +111,7 @@ final class HashJob<K extends VirtualKey<? super K>, V extends VirtualValue> imp
 			final Hash leftHash = left == null ? NULL_HASH : left;
 			final Hash rightHash = right == null ? NULL_HASH : right;
 
-			builder.reset();
-			builder.update(classId);
-			builder.update(serId);
-			builder.update(leftHash);
-			builder.update(rightHash);
-			hash = builder.build();
+			hash = CRYPTO.digestInternalSync(classId, serId, leftHash, rightHash);
 			internal.setHash(hash);
 		}
 	}
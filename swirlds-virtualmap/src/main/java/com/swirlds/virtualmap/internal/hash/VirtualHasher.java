@@ -16,9 +16,7 @@
 
 package com.swirlds.virtualmap.internal.hash;
 
-import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.Hash;
-import com.swirlds.common.crypto.HashBuilder;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
@@ -85,12 +83,6 @@ public final class VirtualHasher<K extends VirtualKey<? super K>, V extends Virt
 							LOG.error(EXCEPTION.getMarker(), "Uncaught exception during hashing", ex))
 					.buildFactory());
 
-	/**
-	 * This thread-local gets a HashBuilder that can be used for hashing on a per-thread basis.
-	 */
-	private static final ThreadLocal<HashBuilder> HASH_BUILDER_THREAD_LOCAL = ThreadLocal.withInitial(() ->
-			new HashBuilder(Cryptography.DEFAULT_DIGEST_TYPE));
-
 	/**
 	 * The working queue or the pending queue. Sometimes it is used as one, sometimes as the other.
 	 * It is kept and passed between {@link VirtualMap} copies, with the ASSUMPTION
@@ -456,7 +448,7 @@ public final class VirtualHasher<K extends VirtualKey<? super K>, V extends Virt
 		assert queue2.size() == 1 :
 				"There must only be a single hash job in the root queue!! Current size = " + queue2.size();
 		final HashJob<K, V> rootJob = queue2.get(0);
-		rootJob.hash(HASH_BUILDER_THREAD_LOCAL.get());
+		rootJob.hash();
 		listener.onRankStarted();
 		listener.onInternalHashed(rootJob.getInternal());
 		listener.onRankCompleted();
@@ -579,7 +571,6 @@ public final class VirtualHasher<K extends VirtualKey<? super K>, V extends Virt
 			for (int i = 0; i < threadCount; i++) {
 				final int threadNum = i;
 				HASHING_POOL.execute(() -> {
-					final HashBuilder hashBuilder = HASH_BUILDER_THREAD_LOCAL.get();
 					try {
 						// Each thread iterates over all "units". A unit is either a single job or two jobs if
 						// they are siblings.
@@ -612,7 +603,7 @@ public final class VirtualHasher<K extends VirtualKey<? super K>, V extends Virt
 							// fall out of this if statement and check the next unit.
 							if (unitIndex % threadCount == threadNum) {
 								// Hash the first node
-								hashJob.hash(hashBuilder);
+								hashJob.hash();
 
 								// We now need to figure out who the parent is. If the parent is not
 								// in the cache or on disk, then it means we've never seen this parent
@@ -634,7 +625,7 @@ public final class VirtualHasher<K extends VirtualKey<? super K>, V extends Virt
 									// If we have both siblings, then we can hash the sibling and place both
 									// hashes for both siblings into the HashJob for the internal node and
 									// add it to the pendingQueue.
-									nextJob.hash(hashBuilder);
+									nextJob.hash();
 									pendingQueue.addHashJob(pendingQueueIndex).dirtyInternal(
 											parentPath, internal, hashJob.getHash(), nextJob.getHash());
 								} else if (nodePath == firstLeafPath && nodePath == lastLeafPath) {
@@ -805,7 +796,7 @@ public final class VirtualHasher<K extends VirtualKey<? super K>, V extends Virt
 	public Hash emptyRootHash() {
 		final var hashJob = new HashJob<K, V>();
 		hashJob.dirtyInternal(ROOT_PATH, new VirtualInternalRecord(0), null, null);
-		hashJob.hash(new HashBuilder(Cryptography.DEFAULT_DIGEST_TYPE));
+		hashJob.hash();
 		return hashJob.getHash();
 	}
 }